@@ -76,9 +76,15 @@ public final class CommonConfig implements Config {
     @Setting
     public final OptimizationCategory optimizations = new OptimizationCategory();
 
+    @Setting("event-manager")
+    public final EventManagerCategory eventManager = new EventManagerCategory();
+
     @Setting("phase-tracker")
     public final PhaseTrackerCategory phaseTracker = new PhaseTrackerCategory();
 
+    @Setting
+    public final SchedulerCategory scheduler = new SchedulerCategory();
+
     @Setting("teleport-helper")
     @Comment("Blocks to blacklist for safe teleportation.")
     public final TeleportHelperCategory teleportHelper = new TeleportHelperCategory();
@@ -0,0 +1,73 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.applaunch.config.common;
+
+import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+import org.spongepowered.configurate.objectmapping.meta.Comment;
+import org.spongepowered.configurate.objectmapping.meta.Setting;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@ConfigSerializable
+public final class EventManagerCategory {
+
+    @Setting("generate-dispatchers")
+    @Comment("If 'true', a specialized dispatcher class is generated for every\n"
+             + "event type that has listeners. The dispatcher invokes the listeners\n"
+             + "directly and only performs the order and plugin bookkeeping when it\n"
+             + "changes between two listeners. Disable this to fall back to the\n"
+             + "generic listener loop when debugging listener issues.")
+    public boolean generateDispatchers = true;
+
+    @Setting("untracked-listener-plugins")
+    @Comment("A list of plugin ids whose listeners are invoked without pushing\n"
+             + "a cause frame and without entering a plugin listener phase. This\n"
+             + "reduces the cost of every listener invocation, but block changes\n"
+             + "and entity spawns performed by these listeners are not attributed\n"
+             + "to the plugin. Only add plugins whose listeners don't modify the world.")
+    public final List<String> untrackedListenerPlugins = new ArrayList<>();
+
+    @Setting("async-post-mode")
+    @Comment("The executor used for events posted with 'postAsync'. Supported values:\n"
+             + "  - PLATFORM: A fixed pool of 'async-post-threads' platform threads\n"
+             + "  - VIRTUAL: A virtual thread per posted event, if the Java runtime supports\n"
+             + "    virtual threads. Falls back to PLATFORM otherwise.")
+    public AsyncPostMode asyncPostMode = AsyncPostMode.PLATFORM;
+
+    @Setting("async-post-threads")
+    @Comment("The amount of platform threads that post events asynchronously.")
+    public int asyncPostThreads = 4;
+
+    @Setting("async-post-queue-size")
+    @Comment("The maximum amount of asynchronously posted events that may be queued\n"
+             + "or running at once. Further posts are rejected until events complete.")
+    public int asyncPostQueueSize = 4096;
+
+    public enum AsyncPostMode {
+        PLATFORM,
+        VIRTUAL
+    }
+}
@@ -112,6 +112,15 @@ public final class OptimizationCategory {
         "are `persistent`. Does not drastically improve performance.")
     public boolean disableScheduledUpdatesForPersistentLeafBlocks = true;
 
+    @Setting("menu-slot-verification-interval")
+    @Comment("Open menus look for changed slots every tick. The default of 1 compares every slot with\n"
+           + "what the client last received every tick, like vanilla. With a higher value, slots that\n"
+           + "are written to through the menu or their container, and slots of player inventories, are\n"
+           + "still checked every tick, but all other slots only every this many ticks. Items of\n"
+           + "containers that are changed in place without the container being marked as changed, by\n"
+           + "mods or plugins, are then synced to the client with up to this many ticks delay.")
+    public int menuSlotVerificationInterval = 1;
+
     public OptimizationCategory() {
         // Enabled by default on SpongeVanilla, disabled by default on SpongeForge.
         // Because of how early this constructor gets called, we can't use SpongeImplHooks or even Game
@@ -61,6 +61,18 @@ public final class PhaseTrackerCategory {
                                                                 + "and emit a warning about said spawn anyways.")
     public boolean captureAsyncSpawningEntities = true;
 
+    @Setting("async-spawns-per-tick")
+    @Comment("The maximum number of entities captured while spawning off the main\n"
+             + "server thread that are spawned per tick. Any remaining entities are\n"
+             + "spawned on the following ticks. Set to 0 to spawn all of them at once.")
+    public int asyncSpawnsPerTick = 1000;
+
+    @Setting("async-spawn-queue-capacity")
+    @Comment("The maximum number of entities captured while spawning off the main\n"
+             + "server thread that may wait to be spawned. Entities spawned while the\n"
+             + "queue is full are dropped with a warning. Set to 0 for no limit.")
+    public int asyncSpawnQueueCapacity = 65536;
+
     @Setting("capture-async-commands")
     @Comment("If set to 'true', when a mod or plugin attempts to submit a command\n"
                                                              + "asynchronously, Sponge will automatically capture said command\n"
@@ -102,6 +114,24 @@ public final class PhaseTrackerCategory {
                                                             + "The default value should almost always work properly -  it's unlikely you'll ever have to change it.")
     public int maxBlockProcessingDepth = 1000;
 
+    @Setting("skip-unobserved-block-captures")
+    @Comment("If 'true', block, fluid and block entity ticks apply their block changes,\n"
+             + "block entity changes and neighbor notifications directly instead of\n"
+             + "capturing them, as long as nothing could observe the captures. That is\n"
+             + "the case when no plugin listens to block change, entity spawn or\n"
+             + "neighbor notification events, or when the tracker config disables block\n"
+             + "events for the ticking block, and the tick has no owner or notifier to\n"
+             + "track. Capturing resumes on its own once such a listener is registered.")
+    public boolean skipUnobservedBlockCaptures = false;
+
+    @Setting("coalesce-bulk-neighbor-notifications")
+    @Comment("If 'true', block changes made by explosions and by plugins changing many\n"
+             + "blocks at once notify their neighbors after all of the changes are applied,\n"
+             + "instead of after each single change. A block changed more than once only\n"
+             + "notifies its neighbors once. Notifications caused by those notifications,\n"
+             + "such as redstone reacting to the changes, are not held back.")
+    public boolean coalesceBulkNeighborNotifications = false;
+
     @Setting("report-null-source-blocks-on-neighbor-notifications")
     @Comment("If true, when a mod attempts to perform a neighbor notification\n"
              + "on a block, some mods do not know to perform a 'null' check\n"
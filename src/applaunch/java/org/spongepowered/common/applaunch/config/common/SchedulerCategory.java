@@ -0,0 +1,84 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.applaunch.config.common;
+
+import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+import org.spongepowered.configurate.objectmapping.meta.Comment;
+import org.spongepowered.configurate.objectmapping.meta.Setting;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@ConfigSerializable
+public final class SchedulerCategory {
+
+    @Setting("deferred-task-budget")
+    @Comment("The time in milliseconds per tick that the synchronous scheduler may\n"
+             + "spend running deferrable tasks. Deferrable tasks that are due but\n"
+             + "don't fit in the budget are run on the following ticks, alternating\n"
+             + "between plugins. At least one deferrable task is run every tick.\n"
+             + "Set to 0 to run every deferrable task as soon as it is due.")
+    public double deferredTaskBudget = 10.0;
+
+    @Setting("deferrable-plugins")
+    @Comment("A list of plugin ids whose synchronous tasks are all deferrable,\n"
+             + "in addition to the tasks that are built as deferrable.")
+    public final List<String> deferrablePlugins = new ArrayList<>();
+
+    @Setting("async-mode")
+    @Comment("How asynchronous tasks are executed. Supported values:\n"
+             + "  - UNBOUNDED (default): A new platform thread whenever all threads\n"
+             + "    are busy. Blocking tasks may exhaust the threads of the system.\n"
+             + "  - BOUNDED: A pool of at most 'async-max-threads' platform threads,\n"
+             + "    further tasks wait in a queue\n"
+             + "  - VIRTUAL: A virtual thread per task, if the Java runtime supports\n"
+             + "    virtual threads. Falls back to BOUNDED otherwise.")
+    public AsyncMode asyncMode = AsyncMode.UNBOUNDED;
+
+    @Setting("async-max-threads")
+    @Comment("The maximum amount of platform threads running asynchronous tasks in\n"
+             + "the BOUNDED mode.")
+    public int asyncMaxThreads = 64;
+
+    @Setting("async-plugin-concurrency")
+    @Comment("The maximum amount of asynchronous tasks of a single plugin that may\n"
+             + "run at once. Further tasks of the plugin wait until one completes.\n"
+             + "Set to 0 for no limit, which is the default.")
+    public int asyncPluginConcurrency = 0;
+
+    @Setting("async-queue-size")
+    @Comment("The maximum amount of asynchronous tasks that may wait for a thread or\n"
+             + "for their plugin to be under its concurrency limit. Tasks started while\n"
+             + "the queue is full are skipped with an error, repeating tasks are tried\n"
+             + "again at their next interval, the futures of other tasks fail.\n"
+             + "Set to 0 for no limit.")
+    public int asyncQueueSize = 10000;
+
+    public enum AsyncMode {
+        BOUNDED,
+        VIRTUAL,
+        UNBOUNDED
+    }
+}
@@ -24,6 +24,7 @@
  */
 package org.spongepowered.common.applaunch.config.common;
 
+import org.spongepowered.configurate.objectmapping.meta.Comment;
 import org.spongepowered.configurate.objectmapping.meta.Setting;
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
 
@@ -50,4 +51,19 @@ public final class TimingsCategory {
 
     @Setting("history-length")
     public int historyLength = 3600;
+
+    @Setting("export-directory")
+    @Comment("The directory, relative to the game directory, that '/sponge timings export' writes\n"
+            + "its JSON reports and their HTML viewers to.")
+    public String exportDirectory = "timings";
+
+    @Setting("spike-threshold")
+    @Comment("The duration in milliseconds above which the timings of a single tick are written to the\n"
+            + "'spikes' folder of the export directory, along with the phase tracker and scheduler activity\n"
+            + "of that tick. Set to 0 to disable recording tick spikes.")
+    public int spikeThreshold = 500;
+
+    @Setting("spike-history-size")
+    @Comment("The amount of tick spikes kept on disk, the oldest one is overwritten by a new spike.")
+    public int spikeHistorySize = 20;
 }
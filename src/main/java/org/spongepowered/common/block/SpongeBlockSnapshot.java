@@ -48,6 +48,7 @@
 import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.common.bridge.data.DataCompoundHolder;
 import org.spongepowered.common.bridge.data.DataContainerHolder;
+import org.spongepowered.common.bridge.world.TrackedWorldBridge;
 import org.spongepowered.common.data.holder.SpongeImmutableDataHolder;
 import org.spongepowered.common.data.persistence.NBTTranslator;
 import org.spongepowered.common.data.provider.nbt.NBTDataType;
@@ -76,7 +77,8 @@ public final class SpongeBlockSnapshot implements BlockSnapshot, SpongeImmutable
 
     private final BlockState blockState;
     private final ResourceKey worldKey;
-    private final Vector3i pos;
+    // Lazily created from the block pos, capture only needs the latter
+    private @MonotonicNonNull Vector3i pos;
     @Nullable final CompoundTag compound;
     // Internal use only
     private final BlockPos blockPos;
@@ -87,8 +89,12 @@ public final class SpongeBlockSnapshot implements BlockSnapshot, SpongeImmutable
     SpongeBlockSnapshot(final SpongeBlockSnapshotBuilder builder) {
         this.blockState = Objects.requireNonNull(builder.blockState);
         this.worldKey = Objects.requireNonNull(builder.worldKey);
-        this.pos = Objects.requireNonNull(builder.coordinates);
-        this.blockPos = VecHelper.toBlockPos(this.pos);
+        if (builder.blockPos != null) {
+            this.blockPos = builder.blockPos;
+        } else {
+            this.pos = Objects.requireNonNull(builder.coordinates);
+            this.blockPos = VecHelper.toBlockPos(this.pos);
+        }
         this.compound = builder.compound;
         this.changeFlag = builder.flag;
         this.world = builder.worldRef;
@@ -117,13 +123,16 @@ public ResourceKey world() {
 
     @Override
     public Vector3i position() {
+        if (this.pos == null) {
+            this.pos = VecHelper.toVector3i(this.blockPos);
+        }
         return this.pos;
     }
 
     @Override
     public Optional<ServerLocation> location() {
         return this.getServerWorld()
-                .map(world -> ServerLocation.of((org.spongepowered.api.world.server.ServerWorld) world, this.pos));
+                .map(world -> ServerLocation.of((org.spongepowered.api.world.server.ServerWorld) world, this.position()));
     }
 
     @Override
@@ -145,7 +154,7 @@ public boolean restore(final boolean force, final BlockChangeFlag flag) {
         // this way we guarantee an exit.
         try (final PhaseContext<?> context = BlockPhase.State.RESTORING_BLOCKS.createPhaseContext(PhaseTracker.SERVER)) {
             context.buildAndSwitch();
-            final BlockPos pos = VecHelper.toBlockPos(this.pos);
+            final BlockPos pos = this.blockPos;
             if (!net.minecraft.world.level.Level.isInWorldBounds(pos)) { // Invalid position. Inline this check
                 return false;
             }
@@ -193,7 +202,7 @@ public boolean restore(final boolean force, final BlockChangeFlag flag) {
                         }
                         printer.add()
                             .add("Desired World: " + this.worldKey)
-                            .add("Position: " + this.pos)
+                            .add("Position: " + this.position())
                             .add("Desired BlockState: " + this.blockState);
                         printer.add();
                         printer.log(SpongeCommon.getLogger(), Level.ERROR);
@@ -254,9 +263,9 @@ public DataContainer toContainer() {
                 .set(Queries.CONTENT_VERSION, contentVersion())
                 .set(Queries.WORLD_KEY, this.worldKey.asString())
                 .createView(Constants.Sponge.SNAPSHOT_WORLD_POSITION)
-                .set(Queries.POSITION_X, this.pos.getX())
-                .set(Queries.POSITION_Y, this.pos.getY())
-                .set(Queries.POSITION_Z, this.pos.getZ())
+                .set(Queries.POSITION_X, this.blockPos.getX())
+                .set(Queries.POSITION_Y, this.blockPos.getY())
+                .set(Queries.POSITION_Z, this.blockPos.getZ())
                 .container()
                 .set(Constants.Block.BLOCK_STATE, this.blockState);
         if (this.compound != null) {
@@ -270,7 +279,7 @@ public Optional<ServerLevel> getServerWorld() {
         if (world == null) {
             world = (ServerLevel) Sponge.server().worldManager().world(this.worldKey).orElse(null);
             if (world != null) {
-                this.world = new WeakReference<>(world);
+                this.world = ((TrackedWorldBridge) world).bridge$getWeakReference();
             }
         }
         return Optional.ofNullable(world);
@@ -283,7 +292,7 @@ public Optional<CompoundTag> getCompound() {
     public SpongeBlockSnapshotBuilder createBuilder() {
         final SpongeBlockSnapshotBuilder builder = SpongeBlockSnapshotBuilder.pooled();
         builder.blockState(this.blockState)
-               .position(this.pos);
+               .position(this.blockPos);
         if (this.world != null && this.world.get() != null) {
             builder.world(this.world.get());
         } else {
@@ -352,7 +361,7 @@ public boolean equals(final Object o) {
         return this.blockState.equals(that.blockState) &&
                this.changeFlag == that.changeFlag &&
                Objects.equals(this.worldKey, that.worldKey) &&
-               Objects.equals(this.pos, that.pos) &&
+               Objects.equals(this.blockPos, that.blockPos) &&
                Objects.equals(this.compound, that.compound);
     }
 
@@ -361,7 +370,7 @@ public int hashCode() {
         return Objects
             .hash(this.blockState,
                 this.worldKey,
-                this.pos,
+                this.blockPos,
                 this.changeFlag,
                 this.compound);
     }
@@ -40,9 +40,11 @@
 import org.spongepowered.api.world.BlockChangeFlags;
 import org.spongepowered.api.world.server.ServerLocation;
 import org.spongepowered.api.world.server.storage.ServerWorldProperties;
+import org.spongepowered.common.bridge.world.TrackedWorldBridge;
 import org.spongepowered.common.data.persistence.NBTTranslator;
 import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.util.DataUtil;
+import org.spongepowered.common.util.VecHelper;
 import org.spongepowered.common.world.SpongeBlockChangeFlag;
 import org.spongepowered.math.vector.Vector3i;
 
@@ -55,6 +57,7 @@
 import java.util.concurrent.ConcurrentLinkedDeque;
 
 import javax.annotation.Nullable;
+import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.block.Blocks;
@@ -80,7 +83,8 @@ public static SpongeBlockSnapshotBuilder pooled() {
     ResourceKey worldKey;
     @Nullable UUID creatorUniqueId;
     @Nullable UUID notifierUniqueId;
-    Vector3i coordinates;
+    @Nullable Vector3i coordinates;
+    @Nullable BlockPos blockPos;
     @Nullable List<DataManipulator.Immutable> manipulators;
     @Nullable CompoundTag compound;
     SpongeBlockChangeFlag flag = (SpongeBlockChangeFlag) BlockChangeFlags.ALL;
@@ -107,7 +111,7 @@ public SpongeBlockSnapshotBuilder world(final ResourceKey key) {
     
     public SpongeBlockSnapshotBuilder world(final ServerLevel world) {
         this.worldKey = ((org.spongepowered.api.world.server.ServerWorld) Objects.requireNonNull(world)).key();
-        this.worldRef = new WeakReference<>(world);
+        this.worldRef = ((TrackedWorldBridge) world).bridge$getWeakReference();
         return this;
     }
 
@@ -128,6 +132,26 @@ public SpongeBlockSnapshotBuilder blockState(final net.minecraft.world.level.blo
     @NonNull
     public SpongeBlockSnapshotBuilder position(@NonNull final Vector3i position) {
         this.coordinates = Objects.requireNonNull(position);
+        this.blockPos = null;
+        if (this.compound != null) {
+            this.compound.putInt(Constants.Sponge.BlockSnapshot.TILE_ENTITY_POSITION_X, position.getX());
+            this.compound.putInt(Constants.Sponge.BlockSnapshot.TILE_ENTITY_POSITION_Y, position.getY());
+            this.compound.putInt(Constants.Sponge.BlockSnapshot.TILE_ENTITY_POSITION_Z, position.getZ());
+        }
+        return this;
+    }
+
+    /**
+     * Sets the position without creating an intermediary {@link Vector3i},
+     * the snapshot will only create one when {@link BlockSnapshot#position()}
+     * is requested.
+     *
+     * @param position The position, copied if mutable
+     * @return This builder, for chaining
+     */
+    public SpongeBlockSnapshotBuilder position(final BlockPos position) {
+        this.blockPos = Objects.requireNonNull(position).immutable();
+        this.coordinates = null;
         if (this.compound != null) {
             this.compound.putInt(Constants.Sponge.BlockSnapshot.TILE_ENTITY_POSITION_X, position.getX());
             this.compound.putInt(Constants.Sponge.BlockSnapshot.TILE_ENTITY_POSITION_Y, position.getY());
@@ -201,7 +225,8 @@ public SpongeBlockSnapshotBuilder from(final SpongeBlockSnapshot snapshot) {
         this.worldKey = snapshot.world();
         this.worldRef = snapshot.world;
         this.compound = snapshot.compound;
-        this.coordinates = snapshot.position();
+        this.coordinates = null;
+        this.blockPos = snapshot.getBlockPos();
         this.flag = snapshot.getChangeFlag();
         return this;
     }
@@ -220,6 +245,9 @@ public UUID getCreatorUniqueId() {
     }
 
     public Vector3i getCoordinates() {
+        if (this.coordinates == null && this.blockPos != null) {
+            return VecHelper.toVector3i(this.blockPos);
+        }
         return this.coordinates;
     }
 
@@ -245,9 +273,11 @@ public SpongeBlockSnapshotBuilder reset() {
         this.creatorUniqueId = null;
         this.notifierUniqueId = null;
         this.coordinates = null;
+        this.blockPos = null;
         this.manipulators = null;
         this.compound = null;
         this.flag = null;
+        this.worldRef = null;
         return this;
     }
 
@@ -312,6 +342,19 @@ public SpongeBlockSnapshotBuilder flag(final BlockChangeFlag flag) {
         return this;
     }
 
+    /**
+     * Takes ownership of the given compound instead of copying it as
+     * {@link #addUnsafeCompound(CompoundTag)} does, the caller must not
+     * modify it afterwards.
+     *
+     * @param compound The freshly serialized compound
+     * @return This builder, for chaining
+     */
+    public SpongeBlockSnapshotBuilder ownedCompound(final CompoundTag compound) {
+        this.compound = Objects.requireNonNull(compound);
+        return this;
+    }
+
     public SpongeBlockSnapshotBuilder tileEntity(final BlockEntity added) {
         this.compound = null;
         final CompoundTag tag = new CompoundTag();
@@ -35,6 +35,7 @@
 import org.spongepowered.common.event.tracking.context.transaction.TransactionalCaptureSupplier;
 import org.spongepowered.common.event.tracking.context.transaction.pipeline.WorldPipeline;
 
+import java.lang.ref.WeakReference;
 import java.util.Optional;
 import java.util.function.Function;
 import net.minecraft.core.BlockPos;
@@ -54,6 +55,15 @@ public interface TrackedWorldBridge {
 
     boolean bridge$forceSpawnEntity(Entity entity);
 
+    /**
+     * Gets the single {@link WeakReference} shared by every
+     * {@link SpongeBlockSnapshot} and transaction captured in this world,
+     * such that capturing a block change does not allocate a new one.
+     *
+     * @return The shared weak reference to this world
+     */
+    WeakReference<ServerLevel> bridge$getWeakReference();
+
     net.minecraft.world.level.Explosion tracker$triggerInternalExplosion(Explosion explosion, Function<? super net.minecraft.world.level.Explosion,
         ? extends PhaseContext<?>> contextCreator);
 
@@ -55,5 +55,9 @@ public interface TrackedContainerBridge {
 
     void bridge$detectAndSendChanges(boolean captureOnly);
 
+    void bridge$markSlotDirty(int index);
+
+    void bridge$markContainerSlotDirty(net.minecraft.world.Container container, int containerSlot);
+
     void bridge$trackViewable(Object inventory);
 }
@@ -44,15 +44,27 @@
 import org.spongepowered.api.command.parameter.Parameter;
 import org.spongepowered.api.event.SpongeEventFactory;
 import org.spongepowered.api.event.lifecycle.RefreshGameEvent;
+import org.spongepowered.api.util.Tuple;
 import org.spongepowered.api.world.server.ServerWorld;
 import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
 import org.spongepowered.common.bridge.world.WorldBridge;
 import org.spongepowered.common.config.SpongeGameConfigs;
+import org.spongepowered.common.event.AsyncEventExecutor;
+import org.spongepowered.common.event.RegisteredListener;
 import org.spongepowered.common.event.SpongeEventManager;
+import org.spongepowered.common.event.metric.EventMetrics;
+import org.spongepowered.common.event.metric.EventTypeMetrics;
+import org.spongepowered.common.event.metric.ListenerMetrics;
+import org.spongepowered.common.event.tracking.AsyncEntitySpawnQueue;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.launch.Launch;
 import org.spongepowered.common.relocate.co.aikar.timings.SpongeTimingsFactory;
+import org.spongepowered.common.scheduler.AsyncTaskExecutor;
+import org.spongepowered.common.scheduler.ServerScheduler;
+import org.spongepowered.common.scheduler.metric.SchedulerMetrics;
+import org.spongepowered.common.scheduler.metric.TaskMetrics;
+import org.spongepowered.common.util.LatencyHistogram;
 import org.spongepowered.plugin.PluginContainer;
 import org.spongepowered.plugin.metadata.PluginContributor;
 import org.spongepowered.plugin.metadata.PluginMetadata;
@@ -67,6 +79,7 @@
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -98,6 +111,12 @@ public Command.Parameterized createSpongeCommand() {
         // /sponge chunks
         final Command.Parameterized chunksCommand = this.chunksSubcommand();
 
+        // /sponge events
+        final Command.Parameterized eventsCommand = this.eventsSubcommand();
+
+        // /sponge scheduler
+        final Command.Parameterized schedulerCommand = this.schedulerSubcommand();
+
         // /sponge heap
         final Command.Parameterized heapCommand = Command.builder()
                 .permission("sponge.command.heap")
@@ -185,8 +204,10 @@ public Command.Parameterized createSpongeCommand() {
                 .executor(this::rootCommand)
                 .addChild(auditCommand, "audit")
                 .addChild(chunksCommand, "chunks")
+                .addChild(eventsCommand, "events")
                 .addChild(heapCommand, "heap")
                 .addChild(pluginsCommand, "plugins")
+                .addChild(schedulerCommand, "scheduler")
                 .addChild(timingsCommand, "timings")
                 .addChild(tpsCommand, "tps")
                 .addChild(versionCommand, "version")
@@ -380,6 +401,16 @@ private CommandResult pluginsRefreshSubcommandExecutor(final CommandContext cont
                             return CommandResult.success();
                         })
                         .build(), "report", "paste")
+                .addChild(Command.builder()
+                        .executor(context -> {
+                            if (!Timings.isTimingsEnabled()) {
+                                context.sendMessage(Identity.nil(), Component.text("Please enable timings by typing /sponge timings on"));
+                                return CommandResult.empty();
+                            }
+                            SpongeTimingsFactory.generateLocalReport(context.cause().audience());
+                            return CommandResult.success();
+                        })
+                        .build(), "export")
                 .addChild(Command.builder()
                         .executor(context -> {
                             Timings.setTimingsEnabled(true);
@@ -429,6 +460,201 @@ private CommandResult pluginsRefreshSubcommandExecutor(final CommandContext cont
                 .build();
     }
 
+    private Command.@NonNull Parameterized eventsSubcommand() {
+        return Command.builder()
+                .permission("sponge.command.events")
+                .shortDescription(Component.text("Manages the metrics of posted events and their listeners."))
+                .addChild(Command.builder()
+                        .executor(context -> {
+                            EventMetrics.setEnabled(true);
+                            context.sendMessage(Identity.nil(), Component.text("Enabled event metrics & reset"));
+                            return CommandResult.success();
+                        })
+                        .build(), "on")
+                .addChild(Command.builder()
+                        .executor(context -> {
+                            EventMetrics.setEnabled(false);
+                            context.sendMessage(Identity.nil(), Component.text("Disabled event metrics"));
+                            return CommandResult.success();
+                        })
+                        .build(), "off")
+                .addChild(Command.builder()
+                        .executor(context -> {
+                            EventMetrics.reset();
+                            context.sendMessage(Identity.nil(), Component.text("Event metrics reset"));
+                            return CommandResult.success();
+                        })
+                        .build(), "reset")
+                .addChild(Command.builder()
+                        .executor(this::eventsReportExecutor)
+                        .build(), "report")
+                .build();
+    }
+
+    private CommandResult eventsReportExecutor(final CommandContext context) {
+        if (!EventMetrics.isEnabled()) {
+            context.sendMessage(Identity.nil(), Component.text("Please enable event metrics by typing /sponge events on"));
+            return CommandResult.empty();
+        }
+        final List<Component> contents = new ArrayList<>();
+        contents.add(this.title("Event types by total time"));
+        EventMetrics.getEventTypeMetrics().stream()
+                .sorted(Comparator.comparingLong((EventTypeMetrics metrics) -> metrics.getLatency().getTotalNanos()).reversed())
+                .limit(10)
+                .forEach(metrics -> contents.add(Component.text()
+                        .append(SpongeCommand.INDENT_COMPONENT, this.hl(metrics.getEventType().getSimpleName()))
+                        .append(Component.newline(), SpongeCommand.LONG_INDENT_COMPONENT)
+                        .append(this.key("Posts/s: "), this.value(SpongeCommand.THREE_DECIMAL_DIGITS_FORMATTER.format(metrics.getPostsPerSecond())))
+                        .append(this.key(" Cancelled: "), this.value(
+                                SpongeCommand.THREE_DECIMAL_DIGITS_FORMATTER.format(metrics.getCancellationRatio() * 100) + "%"))
+                        .append(Component.newline(), SpongeCommand.LONG_INDENT_COMPONENT)
+                        .append(this.latency(metrics.getLatency()))
+                        .build()));
+
+        contents.add(this.title("Listeners by total time"));
+        // Capture the metrics of each listener once, as a reset while sorting would replace them
+        final List<Tuple<RegisteredListener<?>, ListenerMetrics>> listeners = new ArrayList<>();
+        for (final RegisteredListener<?> listener : this.eventManager().getRegisteredListeners()) {
+            final @Nullable ListenerMetrics metrics = listener.getMetricsIfPresent();
+            if (metrics != null) {
+                listeners.add(Tuple.of(listener, metrics));
+            }
+        }
+        listeners.stream()
+                .sorted(Comparator.comparingLong((Tuple<RegisteredListener<?>, ListenerMetrics> tuple) -> tuple.second().getLatency().getTotalNanos())
+                        .reversed())
+                .limit(10)
+                .forEach(tuple -> {
+                    final RegisteredListener<?> listener = tuple.first();
+                    final ListenerMetrics metrics = tuple.second();
+                    contents.add(Component.text()
+                            .append(SpongeCommand.INDENT_COMPONENT, this.hl(listener.getPlugin().getMetadata().getId()))
+                            .append(Component.text(" " + listener.getHandle().getClass().getSimpleName()
+                                    + " (" + listener.getEventType().getType().getSimpleName() + ")"))
+                            .append(Component.newline(), SpongeCommand.LONG_INDENT_COMPONENT)
+                            .append(this.key("Calls: "), this.value(String.valueOf(metrics.getInvocations())))
+                            .append(this.key(" Exceptions: "), this.value(String.valueOf(metrics.getExceptions())))
+                            .append(Component.newline(), SpongeCommand.LONG_INDENT_COMPONENT)
+                            .append(this.latency(metrics.getLatency()))
+                            .build());
+                });
+
+        final @Nullable AsyncEventExecutor asyncExecutor = this.eventManager().getAsyncExecutorIfPresent();
+        if (asyncExecutor != null) {
+            contents.add(this.title("Async posts"));
+            contents.add(Component.text()
+                    .append(SpongeCommand.INDENT_COMPONENT, this.key("Queued: "), this.value(
+                            asyncExecutor.getQueueDepth() + "/" + asyncExecutor.getCapacity()))
+                    .append(this.key(" Rejected: "), this.value(String.valueOf(asyncExecutor.getRejectedCount())))
+                    .build());
+        }
+
+        SpongeCommon.getGame().serviceProvider()
+                .paginationService()
+                .builder()
+                .contents(contents)
+                .title(Component.text("Event Metrics", NamedTextColor.WHITE))
+                .padding(Component.text("-", NamedTextColor.WHITE))
+                .sendTo(context.cause().audience());
+        return CommandResult.success();
+    }
+
+    private Command.@NonNull Parameterized schedulerSubcommand() {
+        return Command.builder()
+                .permission("sponge.command.scheduler")
+                .shortDescription(Component.text("Reports the latency and run time of scheduled tasks."))
+                .executor(this::schedulerReportExecutor)
+                .addChild(Command.builder()
+                        .executor(context -> {
+                            SchedulerMetrics.reset();
+                            context.sendMessage(Identity.nil(), Component.text("Scheduler metrics reset"));
+                            return CommandResult.success();
+                        })
+                        .build(), "reset")
+                .build();
+    }
+
+    private CommandResult schedulerReportExecutor(final CommandContext context) {
+        final List<Component> contents = new ArrayList<>();
+        final AsyncTaskExecutor executor = SpongeCommon.getAsyncScheduler().getTaskExecutor();
+        contents.add(this.title("Async executor"));
+        contents.add(Component.text()
+                .append(SpongeCommand.INDENT_COMPONENT, this.key("Mode: "), this.value(executor.getMode().name()))
+                .append(this.key(" Threads: "), this.value(String.valueOf(executor.getThreadCount())))
+                .append(this.key(" Running: "), this.value(String.valueOf(executor.getRunningCount())))
+                .append(this.key(" Queued: "), this.value(String.valueOf(executor.getQueuedCount())))
+                .build());
+        executor.getPluginTasks().stream()
+                .filter(tasks -> tasks.getRunningCount() > 0 || tasks.getWaitingCount() > 0 || tasks.getRejectedCount() > 0)
+                .forEach(tasks -> contents.add(Component.text()
+                        .append(SpongeCommand.LONG_INDENT_COMPONENT, this.hl(tasks.getPluginId()))
+                        .append(this.key(" Running: "), this.value(String.valueOf(tasks.getRunningCount())))
+                        .append(this.key(" Waiting: "), this.value(String.valueOf(tasks.getWaitingCount())))
+                        .append(this.key(" Rejected: "), this.value(String.valueOf(tasks.getRejectedCount())))
+                        .build()));
+
+        final ServerScheduler scheduler = SpongeCommon.getServerScheduler();
+        contents.add(this.title("Deferred sync tasks"));
+        contents.add(Component.text()
+                .append(SpongeCommand.INDENT_COMPONENT, this.key("Waiting: "), this.value(String.valueOf(scheduler.getDeferredCount())))
+                .append(this.key(" Carried over: "), this.value(String.valueOf(scheduler.getSpilledCount())))
+                .append(Component.newline(), SpongeCommand.LONG_INDENT_COMPONENT)
+                .append(this.key("Delay "), this.latency(scheduler.getDeferredDelays()))
+                .build());
+
+        final AsyncEntitySpawnQueue spawnQueue = PhaseTracker.getAsyncEntitySpawnQueue();
+        contents.add(this.title("Async entity spawns"));
+        contents.add(Component.text()
+                .append(SpongeCommand.INDENT_COMPONENT, this.key("Queued: "), this.value(String.valueOf(spawnQueue.size())))
+                .append(this.key(" Peak: "), this.value(String.valueOf(spawnQueue.getPeakSize())))
+                .append(this.key(" Spawned: "), this.value(String.valueOf(spawnQueue.getSpawnedCount())))
+                .append(this.key(" Deferred: "), this.value(String.valueOf(spawnQueue.getDeferredCount())))
+                .append(this.key(" Dropped: "), this.value(String.valueOf(spawnQueue.getRejectedCount())))
+                .build());
+
+        final double seconds = SchedulerMetrics.getElapsedSeconds();
+        contents.add(this.title("Tasks by total run time"));
+        SchedulerMetrics.getTaskMetrics().stream()
+                .sorted(Comparator.comparingLong((TaskMetrics metrics) -> metrics.getDuration().getTotalNanos()).reversed())
+                .limit(10)
+                .forEach(metrics -> contents.add(Component.text()
+                        .append(SpongeCommand.INDENT_COMPONENT, this.hl(metrics.getPluginId()))
+                        .append(Component.text(" " + metrics.getTaskName() + (metrics.isAsync() ? " (async)" : " (sync)")))
+                        .append(Component.newline(), SpongeCommand.LONG_INDENT_COMPONENT)
+                        .append(this.key("Runs/s: "), this.value(SpongeCommand.THREE_DECIMAL_DIGITS_FORMATTER.format(metrics.getExecutions() / seconds)))
+                        .append(this.key(" Failures: "), this.value(String.valueOf(metrics.getFailures())))
+                        .append(Component.newline(), SpongeCommand.LONG_INDENT_COMPONENT)
+                        .append(this.key("Run time "), this.latency(metrics.getDuration()))
+                        .append(Component.newline(), SpongeCommand.LONG_INDENT_COMPONENT)
+                        .append(this.key("Start delay "), this.latency(metrics.getStartDelay()))
+                        .build()));
+
+        SpongeCommon.getGame().serviceProvider()
+                .paginationService()
+                .builder()
+                .contents(contents)
+                .title(Component.text("Scheduler Metrics", NamedTextColor.WHITE))
+                .padding(Component.text("-", NamedTextColor.WHITE))
+                .sendTo(context.cause().audience());
+        return CommandResult.success();
+    }
+
+    private SpongeEventManager eventManager() {
+        return (SpongeEventManager) SpongeCommon.getGame().eventManager();
+    }
+
+    protected Component latency(final LatencyHistogram histogram) {
+        return Component.text()
+                .append(this.key("p50: "), this.value(this.millis(histogram.getPercentileNanos(0.5))))
+                .append(this.key(" p99: "), this.value(this.millis(histogram.getPercentileNanos(0.99))))
+                .append(this.key(" max: "), this.value(this.millis(histogram.getMaxNanos())))
+                .build();
+    }
+
+    private String millis(final long nanos) {
+        return SpongeCommand.THREE_DECIMAL_DIGITS_FORMATTER.format(nanos / 1.0E6D) + "ms";
+    }
+
     private CommandResult tpsExecutor(final CommandContext context) {
          final List<Component> tps = new ArrayList<>();
           // Uncomment when per-world TPS is in and working.
@@ -533,6 +759,7 @@ private CommandResult whichExecutor(final CommandContext context) {
                     context.sendMessage(Identity.nil(), Component.text("Failed to reload global configuration. See the console for details.", NamedTextColor.RED));
                     SpongeCommon.getLogger().error("Failed to reload global configuration", error);
                 } else {
+                    PhaseTracker.getAsyncEntitySpawnQueue().refreshConfig();
                     context.sendMessage(Identity.nil(), Component.text("Successfully reloaded global configuration!", NamedTextColor.GREEN));
                 }
             });
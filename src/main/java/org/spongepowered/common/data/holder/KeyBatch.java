@@ -0,0 +1,133 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.holder;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import org.spongepowered.api.data.DataProvider;
+import org.spongepowered.api.data.Key;
+import org.spongepowered.common.data.SpongeDataManager;
+import org.spongepowered.common.data.key.SpongeKey;
+import org.spongepowered.common.data.provider.DataProviderLookup;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An ordered set of {@link Key}s that are read or offered together through
+ * {@link SpongeDataHolder#impl$getAll(KeyBatch)} and
+ * {@link SpongeMutableDataHolder#impl$offerAll(KeyBatch, Object...)}.
+ *
+ * <p>The {@link DataProvider}s of the keys are resolved once per data holder
+ * type and kept with the batch, so a batch is meant to be created once and
+ * reused for every read or offer.</p>
+ */
+public final class KeyBatch {
+
+    private final Key<?>[] keys;
+    // The index of every key in the batch by its id, -1 for keys that aren't part of it
+    private final int[] indices;
+    private final Map<Class<?>, Plan> plans = new ConcurrentHashMap<>();
+
+    public static KeyBatch of(final Key<?>... keys) {
+        return new KeyBatch(keys.clone());
+    }
+
+    public static KeyBatch of(final Collection<? extends Key<?>> keys) {
+        return new KeyBatch(keys.toArray(new Key<?>[0]));
+    }
+
+    private KeyBatch(final Key<?>[] keys) {
+        int maxId = -1;
+        for (final Key<?> key : keys) {
+            requireNonNull(key, "key");
+            maxId = Math.max(maxId, ((SpongeKey<?, ?>) key).getId());
+        }
+        this.keys = keys;
+        this.indices = new int[maxId + 1];
+        Arrays.fill(this.indices, -1);
+        for (int i = 0; i < keys.length; i++) {
+            final int id = ((SpongeKey<?, ?>) keys[i]).getId();
+            checkArgument(this.indices[id] == -1, "Duplicate key in batch: %s", keys[i]);
+            this.indices[id] = i;
+        }
+    }
+
+    public int size() {
+        return this.keys.length;
+    }
+
+    public Key<?> key(final int index) {
+        return this.keys[index];
+    }
+
+    /**
+     * Gets the index of the given key within this batch.
+     *
+     * @param key The key
+     * @return The index, or -1 if the key isn't part of this batch
+     */
+    public int indexOf(final Key<?> key) {
+        final int id = ((SpongeKey<?, ?>) key).getId();
+        return id < this.indices.length ? this.indices[id] : -1;
+    }
+
+    /**
+     * Gets the providers of the keys of this batch for the given data holder
+     * type, in the order of the keys.
+     *
+     * @param dataHolderType The data holder type
+     * @return The providers
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    DataProvider<?, ?>[] providers(final Class<?> dataHolderType) {
+        final DataProviderLookup lookup = SpongeDataManager.getProviderRegistry().getProviderLookup(dataHolderType);
+        Plan plan = this.plans.get(dataHolderType);
+        // The lookup is rebuilt when providers are registered, which invalidates the plan
+        if (plan == null || plan.lookup != lookup) {
+            final DataProvider<?, ?>[] providers = new DataProvider<?, ?>[this.keys.length];
+            for (int i = 0; i < this.keys.length; i++) {
+                providers[i] = lookup.getProvider((Key) this.keys[i]);
+            }
+            plan = new Plan(lookup, providers);
+            this.plans.put(dataHolderType, plan);
+        }
+        return plan.providers;
+    }
+
+    private static final class Plan {
+
+        final DataProviderLookup lookup;
+        final DataProvider<?, ?>[] providers;
+
+        Plan(final DataProviderLookup lookup, final DataProvider<?, ?>[] providers) {
+            this.lookup = lookup;
+            this.providers = providers;
+        }
+    }
+}
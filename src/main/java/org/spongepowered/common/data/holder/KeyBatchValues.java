@@ -0,0 +1,92 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.holder;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.data.Key;
+import org.spongepowered.api.data.value.Value;
+
+import java.util.Optional;
+
+/**
+ * The values of a {@link KeyBatch} read from a data holder, by the index of
+ * their key in the batch. Keys that aren't supported by the data holder or
+ * that have no value are absent.
+ */
+public final class KeyBatchValues {
+
+    private final KeyBatch batch;
+    private final @Nullable Object[] values;
+
+    KeyBatchValues(final KeyBatch batch, final @Nullable Object[] values) {
+        this.batch = batch;
+        this.values = values;
+    }
+
+    public KeyBatch batch() {
+        return this.batch;
+    }
+
+    public boolean isPresent(final int index) {
+        return this.values[index] != null;
+    }
+
+    public @Nullable Object get(final int index) {
+        return this.values[index];
+    }
+
+    @SuppressWarnings("unchecked")
+    public <E> Optional<E> get(final Key<? extends Value<E>> key) {
+        final int index = this.batch.indexOf(key);
+        return index == -1 ? Optional.empty() : Optional.ofNullable((E) this.values[index]);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <E> E getOrElse(final Key<? extends Value<E>> key, final E defaultValue) {
+        final int index = this.batch.indexOf(key);
+        final @Nullable Object value = index == -1 ? null : this.values[index];
+        return value == null ? defaultValue : (E) value;
+    }
+
+    public int getInt(final int index, final int defaultValue) {
+        final @Nullable Object value = this.values[index];
+        return value instanceof Number ? ((Number) value).intValue() : defaultValue;
+    }
+
+    public long getLong(final int index, final long defaultValue) {
+        final @Nullable Object value = this.values[index];
+        return value instanceof Number ? ((Number) value).longValue() : defaultValue;
+    }
+
+    public double getDouble(final int index, final double defaultValue) {
+        final @Nullable Object value = this.values[index];
+        return value instanceof Number ? ((Number) value).doubleValue() : defaultValue;
+    }
+
+    public boolean getBoolean(final int index, final boolean defaultValue) {
+        final @Nullable Object value = this.values[index];
+        return value instanceof Boolean ? (Boolean) value : defaultValue;
+    }
+}
@@ -85,6 +85,38 @@ public interface SpongeDataHolder extends DataHolder {
         return defaultResult.get();
     }
 
+    /**
+     * Gets the values of all the keys of the batch. Like with single key
+     * reads, the value of every key is provided by the first delegate data
+     * holder that supports it.
+     *
+     * @param batch The batch of keys
+     * @return The values of the keys
+     */
+    default KeyBatchValues impl$getAll(final KeyBatch batch) {
+        requireNonNull(batch, "batch");
+        final Object[] values = new Object[batch.size()];
+        final List<DataHolder> delegates = this.impl$delegateDataHolder();
+        // Only tracked if another delegate could provide a key that was already resolved
+        final boolean[] resolved = delegates.size() == 1 ? null : new boolean[batch.size()];
+        for (final DataHolder dataHolder : delegates) {
+            final DataProvider<?, ?>[] providers = batch.providers(dataHolder.getClass());
+            for (int i = 0; i < providers.length; i++) {
+                if (resolved != null && resolved[i]) {
+                    continue;
+                }
+                final DataProvider<?, ?> provider = providers[i];
+                if (provider.isSupported(dataHolder)) {
+                    values[i] = provider.get(dataHolder).orElse(null);
+                    if (resolved != null) {
+                        resolved[i] = true;
+                    }
+                }
+            }
+        }
+        return new KeyBatchValues(batch, values);
+    }
+
     @Override
     @SuppressWarnings({"rawtypes", "unchecked"})
     default boolean supports(Key<?> key) {
@@ -24,6 +24,7 @@
  */
 package org.spongepowered.common.data.holder;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static java.util.Objects.requireNonNull;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -227,6 +228,49 @@ default DataTransactionResult remove(Value<?> value) {
         }, DataTransactionResult::failNoData);
     }
 
+    /**
+     * Offers the values of all the keys of the batch, by the index of their
+     * key. Null values are skipped. Like with single key offers, the values
+     * are offered to the first mutable delegate data holder.
+     *
+     * @param batch The batch of keys
+     * @param values The values to offer
+     * @return The combined result of all the offers
+     */
+    default DataTransactionResult impl$offerAll(final KeyBatch batch, final Object... values) {
+        requireNonNull(batch, "batch");
+        checkArgument(values.length == batch.size(), "Expected %s values but got %s", batch.size(), values.length);
+        final List<Mutable> delegates = this.impl$mutableDelegateDataHolder();
+        final DataTransactionResult.Builder builder = DataTransactionResult.builder();
+        boolean success = false;
+        if (!delegates.isEmpty()) {
+            final Mutable dataHolder = delegates.get(0);
+            final DataProvider[] providers = batch.providers(dataHolder.getClass());
+            for (int i = 0; i < providers.length; i++) {
+                final Object value = values[i];
+                if (value == null) {
+                    continue;
+                }
+                final DataTransactionResult result;
+                if (providers[i].isSupported(dataHolder)) {
+                    result = providers[i].offer(dataHolder, value);
+                } else {
+                    result = DataTransactionResult.failResult(Value.immutableOf((Key) batch.key(i), value));
+                }
+                builder.absorbResult(result);
+                if (result.isSuccessful()) {
+                    success = true;
+                }
+            }
+        }
+        if (success) {
+            builder.result(DataTransactionResult.Type.SUCCESS);
+        } else {
+            builder.result(DataTransactionResult.Type.FAILURE);
+        }
+        return builder.build();
+    }
+
     @Override
     default DataTransactionResult copyFrom(ValueContainer that, MergeFunction function) {
         requireNonNull(that, "that");
@@ -40,11 +40,15 @@
 
 import java.lang.reflect.Type;
 import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiPredicate;
 import java.util.function.Supplier;
 
 public final class SpongeKey<V extends Value<E>, E> extends AbstractResourceKeyed implements Key<V> {
 
+    private static final AtomicInteger ID_COUNTER = new AtomicInteger();
+
+    private final int id = SpongeKey.ID_COUNTER.getAndIncrement();
     private final Type valueType;
     private final Type elementType;
     private final Comparator<? super E> elementComparator;
@@ -93,6 +97,25 @@ public <H extends DataHolder> void registerEvent(final PluginContainer plugin, f
         ((SpongeDataManager) Sponge.game().dataManager()).registerKeyListener(new KeyBasedDataListener<>(plugin, holderFilter, this, listener));
     }
 
+    /**
+     * Gets the dense id of this key, which can be used to index tables of
+     * data per key.
+     *
+     * @return The id, smaller than {@link #getIdCount()}
+     */
+    public int getId() {
+        return this.id;
+    }
+
+    /**
+     * Gets the amount of key ids that have been handed out.
+     *
+     * @return The amount of key ids
+     */
+    public static int getIdCount() {
+        return SpongeKey.ID_COUNTER.get();
+    }
+
     public ValueConstructor<V, E> getValueConstructor() {
         return this.valueConstructor;
     }
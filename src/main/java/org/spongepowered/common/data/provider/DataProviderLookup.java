@@ -36,9 +36,15 @@
 public final class DataProviderLookup {
 
     private final Map<Key<?>, DataProvider<?, ?>> providerMap;
+    // The providers indexed by the id of their key, null if there is none
+    private final DataProvider<?, ?>[] providers;
 
     DataProviderLookup(Map<Key<?>, DataProvider<?, ?>> providerMap) {
         this.providerMap = ImmutableMap.copyOf(providerMap);
+        this.providers = new DataProvider<?, ?>[SpongeKey.getIdCount()];
+        for (final DataProvider<?, ?> provider : this.providerMap.values()) {
+            this.providers[((SpongeKey<?, ?>) provider.key()).getId()] = provider;
+        }
     }
 
     /**
@@ -60,6 +66,9 @@ public final class DataProviderLookup {
      */
     @SuppressWarnings("unchecked")
     public <V extends Value<E>, E> DataProvider<V, E> getProvider(Key<V> key) {
-        return (DataProvider<V, E>) this.providerMap.getOrDefault(key, ((SpongeKey<V, E>) key).getEmptyDataProvider());
+        final SpongeKey<V, E> spongeKey = (SpongeKey<V, E>) key;
+        final int id = spongeKey.getId();
+        final DataProvider<?, ?> provider = id < this.providers.length ? this.providers[id] : null;
+        return provider == null ? spongeKey.getEmptyDataProvider() : (DataProvider<V, E>) provider;
     }
 }
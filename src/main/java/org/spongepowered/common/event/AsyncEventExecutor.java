@@ -0,0 +1,105 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.spongepowered.common.applaunch.config.common.EventManagerCategory;
+import org.spongepowered.common.util.FutureUtil;
+import org.spongepowered.common.util.ThreadUtil;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * The executor of {@link SpongeEventManager#postAsync}. The amount of events
+ * that are queued or running at once is bounded by
+ * {@link EventManagerCategory#asyncPostQueueSize}, further posts are rejected
+ * instead of blocking the posting thread.
+ */
+public final class AsyncEventExecutor {
+
+    private final ExecutorService executor;
+    private final Semaphore permits;
+    private final int capacity;
+    private final LongAdder rejected = new LongAdder();
+
+    AsyncEventExecutor(final EventManagerCategory config) {
+        ExecutorService executor = null;
+        if (config.asyncPostMode == EventManagerCategory.AsyncPostMode.VIRTUAL) {
+            executor = ThreadUtil.newVirtualThreadPerTaskExecutor();
+        }
+        if (executor == null) {
+            executor = Executors.newFixedThreadPool(Math.max(1, config.asyncPostThreads),
+                new ThreadFactoryBuilder().setNameFormat("Sponge-AsyncEventPoster-%d").setDaemon(true).build());
+        }
+        this.executor = executor;
+        this.capacity = Math.max(1, config.asyncPostQueueSize);
+        this.permits = new Semaphore(this.capacity);
+    }
+
+    <T> CompletableFuture<T> submit(final Supplier<T> task) {
+        if (!this.permits.tryAcquire()) {
+            this.rejected.increment();
+            return FutureUtil.completedWithException(new RejectedExecutionException(
+                "Too many events are being posted asynchronously, the limit is " + this.capacity));
+        }
+        final CompletableFuture<T> future;
+        try {
+            future = CompletableFuture.supplyAsync(task, this.executor);
+        } catch (final RejectedExecutionException e) {
+            this.permits.release();
+            return FutureUtil.completedWithException(e);
+        }
+        future.whenComplete((result, throwable) -> this.permits.release());
+        return future;
+    }
+
+    /**
+     * Gets the amount of events that are queued or being posted.
+     *
+     * @return The queue depth
+     */
+    public int getQueueDepth() {
+        return this.capacity - this.permits.availablePermits();
+    }
+
+    public int getCapacity() {
+        return this.capacity;
+    }
+
+    public long getRejectedCount() {
+        return this.rejected.sum();
+    }
+
+    void shutdown() {
+        this.executor.shutdown();
+    }
+
+}
@@ -0,0 +1,359 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.objectweb.asm.Opcodes.AALOAD;
+import static org.objectweb.asm.Opcodes.ACC_FINAL;
+import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
+import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
+import static org.objectweb.asm.Opcodes.ACC_SUPER;
+import static org.objectweb.asm.Opcodes.ACONST_NULL;
+import static org.objectweb.asm.Opcodes.ALOAD;
+import static org.objectweb.asm.Opcodes.ASTORE;
+import static org.objectweb.asm.Opcodes.GETFIELD;
+import static org.objectweb.asm.Opcodes.GOTO;
+import static org.objectweb.asm.Opcodes.IFEQ;
+import static org.objectweb.asm.Opcodes.ILOAD;
+import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
+import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
+import static org.objectweb.asm.Opcodes.INVOKESTATIC;
+import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
+import static org.objectweb.asm.Opcodes.ISTORE;
+import static org.objectweb.asm.Opcodes.LCONST_0;
+import static org.objectweb.asm.Opcodes.LLOAD;
+import static org.objectweb.asm.Opcodes.LSTORE;
+import static org.objectweb.asm.Opcodes.PUTFIELD;
+import static org.objectweb.asm.Opcodes.RETURN;
+import static org.objectweb.asm.Opcodes.SIPUSH;
+import static org.objectweb.asm.Opcodes.V1_8;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.FieldVisitor;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+import org.spongepowered.api.event.CauseStackManager;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventListener;
+import org.spongepowered.api.event.Order;
+import org.spongepowered.api.event.impl.AbstractEvent;
+import org.spongepowered.common.event.gen.DefineableClassLoader;
+import org.spongepowered.common.event.tracking.PhaseContext;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Generates an {@link EventDispatcher} for a baked list of listeners.
+ *
+ * <p>The generated {@link EventDispatcher#dispatch(Event)} method is a
+ * straight sequence of listener invocations, each with its own call site.
+ * Checks that are invariant for a single post (whether the event is an
+ * {@link AbstractEvent}, whether the current phase allows listener phases)
+ * are hoisted to the start of the method and the {@link Order} of the event
+ * is only updated when it changes between two listeners. Listeners of
+ * plugins that opted out of listener tracking are invoked without a cause
+ * frame and listener phase.</p>
+ *
+ * <p>Every dispatcher class is defined in its own class loader, so that it
+ * can be unloaded once its cache has been rebaked. A rebake that ends up with
+ * the same listeners reuses the previous dispatcher instead of defining a new
+ * class.</p>
+ */
+public final class ClassEventDispatcherFactory {
+
+    /**
+     * The maximum amount of listeners that are unrolled into a single
+     * dispatch method, which is limited in size by the class file format.
+     */
+    private static final int MAX_LISTENERS = 512;
+
+    private static final String REGISTERED_LISTENER = Type.getInternalName(RegisteredListener.class);
+    private static final String EVENT_LISTENER = Type.getInternalName(EventListener.class);
+    private static final String EVENT_LISTENER_DESCRIPTOR = Type.getDescriptor(EventListener.class);
+    private static final String EVENT_DESCRIPTOR = Type.getDescriptor(Event.class);
+    private static final String ABSTRACT_EVENT_DESCRIPTOR = Type.getDescriptor(AbstractEvent.class);
+    private static final String FRAME_DESCRIPTOR = Type.getDescriptor(CauseStackManager.StackFrame.class);
+    private static final String CONTEXT_DESCRIPTOR = Type.getDescriptor(PhaseContext.class);
+    private static final String CONSTRUCTOR_DESCRIPTOR = "([" + Type.getDescriptor(RegisteredListener.class) + ")V";
+
+    // Local variable slots of the generated dispatch method
+    private static final int EVENT = 1;
+    private static final int ALLOWS_CONTEXT = 2;
+    private static final int FRAME = 3;
+    private static final int CONTEXT = 4;
+    private static final int ABSTRACT_EVENT = 5;
+    private static final int THROWABLE = 6;
+    private static final int START = 7;
+
+    private final AtomicInteger id = new AtomicInteger();
+    private final String targetPackage;
+    private final Class<? extends EventDispatcher> baseDispatcher;
+    private final String baseDispatcherName;
+
+    public ClassEventDispatcherFactory(final String targetPackage) {
+        this(targetPackage, EventDispatcher.class);
+    }
+
+    /**
+     * Creates a factory whose dispatchers extend the given base class, which
+     * has to be public and may override the bookkeeping methods and hide the
+     * static methods of {@link EventDispatcher}.
+     *
+     * @param targetPackage The package of the generated dispatchers
+     * @param baseDispatcher The base class of the generated dispatchers
+     */
+    ClassEventDispatcherFactory(final String targetPackage, final Class<? extends EventDispatcher> baseDispatcher) {
+        checkNotNull(targetPackage, "targetPackage");
+        checkArgument(!targetPackage.isEmpty(), "targetPackage cannot be empty");
+        this.targetPackage = targetPackage + '.';
+        this.baseDispatcher = checkNotNull(baseDispatcher, "baseDispatcher");
+        this.baseDispatcherName = Type.getInternalName(baseDispatcher);
+    }
+
+    /**
+     * Creates a dispatcher for the given listeners, which are expected to be
+     * sorted by their {@link Order}.
+     *
+     * @param eventType The event type the listeners were baked for
+     * @param listeners The sorted listeners
+     * @param untrackedPlugins The ids of the plugins whose listeners don't need a cause frame or listener phase,
+     *     expected to be the same instance for as long as the configuration doesn't change
+     * @param previous The dispatcher of the cache that is being rebaked, if any
+     * @return The dispatcher, or null if the listeners shouldn't be unrolled
+     */
+    public @Nullable EventDispatcher create(final EventType<?> eventType, final List<RegisteredListener<?>> listeners,
+            final Set<String> untrackedPlugins, final @Nullable EventDispatcher previous) throws Exception {
+        if (listeners.isEmpty() || listeners.size() > ClassEventDispatcherFactory.MAX_LISTENERS) {
+            return null;
+        }
+        if (previous != null && previous.untrackedPlugins == untrackedPlugins
+                && ClassEventDispatcherFactory.sameListeners(previous.listeners, listeners)) {
+            return previous;
+        }
+        final RegisteredListener<?>[] array = listeners.toArray(new RegisteredListener<?>[0]);
+        final boolean[] tracked = new boolean[array.length];
+        for (int i = 0; i < array.length; i++) {
+            tracked[i] = untrackedPlugins.isEmpty() || !untrackedPlugins.contains(array[i].getPlugin().getMetadata().getId());
+        }
+        final String name = this.targetPackage + eventType.getType().getSimpleName() + "Dispatcher_" + this.id.incrementAndGet();
+        final DefineableClassLoader classLoader = new DefineableClassLoader(this.baseDispatcher.getClassLoader());
+        final Class<? extends EventDispatcher> dispatcherClass =
+            classLoader.defineClass(name, this.generateClass(name, array, tracked));
+        final EventDispatcher dispatcher = dispatcherClass.getConstructor(RegisteredListener[].class).newInstance((Object) array);
+        dispatcher.untrackedPlugins = untrackedPlugins;
+        return dispatcher;
+    }
+
+    private static boolean sameListeners(final RegisteredListener<?>[] previous, final List<RegisteredListener<?>> listeners) {
+        if (previous.length != listeners.size()) {
+            return false;
+        }
+        for (int i = 0; i < previous.length; i++) {
+            if (previous[i] != listeners.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private byte[] generateClass(String name, final RegisteredListener<?>[] listeners, final boolean[] tracked) {
+        name = name.replace('.', '/');
+
+        final ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
+        MethodVisitor mv;
+        FieldVisitor fv;
+
+        cw.visit(V1_8, ACC_PUBLIC + ACC_FINAL + ACC_SUPER, name, null, this.baseDispatcherName, null);
+        for (int i = 0; i < listeners.length; i++) {
+            fv = cw.visitField(ACC_PRIVATE + ACC_FINAL, "listener" + i, ClassEventDispatcherFactory.EVENT_LISTENER_DESCRIPTOR, null, null);
+            fv.visitEnd();
+        }
+        {
+            mv = cw.visitMethod(ACC_PUBLIC, "<init>", ClassEventDispatcherFactory.CONSTRUCTOR_DESCRIPTOR, null, null);
+            mv.visitCode();
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitMethodInsn(INVOKESPECIAL, this.baseDispatcherName, "<init>",
+                ClassEventDispatcherFactory.CONSTRUCTOR_DESCRIPTOR, false);
+            for (int i = 0; i < listeners.length; i++) {
+                mv.visitVarInsn(ALOAD, 0);
+                mv.visitVarInsn(ALOAD, 1);
+                mv.visitIntInsn(SIPUSH, i);
+                mv.visitInsn(AALOAD);
+                mv.visitMethodInsn(INVOKEVIRTUAL, ClassEventDispatcherFactory.REGISTERED_LISTENER, "getListener",
+                    "()" + ClassEventDispatcherFactory.EVENT_LISTENER_DESCRIPTOR, false);
+                mv.visitFieldInsn(PUTFIELD, name, "listener" + i, ClassEventDispatcherFactory.EVENT_LISTENER_DESCRIPTOR);
+            }
+            mv.visitInsn(RETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+        {
+            mv = cw.visitMethod(ACC_PUBLIC, "dispatch", '(' + ClassEventDispatcherFactory.EVENT_DESCRIPTOR + ")V", null, null);
+            mv.visitCode();
+
+            // Hoisted checks, only performed once per post
+            mv.visitVarInsn(ALOAD, ClassEventDispatcherFactory.EVENT);
+            mv.visitMethodInsn(INVOKESTATIC, this.baseDispatcherName, "abstractEvent",
+                '(' + ClassEventDispatcherFactory.EVENT_DESCRIPTOR + ')' + ClassEventDispatcherFactory.ABSTRACT_EVENT_DESCRIPTOR, false);
+            mv.visitVarInsn(ASTORE, ClassEventDispatcherFactory.ABSTRACT_EVENT);
+            boolean anyTracked = false;
+            for (final boolean t : tracked) {
+                anyTracked |= t;
+            }
+            if (anyTracked) {
+                mv.visitMethodInsn(INVOKESTATIC, this.baseDispatcherName, "allowsListenerContext", "()Z", false);
+                mv.visitVarInsn(ISTORE, ClassEventDispatcherFactory.ALLOWS_CONTEXT);
+            }
+
+            @Nullable Order lastOrder = null;
+            for (int i = 0; i < listeners.length; i++) {
+                final Order order = listeners[i].getOrder();
+                if (order != lastOrder) {
+                    mv.visitVarInsn(ALOAD, 0);
+                    mv.visitVarInsn(ALOAD, ClassEventDispatcherFactory.ABSTRACT_EVENT);
+                    mv.visitIntInsn(SIPUSH, i);
+                    mv.visitMethodInsn(INVOKEVIRTUAL, name, "order", '(' + ClassEventDispatcherFactory.ABSTRACT_EVENT_DESCRIPTOR + "I)V", false);
+                    lastOrder = order;
+                }
+                if (tracked[i]) {
+                    ClassEventDispatcherFactory.visitTrackedListener(mv, name, i);
+                } else {
+                    ClassEventDispatcherFactory.visitUntrackedListener(mv, name, i);
+                }
+            }
+
+            mv.visitVarInsn(ALOAD, ClassEventDispatcherFactory.ABSTRACT_EVENT);
+            mv.visitMethodInsn(INVOKESTATIC, this.baseDispatcherName, "complete",
+                '(' + ClassEventDispatcherFactory.ABSTRACT_EVENT_DESCRIPTOR + ")V", false);
+            mv.visitInsn(RETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+        cw.visitEnd();
+
+        return cw.toByteArray();
+    }
+
+    private static void visitTrackedListener(final MethodVisitor mv, final String name, final int index) {
+        final Label start = new Label();
+        final Label end = new Label();
+        final Label handler = new Label();
+        final Label exit = new Label();
+        final Label noContext = new Label();
+        mv.visitTryCatchBlock(start, end, handler, "java/lang/Throwable");
+
+        mv.visitInsn(ACONST_NULL);
+        mv.visitVarInsn(ASTORE, ClassEventDispatcherFactory.FRAME);
+        mv.visitInsn(ACONST_NULL);
+        mv.visitVarInsn(ASTORE, ClassEventDispatcherFactory.CONTEXT);
+        mv.visitInsn(LCONST_0);
+        mv.visitVarInsn(LSTORE, ClassEventDispatcherFactory.START);
+        ClassEventDispatcherFactory.visitIndexedCall(mv, name, "activate", "V", index);
+
+        mv.visitLabel(start);
+        ClassEventDispatcherFactory.visitIndexedCall(mv, name, "pushFrame", ClassEventDispatcherFactory.FRAME_DESCRIPTOR, index);
+        mv.visitVarInsn(ASTORE, ClassEventDispatcherFactory.FRAME);
+        mv.visitVarInsn(ILOAD, ClassEventDispatcherFactory.ALLOWS_CONTEXT);
+        mv.visitJumpInsn(IFEQ, noContext);
+        ClassEventDispatcherFactory.visitIndexedCall(mv, name, "enterContext", ClassEventDispatcherFactory.CONTEXT_DESCRIPTOR, index);
+        mv.visitVarInsn(ASTORE, ClassEventDispatcherFactory.CONTEXT);
+        mv.visitLabel(noContext);
+        ClassEventDispatcherFactory.visitIndexedCall(mv, name, "startTiming", "J", index);
+        mv.visitVarInsn(LSTORE, ClassEventDispatcherFactory.START);
+        ClassEventDispatcherFactory.visitHandle(mv, name, index);
+        mv.visitLabel(end);
+        mv.visitJumpInsn(GOTO, exit);
+
+        ClassEventDispatcherFactory.visitFailureHandler(mv, name, handler, index);
+
+        mv.visitLabel(exit);
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitIntInsn(SIPUSH, index);
+        mv.visitVarInsn(LLOAD, ClassEventDispatcherFactory.START);
+        mv.visitVarInsn(ALOAD, ClassEventDispatcherFactory.FRAME);
+        mv.visitVarInsn(ALOAD, ClassEventDispatcherFactory.CONTEXT);
+        mv.visitMethodInsn(INVOKEVIRTUAL, name, "exit",
+            "(IJ" + ClassEventDispatcherFactory.FRAME_DESCRIPTOR + ClassEventDispatcherFactory.CONTEXT_DESCRIPTOR + ")V", false);
+    }
+
+    private static void visitUntrackedListener(final MethodVisitor mv, final String name, final int index) {
+        final Label start = new Label();
+        final Label end = new Label();
+        final Label handler = new Label();
+        final Label exit = new Label();
+        mv.visitTryCatchBlock(start, end, handler, "java/lang/Throwable");
+
+        mv.visitInsn(LCONST_0);
+        mv.visitVarInsn(LSTORE, ClassEventDispatcherFactory.START);
+        ClassEventDispatcherFactory.visitIndexedCall(mv, name, "activate", "V", index);
+
+        mv.visitLabel(start);
+        ClassEventDispatcherFactory.visitIndexedCall(mv, name, "startTiming", "J", index);
+        mv.visitVarInsn(LSTORE, ClassEventDispatcherFactory.START);
+        ClassEventDispatcherFactory.visitHandle(mv, name, index);
+        mv.visitLabel(end);
+        mv.visitJumpInsn(GOTO, exit);
+
+        ClassEventDispatcherFactory.visitFailureHandler(mv, name, handler, index);
+
+        mv.visitLabel(exit);
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitIntInsn(SIPUSH, index);
+        mv.visitVarInsn(LLOAD, ClassEventDispatcherFactory.START);
+        mv.visitMethodInsn(INVOKEVIRTUAL, name, "exit", "(IJ)V", false);
+    }
+
+    private static void visitHandle(final MethodVisitor mv, final String name, final int index) {
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitFieldInsn(GETFIELD, name, "listener" + index, ClassEventDispatcherFactory.EVENT_LISTENER_DESCRIPTOR);
+        mv.visitVarInsn(ALOAD, ClassEventDispatcherFactory.EVENT);
+        mv.visitMethodInsn(INVOKEINTERFACE, ClassEventDispatcherFactory.EVENT_LISTENER, "handle",
+            '(' + ClassEventDispatcherFactory.EVENT_DESCRIPTOR + ")V", true);
+    }
+
+    private static void visitFailureHandler(final MethodVisitor mv, final String name, final Label handler, final int index) {
+        mv.visitLabel(handler);
+        mv.visitVarInsn(ASTORE, ClassEventDispatcherFactory.THROWABLE);
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitIntInsn(SIPUSH, index);
+        mv.visitVarInsn(ALOAD, ClassEventDispatcherFactory.EVENT);
+        mv.visitVarInsn(ALOAD, ClassEventDispatcherFactory.THROWABLE);
+        mv.visitMethodInsn(INVOKEVIRTUAL, name, "fail", "(I" + ClassEventDispatcherFactory.EVENT_DESCRIPTOR + "Ljava/lang/Throwable;)V", false);
+    }
+
+    private static void visitIndexedCall(final MethodVisitor mv, final String name, final String method, final String returnDescriptor,
+            final int index) {
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitIntInsn(SIPUSH, index);
+        mv.visitMethodInsn(INVOKEVIRTUAL, name, method, "(I)" + returnDescriptor, false);
+    }
+
+}
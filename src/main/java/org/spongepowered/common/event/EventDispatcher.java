@@ -0,0 +1,166 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.event.CauseStackManager;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.impl.AbstractEvent;
+import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.event.metric.EventMetrics;
+import org.spongepowered.common.event.tracking.PhaseContext;
+import org.spongepowered.common.event.tracking.PhaseTracker;
+import org.spongepowered.common.event.tracking.phase.plugin.PluginPhase;
+
+import java.util.Set;
+
+/**
+ * The base class of the dispatchers generated by {@link ClassEventDispatcherFactory}
+ * for a baked {@link RegisteredListener.Cache}. A generated dispatcher invokes
+ * every listener directly and only calls the bookkeeping methods of this class
+ * that are required for the listener at that position in the chain.
+ *
+ * <p>The active plugin is set before and cleared after every listener, even
+ * if the listener or the bookkeeping around it fails.</p>
+ */
+public abstract class EventDispatcher {
+
+    protected final RegisteredListener<?>[] listeners;
+    /**
+     * The untracked plugins this dispatcher was generated with, set by the
+     * factory before the dispatcher is published.
+     */
+    @MonotonicNonNull Set<String> untrackedPlugins;
+
+    protected EventDispatcher(final RegisteredListener<?>[] listeners) {
+        this.listeners = listeners;
+    }
+
+    /**
+     * Posts the event to all the listeners of this dispatcher, in order. This
+     * may only be called from an engine thread.
+     *
+     * @param event The event
+     */
+    public abstract void dispatch(Event event);
+
+    protected static @Nullable AbstractEvent abstractEvent(final Event event) {
+        return event instanceof AbstractEvent ? (AbstractEvent) event : null;
+    }
+
+    protected static boolean allowsListenerContext() {
+        return PhaseTracker.getInstance().getPhaseContext().allowsEventListener();
+    }
+
+    protected static void complete(final @Nullable AbstractEvent event) {
+        if (event != null) {
+            event.currentOrder = null;
+        }
+    }
+
+    protected void activate(final int index) {
+        SpongeCommon.setActivePlugin(this.listeners[index].getPlugin());
+    }
+
+    protected void deactivate() {
+        SpongeCommon.setActivePlugin(null);
+    }
+
+    protected final void order(final @Nullable AbstractEvent event, final int index) {
+        if (event != null) {
+            event.currentOrder = this.listeners[index].getOrder();
+        }
+    }
+
+    protected CauseStackManager.StackFrame pushFrame(final int index) {
+        final CauseStackManager.StackFrame frame = PhaseTracker.getCauseStackManager().pushCauseFrame();
+        frame.pushCause(this.listeners[index].getPlugin());
+        return frame;
+    }
+
+    protected PhaseContext<?> enterContext(final int index) {
+        final PhaseContext<?> context = PluginPhase.Listener.GENERAL_LISTENER.createPhaseContext(PhaseTracker.getInstance())
+            .source(this.listeners[index].getPlugin());
+        try {
+            context.buildAndSwitch();
+        } catch (final RuntimeException e) {
+            context.close();
+            throw e;
+        }
+        return context;
+    }
+
+    protected long startTiming(final int index) {
+        this.listeners[index].getTimingsHandler().startTimingIfSync();
+        return EventMetrics.isEnabled() ? System.nanoTime() : 0;
+    }
+
+    protected void stopTiming(final int index, final long start) {
+        if (start != 0) {
+            this.listeners[index].getMetrics().record(System.nanoTime() - start);
+        }
+        this.listeners[index].getTimingsHandler().stopTimingIfSync();
+    }
+
+    protected final void exit(final int index, final long start) {
+        try {
+            this.stopTiming(index, start);
+        } catch (final Throwable e) {
+            this.fail(index, null, e);
+        } finally {
+            this.deactivate();
+        }
+    }
+
+    protected final void exit(final int index, final long start, final CauseStackManager.@Nullable StackFrame frame,
+            final @Nullable PhaseContext<?> context) {
+        try {
+            try {
+                this.stopTiming(index, start);
+                if (context != null) {
+                    context.close();
+                }
+            } finally {
+                if (frame != null) {
+                    frame.close();
+                }
+            }
+        } catch (final Throwable e) {
+            this.fail(index, null, e);
+        } finally {
+            this.deactivate();
+        }
+    }
+
+    protected void fail(final int index, final @Nullable Event event, final Throwable e) {
+        if (EventMetrics.isEnabled()) {
+            this.listeners[index].getMetrics().recordException();
+        }
+        SpongeCommon.getLogger().error("Could not pass {} to {}", event == null ? "event" : event.getClass().getSimpleName(),
+            this.listeners[index].getPlugin().getMetadata().getId(), e);
+    }
+
+}
@@ -81,12 +81,30 @@ public ListenerChecker(Class<?> clazz) {
         }
     }
 
+    private static final Class<?>[] NO_TYPES = new Class<?>[0];
+
     public <T> void registerListenerFor(Class<T> eventClass) {
-        this.updateFields(eventClass, true);
+        this.updateFields(eventClass, ListenerChecker.NO_TYPES, true);
+    }
+
+    /**
+     * Registers a listener for the given event class that won't receive any
+     * of the excluded subtypes, their flags are left untouched.
+     *
+     * @param eventClass The event class
+     * @param excludedTypes The excluded event types
+     * @param <T> The event type
+     */
+    public <T> void registerListenerFor(Class<T> eventClass, Class<?>[] excludedTypes) {
+        this.updateFields(eventClass, excludedTypes, true);
     }
 
     public <T> void unregisterListenerFor(Class<T> eventClass) {
-        this.updateFields(eventClass, false);
+        this.updateFields(eventClass, ListenerChecker.NO_TYPES, false);
+    }
+
+    public <T> void unregisterListenerFor(Class<T> eventClass, Class<?>[] excludedTypes) {
+        this.updateFields(eventClass, excludedTypes, false);
     }
 
     private Class<?> getClassForField(final Field field) {
@@ -114,6 +132,10 @@ private Class<?> getClassForField(final Field field) {
     }
 
     public <T> void updateFields(Class<? super T> eventClass, boolean registering) {
+        this.updateFields(eventClass, ListenerChecker.NO_TYPES, registering);
+    }
+
+    public <T> void updateFields(Class<? super T> eventClass, Class<?>[] excludedTypes, boolean registering) {
         if (ListenerChecker.ALL_TRUE) {
             return;
         }
@@ -169,10 +191,26 @@ public <T> void updateFields(Class<? super T> eventClass, boolean registering) {
                 continue;
             }
 
+            // Descendants that are excluded from the listener will never be passed to it
+            // (e.g. a listener for SpawnEntityEvent with @Exclude(DropItemEvent.Dispense.class)
+            // must not turn on DROP_ITEM_EVENT_DISPENSE)
+            if (ListenerChecker.isExcluded(entry.getKey(), excludedTypes)) {
+                continue;
+            }
+
             entry.getValue().update(registering);
         }
     }
 
+    private static boolean isExcluded(final Class<?> fieldType, final Class<?>[] excludedTypes) {
+        for (final Class<?> excluded : excludedTypes) {
+            if (excluded.isAssignableFrom(fieldType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private static class FieldData {
         Field field;
         int listenerCount = 0;
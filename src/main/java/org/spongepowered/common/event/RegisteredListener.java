@@ -29,9 +29,12 @@
 import co.aikar.timings.Timing;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.event.Event;
 import org.spongepowered.api.event.EventListener;
 import org.spongepowered.api.event.Order;
+import org.spongepowered.common.event.metric.EventMetrics;
+import org.spongepowered.common.event.metric.ListenerMetrics;
 import org.spongepowered.common.relocate.co.aikar.timings.SpongeTimings;
 import org.spongepowered.plugin.PluginContainer;
 
@@ -50,14 +53,24 @@
     private final EventListener<? super T> listener;
 
     private final boolean beforeModifications;
+    private final Class<?>[] includedTypes;
+    private final Class<?>[] excludedTypes;
     private Timing listenerTimer;
+    private volatile @Nullable ListenerMetrics metrics;
 
     RegisteredListener(PluginContainer plugin, EventType<T> eventType, Order order, EventListener<? super T> listener, boolean beforeModifications) {
+        this(plugin, eventType, order, listener, beforeModifications, new Class<?>[0], new Class<?>[0]);
+    }
+
+    RegisteredListener(PluginContainer plugin, EventType<T> eventType, Order order, EventListener<? super T> listener, boolean beforeModifications,
+            Class<?>[] includedTypes, Class<?>[] excludedTypes) {
         this.plugin = checkNotNull(plugin, "plugin");
         this.eventType = checkNotNull(eventType, "eventType");
         this.order = checkNotNull(order, "order");
         this.listener = checkNotNull(listener, "listener");
         this.beforeModifications = beforeModifications;
+        this.includedTypes = checkNotNull(includedTypes, "includedTypes");
+        this.excludedTypes = checkNotNull(excludedTypes, "excludedTypes");
     }
 
     public PluginContainer getPlugin() {
@@ -76,6 +89,80 @@ public boolean isBeforeModifications() {
         return this.beforeModifications;
     }
 
+    /**
+     * Gets whether an event of the given concrete type passes the
+     * {@link org.spongepowered.api.event.filter.type.Include} and
+     * {@link org.spongepowered.api.event.filter.type.Exclude} filters of this
+     * listener. These are resolved while baking the handler caches instead of
+     * in the generated filter.
+     *
+     * @param eventClass The concrete event class
+     * @return True if the listener may receive events of the type
+     */
+    public boolean acceptsType(Class<?> eventClass) {
+        if (this.includedTypes.length != 0) {
+            boolean included = false;
+            for (Class<?> type : this.includedTypes) {
+                if (type.isAssignableFrom(eventClass)) {
+                    included = true;
+                    break;
+                }
+            }
+            if (!included) {
+                return false;
+            }
+        }
+        for (Class<?> type : this.excludedTypes) {
+            if (type.isAssignableFrom(eventClass)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the event types whose {@link ShouldFire} flags have to be enabled
+     * for this listener. This is the registered event type, narrowed down by
+     * the included types and empty if the registered type is excluded.
+     *
+     * @return The event types to enable the flags for
+     */
+    public List<Class<?>> getListenedTypes() {
+        final Class<?> raw = this.eventType.getType();
+        for (Class<?> type : this.excludedTypes) {
+            if (type.isAssignableFrom(raw)) {
+                return Collections.emptyList();
+            }
+        }
+        if (this.includedTypes.length == 0) {
+            return Collections.singletonList(raw);
+        }
+        final List<Class<?>> types = new ArrayList<>(this.includedTypes.length);
+        for (Class<?> type : this.includedTypes) {
+            if (raw.isAssignableFrom(type)) {
+                types.add(type);
+            } else {
+                // An unrelated or broader type, events matching it can still be any subtype of the registered type
+                return Collections.singletonList(raw);
+            }
+        }
+        return types;
+    }
+
+    /**
+     * Gets the event types that are excluded from this listener, their
+     * {@link ShouldFire} flags mustn't be enabled for it.
+     *
+     * @return The excluded event types
+     */
+    public Class<?>[] getExcludedTypes() {
+        return this.excludedTypes.clone();
+    }
+
+    public EventListener<? super T> getListener() {
+        return this.listener;
+    }
+
     public Timing getTimingsHandler() {
         if (this.listenerTimer == null) {
             this.listenerTimer = SpongeTimings.getPluginTimings(this.plugin, this.getHandle().getClass().getSimpleName());
@@ -83,6 +170,37 @@ public Timing getTimingsHandler() {
         return this.listenerTimer;
     }
 
+    /**
+     * Gets the metrics of this listener, which are only recorded while
+     * {@link EventMetrics#isEnabled() enabled}.
+     *
+     * @return The listener metrics
+     */
+    public ListenerMetrics getMetrics() {
+        ListenerMetrics metrics = this.metrics;
+        if (metrics == null || metrics.isStale()) {
+            synchronized (this) {
+                metrics = this.metrics;
+                if (metrics == null || metrics.isStale()) {
+                    metrics = new ListenerMetrics();
+                    this.metrics = metrics;
+                }
+            }
+        }
+        return metrics;
+    }
+
+    /**
+     * Gets the metrics of this listener if any were recorded since the event
+     * metrics were last reset.
+     *
+     * @return The listener metrics, if present
+     */
+    public @Nullable ListenerMetrics getMetricsIfPresent() {
+        final @Nullable ListenerMetrics metrics = this.metrics;
+        return metrics == null || metrics.isStale() ? null : metrics;
+    }
+
     @Override
     public Object getHandle() {
         if (this.listener instanceof SpongeEventListener) {
@@ -106,9 +224,17 @@ public static final class Cache {
 
         private final List<RegisteredListener<?>> listeners;
         private final EnumMap<Order, List<RegisteredListener<?>>> listenersByOrder;
+        private final @Nullable EventDispatcher dispatcher;
+        private final long version;
 
         Cache(List<RegisteredListener<?>> listeners) {
+            this(listeners, null, 0);
+        }
+
+        Cache(List<RegisteredListener<?>> listeners, @Nullable EventDispatcher dispatcher, long version) {
             this.listeners = listeners;
+            this.dispatcher = dispatcher;
+            this.version = version;
 
             this.listenersByOrder = new EnumMap<>(Order.class);
             for (RegisteredListener<?> handler : listeners) {
@@ -129,6 +255,26 @@ public List<RegisteredListener<?>> getListenersByOrder(Order order) {
             return list;
         }
 
+        /**
+         * Gets the generated dispatcher for the listeners of this cache, if
+         * one could be generated.
+         *
+         * @return The dispatcher, or null if the listeners have to be invoked one by one
+         */
+        public @Nullable EventDispatcher getDispatcher() {
+            return this.dispatcher;
+        }
+
+        /**
+         * Gets the version of the listener registry this cache was baked
+         * from, newer caches replace older ones.
+         *
+         * @return The registry version
+         */
+        long getVersion() {
+            return this.version;
+        }
+
     }
 
 }
@@ -29,8 +29,8 @@
 import co.aikar.timings.Timing;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.LoadingCache;
-import com.google.common.collect.HashMultimap;
-import com.google.common.collect.Multimap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Iterables;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import io.leangen.geantyref.GenericTypeReflector;
@@ -46,12 +46,18 @@
 import org.spongepowered.api.event.GenericEvent;
 import org.spongepowered.api.event.Listener;
 import org.spongepowered.api.event.Order;
+import org.spongepowered.api.event.filter.type.Exclude;
+import org.spongepowered.api.event.filter.type.Include;
 import org.spongepowered.api.event.impl.AbstractEvent;
 import org.spongepowered.api.event.item.inventory.container.InteractContainerEvent;
 import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.applaunch.config.common.CommonConfig;
+import org.spongepowered.common.applaunch.config.common.EventManagerCategory;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
 import org.spongepowered.common.bridge.world.inventory.container.ContainerBridge;
 import org.spongepowered.common.event.filter.FilterFactory;
 import org.spongepowered.common.event.gen.DefineableClassLoader;
+import org.spongepowered.common.event.metric.EventMetrics;
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.event.tracking.phase.plugin.EventListenerPhaseContext;
@@ -72,13 +78,16 @@
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.IdentityHashMap;
-import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -88,18 +97,43 @@ public final class SpongeEventManager implements EventManager {
 
     private static final TypeVariable<?> GENERIC_EVENT_TYPE = GenericEvent.class.getTypeParameters()[0];
 
+    /**
+     * Serializes modifications of the listener registry. Posting and baking
+     * never take this lock, they only read {@link #handlersByEvent}.
+     */
     private final Object lock;
     protected final Logger logger;
-    private final Multimap<Class<?>, RegisteredListener<?>> handlersByEvent;
+    /**
+     * The registered handlers by raw event class. Every set is immutable, a
+     * modification copies only the sets of the event classes it changes and
+     * publishes them, so readers never block.
+     */
+    private final Map<Class<?>, ImmutableSet<RegisteredListener<?>>> handlersByEvent;
+    /**
+     * Incremented after every published modification of
+     * {@link #handlersByEvent}, a cache baked after reading a version
+     * reflects at least all modifications up to that version.
+     */
+    private volatile long registryVersion;
     private final Map<ClassLoader, AnnotatedEventListener.Factory> classLoaders;
+    private final ClassEventDispatcherFactory dispatcherFactory;
+    @Nullable private volatile DispatcherSettings dispatcherSettings;
+    @Nullable private volatile AsyncEventExecutor asyncExecutor;
     private final Set<Object> registeredListeners;
+    /**
+     * An index from every raw event class that was consulted while baking a
+     * {@link RegisteredListener.Cache} to the {@link EventType}s whose caches
+     * depend on it.
+     */
+    private final Map<Class<?>, Set<EventType<?>>> bakedTypesByRawEvent;
+    private final LongAdder handlerCacheRebakes;
 
     public final ListenerChecker checker;
 
     /**
      * A cache of all the handlers for an event type for quick event posting.
-     * <p>The cache is currently entirely invalidated if handlers are added or
-     * removed.</p>
+     * <p>Only the entries depending on the raw event class of an added or
+     * removed handler are rebuilt, see {@link #bakedTypesByRawEvent}.</p>
      */
     protected final LoadingCache<EventType<?>, RegisteredListener.Cache> handlersCache =
             Caffeine.newBuilder().initialCapacity(150).build(this::bakeHandlers);
@@ -108,9 +142,12 @@ public final class SpongeEventManager implements EventManager {
     public SpongeEventManager(final Logger logger) {
         this.logger = logger;
         this.lock = new Object();
-        this.handlersByEvent = HashMultimap.create();
+        this.handlersByEvent = new ConcurrentHashMap<>();
         this.classLoaders = new IdentityHashMap<>();
+        this.dispatcherFactory = new ClassEventDispatcherFactory("org.spongepowered.common.event.dispatcher");
         this.registeredListeners = new ReferenceOpenHashSet<>();
+        this.bakedTypesByRawEvent = new ConcurrentHashMap<>();
+        this.handlerCacheRebakes = new LongAdder();
         this.checker = new ListenerChecker(ShouldFire.class);
 
         // Caffeine offers no control over the concurrency level of the
@@ -139,33 +176,76 @@ public SpongeEventManager(final Logger logger) {
     }
 
     <T extends Event> RegisteredListener.Cache bakeHandlers(final EventType<T> eventType) {
+        return this.bakeHandlers(eventType, null);
+    }
+
+    private <T extends Event> RegisteredListener.Cache bakeHandlers(final EventType<T> eventType,
+            @Nullable final RegisteredListener.Cache previous) {
         final List<RegisteredListener<?>> handlers = new ArrayList<>();
         final Stream<? extends Class<?>> types = Types.allSuperTypesAndInterfaces(eventType.getType())
                 .map(GenericTypeReflector::erase)
                 .filter(Event.class::isAssignableFrom);
 
-        // TODO: Move @Includes and @Excludes from filters to the baking process, this simplifies the generated
-        //       filter code and makes the filter baking target more specific handlers.
-        synchronized (this.lock) {
-            for (final Iterator<? extends Class<?>> it = types.iterator(); it.hasNext();) {
-                final Class<?> type = it.next();
-                final Collection<RegisteredListener<?>> listeners = this.handlersByEvent.get(type);
-                if (GenericEvent.class.isAssignableFrom(type)) {
-                    final Type genericType = Objects.requireNonNull(eventType.getGenericType());
-                    for (final RegisteredListener<?> listener : listeners) {
-                        final Type genericType1 = Objects.requireNonNull(listener.getEventType().getGenericType());
-                        if (TypeTokenUtil.isAssignable(genericType, genericType1)) {
-                            handlers.add(listener);
-                        }
+        // The dependencies have to be recorded before the snapshot is read, a concurrent modification
+        // that publishes a newer snapshot will then always find this event type in the index.
+        final List<Class<?>> rawTypes = types.collect(Collectors.toList());
+        for (final Class<?> type : rawTypes) {
+            this.bakedTypesByRawEvent.computeIfAbsent(type, k -> ConcurrentHashMap.newKeySet()).add(eventType);
+        }
+
+        final Class<T> eventClass = eventType.getType();
+        final long version = this.registryVersion;
+        for (final Class<?> type : rawTypes) {
+            final Collection<RegisteredListener<?>> listeners = this.handlersByEvent.getOrDefault(type, ImmutableSet.of());
+            if (GenericEvent.class.isAssignableFrom(type)) {
+                final Type genericType = Objects.requireNonNull(eventType.getGenericType());
+                for (final RegisteredListener<?> listener : listeners) {
+                    final Type genericType1 = Objects.requireNonNull(listener.getEventType().getGenericType());
+                    if (TypeTokenUtil.isAssignable(genericType, genericType1) && listener.acceptsType(eventClass)) {
+                        handlers.add(listener);
+                    }
+                }
+            } else {
+                for (final RegisteredListener<?> listener : listeners) {
+                    if (listener.acceptsType(eventClass)) {
+                        handlers.add(listener);
                     }
-                } else {
-                    handlers.addAll(listeners);
                 }
             }
         }
 
         Collections.sort(handlers);
-        return new RegisteredListener.Cache(handlers);
+        final @Nullable EventDispatcher previousDispatcher = previous == null ? null : previous.getDispatcher();
+        return new RegisteredListener.Cache(handlers, this.createDispatcher(eventType, handlers, previousDispatcher), version);
+    }
+
+    /**
+     * Gets the dispatcher settings of the current configuration, they are
+     * only rebuilt after the configuration was reloaded.
+     */
+    private DispatcherSettings getDispatcherSettings() {
+        final CommonConfig config = SpongeConfigs.getCommon().get();
+        @Nullable DispatcherSettings settings = this.dispatcherSettings;
+        if (settings == null || settings.config != config) {
+            settings = new DispatcherSettings(config);
+            this.dispatcherSettings = settings;
+        }
+        return settings;
+    }
+
+    @Nullable
+    private EventDispatcher createDispatcher(final EventType<?> eventType, final List<RegisteredListener<?>> handlers,
+            @Nullable final EventDispatcher previous) {
+        final DispatcherSettings settings = this.getDispatcherSettings();
+        if (!settings.generate) {
+            return null;
+        }
+        try {
+            return this.dispatcherFactory.create(eventType, handlers, settings.untrackedPlugins, previous);
+        } catch (final Exception e) {
+            this.logger.error("Failed to generate a dispatcher for {}", eventType, e);
+            return null;
+        }
     }
 
     @Nullable
@@ -202,48 +282,103 @@ private void register(final RegisteredListener<? extends Event> handler) {
     }
 
     private void register(final List<RegisteredListener<? extends Event>> handlers) {
-        boolean changed = false;
+        final Set<EventType<?>> affected = new HashSet<>();
 
         synchronized (this.lock) {
-            for (RegisteredListener<?> handler : handlers) {
+            // Grouped so that the set of every event class is copied once
+            final Map<Class<?>, ImmutableSet.Builder<RegisteredListener<?>>> changed = new LinkedHashMap<>();
+            for (final RegisteredListener<?> handler : handlers) {
                 final Class<?> raw = handler.getEventType().getType();
-                if (this.handlersByEvent.put(raw, handler)) {
-                    changed = true;
-                    this.checker.registerListenerFor(raw);
+                final ImmutableSet<RegisteredListener<?>> current = this.handlersByEvent.getOrDefault(raw, ImmutableSet.of());
+                if (current.contains(handler)) {
+                    continue;
                 }
+                final ImmutableSet.Builder<RegisteredListener<?>> builder = changed.computeIfAbsent(raw,
+                        k -> ImmutableSet.<RegisteredListener<?>>builder().addAll(current));
+                builder.add(handler);
+                final Class<?>[] excludedTypes = handler.getExcludedTypes();
+                for (final Class<?> listenedType : handler.getListenedTypes()) {
+                    this.checker.registerListenerFor(listenedType, excludedTypes);
+                }
+            }
+            if (changed.isEmpty()) {
+                return;
+            }
+            for (final Map.Entry<Class<?>, ImmutableSet.Builder<RegisteredListener<?>>> entry : changed.entrySet()) {
+                this.handlersByEvent.put(entry.getKey(), entry.getValue().build());
+            }
+            this.registryVersion++;
+            for (final Class<?> raw : changed.keySet()) {
+                this.collectAffectedTypes(raw, affected);
             }
         }
 
-        if (changed) {
-            this.handlersCache.invalidateAll();
+        this.rebakeHandlers(affected);
+    }
+
+    /**
+     * Removes all the baked event types that depend on the given raw event
+     * class from the dependency index and adds them to the affected set.
+     * Must be called after the modified snapshot was published.
+     */
+    private void collectAffectedTypes(final Class<?> rawEvent, final Set<EventType<?>> affected) {
+        final Set<EventType<?>> dependents = this.bakedTypesByRawEvent.remove(rawEvent);
+        if (dependents != null) {
+            affected.addAll(dependents);
+        }
+    }
+
+    /**
+     * Eagerly rebuilds the handler caches of the given event types, so that
+     * the next post of these events doesn't have to bake them. Only event
+     * types that were baked before are in the dependency index, so all of
+     * them are cached or being loaded.
+     */
+    private void rebakeHandlers(final Set<EventType<?>> affected) {
+        for (final EventType<?> eventType : affected) {
+            final RegisteredListener.Cache baked = this.bakeHandlers(eventType, this.handlersCache.getIfPresent(eventType));
+            this.handlerCacheRebakes.increment();
+            // Waits for an in-flight load of the same type, and keeps whichever
+            // cache was baked from the newer registry
+            this.handlersCache.asMap().compute(eventType,
+                    (type, cache) -> cache != null && cache.getVersion() > baked.getVersion() ? cache : baked);
         }
     }
 
+    /**
+     * Gets the amount of times a baked handler cache was rebuilt because a
+     * listener for one of its event types was registered or unregistered.
+     *
+     * @return The handler cache rebake count
+     */
+    public long getHandlerCacheRebakeCount() {
+        return this.handlerCacheRebakes.sum();
+    }
+
     private void registerListener(PluginContainer plugin, Object listenerObject) {
         checkNotNull(plugin, "plugin");
         checkNotNull(listenerObject, "listener");
 
-        if (this.registeredListeners.contains(listenerObject)) {
-            this.logger.warn("Plugin {} attempted to register an already registered listener ({})", plugin.getMetadata().getId(),
-                    listenerObject.getClass().getName());
-            Thread.dumpStack();
-            return;
+        final Class<?> handle = listenerObject.getClass();
+        final ClassLoader handleLoader = handle.getClassLoader();
+        final AnnotatedEventListener.Factory handlerFactory;
+        synchronized (this.lock) {
+            if (!this.registeredListeners.add(listenerObject)) {
+                this.logger.warn("Plugin {} attempted to register an already registered listener ({})", plugin.getMetadata().getId(),
+                        listenerObject.getClass().getName());
+                Thread.dumpStack();
+                return;
+            }
+            handlerFactory = this.classLoaders.computeIfAbsent(handleLoader, loader -> {
+                final DefineableClassLoader classLoader = new DefineableClassLoader(loader);
+                return new ClassEventListenerFactory("org.spongepowered.common.event.listener",
+                        new FilterFactory("org.spongepowered.common.event.filters", classLoader), classLoader);
+            });
         }
 
         final List<RegisteredListener<? extends Event>> handlers = new ArrayList<>();
         final Map<Method, String> methodErrors = new HashMap<>();
 
-        final Class<?> handle = listenerObject.getClass();
-        final ClassLoader handleLoader = handle.getClassLoader();
-
-        AnnotatedEventListener.Factory handlerFactory = this.classLoaders.get(handleLoader);
-        if (handlerFactory == null) {
-            final DefineableClassLoader classLoader = new DefineableClassLoader(handleLoader);
-            handlerFactory = new ClassEventListenerFactory("org.spongepowered.common.event.listener",
-                    new FilterFactory("org.spongepowered.common.event.filters", classLoader), classLoader);
-            this.classLoaders.put(handleLoader, handlerFactory);
-        }
-
         for (final Method method : handle.getMethods()) {
             final Listener listener = method.getAnnotation(Listener.class);
             if (listener != null) {
@@ -258,7 +393,7 @@ private void registerListener(PluginContainer plugin, Object listenerObject) {
                         continue;
                     }
 
-                    handlers.add(SpongeEventManager.createRegistration(plugin, eventType, listener, handler));
+                    handlers.add(SpongeEventManager.createRegistration(plugin, eventType, listener, method, handler));
                 } else {
                     methodErrors.put(method, error);
                 }
@@ -283,24 +418,33 @@ private void registerListener(PluginContainer plugin, Object listenerObject) {
                     method.getKey().getDeclaringClass().getName(), method.getValue());
         }
 
-        this.registeredListeners.add(listenerObject);
         this.register(handlers);
     }
 
     private static <T extends Event> RegisteredListener<T> createRegistration(final PluginContainer plugin, final Type eventClass,
-            final Listener listener, final EventListener<? super T> handler) {
-        return SpongeEventManager.createRegistration(plugin, eventClass, listener.order(), listener.beforeModifications(), handler);
+            final Listener listener, final Method method, final EventListener<? super T> handler) {
+        final Include include = method.getAnnotation(Include.class);
+        final Exclude exclude = method.getAnnotation(Exclude.class);
+        return SpongeEventManager.createRegistration(plugin, eventClass, listener.order(), listener.beforeModifications(), handler,
+                include == null ? new Class<?>[0] : include.value(), exclude == null ? new Class<?>[0] : exclude.value());
     }
 
-    @SuppressWarnings({"unchecked", "rawtypes"})
     private static <T extends Event> RegisteredListener<T> createRegistration(final PluginContainer plugin, final Type eventType,
             final Order order, final boolean beforeModifications, final EventListener<? super T> handler) {
+        return SpongeEventManager.createRegistration(plugin, eventType, order, beforeModifications, handler, new Class<?>[0], new Class<?>[0]);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <T extends Event> RegisteredListener<T> createRegistration(final PluginContainer plugin, final Type eventType,
+            final Order order, final boolean beforeModifications, final EventListener<? super T> handler, final Class<?>[] includedTypes,
+            final Class<?>[] excludedTypes) {
         Type genericType = null;
         final Class<?> erased = GenericTypeReflector.erase(eventType);
         if (GenericEvent.class.isAssignableFrom(erased)) {
             genericType = TypeTokenUtil.typeArgumentFromSupertype(eventType, GenericEvent.class, 0);
         }
-        return new RegisteredListener(plugin, new EventType(erased, genericType), order, handler, beforeModifications);
+        return new RegisteredListener(plugin, new EventType(erased, genericType), order, handler, beforeModifications, includedTypes,
+                excludedTypes);
     }
 
     @Override
@@ -344,25 +488,46 @@ public <T extends Event> void registerListener(final PluginContainer plugin, fin
     }
 
     private void unregister(final Predicate<RegisteredListener<?>> unregister) {
-        boolean changed = false;
+        final Set<EventType<?>> affected = new HashSet<>();
 
         synchronized (this.lock) {
-            final Iterator<RegisteredListener<?>> itr = this.handlersByEvent.values().iterator();
-            while (itr.hasNext()) {
-                final RegisteredListener<?> handler = itr.next();
-                if (unregister.test(handler)) {
-                    itr.remove();
-                    changed = true;
-                    // TODO: This doesn't seem right, even as it was before
-                    this.checker.unregisterListenerFor(handler.getEventType().getType());
-                    this.registeredListeners.remove(handler.getHandle());
+            final List<Class<?>> changed = new ArrayList<>();
+            for (final Map.Entry<Class<?>, ImmutableSet<RegisteredListener<?>>> entry : this.handlersByEvent.entrySet()) {
+                // Only the sets of event classes that lose a handler are copied
+                @Nullable ImmutableSet.Builder<RegisteredListener<?>> remaining = null;
+                int index = 0;
+                for (final RegisteredListener<?> handler : entry.getValue()) {
+                    if (unregister.test(handler)) {
+                        if (remaining == null) {
+                            remaining = ImmutableSet.builder();
+                            remaining.addAll(Iterables.limit(entry.getValue(), index));
+                        }
+                        // TODO: This doesn't seem right, even as it was before
+                        final Class<?>[] excludedTypes = handler.getExcludedTypes();
+                        for (final Class<?> listenedType : handler.getListenedTypes()) {
+                            this.checker.unregisterListenerFor(listenedType, excludedTypes);
+                        }
+                        this.registeredListeners.remove(handler.getHandle());
+                    } else if (remaining != null) {
+                        remaining.add(handler);
+                    }
+                    index++;
                 }
+                if (remaining != null) {
+                    entry.setValue(remaining.build());
+                    changed.add(entry.getKey());
+                }
+            }
+            if (changed.isEmpty()) {
+                return;
+            }
+            this.registryVersion++;
+            for (final Class<?> raw : changed) {
+                this.collectAffectedTypes(raw, affected);
             }
         }
 
-        if (changed) {
-            this.handlersCache.invalidateAll();
-        }
+        this.rebakeHandlers(affected);
     }
 
     @Override
@@ -390,6 +555,16 @@ protected RegisteredListener.Cache getHandlerCache(final Event event) {
         return this.handlersCache.get(eventType);
     }
 
+    private boolean post(final Event event, final RegisteredListener.Cache cache) {
+        final EventDispatcher dispatcher = cache.getDispatcher();
+        if (dispatcher == null || EngineUtil.determineEngine() == null) {
+            return this.post(event, cache.getListeners());
+        }
+        TimingsManager.PLUGIN_EVENT_HANDLER.startTimingIfSync();
+        dispatcher.dispatch(event);
+        return event instanceof Cancellable && ((Cancellable) event).isCancelled();
+    }
+
     @SuppressWarnings("unchecked")
     private boolean post(final Event event, final List<RegisteredListener<?>> handlers) {
         final Engine engine = EngineUtil.determineEngine();
@@ -397,26 +572,12 @@ private boolean post(final Event event, final List<RegisteredListener<?>> handle
         // If this event is being posted asynchronously then we don't want
         // to do any timing or cause stack changes
         if (engine == null) {
-            for (final RegisteredListener handler : handlers) {
-                try {
-                    if (event instanceof AbstractEvent) {
-                        ((AbstractEvent) event).currentOrder = handler.getOrder();
-                    }
-                    SpongeCommon.setActivePlugin(handler.getPlugin());
-                    handler.handle(event);
-                } catch (final Throwable e) {
-                    SpongeCommon.getLogger().error("Could not pass {} to {}", event.getClass().getSimpleName(), handler.getPlugin(), e);
-                } finally {
-                    SpongeCommon.setActivePlugin(null);
-                }
-            }
-            if (event instanceof AbstractEvent) {
-                ((AbstractEvent) event).currentOrder = null;
-            }
-            return event instanceof Cancellable && ((Cancellable) event).isCancelled();
+            return this.postAsync(event, handlers);
         }
         TimingsManager.PLUGIN_EVENT_HANDLER.startTimingIfSync();
+        final boolean metrics = EventMetrics.isEnabled();
         for (@SuppressWarnings("rawtypes") final RegisteredListener handler : handlers) {
+            long start = 0;
             try (final CauseStackManager.StackFrame frame = PhaseTracker.getCauseStackManager().pushCauseFrame();
                  final PhaseContext<?> context = this.createPluginContext(handler);
                  final Timing timings = handler.getTimingsHandler()) {
@@ -429,11 +590,49 @@ private boolean post(final Event event, final List<RegisteredListener<?>> handle
                     ((AbstractEvent) event).currentOrder = handler.getOrder();
                 }
                 SpongeCommon.setActivePlugin(handler.getPlugin());
+                if (metrics) {
+                    start = System.nanoTime();
+                }
                 handler.handle(event);
             } catch (Throwable e) {
+                if (metrics) {
+                    handler.getMetrics().recordException();
+                }
                 this.logger.error("Could not pass {} to {}", event.getClass().getSimpleName(), handler.getPlugin().getMetadata().getId(), e);
             } finally {
                 SpongeCommon.setActivePlugin(null);
+                if (start != 0) {
+                    handler.getMetrics().record(System.nanoTime() - start);
+                }
+            }
+        }
+        if (event instanceof AbstractEvent) {
+            ((AbstractEvent) event).currentOrder = null;
+        }
+        return event instanceof Cancellable && ((Cancellable) event).isCancelled();
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean postAsync(final Event event, final List<RegisteredListener<?>> handlers) {
+        final boolean metrics = EventMetrics.isEnabled();
+        for (@SuppressWarnings("rawtypes") final RegisteredListener handler : handlers) {
+            final long start = metrics ? System.nanoTime() : 0;
+            try {
+                if (event instanceof AbstractEvent) {
+                    ((AbstractEvent) event).currentOrder = handler.getOrder();
+                }
+                // The active plugin isn't set, it is global state of the engine
+                // thread that other threads posting at the same time would overwrite
+                handler.handle(event);
+            } catch (final Throwable e) {
+                if (metrics) {
+                    handler.getMetrics().recordException();
+                }
+                SpongeCommon.getLogger().error("Could not pass {} to {}", event.getClass().getSimpleName(), handler.getPlugin(), e);
+            } finally {
+                if (start != 0) {
+                    handler.getMetrics().record(System.nanoTime() - start);
+                }
             }
         }
         if (event instanceof AbstractEvent) {
@@ -460,7 +659,13 @@ public boolean post(final Event event) {
             // Allow the client thread by default so devs can actually
             // call their own events inside the init events. Only allowing
             // this as long that there is no server available
-            return this.post(event, this.getHandlerCache(event).getListeners());
+            if (!EventMetrics.isEnabled()) {
+                return this.post(event, this.getHandlerCache(event));
+            }
+            final long start = System.nanoTime();
+            final boolean cancelled = this.post(event, this.getHandlerCache(event));
+            EventMetrics.recordPost(event, System.nanoTime() - start, cancelled);
+            return cancelled;
         } finally {
             if (event instanceof InteractContainerEvent) { // Finished using Container
                 ((ContainerBridge) ((InteractContainerEvent) event).container()).bridge$setInUse(false);
@@ -468,6 +673,93 @@ public boolean post(final Event event) {
         }
     }
 
+    /**
+     * Posts the event on the asynchronous event executor instead of the
+     * calling thread. The listeners are called one after another in their
+     * {@link Order}, without cause frames or timings, like events posted from
+     * a non-engine thread.
+     *
+     * <p>The returned future is completed with whether the event was
+     * cancelled, or completed exceptionally with a
+     * {@link java.util.concurrent.RejectedExecutionException} if too many
+     * events are already queued.</p>
+     *
+     * @param event The event
+     * @return The future completed once all the listeners were called
+     */
+    public CompletableFuture<Boolean> postAsync(final Event event) {
+        checkNotNull(event, "event");
+        final List<RegisteredListener<?>> listeners = this.getHandlerCache(event).getListeners();
+        if (listeners.isEmpty()) {
+            return CompletableFuture.completedFuture(event instanceof Cancellable && ((Cancellable) event).isCancelled());
+        }
+        final AsyncEventExecutor executor = this.getAsyncExecutor();
+        return executor.submit(() -> {
+            if (!EventMetrics.isEnabled()) {
+                return this.postAsync(event, listeners);
+            }
+            final long start = System.nanoTime();
+            final boolean cancelled = this.postAsync(event, listeners);
+            EventMetrics.recordPost(event, System.nanoTime() - start, cancelled);
+            return cancelled;
+        });
+    }
+
+    /**
+     * Gets all the currently registered listeners.
+     *
+     * @return The registered listeners
+     */
+    public Collection<RegisteredListener<?>> getRegisteredListeners() {
+        return this.handlersByEvent.values().stream()
+                .flatMap(Collection::stream)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Gets the executor of {@link #postAsync(Event)}, which also reports its
+     * queue depth.
+     *
+     * @return The async event executor
+     */
+    public AsyncEventExecutor getAsyncExecutor() {
+        AsyncEventExecutor executor = this.asyncExecutor;
+        if (executor == null) {
+            synchronized (this.lock) {
+                executor = this.asyncExecutor;
+                if (executor == null) {
+                    executor = new AsyncEventExecutor(SpongeConfigs.getCommon().get().eventManager);
+                    this.asyncExecutor = executor;
+                }
+            }
+        }
+        return executor;
+    }
+
+    /**
+     * Gets the executor of {@link #postAsync(Event)} if an event was posted
+     * asynchronously.
+     *
+     * @return The async event executor, if created
+     */
+    @Nullable
+    public AsyncEventExecutor getAsyncExecutorIfPresent() {
+        return this.asyncExecutor;
+    }
+
+    /**
+     * Shuts down the executor of {@link #postAsync(Event)}, if it was created.
+     * Events that are already queued are still posted.
+     */
+    public void shutdownAsyncExecutor() {
+        synchronized (this.lock) {
+            final AsyncEventExecutor executor = this.asyncExecutor;
+            if (executor != null) {
+                executor.shutdown();
+            }
+        }
+    }
+
     public boolean post(final Event event, final PluginContainer plugin) {
         final List<RegisteredListener<?>> listeners = this.getHandlerCache(event).getListeners();
         final List<RegisteredListener<?>> pluginListeners = listeners.stream()
@@ -475,4 +767,19 @@ public boolean post(final Event event, final PluginContainer plugin) {
             .collect(Collectors.toList());
         return this.post(event, pluginListeners);
     }
+
+    private static final class DispatcherSettings {
+
+        final CommonConfig config;
+        final boolean generate;
+        final Set<String> untrackedPlugins;
+
+        DispatcherSettings(final CommonConfig config) {
+            final EventManagerCategory category = config.eventManager;
+            this.config = config;
+            this.generate = category.generateDispatchers;
+            this.untrackedPlugins = ImmutableSet.copyOf(category.untrackedListenerPlugins);
+        }
+    }
+
 }
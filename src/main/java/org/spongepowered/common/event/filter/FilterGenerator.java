@@ -64,17 +64,14 @@
 import org.spongepowered.common.event.filter.delegate.AllCauseFilterSourceDelegate;
 import org.spongepowered.common.event.filter.delegate.BeforeCauseFilterSourceDelegate;
 import org.spongepowered.common.event.filter.delegate.CancellationEventFilterDelegate;
-import org.spongepowered.common.event.filter.delegate.ExcludeSubtypeFilterDelegate;
 import org.spongepowered.common.event.filter.delegate.FilterDelegate;
 import org.spongepowered.common.event.filter.delegate.FirstCauseFilterSourceDelegate;
 import org.spongepowered.common.event.filter.delegate.GetterFilterSourceDelegate;
 import org.spongepowered.common.event.filter.delegate.HasDataFilterDelegate;
-import org.spongepowered.common.event.filter.delegate.IncludeSubtypeFilterDelegate;
 import org.spongepowered.common.event.filter.delegate.LastCauseFilterSourceDelegate;
 import org.spongepowered.common.event.filter.delegate.ParameterFilterDelegate;
 import org.spongepowered.common.event.filter.delegate.ParameterFilterSourceDelegate;
 import org.spongepowered.common.event.filter.delegate.RootCauseFilterSourceDelegate;
-import org.spongepowered.common.event.filter.delegate.SubtypeFilterDelegate;
 import org.spongepowered.common.event.filter.delegate.SupportsDataFilterDelegate;
 import org.spongepowered.common.util.generator.GeneratorUtils;
 
@@ -106,7 +103,7 @@ public byte[] generateClass(String name, Method method) {
 
         cw.visit(V1_6, ACC_PUBLIC + ACC_FINAL + ACC_SUPER, name, null, "java/lang/Object", new String[] { Type.getInternalName(EventFilter.class) });
 
-        SubtypeFilterDelegate sfilter = null;
+        boolean subtypeFilter = false;
         List<FilterDelegate> additional = Lists.newArrayList();
         boolean cancellation = false;
         for (Annotation anno : method.getAnnotations()) {
@@ -115,10 +112,11 @@ public byte[] generateClass(String name, Method method) {
                 continue;
             }
             if (obj instanceof SubtypeFilter) {
-                if (sfilter != null) {
+                // @Include and @Exclude are resolved by the event manager when baking the handler caches
+                if (subtypeFilter) {
                     throw new IllegalStateException("Cannot have both @Include and @Exclude annotations present at once");
                 }
-                sfilter = ((SubtypeFilter) obj).getDelegate(anno);
+                subtypeFilter = true;
             } else if (obj instanceof EventTypeFilter) {
                 EventTypeFilter etf = (EventTypeFilter) obj;
                 additional.add(etf.getDelegate(anno));
@@ -131,17 +129,11 @@ public byte[] generateClass(String name, Method method) {
             additional.add(new CancellationEventFilterDelegate(Tristate.FALSE));
         }
 
-        if (sfilter != null) {
-            sfilter.createFields(cw);
-        }
         {
             mv = cw.visitMethod(ACC_PUBLIC, "<init>", "()V", null, null);
             mv.visitCode();
             mv.visitVarInsn(ALOAD, 0);
             mv.visitMethodInsn(INVOKESPECIAL, "java/lang/Object", "<init>", "()V", false);
-            if (sfilter != null) {
-                sfilter.writeCtor(name, cw, mv);
-            }
             mv.visitInsn(RETURN);
             mv.visitMaxs(0, 0);
             mv.visitEnd();
@@ -151,9 +143,6 @@ public byte[] generateClass(String name, Method method) {
             mv.visitCode();
             // index of the next available local variable
             int local = 2;
-            if (sfilter != null) {
-                local = sfilter.write(name, cw, mv, method, local);
-            }
             for (FilterDelegate eventFilter : additional) {
                 local = eventFilter.write(name, cw, mv, method, local);
             }
@@ -263,15 +252,6 @@ private SubtypeFilter(Class<? extends Annotation> cls) {
             this.cls = cls;
         }
 
-        public SubtypeFilterDelegate getDelegate(Annotation anno) {
-            if (this == SubtypeFilter.INCLUDE) {
-                return new IncludeSubtypeFilterDelegate((Include) anno);
-            } else if (this == SubtypeFilter.EXCLUDE) {
-                return new ExcludeSubtypeFilterDelegate((Exclude) anno);
-            }
-            throw new UnsupportedOperationException();
-        }
-
         public static SubtypeFilter valueOf(Class<? extends Annotation> cls) {
             for (SubtypeFilter value : SubtypeFilter.values()) {
                 if (value.cls.equals(cls)) {
@@ -0,0 +1,90 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.metric;
+
+import org.spongepowered.api.event.Event;
+import org.spongepowered.common.util.MetricsPeriod;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Continuous metrics of the events posted through the event manager and the
+ * listeners they were passed to. Nothing is recorded while the metrics are
+ * disabled, which is the default.
+ */
+public final class EventMetrics {
+
+    private static volatile boolean enabled = false;
+    private static final MetricsPeriod PERIOD = new MetricsPeriod();
+    private static final Map<Class<?>, EventTypeMetrics> EVENT_TYPES = new ConcurrentHashMap<>();
+
+    public static boolean isEnabled() {
+        return EventMetrics.enabled;
+    }
+
+    public static void setEnabled(final boolean enabled) {
+        if (enabled && !EventMetrics.enabled) {
+            EventMetrics.reset();
+        }
+        EventMetrics.enabled = enabled;
+    }
+
+    /**
+     * Discards all the recorded event type metrics, and the listener metrics
+     * stored with their listeners by making them stale.
+     */
+    public static void reset() {
+        EventMetrics.EVENT_TYPES.clear();
+        EventMetrics.PERIOD.restart();
+    }
+
+    /**
+     * @see MetricsPeriod#getGeneration()
+     */
+    public static int getGeneration() {
+        return EventMetrics.PERIOD.getGeneration();
+    }
+
+    /**
+     * @see MetricsPeriod#getElapsedSeconds()
+     */
+    public static double getElapsedSeconds() {
+        return EventMetrics.PERIOD.getElapsedSeconds();
+    }
+
+    public static void recordPost(final Event event, final long nanos, final boolean cancelled) {
+        EventMetrics.EVENT_TYPES.computeIfAbsent(event.getClass(), EventTypeMetrics::new).record(nanos, cancelled);
+    }
+
+    public static Collection<EventTypeMetrics> getEventTypeMetrics() {
+        return Collections.unmodifiableCollection(EventMetrics.EVENT_TYPES.values());
+    }
+
+    private EventMetrics() {
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.metric;
+
+import org.spongepowered.common.util.LatencyHistogram;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The metrics of all the posts of a single concrete event type.
+ */
+public final class EventTypeMetrics {
+
+    private final Class<?> eventType;
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder cancelled = new LongAdder();
+
+    EventTypeMetrics(final Class<?> eventType) {
+        this.eventType = eventType;
+    }
+
+    void record(final long nanos, final boolean cancelled) {
+        this.latency.record(nanos);
+        if (cancelled) {
+            this.cancelled.increment();
+        }
+    }
+
+    public Class<?> getEventType() {
+        return this.eventType;
+    }
+
+    public long getPosts() {
+        return this.latency.getCount();
+    }
+
+    public double getPostsPerSecond() {
+        return this.latency.getCount() / EventMetrics.getElapsedSeconds();
+    }
+
+    public long getCancelled() {
+        return this.cancelled.sum();
+    }
+
+    public double getCancellationRatio() {
+        final long posts = this.latency.getCount();
+        return posts == 0 ? 0 : (double) this.cancelled.sum() / posts;
+    }
+
+    /**
+     * Gets the histogram of the time it took to pass an event of this type
+     * to all of its listeners.
+     *
+     * @return The post latency histogram
+     */
+    public LatencyHistogram getLatency() {
+        return this.latency;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.metric;
+
+import org.spongepowered.common.util.LatencyHistogram;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The metrics of a single registered listener, across all the event types it
+ * received.
+ */
+public final class ListenerMetrics {
+
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder exceptions = new LongAdder();
+    private final int generation;
+
+    public ListenerMetrics() {
+        this.generation = EventMetrics.getGeneration();
+    }
+
+    /**
+     * Gets whether these metrics were created before the event metrics were
+     * last reset, and have to be replaced.
+     *
+     * @return Whether these metrics are stale
+     */
+    public boolean isStale() {
+        return this.generation != EventMetrics.getGeneration();
+    }
+
+    public void record(final long nanos) {
+        this.latency.record(nanos);
+    }
+
+    public void recordException() {
+        this.exceptions.increment();
+    }
+
+    public long getInvocations() {
+        return this.latency.getCount();
+    }
+
+    public long getExceptions() {
+        return this.exceptions.sum();
+    }
+
+    public LatencyHistogram getLatency() {
+        return this.latency;
+    }
+
+    public void reset() {
+        this.latency.reset();
+        this.exceptions.reset();
+    }
+}
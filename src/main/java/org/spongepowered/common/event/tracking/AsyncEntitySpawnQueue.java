@@ -0,0 +1,170 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking;
+
+import net.minecraft.world.entity.Entity;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.common.applaunch.config.common.PhaseTrackerCategory;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Hands entities spawned off the main thread over to the server thread. Any
+ * number of threads may {@link #offer(Entity) offer} entities, while only the
+ * server thread {@link #drain(Consumer) drains} them, at most
+ * {@link PhaseTrackerCategory#asyncSpawnsPerTick} per tick so that a bulk of
+ * async spawns is spread over several ticks instead of stalling a single one.
+ *
+ * <p>The queue is bounded by {@link PhaseTrackerCategory#asyncSpawnQueueCapacity},
+ * entities offered while it is full are rejected and counted.</p>
+ *
+ * <p>Both limits are read from the config once and cached, call
+ * {@link #refreshConfig()} after the config was reloaded.</p>
+ */
+public final class AsyncEntitySpawnQueue {
+
+    private final Queue<Entity> entities = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicInteger peakSize = new AtomicInteger();
+    private final LongAdder offered = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder spawned = new LongAdder();
+    private final LongAdder deferred = new LongAdder();
+    // A negative capacity marks the limits as not loaded yet, spawnsPerTick
+    // is always written before capacity
+    private volatile int capacity = -1;
+    private volatile int spawnsPerTick;
+
+    AsyncEntitySpawnQueue() {
+    }
+
+    /**
+     * Reads the capacity and per tick budget from the current common config.
+     */
+    public void refreshConfig() {
+        final PhaseTrackerCategory category = SpongeConfigs.getCommon().get().phaseTracker;
+        this.spawnsPerTick = category.asyncSpawnsPerTick;
+        this.capacity = Math.max(0, category.asyncSpawnQueueCapacity);
+    }
+
+    private int capacity() {
+        if (this.capacity < 0) {
+            this.refreshConfig();
+        }
+        return this.capacity;
+    }
+
+    /**
+     * Queues the entity to be spawned on the server thread.
+     *
+     * @param entity The entity
+     * @return False if the queue is full and the entity was rejected
+     */
+    boolean offer(final Entity entity) {
+        final int capacity = this.capacity();
+        final int size = this.size.incrementAndGet();
+        if (capacity > 0 && size > capacity) {
+            this.size.decrementAndGet();
+            this.rejected.increment();
+            return false;
+        }
+        this.entities.offer(entity);
+        this.offered.increment();
+        if (size > this.peakSize.get()) {
+            this.peakSize.accumulateAndGet(size, Math::max);
+        }
+        return true;
+    }
+
+    /**
+     * Polls up to the configured per tick budget of entities, counting the
+     * entities left for a later tick as deferred. Must only be called from
+     * the server thread.
+     *
+     * @param consumer The consumer spawning each entity
+     */
+    void drain(final Consumer<Entity> consumer) {
+        this.capacity();
+        final int budget = this.spawnsPerTick;
+        int remaining = budget > 0 ? budget : Integer.MAX_VALUE;
+        while (remaining-- > 0) {
+            final @Nullable Entity entity = this.entities.poll();
+            if (entity == null) {
+                return;
+            }
+            this.size.decrementAndGet();
+            this.spawned.increment();
+            consumer.accept(entity);
+        }
+        final int left = this.size.get();
+        if (left > 0) {
+            this.deferred.add(left);
+        }
+    }
+
+    public boolean isEmpty() {
+        return this.size.get() == 0;
+    }
+
+    /**
+     * Gets the number of entities currently waiting to be spawned.
+     *
+     * @return The size of the queue
+     */
+    public int size() {
+        return this.size.get();
+    }
+
+    public int getPeakSize() {
+        return this.peakSize.get();
+    }
+
+    public long getOfferedCount() {
+        return this.offered.sum();
+    }
+
+    public long getRejectedCount() {
+        return this.rejected.sum();
+    }
+
+    public long getSpawnedCount() {
+        return this.spawned.sum();
+    }
+
+    /**
+     * Gets the number of times an entity was left in the queue for a later
+     * tick because the per tick budget was exhausted.
+     *
+     * @return The deferred count
+     */
+    public long getDeferredCount() {
+        return this.deferred.sum();
+    }
+}
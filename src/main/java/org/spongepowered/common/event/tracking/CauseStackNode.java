@@ -0,0 +1,95 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.event.Cause;
+import org.spongepowered.api.event.EventContext;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable node of the cause stack of a {@link PhaseTracker}. Pushing a
+ * cause creates a new node on top of the current one and popping returns to
+ * the parent node, so a node can be shared by all the stack states that
+ * contain it. The {@link Cause} built for a node is cached on it, which makes
+ * {@link PhaseTracker#currentCause()} allocation free whenever the stack
+ * returns to a previously seen state, like after a frame is popped.
+ */
+final class CauseStackNode implements Iterable<Object> {
+
+    final Object value;
+    final @Nullable CauseStackNode parent;
+    final int size;
+
+    private @Nullable Cause cause;
+
+    CauseStackNode(final Object value, final @Nullable CauseStackNode parent) {
+        this.value = value;
+        this.parent = parent;
+        this.size = parent == null ? 1 : parent.size + 1;
+    }
+
+    static int size(final @Nullable CauseStackNode node) {
+        return node == null ? 0 : node.size;
+    }
+
+    Cause cause(final EventContext context) {
+        @Nullable Cause cause = this.cause;
+        if (cause == null || cause.context() != context) {
+            cause = Cause.of(context, this);
+            this.cause = cause;
+        }
+        return cause;
+    }
+
+    /**
+     * Iterates from this node, the most recently pushed cause, down to the
+     * bottom of the stack.
+     */
+    @Override
+    public Iterator<Object> iterator() {
+        return new Iterator<Object>() {
+
+            private @Nullable CauseStackNode next = CauseStackNode.this;
+
+            @Override
+            public boolean hasNext() {
+                return this.next != null;
+            }
+
+            @Override
+            public Object next() {
+                final @Nullable CauseStackNode next = this.next;
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                this.next = next.parent;
+                return next.value;
+            }
+        };
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.event.EventContext;
+import org.spongepowered.api.event.EventContextKey;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * An immutable node of the event context of a {@link PhaseTracker}. Every
+ * modification of the context adds a node that sets or removes a single key
+ * on top of the current one, and popping a frame returns to the node that was
+ * current when the frame was pushed. The {@link EventContext} built for a node
+ * is cached on it.
+ */
+final class EventContextNode {
+
+    /**
+     * The maximum length of a chain of nodes before lookups become expensive
+     * enough to compact the chain into one node per present key.
+     */
+    private static final int MAX_DEPTH = 32;
+
+    final EventContextKey<?> key;
+    // null if the key was removed by this node
+    final @Nullable Object value;
+    final @Nullable EventContextNode parent;
+    private final int depth;
+
+    private @Nullable EventContext context;
+
+    private EventContextNode(final EventContextKey<?> key, final @Nullable Object value, final @Nullable EventContextNode parent) {
+        this.key = key;
+        this.value = value;
+        this.parent = parent;
+        this.depth = parent == null ? 1 : parent.depth + 1;
+    }
+
+    static @Nullable EventContextNode put(final @Nullable EventContextNode node, final EventContextKey<?> key, final @Nullable Object value) {
+        if (node != null && node.depth >= EventContextNode.MAX_DEPTH) {
+            return EventContextNode.compact(node, key, value);
+        }
+        return new EventContextNode(key, value, node);
+    }
+
+    static @Nullable Object get(final @Nullable EventContextNode node, final EventContextKey<?> key) {
+        for (@Nullable EventContextNode current = node; current != null; current = current.parent) {
+            if (current.key == key) {
+                return current.value;
+            }
+        }
+        return null;
+    }
+
+    static Map<EventContextKey<?>, Object> toMap(final @Nullable EventContextNode node) {
+        final Map<EventContextKey<?>, Object> map = new HashMap<>();
+        final Map<EventContextKey<?>, Boolean> seen = new HashMap<>();
+        for (@Nullable EventContextNode current = node; current != null; current = current.parent) {
+            if (seen.put(current.key, Boolean.TRUE) == null && current.value != null) {
+                map.put(current.key, current.value);
+            }
+        }
+        return map;
+    }
+
+    private static @Nullable EventContextNode compact(final EventContextNode node, final EventContextKey<?> key, final @Nullable Object value) {
+        final Map<EventContextKey<?>, Object> map = EventContextNode.toMap(node);
+        if (value == null) {
+            map.remove(key);
+        } else {
+            map.put(key, value);
+        }
+        @Nullable EventContextNode compacted = null;
+        for (final Map.Entry<EventContextKey<?>, Object> entry : map.entrySet()) {
+            compacted = new EventContextNode(entry.getKey(), entry.getValue(), compacted);
+        }
+        return compacted;
+    }
+
+    EventContext context() {
+        @Nullable EventContext context = this.context;
+        if (context == null) {
+            context = EventContext.of(EventContextNode.toMap(this));
+            this.context = context;
+        }
+        return context;
+    }
+}
@@ -52,7 +52,9 @@
 import org.spongepowered.common.entity.PlayerTracker;
 import org.spongepowered.common.event.tracking.context.transaction.ChangeBlock;
 import org.spongepowered.common.event.tracking.context.transaction.GameTransaction;
+import org.spongepowered.common.event.tracking.context.transaction.NeighborNotificationQueue;
 import org.spongepowered.common.event.tracking.context.transaction.SpawnEntityTransaction;
+import org.spongepowered.common.event.tracking.context.transaction.TransactionalCaptureSupplier;
 import org.spongepowered.common.event.tracking.phase.general.ExplosionContext;
 import org.spongepowered.common.event.tracking.phase.generation.GenerationPhase;
 import org.spongepowered.common.event.tracking.phase.packet.PacketPhase;
@@ -68,6 +70,7 @@
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import net.minecraft.core.BlockPos;
+import net.minecraft.nbt.CompoundTag;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.Entity;
@@ -267,6 +270,34 @@ default boolean doesBlockEventTracking(final C context) {
         return true;
     }
 
+    /**
+     * Gets whether block changes, block entity changes and neighbor notifications
+     * are logged as {@link GameTransaction}s to be processed when this state unwinds.
+     * If {@code false}, the block pipelines still apply every change with its side
+     * effects, but leave nothing behind in the {@link TransactionalCaptureSupplier}.
+     *
+     * @param context The context
+     * @return True if block changes are captured, the default
+     */
+    default boolean doesCaptureBlockChanges(final C context) {
+        return true;
+    }
+
+    /**
+     * Gets whether the neighbor notifications of block changes made in this
+     * state are held back in the {@link NeighborNotificationQueue} until the
+     * state completes, dropping repeated notifications of the same target by
+     * the same source. Only worth it for states that change many blocks at
+     * once.
+     * Called once when the context is switched to, so it may read the config.
+     *
+     * @param context The context
+     * @return True if neighbor notifications are coalesced, false by default
+     */
+    default boolean coalescesNeighborNotifications(final C context) {
+        return false;
+    }
+
     /**
      * Gets whether this state fires {@link org.spongepowered.api.event.entity.CollideEntityEvent}s.
      * This is used for firing the events and for related optimizations.
@@ -467,16 +498,17 @@ default boolean isRegeneration() {
     }
 
     /**
-     * Specifically captures a block change by {@link org.spongepowered.common.event.tracking.context.transaction.TransactionalCaptureSupplier#logBlockChange(SpongeBlockSnapshot, BlockState, BlockChangeFlag)}
+     * Specifically captures a block change by {@link org.spongepowered.common.event.tracking.context.transaction.TransactionalCaptureSupplier#logBlockChange(ServerLevel, BlockPos, BlockState, CompoundTag, BlockState, BlockChangeFlag)}
      * such that the change of a {@link BlockState} will be appropriately logged, along with any changes of tile entities being removed
      * or added, likewise, this will avoid duplicating transactions later after the fact, in the event that multiple changes are taking
      * place, including but not withstanding, tile entity replacements after the fact.
      * @return
      */
-    default ChangeBlock createTransaction(final C phaseContext,
-        final SpongeBlockSnapshot originalBlockSnapshot, final BlockState newState, final BlockChangeFlag flags) {
+    default ChangeBlock createTransaction(final C phaseContext, final ServerLevel world, final BlockPos pos,
+        final BlockState originalState, final @Nullable CompoundTag originalTileData, final BlockState newState,
+        final BlockChangeFlag flags) {
         final ChangeBlock changeBlock = phaseContext.getTransactor()
-            .logBlockChange(originalBlockSnapshot, newState, flags);
+            .logBlockChange(world, pos, originalState, originalTileData, newState, flags);
 
         return changeBlock;
     }
@@ -486,8 +518,7 @@ default boolean doesCaptureNeighborNotifications(final C context) {
     }
 
     default BlockChange associateBlockChangeWithSnapshot(final C phaseContext, final BlockState newState, final Block newBlock,
-        final BlockState currentState, final SpongeBlockSnapshot snapshot,
-        final Block originalBlock) {
+        final BlockState currentState, final Block originalBlock) {
         if (newBlock == Blocks.AIR) {
             return BlockChange.BREAK;
         } else if (newBlock != originalBlock && !TrackingUtil.forceModify(originalBlock, newBlock)) {
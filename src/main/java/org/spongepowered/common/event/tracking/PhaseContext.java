@@ -89,6 +89,7 @@
     private boolean allowsEntityEvents = true;
     private boolean allowsBulkBlockCaptures = true; // Defaults to allow block captures
     private boolean allowsBulkEntityCaptures = true;
+    private boolean coalescesNeighborNotifications;
     @Nullable Deque<CauseStackManager.StackFrame> usedFrame;
 
     @Nullable private Object source;
@@ -134,7 +135,7 @@ public P addBlockCaptures() {
         checkState(!this.isCompleted, "Cannot add a new object to the context if it's already marked as completed!");
         this.checkBlockSuppliers();
 
-        this.transactor = new TransactionalCaptureSupplier();
+        this.transactor = new TransactionalCaptureSupplier(this.createdTracker.getEffectNodePool(), this.createdTracker.getTransactionPool());
         return (P) this;
     }
 
@@ -189,8 +190,20 @@ public boolean allowsBulkEntityCaptures() {
         return this.allowsBulkEntityCaptures;
     }
 
+    /**
+     * Gets whether the state {@link IPhaseState#coalescesNeighborNotifications coalesces}
+     * neighbor notifications, as resolved once when this context was switched to.
+     *
+     * @return True if neighbor notifications are coalesced
+     */
+    @Override
+    public boolean coalescesNeighborNotifications() {
+        return this.coalescesNeighborNotifications;
+    }
+
     public P buildAndSwitch() {
         this.isCompleted = true;
+        this.coalescesNeighborNotifications = this.state.coalescesNeighborNotifications((P) this);
         if (SpongeConfigs.getCommon().get().phaseTracker.generateStackTracePerPhase) {
             this.stackTrace = new Exception("Debug Trace").getStackTrace();
         }
@@ -319,7 +332,7 @@ public List<SpongeBlockSnapshot> getCapturedOriginalBlocksChanged() throws Illeg
 
     public TransactionalCaptureSupplier getTransactor() {
         if (this.transactor == null) {
-            this.transactor = new TransactionalCaptureSupplier();
+            this.transactor = new TransactionalCaptureSupplier(this.createdTracker.getEffectNodePool(), this.createdTracker.getTransactionPool());
         }
         return this.transactor;
     }
@@ -421,11 +434,18 @@ public void close() { // Should never throw an exception
         }
     }
 
+    void recycleTransactions() {
+        if (this.transactor != null) {
+            this.transactor.recycle();
+        }
+    }
+
     protected void reset() {
         this.source = null;
         this.stackTrace = null;
         this.creator = null;
         this.notifier = null;
+        this.coalescesNeighborNotifications = false;
         if (this.transactor != null) {
             this.transactor.reset();
         }
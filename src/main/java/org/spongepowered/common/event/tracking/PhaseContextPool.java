@@ -0,0 +1,126 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayDeque;
+
+/**
+ * The free list of released {@link PhaseContext}s of a single
+ * {@link PooledPhaseState}, along with counters of how often the state was
+ * able to reuse a context, had to allocate a new one, or had to drop a
+ * released context because the pool was already full.
+ *
+ * <p>Each {@link PhaseTracker} owns one pool per state, which is only ever
+ * accessed from the tracker's sided thread.</p>
+ *
+ * @param <C> The type of context
+ */
+public final class PhaseContextPool<C extends PhaseContext<C>> {
+
+    private final IPhaseState<?> state;
+    private final int maxSize;
+    private final ArrayDeque<C> contexts;
+    private long hits;
+    private long misses;
+    private long overflows;
+
+    PhaseContextPool(final IPhaseState<?> state, final int maxSize) {
+        this.state = state;
+        this.maxSize = maxSize;
+        this.contexts = new ArrayDeque<>(Math.min(maxSize, 16));
+    }
+
+    @Nullable C poll() {
+        final @Nullable C context = this.contexts.pollFirst();
+        if (context != null) {
+            this.hits++;
+        }
+        return context;
+    }
+
+    void recordHit() {
+        this.hits++;
+    }
+
+    void recordMiss() {
+        this.misses++;
+    }
+
+    void release(final C context) {
+        if (this.contexts.size() < this.maxSize) {
+            this.contexts.push(context);
+        } else {
+            this.overflows++;
+        }
+    }
+
+    public IPhaseState<?> getState() {
+        return this.state;
+    }
+
+    /**
+     * Gets the number of contexts that were handed out again since the last
+     * {@link #resetStatistics()}.
+     *
+     * @return The number of reuses
+     */
+    public long getHits() {
+        return this.hits;
+    }
+
+    /**
+     * Gets the number of contexts that had to be allocated since the last
+     * {@link #resetStatistics()}.
+     *
+     * @return The number of allocations
+     */
+    public long getMisses() {
+        return this.misses;
+    }
+
+    /**
+     * Gets the number of released contexts that were left to the garbage
+     * collector since the last {@link #resetStatistics()}, because the pool
+     * already held its maximum size.
+     *
+     * @return The number of dropped contexts
+     */
+    public long getOverflows() {
+        return this.overflows;
+    }
+
+    public int getPooled() {
+        return this.contexts.size();
+    }
+
+    public void resetStatistics() {
+        this.hits = 0;
+        this.misses = 0;
+        this.overflows = 0;
+    }
+
+}
@@ -66,6 +66,7 @@ public final class PhasePrinter {
     private static boolean hasPrintedEmptyOnce = false;
     private static boolean hasPrintedAboutRunnawayPhases = false;
     private static boolean hasPrintedAsyncEntities = false;
+    private static volatile boolean hasPrintedFullAsyncSpawnQueue = false;
     private static int printRunawayCount = 0;
     private static final List<IPhaseState<@NonNull ?>> printedExceptionsForBlocks = new ArrayList<>();
     private static final List<IPhaseState<@NonNull ?>> printedExceptionsForEntities = new ArrayList<>();
@@ -479,7 +480,17 @@ static void printAsyncEntitySpawn(final Entity entity) {
             PhasePrinter.hasPrintedAsyncEntities = true;
             return;
         }
-        PhaseTracker.ASYNC_CAPTURED_ENTITIES.add((net.minecraft.world.entity.Entity) entity);
+        if (!PhaseTracker.ASYNC_CAPTURED_ENTITIES.offer((net.minecraft.world.entity.Entity) entity)) {
+            // The server thread isn't keeping up with the spawns, drop the entity rather than
+            // letting the queue grow without bounds.
+            if (!PhasePrinter.hasPrintedFullAsyncSpawnQueue || SpongeConfigs.getCommon().get().phaseTracker.verboseErrors) {
+                PhasePrinter.hasPrintedFullAsyncSpawnQueue = true;
+                SpongeCommon.getLogger().warn("The async entity spawn queue is full ({} entities waiting), dropping {}. "
+                        + "Consider raising 'async-spawn-queue-capacity' in the phase-tracker configuration.",
+                    PhaseTracker.ASYNC_CAPTURED_ENTITIES.size(), entity);
+            }
+            return;
+        }
         // At this point we can print an exception about it, if we are told to.
         // Print a pretty warning about not capturing an async spawned entity, but don't care about spawning.
         if (!SpongeConfigs.getCommon().get().phaseTracker.verbose) {
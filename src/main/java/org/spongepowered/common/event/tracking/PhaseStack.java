@@ -27,6 +27,8 @@
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import org.spongepowered.common.event.tracking.phase.general.GeneralPhase;
 
 import java.util.ArrayDeque;
@@ -48,6 +50,11 @@ final class PhaseStack {
     private static final int DEFAULT_QUEUE_SIZE = 16;
 
     private final Deque<PhaseContext<?>> phases;
+    // Statistics of the phases entered since the last reset, read by the timings spike recorder
+    // and only gathered while it records
+    private final Object2IntOpenHashMap<IPhaseState<?>> enteredStates = new Object2IntOpenHashMap<>();
+    private int peakDepth;
+    private boolean recordStatistics;
 
     PhaseStack() {
         this(PhaseStack.DEFAULT_QUEUE_SIZE);
@@ -81,9 +88,35 @@ PhaseStack push(IPhaseState<?> state, PhaseContext<?> context) {
         checkArgument(context.state == state, "Illegal IPhaseState not matching PhaseContext: %s", context);
         checkArgument(context.isComplete(), "Phase context must be complete: %s", context);
         this.phases.push(context);
+        if (this.recordStatistics) {
+            this.enteredStates.addTo(state, 1);
+            if (this.phases.size() > this.peakDepth) {
+                this.peakDepth = this.phases.size();
+            }
+        }
         return this;
     }
 
+    int getPeakDepth() {
+        return this.peakDepth;
+    }
+
+    Object2IntMap<IPhaseState<?>> getEnteredStates() {
+        return this.enteredStates;
+    }
+
+    void setRecordStatistics(final boolean recordStatistics) {
+        if (this.recordStatistics != recordStatistics) {
+            this.recordStatistics = recordStatistics;
+            this.resetStatistics();
+        }
+    }
+
+    void resetStatistics() {
+        this.enteredStates.clear();
+        this.peakDepth = this.phases.size();
+    }
+
     public void forEach(Consumer<PhaseContext<?>> consumer) {
         this.phases.forEach(consumer);
     }
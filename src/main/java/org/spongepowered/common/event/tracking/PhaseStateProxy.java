@@ -57,6 +57,7 @@
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import net.minecraft.core.BlockPos;
+import net.minecraft.nbt.CompoundTag;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.Entity;
@@ -208,6 +209,14 @@ default boolean doesBlockEventTracking() {
         return this.getState().doesBlockEventTracking(this.asContext());
     }
 
+    default boolean doesCaptureBlockChanges() {
+        return this.getState().doesCaptureBlockChanges(this.asContext());
+    }
+
+    default boolean coalescesNeighborNotifications() {
+        return this.getState().coalescesNeighborNotifications(this.asContext());
+    }
+
     /**
      * Gets whether this state fires {@link org.spongepowered.api.event.entity.CollideEntityEvent}s.
      * This is used for firing the events and for related optimizations.
@@ -397,16 +406,16 @@ default boolean isRegeneration() {
     }
 
     /**
-     * Specifically captures a block change by {@link org.spongepowered.common.event.tracking.context.transaction.TransactionalCaptureSupplier#logBlockChange(SpongeBlockSnapshot, BlockState, BlockChangeFlag)}
+     * Specifically captures a block change by {@link org.spongepowered.common.event.tracking.context.transaction.TransactionalCaptureSupplier#logBlockChange(ServerLevel, BlockPos, BlockState, CompoundTag, BlockState, BlockChangeFlag)}
      * such that the change of a {@link BlockState} will be appropriately logged, along with any changes of tile entities being removed
      * or added, likewise, this will avoid duplicating transactions later after the fact, in the event that multiple changes are taking
      * place, including but not withstanding, tile entity replacements after the fact.
      * @return
      */
-    default ChangeBlock createTransaction(final SpongeBlockSnapshot originalBlockSnapshot, final BlockState newState,
-        final BlockChangeFlag flags
+    default ChangeBlock createTransaction(final ServerLevel world, final BlockPos pos, final BlockState originalState,
+        final @Nullable CompoundTag originalTileData, final BlockState newState, final BlockChangeFlag flags
     ) {
-        return this.getState().createTransaction(this.asContext(), originalBlockSnapshot, newState, flags);
+        return this.getState().createTransaction(this.asContext(), world, pos, originalState, originalTileData, newState, flags);
     }
 
     default boolean doesCaptureNeighborNotifications() {
@@ -414,10 +423,9 @@ default boolean doesCaptureNeighborNotifications() {
     }
 
     default BlockChange associateBlockChangeWithSnapshot(final BlockState newState, final Block newBlock,
-        final BlockState currentState, final SpongeBlockSnapshot snapshot,
-        final Block originalBlock
+        final BlockState currentState, final Block originalBlock
     ) {
-        return this.getState().associateBlockChangeWithSnapshot(this.asContext(), newState, newBlock,currentState, snapshot, originalBlock);
+        return this.getState().associateBlockChangeWithSnapshot(this.asContext(), newState, newBlock, currentState, originalBlock);
     }
 
     /**
@@ -27,9 +27,9 @@
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
-import com.google.common.collect.MapMaker;
-import com.google.common.collect.Maps;
 import com.google.common.collect.Queues;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMaps;
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -47,6 +47,9 @@
 import org.spongepowered.common.applaunch.config.common.PhaseTrackerCategory;
 import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
 import org.spongepowered.common.event.cause.entity.SpongeSpawnTypes;
+import org.spongepowered.common.event.tracking.context.transaction.EffectNodePool;
+import org.spongepowered.common.event.tracking.context.transaction.GameTransactionPool;
+import org.spongepowered.common.event.tracking.context.transaction.NeighborNotificationQueue;
 import org.spongepowered.common.event.tracking.phase.general.GeneralPhase;
 import org.spongepowered.common.event.tracking.phase.tick.TickPhase;
 import org.spongepowered.common.launch.Launch;
@@ -56,21 +59,25 @@
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
 import java.lang.ref.WeakReference;
 import java.util.ArrayDeque;
-import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Deque;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
-import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.StringJoiner;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiConsumer;
+import java.util.function.ObjIntConsumer;
 import net.minecraft.core.BlockPos;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerLevel;
@@ -90,13 +97,23 @@ public final class PhaseTracker implements CauseStackManager {
     public static final PhaseTracker CLIENT = new PhaseTracker();
     public static final PhaseTracker SERVER = new PhaseTracker();
     public static final Logger LOGGER = LogManager.getLogger(PhaseTracker.class);
-    static final CopyOnWriteArrayList<net.minecraft.world.entity.Entity> ASYNC_CAPTURED_ENTITIES = new CopyOnWriteArrayList<>();
-    private static final Map<Thread, PhaseTracker> SPINOFF_TRACKERS = new MapMaker().weakKeys().concurrencyLevel(8).makeMap();
+    static final AsyncEntitySpawnQueue ASYNC_CAPTURED_ENTITIES = new AsyncEntitySpawnQueue();
+    // Resolved once per spin-off thread, the tracker is kept alive by the thread itself
+    private static final ThreadLocal<PhaseTracker> SPINOFF_TRACKER = ThreadLocal.withInitial(PhaseTracker::createSpinOffTracker);
+    // Trackers of spin-off threads that died with a clean stack, ready to be handed to new threads
+    private static final Deque<PhaseTracker> SPINOFF_TRACKER_POOL = new ArrayDeque<>();
+    // Strongly held so that the references of live threads get enqueued once their thread is collected
+    private static final Set<SpinOffThreadReference> SPINOFF_THREADS = ConcurrentHashMap.newKeySet();
+    private static final ReferenceQueue<Thread> SPINOFF_THREAD_QUEUE = new ReferenceQueue<>();
     private static final boolean DEBUG_CAUSE_FRAMES = Boolean.parseBoolean(System.getProperty("sponge.debugcauseframes", "false"));
     private static final String INITIAL_POOL_SIZE_PROPERTY = "sponge.cause.initialFramePoolSize";
     private static final String MAX_POOL_SIZE_PROPERTY = "sponge.cause.maxFramePoolSize";
+    private static final String MAX_SPINOFF_POOL_SIZE_PROPERTY = "sponge.cause.maxSpinOffTrackerPoolSize";
+    private static final String MAX_CONTEXT_POOL_SIZE_PROPERTY = "sponge.tracker.maxContextPoolSize";
     private static final int INITIAL_POOL_SIZE;
     private static final int MAX_POOL_SIZE;
+    private static final int MAX_SPINOFF_POOL_SIZE;
+    private static final int MAX_CONTEXT_POOL_SIZE;
 
     public static PhaseTracker getInstance() {
         final Thread current = Thread.currentThread();
@@ -107,15 +124,46 @@ public static PhaseTracker getInstance() {
             return PhaseTracker.CLIENT;
         }
 
-        return PhaseTracker.SPINOFF_TRACKERS.computeIfAbsent(current, (thread) -> {
-            try {
-                final PhaseTracker phaseTracker = new PhaseTracker();
-                phaseTracker.setThread(thread);
-                return phaseTracker;
-            } catch (final IllegalAccessException e) {
-                throw new RuntimeException("Unable to create a new PhaseTracker for Thread: " + thread, e);
+        return PhaseTracker.SPINOFF_TRACKER.get();
+    }
+
+    private static PhaseTracker createSpinOffTracker() {
+        final Thread thread = Thread.currentThread();
+        @Nullable PhaseTracker phaseTracker;
+        synchronized (PhaseTracker.SPINOFF_TRACKER_POOL) {
+            PhaseTracker.reclaimSpinOffTrackers();
+            phaseTracker = PhaseTracker.SPINOFF_TRACKER_POOL.poll();
+        }
+        if (phaseTracker == null) {
+            phaseTracker = new PhaseTracker();
+        }
+        final SpinOffThreadReference reference = new SpinOffThreadReference(thread, phaseTracker);
+        PhaseTracker.SPINOFF_THREADS.add(reference);
+        phaseTracker.sidedThread = reference;
+        return phaseTracker;
+    }
+
+    /**
+     * Returns the trackers of the spin-off threads that were collected since
+     * the last call to the pool, so that new threads (short lived virtual
+     * threads in particular) reuse their frame and phase context pools
+     * instead of allocating new ones.
+     */
+    private static void reclaimSpinOffTrackers() {
+        @Nullable Reference<? extends Thread> reference;
+        while ((reference = PhaseTracker.SPINOFF_THREAD_QUEUE.poll()) != null) {
+            PhaseTracker.SPINOFF_THREADS.remove(reference);
+            final PhaseTracker phaseTracker = ((SpinOffThreadReference) reference).tracker;
+            // A thread that died mid phase leaves its tracker in an unknown state, let it be collected
+            if (PhaseTracker.SPINOFF_TRACKER_POOL.size() < PhaseTracker.MAX_SPINOFF_POOL_SIZE && phaseTracker.isClean()) {
+                phaseTracker.sidedThread = null;
+                PhaseTracker.SPINOFF_TRACKER_POOL.push(phaseTracker);
             }
-        });
+        }
+    }
+
+    public static AsyncEntitySpawnQueue getAsyncEntitySpawnQueue() {
+        return PhaseTracker.ASYNC_CAPTURED_ENTITIES;
     }
 
     public static CauseStackManager getCauseStackManager() {
@@ -198,20 +246,39 @@ public static Block validateBlockForNeighborNotification(final ServerLevel world
                 PhaseTracker.MAX_POOL_SIZE_PROPERTY,
                 System.getProperty(PhaseTracker.MAX_POOL_SIZE_PROPERTY));
         }
+        int maxSpinOffPoolSize = 16;
+        try {
+            maxSpinOffPoolSize = Integer.parseInt(System.getProperty(PhaseTracker.MAX_SPINOFF_POOL_SIZE_PROPERTY, "16"));
+        } catch (final NumberFormatException ex) {
+            SpongeCommon.getLogger().warn("{} must be an integer, was set to {}. Defaulting to 16.",
+                PhaseTracker.MAX_SPINOFF_POOL_SIZE_PROPERTY,
+                System.getProperty(PhaseTracker.MAX_SPINOFF_POOL_SIZE_PROPERTY));
+        }
+        int maxContextPoolSize = 32;
+        try {
+            maxContextPoolSize = Integer.parseInt(System.getProperty(PhaseTracker.MAX_CONTEXT_POOL_SIZE_PROPERTY, "32"));
+        } catch (final NumberFormatException ex) {
+            SpongeCommon.getLogger().warn("{} must be an integer, was set to {}. Defaulting to 32.",
+                PhaseTracker.MAX_CONTEXT_POOL_SIZE_PROPERTY,
+                System.getProperty(PhaseTracker.MAX_CONTEXT_POOL_SIZE_PROPERTY));
+        }
         MAX_POOL_SIZE = Math.max(0, maxPoolSize);
         INITIAL_POOL_SIZE = Math.max(0, Math.min(PhaseTracker.MAX_POOL_SIZE, initialPoolSize));
+        MAX_SPINOFF_POOL_SIZE = Math.max(0, maxSpinOffPoolSize);
+        MAX_CONTEXT_POOL_SIZE = Math.max(0, maxContextPoolSize);
     }
 
-    private final Deque<Object> cause = Queues.newArrayDeque();
+    // The causes and context are persistent structures, every frame keeps the
+    // nodes that were current when it was pushed and restores them on pop.
+    @Nullable private CauseStackNode cause;
+    @Nullable private EventContextNode ctx;
     // Frames in use
     private final Deque<SpongeCauseStackFrame> frames = Queues.newArrayDeque();
     // Frames not currently in use
     private final Deque<SpongeCauseStackFrame> framePool = new ArrayDeque<>(PhaseTracker.MAX_POOL_SIZE);
-    private final Map<EventContextKey<?>, Object> ctx = Maps.newHashMap();
     private int min_depth = 0;
     private int[] duplicateCauses = new int[100];
-    @Nullable private Cause cached_cause;
-    @Nullable private EventContext cached_ctx;
+    @Nullable private Cause cached_empty_cause;
     private final AtomicBoolean pendingProviders = new AtomicBoolean(false);
     @Nullable private WeakReference<Thread> sidedThread;
     private boolean hasRun = false;
@@ -246,16 +313,12 @@ public void init() {
                     return;
                 }
 
-                final List<net.minecraft.world.entity.Entity> entities = new ArrayList<>(PhaseTracker.ASYNC_CAPTURED_ENTITIES);
-                PhaseTracker.ASYNC_CAPTURED_ENTITIES.removeAll(entities);
                 try (final CauseStackManager.StackFrame frame = this.pushCauseFrame()) {
                     // We are forcing the spawn, as we can't throw the proper event at the proper time, so
                     // we'll just mark it as "forced".
                     frame.addContext(EventContextKeys.SPAWN_TYPE, SpongeSpawnTypes.FORCED);
-                    for (final net.minecraft.world.entity.Entity entity : entities) {
-                        // At this point, we don't care what the causes are...
-                        entity.getCommandSenderWorld().addFreshEntity(entity);
-                    }
+                    // At this point, we don't care what the causes are...
+                    PhaseTracker.ASYNC_CAPTURED_ENTITIES.drain(entity -> entity.getCommandSenderWorld().addFreshEntity(entity));
                 }
 
             })
@@ -295,6 +358,11 @@ public void setThread(@Nullable final Thread thread) throws IllegalAccessExcepti
 
     }
 
+    private boolean isClean() {
+        return this.stack.isEmpty() && this.frames.isEmpty() && this.phaseContextProviders.isEmpty()
+            && this.cause == null && this.ctx == null;
+    }
+
     public boolean onSidedThread() {
         return Thread.currentThread() == this.getSidedThread();
     }
@@ -322,6 +390,46 @@ public Thread getSidedThread() {
 
     // ----------------- STATE ACCESS ----------------------------------
 
+    /**
+     * Gets the deepest the phase stack has been since the statistics were
+     * last reset.
+     *
+     * @return The peak phase stack depth
+     */
+    public int getPeakStackDepth() {
+        return this.stack.getPeakDepth();
+    }
+
+    public int getStackDepth() {
+        return this.stack.size();
+    }
+
+    /**
+     * Passes every phase state entered since the statistics were last reset
+     * to the consumer, along with the amount of times it was entered.
+     *
+     * @param consumer The consumer of the states and their counts
+     */
+    public void forEachEnteredPhase(final ObjIntConsumer<IPhaseState<?>> consumer) {
+        for (final Object2IntMap.Entry<IPhaseState<?>> entry : Object2IntMaps.fastIterable(this.stack.getEnteredStates())) {
+            consumer.accept(entry.getKey(), entry.getIntValue());
+        }
+    }
+
+    public void resetStackStatistics() {
+        this.stack.resetStatistics();
+    }
+
+    /**
+     * Sets whether the entered phases and the peak depth of the stack are
+     * gathered, they are only needed while the timings record tick spikes.
+     *
+     * @param recordStatistics Whether to record the stack statistics
+     */
+    public void setRecordStackStatistics(final boolean recordStatistics) {
+        this.stack.setRecordStatistics(recordStatistics);
+    }
+
     @SuppressWarnings("rawtypes")
     void switchToPhase(final IPhaseState<?> state, final PhaseContext<?> phaseContext) {
         if (phaseContext.createdTracker != this && Thread.currentThread() != this.getSidedThread()) {
@@ -379,6 +487,7 @@ void completePhase(final PhaseContext<?> context) {
             // The phase on the top of the stack was most likely never completed.
             // Since we don't know when and where completePhase was intended to be called for it,
             // we simply pop it to allow processing to continue (somewhat) as normal
+            this.neighborNotificationQueue.flushIfOwnedBy(currentContext);
             this.stack.pop();
             return;
         }
@@ -391,6 +500,9 @@ void completePhase(final PhaseContext<?> context) {
             }
         }
 
+        // Deliver the neighbor notifications held back by this phase while it is still
+        // current, so that they are captured and unwound along with its block changes
+        this.neighborNotificationQueue.flushIfOwnedBy(currentContext);
         final boolean hasCaptures = currentContext.hasCaptures();
         try (final @Nullable UnwindingPhaseContext unwinding = UnwindingPhaseContext.unwind(currentContext, hasCaptures)) {
             // With UnwindingPhaseContext#unwind checking for post, if it is null, the try
@@ -411,6 +523,9 @@ void completePhase(final PhaseContext<?> context) {
                 currentContext, e);
         }
         this.checkPhaseContextProcessed(state, currentContext);
+        // The events of the captured transactions have all been thrown, so the
+        // transactions can be handed out again to the phases that follow
+        currentContext.recycleTransactions();
         // If pop is called, the Deque will already throw an exception if there is no element
         // so it's an error properly handled.
         this.stack.pop();
@@ -453,10 +568,39 @@ public void ensureEmpty() {
         }
     }
 
-    private final IdentityHashMap<IPhaseState<?>, ArrayDeque<? extends PhaseContext<?>>> stateContextPool = new IdentityHashMap<>();
+    private final IdentityHashMap<IPhaseState<?>, PhaseContextPool<?>> stateContextPool = new IdentityHashMap<>();
 
-    public <C extends PhaseContext<C>> ArrayDeque<C> getContextPoolFor(final PooledPhaseState<? extends C> state) {
-        return (ArrayDeque<C>) this.stateContextPool.computeIfAbsent(state, (newState) -> new ArrayDeque<>());
+    @SuppressWarnings("unchecked")
+    public <C extends PhaseContext<C>> PhaseContextPool<C> getContextPoolFor(final PooledPhaseState<C> state) {
+        final @Nullable PhaseContextPool<?> pool = this.stateContextPool.get(state);
+        if (pool != null) {
+            return (PhaseContextPool<C>) pool;
+        }
+        final PhaseContextPool<C> newPool = new PhaseContextPool<>(state, PhaseTracker.MAX_CONTEXT_POOL_SIZE);
+        this.stateContextPool.put(state, newPool);
+        return newPool;
+    }
+
+    public Collection<PhaseContextPool<?>> getContextPools() {
+        return Collections.unmodifiableCollection(this.stateContextPool.values());
+    }
+
+    private final EffectNodePool effectNodePool = new EffectNodePool();
+
+    public EffectNodePool getEffectNodePool() {
+        return this.effectNodePool;
+    }
+
+    private final GameTransactionPool transactionPool = new GameTransactionPool();
+
+    public GameTransactionPool getTransactionPool() {
+        return this.transactionPool;
+    }
+
+    private final NeighborNotificationQueue neighborNotificationQueue = new NeighborNotificationQueue();
+
+    public NeighborNotificationQueue getNeighborNotificationQueue() {
+        return this.neighborNotificationQueue;
     }
 
     @Override
@@ -489,38 +633,37 @@ public String toString() {
     @Override
     public Cause currentCause() {
         this.enforceMainThread();
-        if (this.cached_cause == null || this.cached_ctx == null) {
-            if (this.cause.isEmpty()) {
-                this.cached_cause = Cause.of(this.currentContext(), SpongeCommon.getGame());
-            } else {
-                this.cached_cause = Cause.of(this.currentContext(), this.cause);
-            }
+        final EventContext context = this.currentContext();
+        if (this.cause != null) {
+            return this.cause.cause(context);
+        }
+        if (this.cached_empty_cause == null || this.cached_empty_cause.context() != context) {
+            this.cached_empty_cause = Cause.of(context, SpongeCommon.getGame());
         }
-        return this.cached_cause;
+        return this.cached_empty_cause;
     }
 
     @Override
     public EventContext currentContext() {
         this.enforceMainThread();
-        if (this.cached_ctx == null) {
-            this.cached_ctx = EventContext.of(this.ctx);
+        if (this.ctx != null) {
+            return this.ctx.context();
         }
-        return this.cached_ctx;
+        return EventContext.empty();
     }
 
     @Override
     public CauseStackManager pushCause(final Object obj) {
         checkNotNull(obj, "obj");
         this.enforceMainThread();
-        this.cached_cause = null;
-        if (this.cause.peek() == obj) {
+        if (this.cause != null && this.cause.value == obj) {
             // We don't want to be pushing duplicate objects
             // to the root and secondary entry of the cause.
             // This avoids some odd corner cases of the phase tracking system pushing
             // objects without being able to definitively say if the object is already pushed
             // without generating cause frames forcibly.
             // BUT, we do want to at least mark the index of the duplicated object for later popping (if some consumer is doing manual push and pops)
-            final int dupedIndex = this.cause.size();
+            final int dupedIndex = this.cause.size;
             if (this.duplicateCauses.length <= dupedIndex) {
                 // Make sure that we have enough space. If not, increase by 50%
                 this.duplicateCauses = Arrays.copyOf(this.duplicateCauses, (int) (dupedIndex * 1.5));
@@ -530,28 +673,29 @@ public CauseStackManager pushCause(final Object obj) {
             this.duplicateCauses[dupedIndex] = this.duplicateCauses[dupedIndex] + 1;
             return this;
         }
-        this.cause.push(obj);
+        this.cause = new CauseStackNode(obj, this.cause);
         return this;
     }
 
     @Override
     public Object popCause() {
         this.enforceMainThread();
-        final int size = this.cause.size();
+        final int size = CauseStackNode.size(this.cause);
         // First, check for duplicate causes. If there are duplicates,
         // we can artificially "pop" by just peeking.
         final int dupeCause = this.duplicateCauses[size];
         if (dupeCause > 0) {
             // Make sure to just decrement the duplicate causes.
             this.duplicateCauses[size] = dupeCause - 1;
-            return checkNotNull(this.cause.peek());
+            return checkNotNull(this.cause).value;
         }
         if (size <= this.min_depth) {
             throw new IllegalStateException("Cause stack corruption, tried to pop more objects off than were pushed since last frame (Size was "
                                                 + size + " but mid depth is " + this.min_depth + ")");
         }
-        this.cached_cause = null;
-        return this.cause.pop();
+        final CauseStackNode top = checkNotNull(this.cause);
+        this.cause = top.parent;
+        return top.value;
     }
 
     @Override
@@ -565,14 +709,14 @@ public void popCauses(final int n) {
     @Override
     public Object peekCause() {
         this.enforceMainThread();
-        return this.cause.peek();
+        return this.cause == null ? null : this.cause.value;
     }
 
     @Override
     public StackFrame pushCauseFrame() {
         this.enforceMainThread();
         // Ensure duplicate causes will be correctly sized.
-        final int size = this.cause.size();
+        final int size = CauseStackNode.size(this.cause);
         if (this.duplicateCauses.length <= size) {
             this.duplicateCauses = Arrays.copyOf(this.duplicateCauses, (int) (size * 1.5));
         }
@@ -589,6 +733,8 @@ public StackFrame pushCauseFrame() {
             frame.old_min_depth = this.min_depth;
             frame.lastCauseSize = this.duplicateCauses[size];
         }
+        frame.cause = this.cause;
+        frame.context = this.ctx;
 
         this.frames.push(frame);
         this.min_depth = size;
@@ -663,20 +809,12 @@ public void popCauseFrame(final StackFrame oldFrame) {
         }
         this.frames.pop();
 
-        // Remove new values
-        for (final Map.Entry<EventContextKey<?>, Object> entry : frame.getOriginalContextDelta().entrySet()) {
-            this.cached_ctx = null;
-            if (entry.getValue() == null) { // wasn't present before, remove
-                this.ctx.remove(entry.getKey());
-            } else { // was there, replace
-                this.ctx.put(entry.getKey(), entry.getValue());
-            }
-        }
+        // Restore the context as it was when the frame was pushed, along with
+        // the snapshot that may already have been built for it
+        this.ctx = frame.context;
 
         // If there were any objects left on the stack then we pop them off
-        while (this.cause.size() > this.min_depth) {
-            final int index = this.cause.size();
-
+        for (int index = CauseStackNode.size(this.cause); index > this.min_depth; index--) {
             // Then, only pop the potential duplicate causes (if any) if and only if
             // there was a duplicate cause pushed prior to the frame being popped.
             if (this.duplicateCauses.length > index) {
@@ -685,13 +823,10 @@ public void popCauseFrame(final StackFrame oldFrame) {
                 // And of course, reset the number of duplicates in the entry.
                 this.duplicateCauses[index] = 0;
             }
-            this.cause.pop();
-
-            // and clear the cached causes
-            this.cached_cause = null;
         }
+        this.cause = frame.cause;
         this.min_depth = frame.old_min_depth;
-        final int size = this.cause.size();
+        final int size = CauseStackNode.size(this.cause);
         if (this.duplicateCauses.length > size) {
             // Then set the last cause index to whatever the size of the entry was at the time.
             this.duplicateCauses[size] = frame.lastCauseSize;
@@ -711,11 +846,7 @@ public <T> CauseStackManager addContext(final EventContextKey<T> key, final T va
         checkNotNull(key, "key");
         checkNotNull(value, "value");
         this.enforceMainThread();
-        this.cached_ctx = null;
-        @Nullable final Object existing = this.ctx.put(key, value);
-        if (!this.frames.isEmpty()) {
-            this.frames.peek().storeOriginalContext(key, existing);
-        }
+        this.ctx = EventContextNode.put(this.ctx, key, value);
         return this;
     }
 
@@ -723,17 +854,16 @@ public <T> CauseStackManager addContext(final EventContextKey<T> key, final T va
     public <T> Optional<T> context(final EventContextKey<T> key) {
         checkNotNull(key, "key");
         this.enforceMainThread();
-        return Optional.ofNullable((T) this.ctx.get(key));
+        return Optional.ofNullable((T) EventContextNode.get(this.ctx, key));
     }
 
     @Override
     public <T> Optional<T> removeContext(final EventContextKey<T> key) {
         checkNotNull(key, "key");
         this.enforceMainThread();
-        this.cached_ctx = null;
-        final Object existing = this.ctx.remove(key);
-        if (!this.frames.isEmpty()) {
-            this.frames.peek().storeOriginalContext(key, existing);
+        @Nullable final Object existing = EventContextNode.get(this.ctx, key);
+        if (existing != null) {
+            this.ctx = EventContextNode.put(this.ctx, key, null);
         }
         return Optional.ofNullable((T) existing);
     }
@@ -777,8 +907,6 @@ private void registerPhaseContextProvider(final PhaseContext<?> context) {
         checkNotNull(context.state.getFrameModifier(), "Consumer");
         // Reset our cached objects
         this.pendingProviders.compareAndSet(false, true); //I Reset the cache
-        this.cached_cause = null; // Reset the cache
-        this.cached_ctx = null; // Reset the cache
         // Since we cannot rely on the PhaseStack being tied to this stack of providers,
         // we have to make the tuple to tie the phase context to provide the consumer.
         this.phaseContextProviders.push(context);
@@ -801,4 +929,14 @@ void popFrameMutator(final PhaseContext<?> context) {
         }
 
     }
+
+    private static final class SpinOffThreadReference extends WeakReference<Thread> {
+
+        final PhaseTracker tracker;
+
+        SpinOffThreadReference(final Thread thread, final PhaseTracker tracker) {
+            super(thread, PhaseTracker.SPINOFF_THREAD_QUEUE);
+            this.tracker = tracker;
+        }
+    }
 }
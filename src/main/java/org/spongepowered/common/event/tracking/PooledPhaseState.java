@@ -42,20 +42,23 @@ public final C createPhaseContext(final PhaseTracker tracker) {
             throw new IllegalStateException("Asynchronous Thread Access to PhaseTracker: " + tracker);
         }
 
+        final PhaseContextPool<C> pool = tracker.getContextPoolFor(this);
         if (tracker == PhaseTracker.SERVER) {
             if (this.serverCached != null && !this.serverCached.isCompleted) {
                 final C cached = this.serverCached;
                 this.serverCached = null;
+                pool.recordHit();
                 return cached;
             }
         } else if (tracker == PhaseTracker.CLIENT) {
             if (this.clientCached != null && !this.clientCached.isCompleted) {
                 final C cached = this.clientCached;
                 this.clientCached = null;
+                pool.recordHit();
                 return cached;
             }
         }
-        final C peek = tracker.getContextPoolFor(this).pollFirst();
+        final @Nullable C peek = pool.poll();
         if (peek != null) {
             if (tracker == PhaseTracker.SERVER) {
                 this.serverCached = peek;
@@ -64,6 +67,7 @@ public final C createPhaseContext(final PhaseTracker tracker) {
             }
             return peek;
         }
+        pool.recordMiss();
         final C maybeCached = this.createNewContext(tracker);
         if (tracker == PhaseTracker.SERVER) {
             this.serverCached = maybeCached;
@@ -96,8 +100,7 @@ final void releaseContextFromPool(final C context) {
                 return;
             }
         }
-        createdTracker.getContextPoolFor(this).push(context);
-
+        createdTracker.getContextPoolFor(this).release(context);
     }
 
     protected abstract C createNewContext(PhaseTracker tracker);
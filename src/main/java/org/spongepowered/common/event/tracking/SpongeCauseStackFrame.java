@@ -41,9 +41,11 @@ public final class SpongeCauseStackFrame implements CauseStackManager.StackFrame
 
     private final PhaseTracker tracker;
     private final Map<EventContextKey<?>, Object> storedContextValues;
-    private final Map<EventContextKey<?>, Object> storedContext;
     int old_min_depth;
     int lastCauseSize;
+    // The cause and context of the tracker when this frame was pushed
+    @Nullable CauseStackNode cause;
+    @Nullable EventContextNode context;
 
     @Nullable Exception stackDebug = null;
 
@@ -51,12 +53,12 @@ public final class SpongeCauseStackFrame implements CauseStackManager.StackFrame
     SpongeCauseStackFrame(final PhaseTracker tracker) {
         this.tracker = tracker;
         this.storedContextValues = new Object2ObjectOpenHashMap<>();
-        this.storedContext = new Object2ObjectOpenHashMap<>();
     }
 
     public void clear() {
         this.storedContextValues.clear();
-        this.storedContext.clear();
+        this.cause = null;
+        this.context = null;
         this.lastCauseSize = -1;
         this.old_min_depth = -1;
         this.stackDebug = null;
@@ -85,17 +87,6 @@ public void store(EventContextKey<?> key, Object existing) {
         this.storedContextValues.put(key, existing);
     }
 
-    // Note that a null object indicates that the context should be removed
-    void storeOriginalContext(final EventContextKey<?> key, @Nullable final Object value) {
-        if (!this.storedContext.containsKey(key)) {
-            this.storedContext.put(key, value);
-        }
-    }
-
-    Map<EventContextKey<?>, Object> getOriginalContextDelta() {
-        return this.storedContext;
-    }
-
     @Override
     public Cause currentCause() {
         return this.tracker.currentCause();
@@ -44,6 +44,7 @@
 import org.spongepowered.api.world.BlockChangeFlags;
 import org.spongepowered.api.world.LocatableBlock;
 import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
 import org.spongepowered.common.block.SpongeBlockSnapshot;
 import org.spongepowered.common.block.SpongeBlockSnapshotBuilder;
 import org.spongepowered.common.bridge.CreatorTrackedBridge;
@@ -66,7 +67,6 @@
 import org.spongepowered.common.event.tracking.phase.tick.TickPhase;
 import org.spongepowered.common.event.tracking.phase.tick.TileEntityTickContext;
 import org.spongepowered.common.util.PrettyPrinter;
-import org.spongepowered.common.util.VecHelper;
 import org.spongepowered.common.world.BlockChange;
 import org.spongepowered.common.world.server.SpongeLocatableBlockBuilder;
 
@@ -437,6 +437,30 @@ public static Supplier<IllegalStateException> throwWithContext(final String s, f
         };
     }
 
+    /**
+     * Gets whether the block changes performed within the given context can be
+     * applied without being captured, because nothing would ever read the
+     * resulting transactions. Ownership tracking relies on the transactions,
+     * so contexts with an owner or notifier are always captured.
+     *
+     * @param context The context performing block changes
+     * @return True if the captures can be skipped
+     */
+    public static boolean canSkipBlockCaptures(final PhaseContext<?> context) {
+        if (!SpongeConfigs.getCommon().get().phaseTracker.skipUnobservedBlockCaptures) {
+            return false;
+        }
+        if (context.getCreator().isPresent() || context.getNotifier().isPresent()) {
+            return false;
+        }
+        if (!context.allowsBlockEvents()) {
+            return true;
+        }
+        return !ShouldFire.CHANGE_BLOCK_EVENT
+            && !ShouldFire.SPAWN_ENTITY_EVENT
+            && !ShouldFire.NOTIFY_NEIGHBOR_BLOCK_EVENT;
+    }
+
     public static boolean processBlockCaptures(final PhaseContext<?> context) {
         final TransactionalCaptureSupplier transactor = context.getTransactor();
         // Fail fast and check if it's empty.
@@ -471,14 +495,30 @@ public static void associateTrackerToTarget(final BlockChange blockChange, final
     }
 
     public static void addTileEntityToBuilder(final net.minecraft.world.level.block.entity.BlockEntity existing, final SpongeBlockSnapshotBuilder builder) {
+        final @Nullable CompoundTag compound = TrackingUtil.saveTileData(existing);
+        if (compound != null) {
+            builder.ownedCompound(compound);
+        }
+    }
+
+    /**
+     * Serializes the given block entity for a snapshot that may be created
+     * later on.
+     *
+     * @param existing The block entity
+     * @return The serialized block entity, or null if it failed to save
+     */
+    @Nullable
+    public static CompoundTag saveTileData(final net.minecraft.world.level.block.entity.BlockEntity existing) {
         // TODO - gather custom data.
         final CompoundTag compound = new CompoundTag();
         try {
             existing.save(compound);
-            builder.addUnsafeCompound(compound);
+            return compound;
         }
         catch (final Throwable t) {
             // ignore
+            return null;
         }
     }
 
@@ -511,7 +551,7 @@ public static SpongeBlockSnapshot createPooledSnapshot(final net.minecraft.world
         builder.reset();
         builder.blockState(state)
                 .world(worldSupplier.get())
-                .position(VecHelper.toVector3i(pos));
+                .position(pos);
         creatorSupplier.get().ifPresent(builder::creator);
         notifierSupplier.get().ifPresent(builder::notifier);
         if (blockEntity != null) {
@@ -37,6 +37,8 @@ public final class UnwindingPhaseContext extends PhaseContext<UnwindingPhaseCont
     @Override
     protected void reset() {
         super.reset();
+        this.unwindingState = null;
+        this.unwindingContext = null;
     }
 
     @Nullable
@@ -44,18 +46,23 @@ static UnwindingPhaseContext unwind(final PhaseContext<@NonNull ?> context, fina
         if (!context.requiresPost() || !hasCaptures) {
             return null;
         }
-        return new UnwindingPhaseContext(context)
+        return GeneralPhase.Post.UNWINDING.createPhaseContext(context.createdTracker)
+                .unwinding(context)
                 .source(context.getSource())
                 .addCaptures()
                 .addEntityDropCaptures()
                 .buildAndSwitch();
     }
 
-    private final IPhaseState<@NonNull ?> unwindingState;
-    private final PhaseContext<@NonNull ?> unwindingContext;
+    // Cleared on reset, as the context is pooled by UnwindingState like any other
+    @Nullable private IPhaseState<@NonNull ?> unwindingState;
+    @Nullable private PhaseContext<@NonNull ?> unwindingContext;
 
-    private UnwindingPhaseContext(final PhaseContext<@NonNull ?> unwindingContext) {
-        super(GeneralPhase.Post.UNWINDING, unwindingContext.createdTracker);
+    UnwindingPhaseContext(final PhaseTracker tracker) {
+        super(GeneralPhase.Post.UNWINDING, tracker);
+    }
+
+    private UnwindingPhaseContext unwinding(final PhaseContext<@NonNull ?> unwindingContext) {
         this.unwindingState = unwindingContext.state;
         this.unwindingContext = unwindingContext;
         this.setBlockEvents(unwindingContext.doesBlockEventTracking());
@@ -63,16 +70,17 @@ private UnwindingPhaseContext(final PhaseContext<@NonNull ?> unwindingContext) {
         // to worlds, AND we're potentially getting any neighbor notification requests OR tile entity requests,
         // we'll need to switch on to capture such objects. If for example, we do not track tile changes, but we track
         // neighbor notifications, that would be fine, but we cannot require that both are tracked unless specified.
+        return this;
     }
 
     @Override
     public Optional<User> getCreator() {
-        return this.unwindingContext.getCreator();
+        return this.unwindingContext == null ? Optional.empty() : this.unwindingContext.getCreator();
     }
 
     @Override
     public Optional<User> getNotifier() {
-        return this.unwindingContext.getNotifier();
+        return this.unwindingContext == null ? Optional.empty() : this.unwindingContext.getNotifier();
     }
 
     @SuppressWarnings("unchecked")
@@ -91,7 +99,9 @@ public PrettyPrinter printCustom(final PrettyPrinter printer, final int indent)
             .add(s + "- %s: %s", "UnwindingState", this.unwindingState)
             .add(s + "- %s: %s", "UnwindingContext", this.unwindingContext)
         ;
-        this.unwindingContext.printCustom(printer, indent * 2);
+        if (this.unwindingContext != null) {
+            this.unwindingContext.printCustom(printer, indent * 2);
+        }
         return printer;
     }
 }
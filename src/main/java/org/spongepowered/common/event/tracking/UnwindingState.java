@@ -33,7 +33,7 @@
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.block.Block;
 
-public final class UnwindingState implements IPhaseState<UnwindingPhaseContext> {
+public final class UnwindingState extends PooledPhaseState<UnwindingPhaseContext> {
 
     public static UnwindingState getInstance() {
         return Holder.INSTANCE;
@@ -45,9 +45,13 @@ private static final class Holder {
         static final UnwindingState INSTANCE = new UnwindingState();
     }
 
+    /**
+     * Only to be used through {@link UnwindingPhaseContext#unwind(PhaseContext, boolean)},
+     * which binds the pooled context to the context being unwound.
+     */
     @Override
-    public UnwindingPhaseContext createPhaseContext(PhaseTracker server) {
-        throw new UnsupportedOperationException("Use UnwindingPhaseContext#unwind(IPhaseState, PhaseContext)! Cannot create a context based on Post state!");
+    protected UnwindingPhaseContext createNewContext(final PhaseTracker tracker) {
+        return new UnwindingPhaseContext(tracker);
     }
 
     @Override
@@ -43,20 +43,37 @@
 @DefaultQualifier(NonNull.class)
 public final class AddTileEntity extends BlockEventBasedTransaction {
 
-    final BlockEntity added;
-    final SpongeBlockSnapshot oldSnapshot;
-    final SpongeBlockSnapshot addedSnapshot;
+    BlockEntity added;
+    SpongeBlockSnapshot oldSnapshot;
+    SpongeBlockSnapshot addedSnapshot;
 
     AddTileEntity(final BlockEntity added,
         final SpongeBlockSnapshot attachedSnapshot,
         final SpongeBlockSnapshot existing
     ) {
         super(existing.getBlockPos(), (BlockState) existing.state(), ((ServerWorld) added.getLevel()).key());
+        this.init(added, attachedSnapshot, existing);
+    }
+
+    void init(final BlockEntity added,
+        final SpongeBlockSnapshot attachedSnapshot,
+        final SpongeBlockSnapshot existing
+    ) {
+        this.initBlock(existing.getBlockPos(), (BlockState) existing.state(), ((ServerWorld) added.getLevel()).key());
         this.added = added;
         this.addedSnapshot = attachedSnapshot;
         this.oldSnapshot = existing;
     }
 
+    @SuppressWarnings("ConstantConditions")
+    @Override
+    void clearForReuse() {
+        super.clearForReuse();
+        this.added = null;
+        this.addedSnapshot = null;
+        this.oldSnapshot = null;
+    }
+
     @Override
     public Optional<BiConsumer<PhaseContext<@NonNull ?>, CauseStackManager.StackFrame>> getFrameMutator(
         @Nullable GameTransaction<@NonNull ?> parent
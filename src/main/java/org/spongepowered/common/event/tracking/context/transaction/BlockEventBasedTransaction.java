@@ -56,13 +56,18 @@
 
 abstract class BlockEventBasedTransaction extends GameTransaction<ChangeBlockEvent.All> {
 
-    final BlockPos affectedPosition;
-    final BlockState originalState;
+    BlockPos affectedPosition;
+    BlockState originalState;
 
     BlockEventBasedTransaction(final BlockPos affectedPosition, final BlockState originalState, final ResourceKey worldKey) {
         super(TransactionTypes.BLOCK.get(), worldKey);
+        this.initBlock(affectedPosition, originalState, worldKey);
+    }
+
+    final void initBlock(final BlockPos affectedPosition, final BlockState originalState, final ResourceKey worldKey) {
         this.affectedPosition = affectedPosition.immutable();
         this.originalState = originalState;
+        this.worldKey = worldKey;
     }
 
     @Override
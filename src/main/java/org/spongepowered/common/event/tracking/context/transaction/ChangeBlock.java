@@ -24,18 +24,22 @@
  */
 package org.spongepowered.common.event.tracking.context.transaction;
 
+import com.google.common.collect.ImmutableList;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.checkerframework.framework.qual.DefaultQualifier;
 import org.spongepowered.api.event.CauseStackManager;
+import org.spongepowered.api.world.server.ServerWorld;
 import org.spongepowered.common.block.SpongeBlockSnapshot;
 import org.spongepowered.common.block.SpongeBlockSnapshotBuilder;
+import org.spongepowered.common.bridge.world.TrackedWorldBridge;
 import org.spongepowered.common.event.tracking.BlockChangeFlagManager;
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.context.transaction.effect.BlockAddedEffect;
 import org.spongepowered.common.event.tracking.context.transaction.effect.CheckBlockPostPlacementIsSameEffect;
 import org.spongepowered.common.event.tracking.context.transaction.effect.ChunkChangeCompleteEffect;
 import org.spongepowered.common.event.tracking.context.transaction.effect.OldBlockOnReplaceEffect;
+import org.spongepowered.common.event.tracking.context.transaction.effect.ProcessingSideEffect;
 import org.spongepowered.common.event.tracking.context.transaction.effect.RefreshOldTileEntityOnChunkChangeEffect;
 import org.spongepowered.common.event.tracking.context.transaction.effect.SetBlockToChunkSectionEffect;
 import org.spongepowered.common.event.tracking.context.transaction.effect.UpdateChunkLightManagerEffect;
@@ -44,31 +48,85 @@
 import org.spongepowered.common.event.tracking.context.transaction.pipeline.ChunkPipeline;
 import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.util.PrettyPrinter;
+import org.spongepowered.common.world.BlockChange;
 import org.spongepowered.common.world.SpongeBlockChangeFlag;
 
+import java.lang.ref.WeakReference;
 import java.util.Optional;
 import java.util.function.BiConsumer;
+import net.minecraft.core.BlockPos;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
 
+/**
+ * A captured block change. The original {@link SpongeBlockSnapshot} is only
+ * built once it is needed, which is when an event is generated for the change,
+ * the change is restored or a side effect needs it as a cause. Changes that
+ * are never captured, or whose events are never generated, only hold the
+ * original state and the serialized block entity, if any.
+ *
+ * <p>Every change is still captured as a transaction of its own, including
+ * the thousands of changes of an explosion or a fill, since its chunk
+ * pipeline, side effects and restore all work on this transaction. There is
+ * no columnar capture buffer of packed positions and state ids.</p>
+ */
 @DefaultQualifier(NonNull.class)
 public final class ChangeBlock extends BlockEventBasedTransaction {
 
-    final SpongeBlockSnapshot original;
-    final int originalOpacity;
-    final BlockState newState;
-    final SpongeBlockChangeFlag blockChangeFlag;
+    private static final ImmutableList<ProcessingSideEffect> CHUNK_EFFECTS = ImmutableList.of(
+        SetBlockToChunkSectionEffect.getInstance(),
+        UpdateHeightMapEffect.getInstance(),
+        UpdateChunkLightManagerEffect.getInstance(),
+        OldBlockOnReplaceEffect.getInstance(),
+        CheckBlockPostPlacementIsSameEffect.getInstance(),
+        RefreshOldTileEntityOnChunkChangeEffect.getInstance(),
+        BlockAddedEffect.getInstance(),
+        UpdateOrCreateNewTileEntityPostPlacementEffect.getInstance(),
+        ChunkChangeCompleteEffect.getInstance()
+    );
+
+    WeakReference<ServerLevel> worldRef;
+    @Nullable CompoundTag originalTileData;
+    int originalOpacity;
+    BlockState newState;
+    SpongeBlockChangeFlag blockChangeFlag;
+    public BlockChange blockChange = BlockChange.MODIFY;
     @Nullable public BlockEntity queuedRemoval;
     @Nullable public BlockEntity queuedAdd;
+    private @Nullable SpongeBlockSnapshot original;
+
+    ChangeBlock(final ServerLevel world, final BlockPos pos, final BlockState originalState,
+        final @Nullable CompoundTag originalTileData, final BlockState newState, final SpongeBlockChangeFlag blockChange
+    ) {
+        super(pos, originalState, ((ServerWorld) world).key());
+        this.init(world, pos, originalState, originalTileData, newState, blockChange);
+    }
 
-    ChangeBlock(final SpongeBlockSnapshot attachedSnapshot, final BlockState newState,
-        final SpongeBlockChangeFlag blockChange
+    /**
+     * Initializes this change as if it were newly constructed, such that it
+     * can be handed out again by the {@link GameTransactionPool}.
+     */
+    void init(final ServerLevel world, final BlockPos pos, final BlockState originalState,
+        final @Nullable CompoundTag originalTileData, final BlockState newState, final SpongeBlockChangeFlag blockChange
     ) {
-        super(attachedSnapshot.getBlockPos(), (BlockState) attachedSnapshot.state(), attachedSnapshot.world());
-        this.original = attachedSnapshot;
+        this.initBlock(pos, originalState, ((ServerWorld) world).key());
+        this.worldRef = ((TrackedWorldBridge) world).bridge$getWeakReference();
+        this.originalTileData = originalTileData;
         this.newState = newState;
         this.blockChangeFlag = blockChange;
-        this.originalOpacity = this.originalState.getLightBlock(this.original.getServerWorld().get(), this.affectedPosition);
+        this.originalOpacity = this.originalState.getLightBlock(world, this.affectedPosition);
+        this.blockChange = BlockChange.MODIFY;
+    }
+
+    @Override
+    void clearForReuse() {
+        super.clearForReuse();
+        this.originalTileData = null;
+        this.queuedRemoval = null;
+        this.queuedAdd = null;
+        this.original = null;
     }
 
     public BlockState getNewState() {
@@ -80,16 +138,7 @@ public SpongeBlockChangeFlag getBlockChangeFlag() {
     }
 
     public void populateChunkEffects(final ChunkPipeline.Builder builder) {
-
-        builder.addEffect(SetBlockToChunkSectionEffect.getInstance());
-        builder.addEffect(UpdateHeightMapEffect.getInstance());
-        builder.addEffect(UpdateChunkLightManagerEffect.getInstance());
-        builder.addEffect(OldBlockOnReplaceEffect.getInstance());
-        builder.addEffect(CheckBlockPostPlacementIsSameEffect.getInstance());
-        builder.addEffect(RefreshOldTileEntityOnChunkChangeEffect.getInstance());
-        builder.addEffect(BlockAddedEffect.getInstance());
-        builder.addEffect(UpdateOrCreateNewTileEntityPostPlacementEffect.getInstance());
-        builder.addEffect(ChunkChangeCompleteEffect.getInstance());
+        builder.effects(ChangeBlock.CHUNK_EFFECTS);
     }
 
     @Override
@@ -136,13 +185,15 @@ public boolean acceptTileReplacement(final @Nullable BlockEntity existing, final
 
     @Override
     public void restore() {
-        this.original.restore(true, BlockChangeFlagManager.fromNativeInt(Constants.BlockChangeFlags.FORCED_RESTORE));
+        this.getOriginalSnapshot().restore(true, BlockChangeFlagManager.fromNativeInt(Constants.BlockChangeFlags.FORCED_RESTORE));
     }
 
     @Override
     public void addToPrinter(final PrettyPrinter printer) {
         printer.add("ChangeBlock")
-            .add(" %s : %s", "Original Block", this.original)
+            .add(" %s : %s", "Position", this.affectedPosition)
+            .add(" %s : %s", "Original State", this.originalState)
+            .add(" %s : %s", "Block Change", this.blockChange)
             .add(" %s : %s", "New State", this.newState)
             .add(" %s : %s", "RemovedTile", this.queuedRemoval)
             .add(" %s : %s", "AddedTile", this.queuedAdd)
@@ -151,19 +202,36 @@ public void addToPrinter(final PrettyPrinter printer) {
 
     @Override
     protected SpongeBlockSnapshot getResultingSnapshot() {
-        final SpongeBlockSnapshotBuilder builder = SpongeBlockSnapshotBuilder.pooled()
-                .position(this.original.position())
-                .blockState((org.spongepowered.api.block.BlockState) this.newState);
-        if (this.original.getServerWorld().isPresent()) {
-            builder.world(this.original.getServerWorld().get());
-        } else {
-            builder.world(this.original.world());
-        }
-        return builder.build();
+        return this.createSnapshot(this.newState)
+            .build();
     }
 
     @Override
     protected SpongeBlockSnapshot getOriginalSnapshot() {
-        return this.original;
+        @Nullable SpongeBlockSnapshot original = this.original;
+        if (original == null) {
+            final SpongeBlockSnapshotBuilder builder = this.createSnapshot(this.originalState)
+                .flag(this.blockChangeFlag);
+            if (this.originalTileData != null) {
+                builder.ownedCompound(this.originalTileData);
+            }
+            original = builder.build();
+            original.blockChange = this.blockChange;
+            this.original = original;
+        }
+        return original;
+    }
+
+    private SpongeBlockSnapshotBuilder createSnapshot(final BlockState state) {
+        final SpongeBlockSnapshotBuilder builder = SpongeBlockSnapshotBuilder.pooled()
+            .position(this.affectedPosition)
+            .blockState(state);
+        final @Nullable ServerLevel world = this.worldRef.get();
+        if (world != null) {
+            builder.world(world);
+        } else {
+            builder.world(this.worldKey);
+        }
+        return builder;
     }
 }
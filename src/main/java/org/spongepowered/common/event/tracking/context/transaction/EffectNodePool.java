@@ -0,0 +1,119 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking.context.transaction;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.common.event.tracking.PhaseTracker;
+import org.spongepowered.common.event.tracking.context.transaction.effect.ProcessingSideEffect;
+
+import java.util.ArrayDeque;
+
+/**
+ * A free list of the {@link ResultingTransactionBySideEffect} nodes and
+ * {@link EffectTransactor}s pushed while block pipelines process their side
+ * effects. Every block change pushes one of each per side effect, of which
+ * most never record a child transaction and are discarded as soon as the
+ * effect completes, so they are handed back here instead.
+ *
+ * <p>Each {@link PhaseTracker} owns a pool, which is only ever accessed from
+ * the tracker's sided thread.</p>
+ */
+public final class EffectNodePool {
+
+    private static final int MAX_POOLED = 256;
+
+    private final ArrayDeque<ResultingTransactionBySideEffect> nodes = new ArrayDeque<>();
+    private final ArrayDeque<EffectTransactor> transactors = new ArrayDeque<>();
+    private long created;
+    private long reused;
+
+    ResultingTransactionBySideEffect acquireNode(final ProcessingSideEffect effect) {
+        final @Nullable ResultingTransactionBySideEffect node = this.nodes.pollFirst();
+        if (node == null) {
+            this.created++;
+            return new ResultingTransactionBySideEffect(effect);
+        }
+        this.reused++;
+        node.effect = effect;
+        return node;
+    }
+
+    void releaseNode(final ResultingTransactionBySideEffect node) {
+        if (this.nodes.size() < EffectNodePool.MAX_POOLED) {
+            node.head = null;
+            node.tail = null;
+            this.nodes.push(node);
+        }
+    }
+
+    EffectTransactor acquireTransactor(final ResultingTransactionBySideEffect effect, final @Nullable GameTransaction<@NonNull ?> parent,
+        final @Nullable ResultingTransactionBySideEffect previousEffect, final TransactionalCaptureSupplier transactor
+    ) {
+        final @Nullable EffectTransactor pooled = this.transactors.pollFirst();
+        if (pooled == null) {
+            this.created++;
+            return new EffectTransactor(effect, parent, previousEffect, transactor, this);
+        }
+        this.reused++;
+        pooled.init(effect, parent, previousEffect, transactor);
+        return pooled;
+    }
+
+    void releaseTransactor(final EffectTransactor transactor) {
+        if (this.transactors.size() < EffectNodePool.MAX_POOLED) {
+            this.transactors.push(transactor);
+        }
+    }
+
+    /**
+     * Gets the number of nodes and transactors that had to be allocated
+     * since the last {@link #resetStatistics()}.
+     *
+     * @return The number of allocations
+     */
+    public long getCreated() {
+        return this.created;
+    }
+
+    /**
+     * Gets the number of nodes and transactors that were handed out again
+     * since the last {@link #resetStatistics()}.
+     *
+     * @return The number of reuses
+     */
+    public long getReused() {
+        return this.reused;
+    }
+
+    public int getPooled() {
+        return this.nodes.size() + this.transactors.size();
+    }
+
+    public void resetStatistics() {
+        this.created = 0;
+        this.reused = 0;
+    }
+}
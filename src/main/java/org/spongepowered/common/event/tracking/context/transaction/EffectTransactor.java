@@ -28,13 +28,22 @@
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 public class EffectTransactor implements AutoCloseable {
-    final @Nullable ResultingTransactionBySideEffect previousEffect;
-    final @Nullable GameTransaction<@NonNull ?> parent;
-    private final TransactionalCaptureSupplier supplier;
-    private final ResultingTransactionBySideEffect effect;
+    @Nullable ResultingTransactionBySideEffect previousEffect;
+    @Nullable GameTransaction<@NonNull ?> parent;
+    private TransactionalCaptureSupplier supplier;
+    private ResultingTransactionBySideEffect effect;
+    // Only set for transactors scoped to a single pipeline side effect, such that
+    // both the transactor and an unused effect can be recycled on close
+    private final @Nullable EffectNodePool pool;
 
     EffectTransactor(final ResultingTransactionBySideEffect effect, final @Nullable GameTransaction<@NonNull ?> parent,
         final @Nullable ResultingTransactionBySideEffect previousEffect, final TransactionalCaptureSupplier transactor) {
+        this(effect, parent, previousEffect, transactor, null);
+    }
+
+    EffectTransactor(final ResultingTransactionBySideEffect effect, final @Nullable GameTransaction<@NonNull ?> parent,
+        final @Nullable ResultingTransactionBySideEffect previousEffect, final TransactionalCaptureSupplier transactor,
+        final @Nullable EffectNodePool pool) {
         /*
         | ChangeBlock(1) <- head will be RemoveTileEntity(1), tail is still RemoveTileentity(1)
         |  |- RemoveTileEntity <- Head will be ChangeBlock(2) tail is still ChangeBlock(2)
@@ -44,17 +53,34 @@ public class EffectTransactor implements AutoCloseable {
         this.supplier = transactor;
         this.parent = parent;
         this.previousEffect = previousEffect;
+        this.pool = pool;
+    }
+
+    void init(final ResultingTransactionBySideEffect effect, final @Nullable GameTransaction<@NonNull ?> parent,
+        final @Nullable ResultingTransactionBySideEffect previousEffect, final TransactionalCaptureSupplier transactor) {
+        this.effect = effect;
+        this.supplier = transactor;
+        this.parent = parent;
+        this.previousEffect = previousEffect;
     }
 
     @Override
     public void close() {
-        if (this.effect.head == null
+        final boolean unused = this.effect.head == null
             && this.parent != null
             && this.parent.sideEffects != null
-            && this.parent.getEffects().peekLast() == this.effect
-        ) {
+            && this.parent.getEffects().peekLast() == this.effect;
+        if (unused) {
             this.parent.getEffects().removeLast();
         }
         this.supplier.popEffect(this);
+        if (this.pool != null) {
+            if (unused) {
+                this.pool.releaseNode(this.effect);
+            }
+            this.parent = null;
+            this.previousEffect = null;
+            this.pool.releaseTransactor(this);
+        }
     }
 }
@@ -50,7 +50,7 @@
 public abstract class GameTransaction<E extends Event & Cancellable> {
 
     private final TransactionType<? extends E> transactionType;
-    protected final ResourceKey worldKey;
+    protected ResourceKey worldKey; // Only reassigned when recycled by the GameTransactionPool
     boolean cancelled = false;
 
     // Children Definitions
@@ -83,6 +83,20 @@ Deque<ResultingTransactionBySideEffect> getEffects() {
         return this.sideEffects;
     }
 
+    /**
+     * Unlinks this transaction and clears its side effects, keeping the side
+     * effect list itself, such that the {@link GameTransactionPool} can log
+     * it again.
+     */
+    void clearForReuse() {
+        this.cancelled = false;
+        this.previous = null;
+        this.next = null;
+        if (this.sideEffects != null) {
+            this.sideEffects.clear();
+        }
+    }
+
     public final boolean hasChildTransactions() {
         return this.sideEffects != null && this.sideEffects.stream().anyMatch(effect -> effect.head != null);
     }
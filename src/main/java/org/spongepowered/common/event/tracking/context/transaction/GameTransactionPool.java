@@ -0,0 +1,171 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking.context.transaction;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.common.block.SpongeBlockSnapshot;
+import org.spongepowered.common.event.tracking.PhaseTracker;
+import org.spongepowered.common.world.SpongeBlockChangeFlag;
+
+import java.util.ArrayDeque;
+import java.util.function.Supplier;
+
+/**
+ * A free list of the {@link ChangeBlock}, {@link NeighborNotification} and
+ * {@link AddTileEntity} transactions captured by a phase, which are by far
+ * the most logged transactions. Once a phase has completed unwinding, the
+ * events built from its transactions no longer refer to them, so the whole
+ * tree of transactions is handed back here, along with the side effect
+ * nodes and side effect lists hanging off of it.
+ *
+ * <p>Each {@link PhaseTracker} owns a pool, which is only ever accessed from
+ * the tracker's sided thread.</p>
+ */
+public final class GameTransactionPool {
+
+    private static final int MAX_POOLED = 2048;
+
+    private final ArrayDeque<ChangeBlock> changeBlocks = new ArrayDeque<>();
+    private final ArrayDeque<NeighborNotification> notifications = new ArrayDeque<>();
+    private final ArrayDeque<AddTileEntity> tileAdditions = new ArrayDeque<>();
+    private long created;
+    private long reused;
+
+    ChangeBlock acquireChangeBlock(final ServerLevel world, final BlockPos pos, final BlockState originalState,
+        final @Nullable CompoundTag originalTileData, final BlockState newState, final SpongeBlockChangeFlag flag
+    ) {
+        final @Nullable ChangeBlock pooled = this.changeBlocks.pollFirst();
+        if (pooled == null) {
+            this.created++;
+            return new ChangeBlock(world, pos, originalState, originalTileData, newState, flag);
+        }
+        this.reused++;
+        pooled.init(world, pos, originalState, originalTileData, newState, flag);
+        return pooled;
+    }
+
+    NeighborNotification acquireNeighborNotification(final Supplier<ServerLevel> serverWorldSupplier,
+        final BlockState notifyState, final BlockPos notifyPos, final Block sourceBlock, final BlockPos sourcePos,
+        final @Nullable BlockEntity existingTile
+    ) {
+        final @Nullable NeighborNotification pooled = this.notifications.pollFirst();
+        if (pooled == null) {
+            this.created++;
+            return new NeighborNotification(serverWorldSupplier, notifyState, notifyPos, sourceBlock, sourcePos, existingTile);
+        }
+        this.reused++;
+        pooled.init(serverWorldSupplier, notifyState, notifyPos, sourceBlock, sourcePos, existingTile);
+        return pooled;
+    }
+
+    AddTileEntity acquireTileAddition(final BlockEntity added, final SpongeBlockSnapshot attachedSnapshot,
+        final SpongeBlockSnapshot existing
+    ) {
+        final @Nullable AddTileEntity pooled = this.tileAdditions.pollFirst();
+        if (pooled == null) {
+            this.created++;
+            return new AddTileEntity(added, attachedSnapshot, existing);
+        }
+        this.reused++;
+        pooled.init(added, attachedSnapshot, existing);
+        return pooled;
+    }
+
+    /**
+     * Releases the given transaction and every transaction following it,
+     * including the transactions recorded by their side effects. Side effect
+     * nodes are handed back to the given {@link EffectNodePool}.
+     *
+     * @param head The first transaction to release
+     * @param nodes The pool of the side effect nodes
+     */
+    void releaseAll(final @Nullable GameTransaction<@NonNull ?> head, final EffectNodePool nodes) {
+        @Nullable GameTransaction<@NonNull ?> transaction = head;
+        while (transaction != null) {
+            final @Nullable GameTransaction<@NonNull ?> next = transaction.next;
+            if (transaction.sideEffects != null) {
+                for (final ResultingTransactionBySideEffect sideEffect : transaction.sideEffects) {
+                    this.releaseAll(sideEffect.head, nodes);
+                    nodes.releaseNode(sideEffect);
+                }
+            }
+            transaction.clearForReuse();
+            this.release(transaction);
+            transaction = next;
+        }
+    }
+
+    private void release(final GameTransaction<@NonNull ?> transaction) {
+        if (transaction instanceof ChangeBlock) {
+            if (this.changeBlocks.size() < GameTransactionPool.MAX_POOLED) {
+                this.changeBlocks.push((ChangeBlock) transaction);
+            }
+        } else if (transaction instanceof NeighborNotification) {
+            if (this.notifications.size() < GameTransactionPool.MAX_POOLED) {
+                this.notifications.push((NeighborNotification) transaction);
+            }
+        } else if (transaction instanceof AddTileEntity) {
+            if (this.tileAdditions.size() < GameTransactionPool.MAX_POOLED) {
+                this.tileAdditions.push((AddTileEntity) transaction);
+            }
+        }
+    }
+
+    /**
+     * Gets the number of transactions that had to be allocated since the
+     * last {@link #resetStatistics()}.
+     *
+     * @return The number of allocations
+     */
+    public long getCreated() {
+        return this.created;
+    }
+
+    /**
+     * Gets the number of transactions that were handed out again since the
+     * last {@link #resetStatistics()}.
+     *
+     * @return The number of reuses
+     */
+    public long getReused() {
+        return this.reused;
+    }
+
+    public int getPooled() {
+        return this.changeBlocks.size() + this.notifications.size() + this.tileAdditions.size();
+    }
+
+    public void resetStatistics() {
+        this.created = 0;
+        this.reused = 0;
+    }
+}
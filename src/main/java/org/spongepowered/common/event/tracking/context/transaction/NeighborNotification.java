@@ -56,17 +56,19 @@
 import java.util.function.Supplier;
 
 final class NeighborNotification extends GameTransaction<NotifyNeighborBlockEvent> {
-    final BlockState original;
-    final BlockPos notifyPos;
-    final Block sourceBlock;
-    final BlockPos sourcePos;
+    BlockState original;
+    BlockPos notifyPos;
+    Block sourceBlock;
+    BlockPos sourcePos;
     // State definitions
-    final BlockPos affectedPosition;
-    final BlockState originalState;
-    private final Supplier<ServerLevel> serverWorld;
-    private Supplier<LocatableBlock> locatableBlock;
-    private Supplier<SpongeBlockSnapshot> targetSnapshot;
-    private Supplier<NotificationTicket> ticketSupplier;
+    BlockPos affectedPosition;
+    BlockState originalState;
+    private Supplier<ServerLevel> serverWorld;
+    private @Nullable BlockEntity existingTile;
+    // Lazily initialized, and cleared when recycled by the GameTransactionPool
+    private @Nullable LocatableBlock locatableBlock;
+    private @Nullable SpongeBlockSnapshot targetSnapshot;
+    private @Nullable NotificationTicket ticket;
 
     NeighborNotification(
         final Supplier<ServerLevel> serverWorldSupplier,
@@ -75,42 +77,74 @@ final class NeighborNotification extends GameTransaction<NotifyNeighborBlockEven
         @Nullable final BlockEntity existingTile
     ) {
         super(TransactionTypes.NEIGHBOR_NOTIFICATION.get(), ((org.spongepowered.api.world.server.ServerWorld) serverWorldSupplier.get()).key());
+        this.init(serverWorldSupplier, notifyState, notifyPos, sourceBlock, sourcePos, existingTile);
+    }
+
+    void init(
+        final Supplier<ServerLevel> serverWorldSupplier,
+        final BlockState notifyState, final BlockPos notifyPos,
+        final Block sourceBlock, final BlockPos sourcePos,
+        @Nullable final BlockEntity existingTile
+    ) {
+        this.worldKey = ((org.spongepowered.api.world.server.ServerWorld) serverWorldSupplier.get()).key();
         this.affectedPosition = sourcePos;
         this.originalState = notifyState;
         this.serverWorld = serverWorldSupplier;
         this.notifyPos = notifyPos;
         this.sourceBlock = sourceBlock;
         this.sourcePos = sourcePos;
+        this.existingTile = existingTile;
         this.original = serverWorldSupplier.get().getBlockState(sourcePos);
-        // This is one way to have lazily initialized fields
-        this.locatableBlock = () -> {
-            final LocatableBlock locatableBlock = new SpongeLocatableBlockBuilder()
+        this.locatableBlock = null;
+        this.targetSnapshot = null;
+        this.ticket = null;
+    }
+
+    private LocatableBlock getLocatableBlock() {
+        @Nullable LocatableBlock locatableBlock = this.locatableBlock;
+        if (locatableBlock == null) {
+            locatableBlock = new SpongeLocatableBlockBuilder()
                 .world(this.serverWorld)
                 .position(this.sourcePos.getX(), this.sourcePos.getY(), this.sourcePos.getZ())
                 .state((org.spongepowered.api.block.BlockState) this.original)
                 .build();
-            this.locatableBlock = () -> locatableBlock;
-            return locatableBlock;
-        };
-        this.targetSnapshot = () -> {
+            this.locatableBlock = locatableBlock;
+        }
+        return locatableBlock;
+    }
+
+    private SpongeBlockSnapshot getTargetSnapshot() {
+        @Nullable SpongeBlockSnapshot targetSnapshot = this.targetSnapshot;
+        if (targetSnapshot == null) {
             final SpongeBlockSnapshotBuilder pooled = SpongeBlockSnapshotBuilder.pooled();
             pooled.world(this.serverWorld.get())
-                .position(new Vector3i(notifyPos.getX(), notifyPos.getY(), notifyPos.getZ()))
-                .blockState(notifyState);
-            if (existingTile != null) {
-                pooled.tileEntity(existingTile);
+                .position(new Vector3i(this.notifyPos.getX(), this.notifyPos.getY(), this.notifyPos.getZ()))
+                .blockState(this.originalState);
+            if (this.existingTile != null) {
+                pooled.tileEntity(this.existingTile);
             }
-            final SpongeBlockSnapshot snapshot = pooled.build();
-            this.targetSnapshot = () -> snapshot;
-            return snapshot;
-        };
-        this.ticketSupplier = () -> {
-            final LocatableBlock notifier = this.locatableBlock.get();
-            final SpongeBlockSnapshot target = this.targetSnapshot.get();
-            final SpongeNotificationTicket ticket = new SpongeNotificationTicket(notifier, target);
-            this.ticketSupplier = () -> ticket;
-            return ticket;
-        };
+            targetSnapshot = pooled.build();
+            this.targetSnapshot = targetSnapshot;
+        }
+        return targetSnapshot;
+    }
+
+    private NotificationTicket getTicket() {
+        @Nullable NotificationTicket ticket = this.ticket;
+        if (ticket == null) {
+            ticket = new SpongeNotificationTicket(this.getLocatableBlock(), this.getTargetSnapshot());
+            this.ticket = ticket;
+        }
+        return ticket;
+    }
+
+    @Override
+    void clearForReuse() {
+        super.clearForReuse();
+        this.existingTile = null;
+        this.locatableBlock = null;
+        this.targetSnapshot = null;
+        this.ticket = null;
     }
 
     @Override
@@ -134,9 +168,9 @@ public String toString() {
     ) {
         return Optional.of((context, frame) -> {
             if (parent instanceof ChangeBlock) {
-                frame.pushCause(((ChangeBlock) parent).original);
+                frame.pushCause(((ChangeBlock) parent).getOriginalSnapshot());
             }
-            frame.pushCause(this.ticketSupplier.get());
+            frame.pushCause(this.getTicket());
         });
     }
 
@@ -156,7 +190,7 @@ public Optional<NotifyNeighborBlockEvent> generateEvent(final PhaseContext<@NonN
         final ImmutableMultimap.Builder<TransactionType, ? extends Event> transactionPostEventBuilder
     ) {
         final ImmutableList<NotificationTicket> tickets = transactions.stream()
-            .map(transaction -> ((NeighborNotification) transaction).ticketSupplier.get())
+            .map(transaction -> ((NeighborNotification) transaction).getTicket())
             .collect(ImmutableList.toImmutableList());
 
         return Optional.of(SpongeEventFactory.createNotifyNeighborBlockEvent(currentCause, tickets));
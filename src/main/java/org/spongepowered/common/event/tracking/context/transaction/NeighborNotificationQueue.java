@@ -0,0 +1,275 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking.context.transaction;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.Block;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.common.event.tracking.IPhaseState;
+import org.spongepowered.common.event.tracking.PhaseContext;
+import org.spongepowered.common.event.tracking.PhaseTracker;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Holds back the neighbor notifications of block changes made while a phase
+ * that {@link IPhaseState#coalescesNeighborNotifications coalesces them} is
+ * active, such as a plugin filling a region. The world defers every single
+ * notification of a target by a source, so only the targets that were
+ * actually notified are recorded, whether by all six neighbors or by callers
+ * that skip a side. A (source, target) pair that is already pending is only
+ * notified once, with the block of the latest notification by the source.
+ * Comparator output updates are held back in the same way, once per source.
+ * Everything is delivered when the phase that deferred the first
+ * notification completes, after all of its changes have been applied.
+ *
+ * <p>Pending sources are delivered in the order they first notified a
+ * target. Each one notifies its targets in the order they were first
+ * notified, which is the vanilla order of a single block change, before
+ * updating the comparators around it. Changes caused by a delivered
+ * notification notify their own neighbors right away, so redstone reacting
+ * to the batch behaves exactly as it would in vanilla.</p>
+ *
+ * <p>Each {@link PhaseTracker} owns a queue, which is only ever accessed from
+ * the tracker's sided thread.</p>
+ */
+public final class NeighborNotificationQueue {
+
+    private final Notifier notifier;
+    private final List<WorldQueue> worlds = new ArrayList<>(1);
+    private @Nullable PhaseContext<@NonNull ?> owner;
+    private boolean flushing;
+    private long deferred;
+    private long coalesced;
+
+    public NeighborNotificationQueue() {
+        this(Notifier.WORLD);
+    }
+
+    NeighborNotificationQueue(final Notifier notifier) {
+        this.notifier = notifier;
+    }
+
+    /**
+     * Defers the notification of the target by the source until the
+     * outermost coalescing phase completes.
+     *
+     * @param context The current context, which must coalesce notifications
+     * @param world The world of both blocks
+     * @param target The position of the notified block
+     * @param block The block that changed at the source
+     * @param source The position of the changed block
+     * @return False if the notification has to be performed right away
+     */
+    public boolean deferNeighbor(final PhaseContext<@NonNull ?> context, final ServerLevel world, final BlockPos target, final Block block,
+        final BlockPos source
+    ) {
+        if (this.flushing) {
+            return false;
+        }
+        final PendingSource pending = this.queue(context, world).pending(source);
+        if (pending.addTarget(target.asLong())) {
+            this.deferred++;
+        } else {
+            this.coalesced++;
+        }
+        pending.neighborBlock = block;
+        return true;
+    }
+
+    /**
+     * Defers the comparator output update around the given position until
+     * the outermost coalescing phase completes.
+     *
+     * @param context The current context, which must coalesce notifications
+     * @param world The world of the changed block
+     * @param pos The position of the changed block
+     * @param block The block that was placed
+     * @return False if the update has to be performed right away
+     */
+    public boolean deferOutputSignal(final PhaseContext<@NonNull ?> context, final ServerLevel world, final BlockPos pos, final Block block) {
+        if (this.flushing) {
+            return false;
+        }
+        final PendingSource pending = this.queue(context, world).pending(pos);
+        if (pending.outputSignalBlock == null) {
+            this.deferred++;
+        } else {
+            this.coalesced++;
+        }
+        pending.outputSignalBlock = block;
+        return true;
+    }
+
+    private WorldQueue queue(final PhaseContext<@NonNull ?> context, final ServerLevel world) {
+        if (this.owner == null) {
+            this.owner = context;
+        }
+        for (int i = 0; i < this.worlds.size(); i++) {
+            final WorldQueue existing = this.worlds.get(i);
+            if (existing.world == world) {
+                return existing;
+            }
+        }
+        final WorldQueue queue = new WorldQueue(world);
+        this.worlds.add(queue);
+        return queue;
+    }
+
+    /**
+     * Delivers the pending notifications if they were deferred by the given,
+     * now completing, context.
+     *
+     * @param context The completing context
+     */
+    public void flushIfOwnedBy(final PhaseContext<@NonNull ?> context) {
+        if (this.owner != context || this.flushing) {
+            return;
+        }
+        this.flushing = true;
+        try {
+            for (int i = 0; i < this.worlds.size(); i++) {
+                final WorldQueue queue = this.worlds.get(i);
+                while (!queue.sources.isEmpty()) {
+                    final BlockPos source = BlockPos.of(queue.sources.firstLongKey());
+                    final PendingSource pending = queue.sources.removeFirst();
+                    final @Nullable Block neighborBlock = pending.neighborBlock;
+                    if (neighborBlock != null) {
+                        for (int j = 0; j < pending.targetCount; j++) {
+                            this.notifier.neighborChanged(queue.world, BlockPos.of(pending.targets[j]), neighborBlock, source);
+                        }
+                    }
+                    final @Nullable Block outputSignalBlock = pending.outputSignalBlock;
+                    if (outputSignalBlock != null) {
+                        this.notifier.updateNeighbourForOutputSignal(queue.world, source, outputSignalBlock);
+                    }
+                }
+            }
+        } finally {
+            // Nothing is left pending on a failed delivery, in the same way the
+            // remaining notifications of a failed block change never happen
+            this.worlds.clear();
+            this.owner = null;
+            this.flushing = false;
+        }
+    }
+
+    /**
+     * Gets the number of notifications that were deferred since the last
+     * {@link #resetStatistics()}, counting each notified target and
+     * comparator update on its own.
+     *
+     * @return The number of deferred notifications
+     */
+    public long getDeferred() {
+        return this.deferred;
+    }
+
+    /**
+     * Gets the number of notifications that were dropped since the last
+     * {@link #resetStatistics()}, because the same pair was already pending.
+     *
+     * @return The number of coalesced notifications
+     */
+    public long getCoalesced() {
+        return this.coalesced;
+    }
+
+    public void resetStatistics() {
+        this.deferred = 0;
+        this.coalesced = 0;
+    }
+
+    /**
+     * Performs the notifications once they are delivered.
+     */
+    interface Notifier {
+
+        Notifier WORLD = new Notifier() {
+            @Override
+            public void neighborChanged(final ServerLevel world, final BlockPos target, final Block block, final BlockPos source) {
+                world.neighborChanged(target, block, source);
+            }
+
+            @Override
+            public void updateNeighbourForOutputSignal(final ServerLevel world, final BlockPos pos, final Block block) {
+                world.updateNeighbourForOutputSignal(pos, block);
+            }
+        };
+
+        void neighborChanged(ServerLevel world, BlockPos target, Block block, BlockPos source);
+
+        void updateNeighbourForOutputSignal(ServerLevel world, BlockPos pos, Block block);
+    }
+
+    private static final class WorldQueue {
+
+        final ServerLevel world;
+        // The pending notifications by source, in the order the sources first notified
+        final Long2ObjectLinkedOpenHashMap<PendingSource> sources = new Long2ObjectLinkedOpenHashMap<>();
+
+        WorldQueue(final ServerLevel world) {
+            this.world = world;
+        }
+
+        PendingSource pending(final BlockPos source) {
+            final long key = source.asLong();
+            @Nullable PendingSource pending = this.sources.get(key);
+            if (pending == null) {
+                pending = new PendingSource();
+                this.sources.put(key, pending);
+            }
+            return pending;
+        }
+    }
+
+    private static final class PendingSource {
+
+        @Nullable Block neighborBlock;
+        @Nullable Block outputSignalBlock;
+        // Almost always the six neighbors, searched linearly
+        long[] targets = new long[6];
+        int targetCount;
+
+        boolean addTarget(final long target) {
+            for (int i = 0; i < this.targetCount; i++) {
+                if (this.targets[i] == target) {
+                    return false;
+                }
+            }
+            if (this.targetCount == this.targets.length) {
+                this.targets = Arrays.copyOf(this.targets, this.targetCount * 2);
+            }
+            this.targets[this.targetCount++] = target;
+            return true;
+        }
+    }
+
+}
@@ -29,7 +29,7 @@
 
 @SuppressWarnings("rawtypes")
 public class ResultingTransactionBySideEffect {
-    public final ProcessingSideEffect effect;
+    public ProcessingSideEffect effect; // Only reassigned when recycled by the EffectNodePool
     @Nullable GameTransaction head;
     @Nullable GameTransaction tail;
 
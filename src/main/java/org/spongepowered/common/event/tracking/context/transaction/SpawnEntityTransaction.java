@@ -90,8 +90,8 @@ public DummySnapshot(final Vector3d originalPosition, final CompoundTag entityTa
     ) {
         if (parent instanceof ChangeBlock) {
             return Optional.of(((phaseContext, stackFrame) -> {
-                stackFrame.pushCause(((ChangeBlock) parent).original);
-                stackFrame.addContext(EventContextKeys.BLOCK_TARGET, ((ChangeBlock) parent).original);
+                stackFrame.pushCause(((ChangeBlock) parent).getOriginalSnapshot());
+                stackFrame.addContext(EventContextKeys.BLOCK_TARGET, ((ChangeBlock) parent).getOriginalSnapshot());
             }));
         }
         return Optional.empty();
@@ -59,6 +59,7 @@
 import org.spongepowered.common.event.tracking.context.ICaptureSupplier;
 import org.spongepowered.common.event.tracking.context.transaction.effect.EntityPerformingDropsEffect;
 import org.spongepowered.common.event.tracking.context.transaction.effect.PrepareBlockDrops;
+import org.spongepowered.common.event.tracking.context.transaction.effect.ProcessingSideEffect;
 import org.spongepowered.common.event.tracking.context.transaction.type.TransactionType;
 import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.world.BlockChange;
@@ -84,8 +85,12 @@ public final class TransactionalCaptureSupplier implements ICaptureSupplier {
     @Nullable private GameTransaction tail;
     @Nullable private GameTransaction head;
     @Nullable private ResultingTransactionBySideEffect effect;
+    private final EffectNodePool pool;
+    private final GameTransactionPool transactionPool;
 
-    public TransactionalCaptureSupplier() {
+    public TransactionalCaptureSupplier(final EffectNodePool pool, final GameTransactionPool transactionPool) {
+        this.pool = pool;
+        this.transactionPool = transactionPool;
     }
 
 
@@ -124,6 +129,26 @@ public EffectTransactor pushEffect(final ResultingTransactionBySideEffect effect
         return effectTransactor;
     }
 
+    /**
+     * Pushes a side effect of a block pipeline, such that transactions logged
+     * while it processes are associated with it. Unlike
+     * {@link #pushEffect(ResultingTransactionBySideEffect)}, the returned
+     * transactor and the effect node are recycled once the transactor is
+     * closed, so it must not be retained beyond the side effect.
+     *
+     * @param effect The side effect being processed
+     * @return The transactor to close once the side effect completes
+     */
+    public EffectTransactor pushEffect(final ProcessingSideEffect effect) {
+        final GameTransaction tail = Objects.requireNonNull(this.tail);
+        final GameTransaction parentTransaction = this.effect != null && this.effect.tail != null ? this.effect.tail : tail;
+        final ResultingTransactionBySideEffect node = this.pool.acquireNode(effect);
+        final EffectTransactor effectTransactor = this.pool.acquireTransactor(node, parentTransaction, this.effect, this);
+        this.effect = node;
+        parentTransaction.getEffects().addLast(node);
+        return effectTransactor;
+    }
+
     void popEffect(final EffectTransactor transactor) {
         this.effect = transactor.previousEffect;
     }
@@ -143,16 +168,34 @@ private void logTransaction(final GameTransaction transaction) {
         }
     }
 
-    public ChangeBlock logBlockChange(final SpongeBlockSnapshot originalBlockSnapshot, final BlockState newState,
-        final BlockChangeFlag flags
+    public ChangeBlock logBlockChange(final ServerLevel world, final BlockPos pos, final BlockState originalState,
+        final @Nullable CompoundTag originalTileData, final BlockState newState, final BlockChangeFlag flags
     ) {
-        final ChangeBlock changeBlock = new ChangeBlock(
-            originalBlockSnapshot, newState, (SpongeBlockChangeFlag) flags
+        final ChangeBlock changeBlock = this.transactionPool.acquireChangeBlock(
+            world, pos, originalState, originalTileData, newState, (SpongeBlockChangeFlag) flags
         );
         this.logTransaction(changeBlock);
         return changeBlock;
     }
 
+    /**
+     * Creates a {@link ChangeBlock} without logging it, such that the block
+     * pipelines can still be driven when the current phase does not
+     * {@link org.spongepowered.common.event.tracking.IPhaseState#doesCaptureBlockChanges(PhaseContext) capture block changes}.
+     *
+     * @param world The world
+     * @param pos The changing position
+     * @param originalState The original state
+     * @param newState The new state
+     * @param flags The change flag
+     * @return The uncaptured change
+     */
+    public static ChangeBlock createUncapturedBlockChange(final ServerLevel world, final BlockPos pos, final BlockState originalState,
+        final BlockState newState, final BlockChangeFlag flags
+    ) {
+        return new ChangeBlock(world, pos, originalState, null, newState, (SpongeBlockChangeFlag) flags);
+    }
+
     public boolean logTileAddition(final BlockEntity tileEntity,
         final Supplier<ServerLevel> worldSupplier, final LevelChunk chunk
         ) {
@@ -199,7 +242,7 @@ public void logNeighborNotification(final Supplier<ServerLevel> serverWorldSuppl
         final BlockPos immutableTarget, final BlockState targetBlockState,
         @Nullable final BlockEntity existingTile
     ) {
-        final NeighborNotification notificationTransaction = new NeighborNotification(serverWorldSupplier, targetBlockState, immutableTarget, blockIn, immutableFrom, existingTile);
+        final NeighborNotification notificationTransaction = this.transactionPool.acquireNeighborNotification(serverWorldSupplier, targetBlockState, immutableTarget, blockIn, immutableFrom, existingTile);
         this.logTransaction(notificationTransaction);
     }
 
@@ -363,7 +406,7 @@ private AddTileEntity createTileAdditionTransaction(final BlockEntity tileentity
         );
         existing.blockChange = BlockChange.MODIFY;
 
-        return new AddTileEntity(tileentity, added, existing);
+        return this.transactionPool.acquireTileAddition(tileentity, added, existing);
     }
 
     public void clear() {
@@ -549,6 +592,18 @@ public String toString() {
             .toString();
     }
 
+    /**
+     * Hands the captured transactions back to the tracker's
+     * {@link GameTransactionPool}, along with their side effects. Only called
+     * once the phase has completed unwinding, as the transactions are reused
+     * by the phases that follow.
+     */
+    @SuppressWarnings("unchecked")
+    public void recycle() {
+        this.transactionPool.releaseAll((GameTransaction<@NonNull ?>) this.head, this.pool);
+        this.reset();
+    }
+
     public void reset() {
         if (this.head != null) {
             this.head = null;
@@ -26,6 +26,9 @@
 
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.block.state.BlockState;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.spongepowered.common.event.tracking.PhaseContext;
+import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.event.tracking.context.transaction.pipeline.BlockPipeline;
 import org.spongepowered.common.event.tracking.context.transaction.pipeline.PipelineCursor;
 import org.spongepowered.common.world.SpongeBlockChangeFlag;
@@ -53,10 +56,16 @@ public EffectResult processSideEffect(final BlockPipeline pipeline, final Pipeli
         // if (!this.isClientSide && (flags & 1) != 0) {
         if (flag.updateNeighbors()) {
             // this.notifyNeighbors(pos, originalState.getBlock());
+            // The world holds back each neighbor notification itself while the phase coalesces them
             world.blockUpdated(oldState.pos, oldState.state.getBlock());
             if (newState.hasAnalogOutputSignal()) {
                 // this.updateComparatorOutputLevel(pos, block);
-                world.updateNeighbourForOutputSignal(oldState.pos, newState.getBlock());
+                final PhaseTracker tracker = PhaseTracker.getInstance();
+                final PhaseContext<@NonNull ?> phaseContext = tracker.getPhaseContext();
+                if (!phaseContext.coalescesNeighborNotifications()
+                    || !tracker.getNeighborNotificationQueue().deferOutputSignal(phaseContext, world, oldState.pos, newState.getBlock())) {
+                    world.updateNeighbourForOutputSignal(oldState.pos, newState.getBlock());
+                }
             }
         }
         return EffectResult.NULL_PASS;
@@ -26,17 +26,17 @@
 
 import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.common.bridge.world.TrackedWorldBridge;
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.context.transaction.ChangeBlock;
 import org.spongepowered.common.event.tracking.context.transaction.EffectTransactor;
-import org.spongepowered.common.event.tracking.context.transaction.ResultingTransactionBySideEffect;
 import org.spongepowered.common.event.tracking.context.transaction.effect.EffectResult;
 import org.spongepowered.common.event.tracking.context.transaction.effect.ProcessingSideEffect;
 import org.spongepowered.common.world.SpongeBlockChangeFlag;
 
 import java.lang.ref.WeakReference;
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Supplier;
@@ -54,7 +54,8 @@ public final class ChunkPipeline implements BlockPipeline {
     private final @Nullable Supplier<ServerLevel> serverWorld;
     private final @Nullable Supplier<LevelChunkSection> sectionSupplier;
     private final boolean wasEmpty;
-    private final List<ResultingTransactionBySideEffect> chunkEffects;
+    private final List<ProcessingSideEffect> chunkEffects;
+    private final boolean capturing;
     final ChangeBlock transaction;
 
     public static ChunkPipeline nullReturn(final LevelChunk chunk, final ServerLevel world) {
@@ -69,6 +70,7 @@ private ChunkPipeline(final LevelChunk chunk, final ServerLevel world) {
         this.sectionSupplier = () -> LevelChunk.EMPTY_SECTION;
         this.wasEmpty = true;
         this.chunkEffects = Collections.emptyList();
+        this.capturing = true;
         this.transaction = null;
     }
 
@@ -79,16 +81,28 @@ private ChunkPipeline(final LevelChunk chunk, final ServerLevel world) {
         this.sectionSupplier = builder.sectionSupplier;
         this.wasEmpty = Objects.requireNonNull(builder.sectionSupplier).get().isEmpty();
         this.transaction = builder.transaction;
+        this.capturing = builder.capturing;
     }
 
     public Supplier<LevelChunk> getChunkSupplier() {
         return this.chunkSupplier;
     }
 
-    public List<ResultingTransactionBySideEffect> getChunkEffects() {
+    public List<ProcessingSideEffect> getChunkEffects() {
         return this.chunkEffects;
     }
 
+    /**
+     * Gets whether the {@link ChangeBlock} driving this pipeline was logged,
+     * and therefor whether the side effects need to be pushed onto the
+     * transactor for the resulting transactions to be associated with it.
+     *
+     * @return True if the change is being captured
+     */
+    public boolean isCapturing() {
+        return this.capturing;
+    }
+
     public ServerLevel getServerWorld() {
         return Objects.requireNonNull(this.serverWorld, "ServerWorld Supplier is null in ChunkPipeline").get();
     }
@@ -117,9 +131,9 @@ public BlockState processChange(final PhaseContext<?> context, final BlockState
         final @Nullable BlockEntity existing = this.chunkSupplier.get().getBlockEntity(pos, LevelChunk.EntityCreationType.CHECK);
         PipelineCursor formerState = new PipelineCursor(currentState, oldOpacity, pos, existing, (Entity) null, limit);
 
-        for (final ResultingTransactionBySideEffect effect : this.chunkEffects) {
-            try (final EffectTransactor ignored = context.getTransactor().pushEffect(effect)) {
-                final EffectResult result = effect.effect.processSideEffect(
+        for (final ProcessingSideEffect effect : this.chunkEffects) {
+            try (final @Nullable EffectTransactor ignored = this.capturing ? context.getTransactor().pushEffect(effect) : null) {
+                final EffectResult result = effect.processSideEffect(
                     this,
                     formerState,
                     proposedState,
@@ -153,17 +167,36 @@ public static final class Builder {
         @Nullable Supplier<LevelChunkSection> sectionSupplier;
         boolean wasSectionEmpty;
         @MonotonicNonNull ChangeBlock transaction;
-        List<ResultingTransactionBySideEffect> effects;
+        boolean capturing = true;
+        List<ProcessingSideEffect> effects;
 
         public Builder kickOff(final ChangeBlock transaction) {
             this.transaction = Objects.requireNonNull(transaction, "ChangeBlock transaction cannot be null!");
             return this;
         }
+
+        public Builder capturing(final boolean capturing) {
+            this.capturing = capturing;
+            return this;
+        }
         public Builder addEffect(final ProcessingSideEffect effect) {
             if (this.effects == null) {
-                this.effects = new LinkedList<>();
+                this.effects = new ArrayList<>();
             }
-            this.effects.add(new ResultingTransactionBySideEffect(Objects.requireNonNull(effect, "Effect is null")));
+            this.effects.add(Objects.requireNonNull(effect, "Effect is null"));
+            return this;
+        }
+
+        /**
+         * Sets the effects of the pipeline to the given list, which is shared
+         * rather than copied, such that the same effects of every block change
+         * are not collected into a new list each time.
+         *
+         * @param effects The immutable effects
+         * @return This builder, for chaining
+         */
+        public Builder effects(final List<ProcessingSideEffect> effects) {
+            this.effects = Objects.requireNonNull(effects, "Effects cannot be null");
             return this;
         }
 
@@ -193,7 +226,7 @@ public Builder chunkSection(final LevelChunkSection section) {
         }
 
         public Builder world(final ServerLevel world) {
-            final WeakReference<ServerLevel> worldRef = new WeakReference<>(world);
+            final WeakReference<ServerLevel> worldRef = ((TrackedWorldBridge) world).bridge$getWeakReference();
             this.serverWorld = () -> {
                 final ServerLevel serverWorld = worldRef.get();
                 if (serverWorld == null) {
@@ -28,13 +28,12 @@
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.context.transaction.EffectTransactor;
-import org.spongepowered.common.event.tracking.context.transaction.ResultingTransactionBySideEffect;
 import org.spongepowered.common.event.tracking.context.transaction.effect.EffectResult;
 import org.spongepowered.common.event.tracking.context.transaction.effect.ProcessingSideEffect;
 import org.spongepowered.common.world.SpongeBlockChangeFlag;
 
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Supplier;
@@ -52,7 +51,7 @@ public final class WorldPipeline implements BlockPipeline {
     private final Supplier<ServerLevel> serverWorld;
     private final Supplier<LevelChunkSection> sectionSupplier;
     private final boolean wasEmpty;
-    private final List<ResultingTransactionBySideEffect> worldEffects;
+    private final List<ProcessingSideEffect> worldEffects;
     private final ChunkPipeline chunkPipeline;
 
     WorldPipeline(final Builder builder) {
@@ -97,9 +96,9 @@ public boolean processEffects(final PhaseContext<?> context, final BlockState cu
         final @Nullable BlockEntity existing = this.chunkSupplier.get().getBlockEntity(pos, LevelChunk.EntityCreationType.CHECK);
         PipelineCursor formerState = new PipelineCursor(oldState, oldOpacity, pos, existing, destroyer, limit);
 
-        for (final ResultingTransactionBySideEffect effect : this.worldEffects) {
-            try (final EffectTransactor ignored = context.getTransactor().pushEffect(effect)) {
-                final EffectResult result = effect.effect.processSideEffect(
+        for (final ProcessingSideEffect effect : this.worldEffects) {
+            try (final @Nullable EffectTransactor ignored = this.chunkPipeline.isCapturing() ? context.getTransactor().pushEffect(effect) : null) {
+                final EffectResult result = effect.processSideEffect(
                     this,
                     formerState,
                     newProposedState,
@@ -131,7 +130,7 @@ public static final class Builder {
         final Supplier<ServerLevel> serverWorld;
         final Supplier<LevelChunk> chunkSupplier;
         final Supplier<LevelChunkSection> sectionSupplier;
-        @MonotonicNonNull List<ResultingTransactionBySideEffect> effects;
+        @MonotonicNonNull List<ProcessingSideEffect> effects;
         final ChunkPipeline chunkPipeline;
 
         Builder(final ChunkPipeline chunkPipeline) {
@@ -143,9 +142,9 @@ public static final class Builder {
 
         public Builder addEffect(final ProcessingSideEffect effect) {
             if (this.effects == null) {
-                this.effects = new LinkedList<>();
+                this.effects = new ArrayList<>();
             }
-            this.effects.add(new ResultingTransactionBySideEffect(Objects.requireNonNull(effect, "Effect is null")));
+            this.effects.add(Objects.requireNonNull(effect, "Effect is null"));
             return this;
         }
 
@@ -26,7 +26,6 @@
 
 import org.spongepowered.api.event.CauseStackManager;
 import org.spongepowered.api.world.LocatableBlock;
-import org.spongepowered.common.block.SpongeBlockSnapshot;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.event.tracking.TrackingUtil;
 import org.spongepowered.common.event.tracking.context.GeneralizedContext;
@@ -64,11 +63,11 @@ public void unwind(final GeneralizedContext context) {
 
     @Override
     public BlockChange associateBlockChangeWithSnapshot(final GeneralizedContext phaseContext, final BlockState newState,
-        final Block newBlock, final BlockState currentState, final SpongeBlockSnapshot snapshot, final Block originalBlock) {
+        final Block newBlock, final BlockState currentState, final Block originalBlock) {
         if (newBlock == Blocks.AIR) {
             return BlockChange.DECAY;
         } else {
-            return super.associateBlockChangeWithSnapshot(phaseContext, newState, newBlock, currentState, snapshot, originalBlock);
+            return super.associateBlockChangeWithSnapshot(phaseContext, newState, newBlock, currentState, originalBlock);
         }
     }
 
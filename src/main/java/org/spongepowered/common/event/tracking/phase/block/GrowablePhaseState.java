@@ -26,7 +26,6 @@
 
 import org.spongepowered.api.event.CauseStackManager;
 import org.spongepowered.api.event.EventContextKeys;
-import org.spongepowered.common.block.SpongeBlockSnapshot;
 import org.spongepowered.common.event.tracking.IPhaseState;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.event.tracking.PooledPhaseState;
@@ -62,8 +61,7 @@ public void unwind(final GrowablePhaseContext phaseContext) {
 
     @Override
     public BlockChange associateBlockChangeWithSnapshot(final GrowablePhaseContext phaseContext,
-        final BlockState newState, final Block newBlock, final BlockState currentState, final SpongeBlockSnapshot snapshot,
-        final Block originalBlock
+        final BlockState newState, final Block newBlock, final BlockState currentState, final Block originalBlock
     ) {
         return BlockChange.GROW;
     }
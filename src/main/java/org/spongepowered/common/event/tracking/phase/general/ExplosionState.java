@@ -35,6 +35,7 @@
 import org.spongepowered.api.event.entity.SpawnEntityEvent;
 import org.spongepowered.api.util.Tuple;
 import org.spongepowered.common.accessor.world.level.ExplosionAccessor;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
 import org.spongepowered.common.bridge.CreatorTrackedBridge;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.event.tracking.TrackingUtil;
@@ -91,6 +92,11 @@ public boolean alreadyCapturingEntitySpawns() {
         return true;
     }
 
+    @Override
+    public boolean coalescesNeighborNotifications(final ExplosionContext context) {
+        return SpongeConfigs.getCommon().get().phaseTracker.coalesceBulkNeighborNotifications;
+    }
+
     @Override
     public void populateLootContext(final ExplosionContext phaseContext, final LootContext.Builder lootBuilder) {
         final Explosion explosion = phaseContext.getExplosion();
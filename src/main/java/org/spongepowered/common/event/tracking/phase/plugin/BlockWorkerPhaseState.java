@@ -26,6 +26,7 @@
 
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.event.tracking.TrackingUtil;
@@ -40,6 +41,11 @@ public void unwind(final BasicPluginContext phaseContext) {
         TrackingUtil.processBlockCaptures(phaseContext);
     }
 
+    @Override
+    public boolean coalescesNeighborNotifications(final BasicPluginContext context) {
+        return SpongeConfigs.getCommon().get().phaseTracker.coalesceBulkNeighborNotifications;
+    }
+
     @Override
     public boolean handlesOwnStateCompletion() {
         return true;
@@ -26,7 +26,6 @@
 
 import org.spongepowered.api.event.CauseStackManager;
 import org.spongepowered.api.world.LocatableBlock;
-import org.spongepowered.common.block.SpongeBlockSnapshot;
 import org.spongepowered.common.bridge.world.level.TrackerBlockEventDataBridge;
 import org.spongepowered.common.bridge.server.level.ServerLevelBridge;
 import org.spongepowered.common.bridge.world.TrackedWorldBridge;
@@ -117,7 +116,7 @@ public boolean doesBlockEventTracking(final BlockTickContext context) {
 
     @Override
     public BlockChange associateBlockChangeWithSnapshot(final BlockTickContext phaseContext, final net.minecraft.world.level.block.state.BlockState newState, final Block newBlock,
-                                                        final net.minecraft.world.level.block.state.BlockState currentState, final SpongeBlockSnapshot snapshot, final Block originalBlock) {
+                                                        final net.minecraft.world.level.block.state.BlockState currentState, final Block originalBlock) {
         if (phaseContext.tickingBlock instanceof BonemealableBlock) {
             if (newBlock == Blocks.AIR) {
                 return BlockChange.BREAK;
@@ -126,7 +125,7 @@ public BlockChange associateBlockChangeWithSnapshot(final BlockTickContext phase
                 return BlockChange.GROW;
             }
         }
-        return super.associateBlockChangeWithSnapshot(phaseContext, newState, newBlock, currentState, snapshot, originalBlock);
+        return super.associateBlockChangeWithSnapshot(phaseContext, newState, newBlock, currentState, originalBlock);
     }
 
     @Override
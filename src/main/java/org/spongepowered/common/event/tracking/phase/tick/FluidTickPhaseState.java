@@ -123,7 +123,6 @@ public BlockChange associateBlockChangeWithSnapshot(
         final net.minecraft.world.level.block.state.BlockState newState,
         final Block newBlock,
         final net.minecraft.world.level.block.state.BlockState currentState,
-        final SpongeBlockSnapshot snapshot,
         final Block originalBlock
     ) {
         if (phaseContext.tickingBlock.getType() instanceof FlowingFluid) {
@@ -145,7 +144,7 @@ public BlockChange associateBlockChangeWithSnapshot(
                 return BlockChange.PLACE;
             }
         }
-        return super.associateBlockChangeWithSnapshot(phaseContext, newState, newBlock, currentState, snapshot, originalBlock);
+        return super.associateBlockChangeWithSnapshot(phaseContext, newState, newBlock, currentState, originalBlock);
     }
 
     @Override
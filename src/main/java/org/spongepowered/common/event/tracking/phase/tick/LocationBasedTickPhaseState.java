@@ -32,6 +32,7 @@
 import org.spongepowered.common.bridge.world.level.chunk.LevelChunkBridge;
 import org.spongepowered.common.entity.PlayerTracker;
 import org.spongepowered.common.event.tracking.PhaseContext;
+import org.spongepowered.common.event.tracking.TrackingUtil;
 import org.spongepowered.common.world.BlockChange;
 
 import java.util.function.BiConsumer;
@@ -51,6 +52,11 @@
 
     abstract LocatableBlock getLocatableBlockSourceFromContext(PhaseContext<?> context);
 
+    @Override
+    public boolean doesCaptureBlockChanges(final T context) {
+        return !TrackingUtil.canSkipBlockCaptures(context);
+    }
+
     @Override
     public BiConsumer<CauseStackManager.StackFrame, T> getFrameModifier() {
         return this.LOCATION_MODIFIER;
@@ -50,4 +50,10 @@ public D manager(EndDragonFight manager) {
     public EndDragonFight getManager() {
         return Objects.requireNonNull(this.manager);
     }
+
+    @Override
+    protected void reset() {
+        super.reset();
+        this.manager = null;
+    }
 }
@@ -25,9 +25,10 @@
 package org.spongepowered.common.event.tracking.phase.world.dragon;
 
 import org.spongepowered.common.event.tracking.IPhaseState;
+import org.spongepowered.common.event.tracking.PooledPhaseState;
 import org.spongepowered.common.event.tracking.TrackingUtil;
 
-public abstract class DragonPhaseState<D extends DragonContext<D>> implements IPhaseState<D> {
+public abstract class DragonPhaseState<D extends DragonContext<D>> extends PooledPhaseState<D> implements IPhaseState<D> {
 
     @Override
     public void unwind(final D phaseContext) {
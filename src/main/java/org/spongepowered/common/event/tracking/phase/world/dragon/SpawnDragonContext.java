@@ -43,4 +43,10 @@ public SpawnDragonContext setIsRespawn(final boolean isRespawn) {
     public boolean isRespawn() {
         return this.isRespawn;
     }
+
+    @Override
+    protected void reset() {
+        super.reset();
+        this.isRespawn = false;
+    }
 }
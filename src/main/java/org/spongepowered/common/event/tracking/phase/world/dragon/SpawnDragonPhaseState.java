@@ -29,7 +29,7 @@
 public final class SpawnDragonPhaseState extends DragonPhaseState<SpawnDragonContext> {
 
     @Override
-    public SpawnDragonContext createPhaseContext(PhaseTracker server) {
-        return new SpawnDragonContext(this, server);
+    protected SpawnDragonContext createNewContext(final PhaseTracker tracker) {
+        return new SpawnDragonContext(this, tracker);
     }
 }
@@ -52,6 +52,10 @@ public InventoryBridge getWrapped() {
         return ((InventoryBridge) this.wrapped);
     }
 
+    public Container getWrappedContainer() {
+        return this.wrapped;
+    }
+
     @Override
     public Optional<Carrier> bridge$getCarrier() {
         return Optional.ofNullable(this.carrier);
@@ -85,6 +85,10 @@ public UUID getIdentity() {
         return this.identity;
     }
 
+    public List<Inventory> getBackingInventories() {
+        return this.inventories;
+    }
+
     // IInventory implementation
 
     @Override
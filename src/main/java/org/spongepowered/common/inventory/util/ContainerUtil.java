@@ -32,6 +32,7 @@
 import org.spongepowered.api.item.inventory.type.CarriedInventory;
 import org.spongepowered.api.world.server.ServerLocation;
 import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.accessor.world.CompoundContainerAccessor;
 import org.spongepowered.common.accessor.world.inventory.AbstractContainerMenuAccessor;
 import org.spongepowered.common.accessor.world.inventory.AbstractFurnaceMenuAccessor;
 import org.spongepowered.common.accessor.world.inventory.BeaconMenuAccessor;
@@ -48,7 +49,9 @@
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.inventory.SpongeLocationCarrier;
 import org.spongepowered.common.inventory.SpongeBlockEntityCarrier;
+import org.spongepowered.common.inventory.custom.CarriedWrapperInventory;
 import org.spongepowered.common.inventory.custom.CustomContainer;
+import org.spongepowered.common.inventory.custom.CustomInventory;
 import org.spongepowered.common.inventory.lens.CompoundSlotLensProvider;
 import org.spongepowered.common.inventory.lens.Lens;
 import org.spongepowered.common.inventory.lens.impl.CompoundLens;
@@ -82,6 +85,7 @@
 import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
+import java.util.function.ObjIntConsumer;
 import java.util.stream.Collectors;
 
 public final class ContainerUtil {
@@ -265,6 +269,79 @@ private static Lens generateAdapterLens(final SlotLensProvider slots, final int
         return new DelegatingLens(index, slotList, lens, slots);
     }
 
+    /**
+     * Visits the given container and the containers its slots are backed by,
+     * like both halves of a double chest, along with the index in the given
+     * container of their first slot.
+     *
+     * @param container The container
+     * @param consumer The consumer of each container and its slot offset
+     */
+    public static void forEachBackingContainer(final net.minecraft.world.Container container,
+            final ObjIntConsumer<net.minecraft.world.Container> consumer) {
+        ContainerUtil.forEachBackingContainer(container, 0, consumer);
+    }
+
+    private static void forEachBackingContainer(final net.minecraft.world.Container container, final int offset,
+            final ObjIntConsumer<net.minecraft.world.Container> consumer) {
+        consumer.accept(container, offset);
+        if (container instanceof CompoundContainer) {
+            final net.minecraft.world.Container first = ((CompoundContainerAccessor) container).accessor$container1();
+            ContainerUtil.forEachBackingContainer(first, offset, consumer);
+            ContainerUtil.forEachBackingContainer(((CompoundContainerAccessor) container).accessor$container2(),
+                    offset + first.getContainerSize(), consumer);
+        } else if (container instanceof CarriedWrapperInventory) {
+            ContainerUtil.forEachBackingContainer(((CarriedWrapperInventory) container).getWrappedContainer(), offset, consumer);
+        } else if (container instanceof CustomInventory) {
+            int inventoryOffset = offset;
+            for (final Inventory inventory : ((CustomInventory) container).getBackingInventories()) {
+                if (inventory instanceof net.minecraft.world.Container) {
+                    ContainerUtil.forEachBackingContainer((net.minecraft.world.Container) inventory, inventoryOffset, consumer);
+                }
+                inventoryOffset += inventory.capacity();
+            }
+        }
+    }
+
+    /**
+     * Gets the index in the given container of the first slot of a container
+     * it is backed by, see {@link #forEachBackingContainer}.
+     *
+     * @param container The container
+     * @param backing The container that may back it
+     * @return The slot offset, or -1 if the container isn't backed by it
+     */
+    public static int getBackingContainerOffset(final net.minecraft.world.Container container, final net.minecraft.world.Container backing) {
+        if (container == backing) {
+            return 0;
+        }
+        if (container instanceof CompoundContainer) {
+            final net.minecraft.world.Container first = ((CompoundContainerAccessor) container).accessor$container1();
+            final int offset = ContainerUtil.getBackingContainerOffset(first, backing);
+            if (offset >= 0) {
+                return offset;
+            }
+            final int secondOffset = ContainerUtil.getBackingContainerOffset(((CompoundContainerAccessor) container).accessor$container2(), backing);
+            return secondOffset < 0 ? -1 : first.getContainerSize() + secondOffset;
+        }
+        if (container instanceof CarriedWrapperInventory) {
+            return ContainerUtil.getBackingContainerOffset(((CarriedWrapperInventory) container).getWrappedContainer(), backing);
+        }
+        if (container instanceof CustomInventory) {
+            int inventoryOffset = 0;
+            for (final Inventory inventory : ((CustomInventory) container).getBackingInventories()) {
+                if (inventory instanceof net.minecraft.world.Container) {
+                    final int offset = ContainerUtil.getBackingContainerOffset((net.minecraft.world.Container) inventory, backing);
+                    if (offset >= 0) {
+                        return inventoryOffset + offset;
+                    }
+                }
+                inventoryOffset += inventory.capacity();
+            }
+        }
+        return -1;
+    }
+
     @Nullable
     public static Carrier getCarrier(final Container container) {
         if (container instanceof BlockCarrier) {
@@ -0,0 +1,194 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.relocate.co.aikar.timings;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the timings of a {@link TimingHandler} on threads other than the
+ * server thread. Every thread keeps its own timing stack, and the timings are
+ * summed up lock free until the server thread folds them into the
+ * {@link TimingData} of this handler at the end of the tick.
+ *
+ * <p>These handlers are registered in an async group next to the group of
+ * their handler, so async work is reported separately in the timings
+ * history and exports and never counts towards lag of the server thread.</p>
+ */
+final class AsyncTimingHandler extends TimingHandler {
+
+    private static final String GROUP_SUFFIX = " (Async)";
+    private static final ThreadLocal<ThreadStack> STACKS = ThreadLocal.withInitial(ThreadStack::new);
+    // The handlers that have recorded timings since the last tick
+    private static final Queue<AsyncTimingHandler> PENDING = new ConcurrentLinkedQueue<>();
+
+    private final AtomicBoolean pending = new AtomicBoolean();
+    private final PendingData pendingData = new PendingData();
+    private final Map<AsyncTimingHandler, PendingData> pendingChildren = new ConcurrentHashMap<>();
+
+    AsyncTimingHandler(final TimingIdentifier syncIdentity) {
+        this(new TimingIdentifier(syncIdentity.group + AsyncTimingHandler.GROUP_SUFFIX, syncIdentity.name, null, false));
+    }
+
+    private AsyncTimingHandler(final TimingIdentifier identity) {
+        super(identity);
+        TimingsManager.TIMING_MAP.put(identity, this);
+    }
+
+    static void start(final AsyncTimingHandler handler) {
+        AsyncTimingHandler.STACKS.get().push(handler);
+    }
+
+    static void stop(final AsyncTimingHandler handler) {
+        AsyncTimingHandler.STACKS.get().pop(handler, true);
+    }
+
+    static void abort(final AsyncTimingHandler handler) {
+        AsyncTimingHandler.STACKS.get().pop(handler, false);
+    }
+
+    /**
+     * Folds the timings recorded by other threads since the last tick into
+     * the tick data of their handlers. Must be called on the server thread,
+     * before the handlers process the tick.
+     */
+    static void drain() {
+        AsyncTimingHandler handler;
+        while ((handler = AsyncTimingHandler.PENDING.poll()) != null) {
+            // Anything recorded after this queues the handler again
+            handler.pending.set(false);
+            if (handler.pendingData.drainInto(handler.record)) {
+                handler.markTimed();
+            }
+            for (final Map.Entry<AsyncTimingHandler, PendingData> entry : handler.pendingChildren.entrySet()) {
+                entry.getValue().drainInto(handler.children.get(entry.getKey().id));
+            }
+        }
+    }
+
+    private void record(final long diff, final @Nullable AsyncTimingHandler parent) {
+        this.pendingData.add(diff);
+        this.queue();
+        if (parent != null) {
+            PendingData child = parent.pendingChildren.get(this);
+            if (child == null) {
+                child = parent.pendingChildren.computeIfAbsent(this, key -> new PendingData());
+            }
+            child.add(diff);
+            parent.queue();
+        }
+    }
+
+    private void queue() {
+        if (this.pending.compareAndSet(false, true)) {
+            AsyncTimingHandler.PENDING.add(this);
+        }
+    }
+
+    @Override
+    void processTick(final boolean violated) {
+        // Async work doesn't hold up the server thread, so it never counts as lag
+        super.processTick(false);
+    }
+
+    @Override
+    public boolean isSpecial() {
+        return false;
+    }
+
+    private static final class PendingData {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder total = new LongAdder();
+
+        void add(final long diff) {
+            this.count.increment();
+            this.total.add(diff);
+        }
+
+        boolean drainInto(final TimingData data) {
+            final long count = this.count.sumThenReset();
+            if (count == 0) {
+                return false;
+            }
+            data.curTickCount += (int) count;
+            data.curTickTotal += this.total.sumThenReset();
+            return true;
+        }
+    }
+
+    /**
+     * The handlers that are being timed on a single thread, innermost last.
+     */
+    private static final class ThreadStack {
+
+        private AsyncTimingHandler[] handlers = new AsyncTimingHandler[16];
+        private long[] starts = new long[16];
+        private int size;
+
+        void push(final AsyncTimingHandler handler) {
+            if (this.size == this.handlers.length) {
+                this.handlers = Arrays.copyOf(this.handlers, this.size * 2);
+                this.starts = Arrays.copyOf(this.starts, this.size * 2);
+            }
+            // Like the timing depth of the server thread, only the outermost timing of a handler is recorded
+            this.starts[this.size] = this.contains(handler) ? 0 : System.nanoTime();
+            this.handlers[this.size++] = handler;
+        }
+
+        void pop(final AsyncTimingHandler handler, final boolean record) {
+            for (int i = this.size - 1; i >= 0; i--) {
+                if (this.handlers[i] != handler) {
+                    continue;
+                }
+                final long start = this.starts[i];
+                final @Nullable AsyncTimingHandler parent = i == 0 ? null : this.handlers[i - 1];
+                // Anything started after the handler that wasn't stopped is discarded
+                Arrays.fill(this.handlers, i, this.size, null);
+                this.size = i;
+                if (record && start != 0) {
+                    handler.record(System.nanoTime() - start, parent);
+                }
+                return;
+            }
+        }
+
+        private boolean contains(final AsyncTimingHandler handler) {
+            for (int i = 0; i < this.size; i++) {
+                if (this.handlers[i] == handler) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
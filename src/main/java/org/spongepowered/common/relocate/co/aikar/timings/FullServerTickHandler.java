@@ -30,6 +30,7 @@ public final class FullServerTickHandler extends TimingHandler {
 
     private static final TimingIdentifier IDENTITY = new TimingIdentifier("Minecraft", "Full Server Tick", null, false);
     final TimingData minuteData;
+    final TimingsSpikeRecorder spikeRecorder = new TimingsSpikeRecorder();
     double avgFreeMemory = -1D;
     double avgUsedMemory = -1D;
 
@@ -55,6 +56,7 @@ public TimingHandler startTiming() {
     public void stopTiming() {
         super.stopTiming();
         if (!this.enabled) {
+            this.spikeRecorder.stop();
             return;
         }
         if (TimingHistory.timedTicks % 20 == 0) {
@@ -74,6 +76,8 @@ public void stopTiming() {
             }
         }
 
+        this.spikeRecorder.tick(this.record.curTickTotal);
+
         long start = System.nanoTime();
         TimingsManager.tick();
         long diff = System.nanoTime() - start;
@@ -55,6 +55,9 @@ public TimingsFactory init() {
         final TimingsCategory category = SpongeConfigs.getCommon().get().timings;
         TimingsManager.privacy = category.serverNamePrivacy;
         TimingsManager.hiddenConfigs.addAll(category.hiddenConfigEntries);
+        TimingsManager.exportDirectory = category.exportDirectory;
+        TimingsManager.spikeThreshold = TimeUnit.MILLISECONDS.toNanos(category.spikeThreshold);
+        TimingsManager.spikeHistorySize = Math.max(1, category.spikeHistorySize);
         this.setVerboseTimingsEnabled(category.verbose);
         this.setTimingsEnabled(this.moduleEnabled && category.enabled);
         this.setHistoryInterval(category.historyInterval);
@@ -166,6 +169,16 @@ public void generateReport(Audience channel) {
         TimingsExport.requestingReport.add(channel);
     }
 
+    /**
+     * Requests a report that is written to the export directory as JSON,
+     * along with a static HTML viewer, instead of being uploaded.
+     *
+     * @param channel The audience to notify of the export
+     */
+    public static void generateLocalReport(Audience channel) {
+        TimingsExport.requestingLocalReport.add(channel);
+    }
+
     public static long getCost() {
         return TimingsExport.getCost();
     }
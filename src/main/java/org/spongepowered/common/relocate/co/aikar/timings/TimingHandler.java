@@ -27,6 +27,7 @@
 import co.aikar.timings.Timing;
 import co.aikar.timings.Timings;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.common.relocate.co.aikar.util.LoadingIntMap;
@@ -42,7 +43,9 @@ class TimingHandler implements Timing {
     final Int2ObjectOpenHashMap<TimingData> children = new LoadingIntMap<>(TimingData::new);
 
     final TimingData record;
+    final TimingIdentifier identity;
     private final TimingHandler groupHandler;
+    private volatile @Nullable AsyncTimingHandler asyncHandler;
 
     private long start = 0;
     private int timingDepth = 0;
@@ -61,6 +64,7 @@ class TimingHandler implements Timing {
         }
 
         this.record = new TimingData(this.id);
+        this.identity = id;
         this.groupHandler = id.groupHandler;
 
         TimingIdentifier.getGroup(id.group).handlers.add(this);
@@ -84,13 +88,22 @@ void processTick(boolean violated) {
         }
     }
 
+    /**
+     * Whether the current thread is not the server thread, timings of other
+     * threads are recorded by the {@link AsyncTimingHandler} of this handler
+     * so they don't corrupt the timing stack of the server thread.
+     */
+    private static boolean isAsync() {
+        return Sponge.isServerAvailable() && !SpongeCommon.getServer().isSameThread();
+    }
+
     @Override
     public void startTimingIfSync() {
         if (!this.enabled) {
             return;
         }
 
-        if (Sponge.isServerAvailable() && SpongeCommon.getServer().isSameThread()) {
+        if (Sponge.isServerAvailable()) {
             this.startTiming();
         }
     }
@@ -101,7 +114,7 @@ public void stopTimingIfSync() {
             return;
         }
 
-        if (Sponge.isServerAvailable() && SpongeCommon.getServer().isSameThread()) {
+        if (Sponge.isServerAvailable()) {
             this.stopTiming();
         }
     }
@@ -111,6 +124,10 @@ public TimingHandler startTiming() {
         if (!this.enabled) {
             return this;
         }
+        if (TimingHandler.isAsync()) {
+            AsyncTimingHandler.start(this.getAsyncHandler());
+            return this;
+        }
 
         if (++this.timingDepth == 1) {
             this.start = System.nanoTime();
@@ -126,6 +143,10 @@ public void stopTiming() {
             this.start = 0;
             return;
         }
+        if (TimingHandler.isAsync()) {
+            AsyncTimingHandler.stop(this.getAsyncHandler());
+            return;
+        }
 
         if (--this.timingDepth == 0 && this.start != 0) {
             this.addDiff(System.nanoTime() - this.start);
@@ -135,6 +156,10 @@ public void stopTiming() {
 
     @Override
     public void abort() {
+        if (this.enabled && TimingHandler.isAsync()) {
+            AsyncTimingHandler.abort(this.getAsyncHandler());
+            return;
+        }
         if (this.enabled && this.timingDepth > 0) {
             this.start = 0;
         }
@@ -148,15 +173,42 @@ void addDiff(long diff) {
             }
         }
         this.record.add(diff);
+        this.markTimed();
+        if (this.groupHandler != null) {
+            this.groupHandler.addDiff(diff);
+            this.groupHandler.children.get(this.id).add(diff);
+        }
+    }
+
+    /**
+     * Adds this handler to the handlers that are processed at the end of the
+     * tick, if it isn't already.
+     */
+    void markTimed() {
         if (!this.added) {
             this.added = true;
             this.timed = true;
             TimingsManager.HANDLERS.add(this);
         }
-        if (this.groupHandler != null) {
-            this.groupHandler.addDiff(diff);
-            this.groupHandler.children.get(this.id).add(diff);
+    }
+
+    /**
+     * Gets the handler that records the timings of this handler on threads
+     * other than the server thread, creating it on first use.
+     */
+    AsyncTimingHandler getAsyncHandler() {
+        AsyncTimingHandler handler = this.asyncHandler;
+        if (handler == null) {
+            // Handlers are otherwise only created while holding the timing map, which guards their id pools
+            synchronized (TimingsManager.TIMING_MAP) {
+                handler = this.asyncHandler;
+                if (handler == null) {
+                    handler = new AsyncTimingHandler(this.identity);
+                    this.asyncHandler = handler;
+                }
+            }
         }
+        return handler;
     }
 
     /**
@@ -47,6 +47,10 @@
 import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.common.adventure.SpongeAdventure;
 import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
+import org.spongepowered.common.event.tracking.PhaseTracker;
+import org.spongepowered.common.event.tracking.context.transaction.EffectNodePool;
+import org.spongepowered.common.event.tracking.context.transaction.GameTransactionPool;
+import org.spongepowered.common.event.tracking.context.transaction.NeighborNotificationQueue;
 import org.spongepowered.common.relocate.co.aikar.util.JSONUtil;
 import org.spongepowered.common.relocate.co.aikar.util.JSONUtil.JsonObjectBuilder;
 import org.spongepowered.configurate.ConfigurationNode;
@@ -60,6 +64,11 @@
 import java.net.HttpURLConnection;
 import java.net.InetAddress;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.Set;
@@ -70,18 +79,23 @@ class TimingsExport extends Thread {
     private static final Joiner AUTHOR_LIST_JOINER = Joiner.on(", ");
     private static final Joiner RUNTIME_FLAG_JOINER = Joiner.on(" ");
     private static final Joiner CONFIG_PATH_JOINER = Joiner.on(".");
+    private static final DateTimeFormatter EXPORT_FILE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final String VIEWER_PLACEHOLDER = "/*TIMINGS_REPORT*/";
 
     private final TimingsReportListener listeners;
     private final JsonObject out;
     private final TimingHistory[] history;
+    private final boolean upload;
     private static long lastReport = 0;
     final static List<Audience> requestingReport = Lists.newArrayList();
+    final static List<Audience> requestingLocalReport = Lists.newArrayList();
 
-    TimingsExport(TimingsReportListener listeners, JsonObject out, TimingHistory[] history) {
-        super("Timings paste thread");
+    TimingsExport(TimingsReportListener listeners, JsonObject out, TimingHistory[] history, boolean upload) {
+        super(upload ? "Timings paste thread" : "Timings export thread");
         this.listeners = listeners;
         this.out = out;
         this.history = history;
+        this.upload = upload;
     }
 
     private static String getServerName() {
@@ -92,15 +106,22 @@ private static String getServerName() {
      * Builds an XML report of the timings to be uploaded for parsing.
      */
     static void reportTimings() {
-        if (TimingsExport.requestingReport.isEmpty()) {
-            return;
+        if (!TimingsExport.requestingReport.isEmpty()) {
+            TimingsExport.reportTimings(TimingsExport.requestingReport, true);
+        }
+        if (!TimingsExport.requestingLocalReport.isEmpty()) {
+            TimingsExport.reportTimings(TimingsExport.requestingLocalReport, false);
         }
-        TimingsReportListener listeners = new TimingsReportListener(TimingsExport.requestingReport);
+    }
+
+    private static void reportTimings(List<Audience> requesting, boolean upload) {
+        TimingsReportListener listeners = new TimingsReportListener(requesting);
 
-        TimingsExport.requestingReport.clear();
+        requesting.clear();
         long now = System.currentTimeMillis();
         final long lastReportDiff = now - TimingsExport.lastReport;
-        if (lastReportDiff < 60000) {
+        // Local exports don't touch the paste service, so they are not rate limited
+        if (upload && lastReportDiff < 60000) {
             listeners.send(Component.text("Please wait at least 1 minute in between Timings reports. (" + (int)((60000 - lastReportDiff) / 1000) + " seconds)", NamedTextColor.RED));
             listeners.done();
             return;
@@ -112,7 +133,9 @@ static void reportTimings() {
             return;
         }
         listeners.send(Component.text("Preparing Timings Report...", NamedTextColor.GREEN));
-        TimingsExport.lastReport = now;
+        if (upload) {
+            TimingsExport.lastReport = now;
+        }
 
         Platform platform = SpongeCommon.getGame().platform();
         JsonObjectBuilder builder = JSONUtil.objectBuilder()
@@ -145,6 +168,20 @@ static void reportTimings() {
                     return JSONUtil.singleObjectPair(input.getName(), JSONUtil.arrayOf(input.getCollectionCount(), input.getCollectionTime()));
                 })));
 
+        // Allocated and recycled transactions, transaction effect nodes and phase contexts, to compare against the gc counts above,
+        // along with the neighbor notifications held back and dropped during bulk block changes
+        final EffectNodePool effectNodePool = PhaseTracker.SERVER.getEffectNodePool();
+        final GameTransactionPool transactionPool = PhaseTracker.SERVER.getTransactionPool();
+        final NeighborNotificationQueue neighborNotifications = PhaseTracker.SERVER.getNeighborNotificationQueue();
+        builder.add("tracker", JSONUtil.objectBuilder()
+                .add("effectnodes", JSONUtil.arrayOf(effectNodePool.getCreated(), effectNodePool.getReused(), effectNodePool.getPooled()))
+                .add("transactions", JSONUtil.arrayOf(transactionPool.getCreated(), transactionPool.getReused(), transactionPool.getPooled()))
+                .add("neighbornotifications", JSONUtil.arrayOf(neighborNotifications.getDeferred(), neighborNotifications.getCoalesced()))
+                .add("contexts", JSONUtil.mapArrayToObject(PhaseTracker.SERVER.getContextPools(), (pool) -> {
+                    return JSONUtil.singleObjectPair(pool.getState().toString(),
+                            JSONUtil.arrayOf(pool.getHits(), pool.getMisses(), pool.getOverflows(), pool.getPooled()));
+                })));
+
         Set<BlockEntityType> blockEntityTypeSet = Sets.newHashSet();
         Set<EntityType<?>> entityTypeSet = Sets.newHashSet();
 
@@ -162,20 +199,25 @@ static void reportTimings() {
         entityTypeSet.addAll(history[i].entityTypeSet);
 
         JsonObjectBuilder handlersBuilder = JSONUtil.objectBuilder();
-        for (TimingIdentifier.TimingGroup group : TimingIdentifier.GROUP_MAP.values()) {
-            for (TimingHandler id : group.handlers) {
-                if (!id.timed && !id.isSpecial()) {
-                    continue;
+        final JsonObject groups;
+        // Async handlers, along with their groups, are created on first use by any thread while holding the timing map
+        synchronized (TimingsManager.TIMING_MAP) {
+            for (TimingIdentifier.TimingGroup group : TimingIdentifier.GROUP_MAP.values()) {
+                for (TimingHandler id : group.handlers) {
+                    if (!id.timed && !id.isSpecial()) {
+                        continue;
+                    }
+                    handlersBuilder.add(id.id, JSONUtil.arrayOf(
+                            group.id,
+                            id.name));
                 }
-                handlersBuilder.add(id.id, JSONUtil.arrayOf(
-                        group.id,
-                        id.name));
             }
+            groups = JSONUtil.mapArrayToObject(TimingIdentifier.GROUP_MAP.values(), (group) ->
+                    JSONUtil.singleObjectPair(group.id, group.name));
         }
 
         builder.add("idmap", JSONUtil.objectBuilder()
-                .add("groups", JSONUtil.mapArrayToObject(TimingIdentifier.GROUP_MAP.values(), (group) ->
-                        JSONUtil.singleObjectPair(group.id, group.name)))
+                .add("groups", groups)
                 .add("handlers", handlersBuilder)
                 .add("worlds", JSONUtil.mapArrayToObject(TimingHistory.worldMap.entrySet(), (entry) ->
                         JSONUtil.singleObjectPair(entry.getValue(), entry.getKey())))
@@ -210,7 +252,7 @@ static void reportTimings() {
         builder.add("config", JSONUtil.objectBuilder()
                 .add("sponge", TimingsExport.serializeConfigNode(SpongeConfigs.getCommon().getNode())));
 
-        new TimingsExport(listeners, builder.build(), history).start();
+        new TimingsExport(listeners, builder.build(), history, upload).start();
     }
 
     static long getCost() {
@@ -293,6 +335,11 @@ public synchronized void start() {
     public void run() {
         this.out.add("data", JSONUtil.mapArray(this.history, TimingHistory::export));
 
+        if (!this.upload) {
+            this.export();
+            return;
+        }
+
         String response = null;
         String timingsURL = null;
         try {
@@ -349,6 +396,54 @@ public void run() {
         }
     }
 
+    /**
+     * Writes the report to the export directory as JSON with sorted keys, so
+     * reports can be diffed, alongside a static HTML viewer that embeds it.
+     */
+    private void export() {
+        String fileName = null;
+        try {
+            final Path directory = SpongeCommon.getGameDirectory().resolve(TimingsManager.exportDirectory);
+            Files.createDirectories(directory);
+            final String baseName = "timings-" + TimingsExport.EXPORT_FILE_FORMAT.format(LocalDateTime.now());
+            final Path jsonFile = directory.resolve(baseName + ".json");
+            final Path htmlFile = directory.resolve(baseName + ".html");
+
+            final String json = JSONUtil.toSortedString(this.out);
+            Files.write(jsonFile, json.getBytes(StandardCharsets.UTF_8));
+            // The report is embedded in a script element, which must not be closed early by any of its strings
+            final String viewer = TimingsExport.readViewerTemplate().replace(TimingsExport.VIEWER_PLACEHOLDER, json.replace("</", "<\\/"));
+            Files.write(htmlFile, viewer.getBytes(StandardCharsets.UTF_8));
+
+            fileName = htmlFile.toAbsolutePath().toString();
+            this.listeners.send(Component.text().content("Exported Timings Report: ").color(NamedTextColor.GREEN)
+                    .append(Component.text(jsonFile.toAbsolutePath().toString()).clickEvent(ClickEvent.openFile(jsonFile.toAbsolutePath().toString())))
+                    .append(Component.text(", "))
+                    .append(Component.text(fileName).clickEvent(ClickEvent.openFile(fileName)))
+                    .build());
+        } catch (IOException ex) {
+            this.listeners.send(Component.text("Error exporting timings, check your logs for more information", NamedTextColor.RED));
+            SpongeCommon.getLogger().error("Could not export timings", ex);
+        } finally {
+            this.listeners.done(fileName);
+        }
+    }
+
+    private static String readViewerTemplate() throws IOException {
+        try (final InputStream is = TimingsExport.class.getResourceAsStream("timings-viewer.html")) {
+            if (is == null) {
+                throw new IOException("Missing the timings viewer template");
+            }
+            final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+            final byte[] b = new byte[4096];
+            int bytesRead;
+            while ((bytesRead = is.read(b)) != -1) {
+                bos.write(b, 0, bytesRead);
+            }
+            return new String(bos.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+
     private String getResponse(HttpURLConnection con) throws IOException {
         InputStream is = null;
         try {
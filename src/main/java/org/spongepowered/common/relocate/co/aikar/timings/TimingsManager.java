@@ -29,6 +29,8 @@
 import com.google.common.collect.EvictingQueue;
 import org.spongepowered.api.command.manager.CommandMapping;
 import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.event.tracking.PhaseContextPool;
+import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.relocate.co.aikar.util.LoadingMap;
 import org.spongepowered.plugin.PluginContainer;
 
@@ -39,6 +41,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 public final class TimingsManager {
 
@@ -53,6 +56,9 @@ public final class TimingsManager {
     public static final Timing PLUGIN_GROUP_HANDLER = SpongeTimingsFactory.ofSafe("Plugins");
     public static List<String> hiddenConfigs = new ArrayList<>();
     public static boolean privacy = false;
+    public static String exportDirectory = "timings";
+    public static long spikeThreshold = TimeUnit.MILLISECONDS.toNanos(500);
+    public static int spikeHistorySize = 20;
 
     static final Collection<TimingHandler> HANDLERS = new ArrayDeque<>();
     static final ArrayDeque<TimingHistory.MinuteReport> MINUTE_REPORTS = new ArrayDeque<>();
@@ -80,6 +86,7 @@ static void reset() {
     static void tick() {
         if (Timings.isTimingsEnabled()) {
             boolean violated = TimingsManager.FULL_SERVER_TICK.isViolated();
+            AsyncTimingHandler.drain();
 
             for (TimingHandler handler : TimingsManager.HANDLERS) {
                 if (handler.isSpecial()) {
@@ -125,6 +132,10 @@ static void resetTimings() {
             TimingsManager.needsFullReset = false;
             TimingsManager.needsRecheckEnabled = false;
             TimingsManager.timingStart = System.currentTimeMillis();
+            PhaseTracker.SERVER.getEffectNodePool().resetStatistics();
+            PhaseTracker.SERVER.getTransactionPool().resetStatistics();
+            PhaseTracker.SERVER.getNeighborNotificationQueue().resetStatistics();
+            PhaseTracker.SERVER.getContextPools().forEach(PhaseContextPool::resetStatistics);
         } else {
             // Soft resets only need to act on timings that have done something
             // Handlers can only be modified on main thread.
@@ -0,0 +1,299 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.relocate.co.aikar.timings;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMaps;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.event.tracking.AsyncEntitySpawnQueue;
+import org.spongepowered.common.event.tracking.IPhaseState;
+import org.spongepowered.common.event.tracking.PhaseTracker;
+import org.spongepowered.common.relocate.co.aikar.util.JSONUtil;
+import org.spongepowered.common.scheduler.AsyncTaskExecutor;
+import org.spongepowered.common.scheduler.ServerScheduler;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Records the timings of every tick that takes longer than the configured
+ * spike threshold, so a single lag spike can be diagnosed after the fact
+ * instead of disappearing into the averages of the timings history.
+ *
+ * <p>Every tick only the tick duration and the phase tracker statistics are
+ * kept. When a tick exceeds the threshold its handler tree, phase stack
+ * statistics and scheduler activity are copied into buffers that are reused
+ * between spikes, which are then serialised off the main thread to a rolling
+ * set of files in the timings export directory.</p>
+ */
+final class TimingsSpikeRecorder {
+
+    private static final int RECENT_TICKS = 100;
+    // Spikes are written one at a time, a single thread is enough
+    private static final ExecutorService WRITER = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+            .setNameFormat("Sponge-TimingsSpikeWriter")
+            .setDaemon(true)
+            .build());
+
+    // Durations of the most recent ticks, so a spike can be seen in context
+    private final long[] recentTicks = new long[TimingsSpikeRecorder.RECENT_TICKS];
+    private int recentTickIndex;
+    private long tickNumber;
+
+    // Buffers the current spike is captured into, only grown when a spike doesn't fit
+    private TimingHandler[] handlers = new TimingHandler[256];
+    private int[] handlerCounts = new int[256];
+    private long[] handlerTotals = new long[256];
+    private int handlerCount;
+    private int[] childParents = new int[512];
+    private int[] childIds = new int[512];
+    private int[] childCounts = new int[512];
+    private long[] childTotals = new long[512];
+    private int childCount;
+    private IPhaseState<?>[] phaseStates = new IPhaseState<?>[64];
+    private int[] phaseCounts = new int[64];
+    private int phaseCount;
+    private int peakPhaseDepth;
+    private int deferredTasks;
+    private long spilledTasks;
+    private int asyncRunningTasks;
+    private int asyncQueuedTasks;
+    private int asyncSpawnsQueued;
+    private long asyncSpawnsDeferred;
+    private long asyncSpawnsDropped;
+    private long spikeTick;
+    private long spikeTime;
+    private long spikeDuration;
+    private final long[] spikeRecentTicks = new long[TimingsSpikeRecorder.RECENT_TICKS];
+
+    // Set while the captured spike is being written, no other spike is captured until it's done
+    private volatile boolean writing;
+    private long skippedSpikes;
+
+    /**
+     * Records the tick that just ended, capturing it if it exceeded the spike
+     * threshold. This must be called before the handlers process the tick,
+     * while their data of the current tick is still available.
+     *
+     * @param duration The duration of the tick in nanoseconds
+     */
+    void tick(final long duration) {
+        this.recentTicks[this.recentTickIndex] = duration;
+        this.recentTickIndex = (this.recentTickIndex + 1) % TimingsSpikeRecorder.RECENT_TICKS;
+        this.tickNumber++;
+
+        final boolean recording = TimingsManager.spikeThreshold > 0;
+        if (recording && duration > TimingsManager.spikeThreshold) {
+            if (this.writing) {
+                this.skippedSpikes++;
+            } else {
+                this.capture(duration);
+                this.writing = true;
+                TimingsSpikeRecorder.WRITER.execute(this::write);
+            }
+        }
+        PhaseTracker.SERVER.resetStackStatistics();
+        PhaseTracker.SERVER.setRecordStackStatistics(recording);
+    }
+
+    /**
+     * Stops gathering the phase tracker statistics while the timings are
+     * disabled, {@link #tick(long)} is not called until they are enabled.
+     */
+    void stop() {
+        PhaseTracker.SERVER.setRecordStackStatistics(false);
+    }
+
+    private void capture(final long duration) {
+        this.spikeTick = this.tickNumber;
+        this.spikeTime = System.currentTimeMillis();
+        this.spikeDuration = duration;
+        for (int i = 0; i < TimingsSpikeRecorder.RECENT_TICKS; i++) {
+            // Oldest first
+            this.spikeRecentTicks[i] = this.recentTicks[(this.recentTickIndex + i) % TimingsSpikeRecorder.RECENT_TICKS];
+        }
+
+        this.handlerCount = 0;
+        this.childCount = 0;
+        for (final TimingHandler handler : TimingsManager.HANDLERS) {
+            if (handler.record.curTickCount == 0) {
+                continue;
+            }
+            if (this.handlerCount == this.handlers.length) {
+                final int size = this.handlerCount * 2;
+                this.handlers = Arrays.copyOf(this.handlers, size);
+                this.handlerCounts = Arrays.copyOf(this.handlerCounts, size);
+                this.handlerTotals = Arrays.copyOf(this.handlerTotals, size);
+            }
+            this.handlers[this.handlerCount] = handler;
+            this.handlerCounts[this.handlerCount] = handler.record.curTickCount;
+            this.handlerTotals[this.handlerCount] = handler.record.curTickTotal;
+            this.handlerCount++;
+
+            for (final Int2ObjectMap.Entry<TimingData> entry : Int2ObjectMaps.fastIterable(handler.children)) {
+                final TimingData child = entry.getValue();
+                if (child.curTickCount == 0) {
+                    continue;
+                }
+                if (this.childCount == this.childIds.length) {
+                    final int size = this.childCount * 2;
+                    this.childParents = Arrays.copyOf(this.childParents, size);
+                    this.childIds = Arrays.copyOf(this.childIds, size);
+                    this.childCounts = Arrays.copyOf(this.childCounts, size);
+                    this.childTotals = Arrays.copyOf(this.childTotals, size);
+                }
+                this.childParents[this.childCount] = handler.id;
+                this.childIds[this.childCount] = entry.getIntKey();
+                this.childCounts[this.childCount] = child.curTickCount;
+                this.childTotals[this.childCount] = child.curTickTotal;
+                this.childCount++;
+            }
+        }
+
+        this.phaseCount = 0;
+        this.peakPhaseDepth = PhaseTracker.SERVER.getPeakStackDepth();
+        PhaseTracker.SERVER.forEachEnteredPhase((state, count) -> {
+            if (this.phaseCount == this.phaseStates.length) {
+                this.phaseStates = Arrays.copyOf(this.phaseStates, this.phaseCount * 2);
+                this.phaseCounts = Arrays.copyOf(this.phaseCounts, this.phaseCount * 2);
+            }
+            this.phaseStates[this.phaseCount] = state;
+            this.phaseCounts[this.phaseCount] = count;
+            this.phaseCount++;
+        });
+
+        if (Sponge.isServerAvailable()) {
+            final ServerScheduler scheduler = SpongeCommon.getServerScheduler();
+            this.deferredTasks = scheduler.getDeferredCount();
+            this.spilledTasks = scheduler.getSpilledCount();
+        }
+        final AsyncTaskExecutor executor = SpongeCommon.getAsyncScheduler().getTaskExecutor();
+        this.asyncRunningTasks = executor.getRunningCount();
+        this.asyncQueuedTasks = executor.getQueuedCount();
+        final AsyncEntitySpawnQueue spawnQueue = PhaseTracker.getAsyncEntitySpawnQueue();
+        this.asyncSpawnsQueued = spawnQueue.size();
+        this.asyncSpawnsDeferred = spawnQueue.getDeferredCount();
+        this.asyncSpawnsDropped = spawnQueue.getRejectedCount();
+    }
+
+    private void write() {
+        try {
+            final Path directory = SpongeCommon.getGameDirectory().resolve(TimingsManager.exportDirectory).resolve("spikes");
+            Files.createDirectories(directory);
+            final Path file = TimingsSpikeRecorder.nextFile(directory);
+            Files.write(file, JSONUtil.toSortedString(this.export()).getBytes(StandardCharsets.UTF_8));
+            SpongeCommon.getLogger().warn("Tick {} took {}ms, its timings were written to {}", this.spikeTick,
+                    this.spikeDuration / 1000000, file.toAbsolutePath());
+        } catch (final IOException e) {
+            SpongeCommon.getLogger().error("Could not write the timings of a tick spike", e);
+        } finally {
+            this.writing = false;
+        }
+    }
+
+    /**
+     * Gets the file the next spike is written to, the first free slot of the
+     * ring or otherwise the slot that was written to the longest ago.
+     */
+    private static Path nextFile(final Path directory) throws IOException {
+        Path oldest = null;
+        FileTime oldestTime = null;
+        for (int i = 0; i < TimingsManager.spikeHistorySize; i++) {
+            final Path file = directory.resolve("spike-" + i + ".json");
+            if (!Files.exists(file)) {
+                return file;
+            }
+            final FileTime time = Files.getLastModifiedTime(file);
+            if (oldestTime == null || time.compareTo(oldestTime) < 0) {
+                oldest = file;
+                oldestTime = time;
+            }
+        }
+        return oldest == null ? directory.resolve("spike-0.json") : oldest;
+    }
+
+    private JsonObject export() {
+        final JsonArray handlers = new JsonArray();
+        for (int i = 0; i < this.handlerCount; i++) {
+            final TimingHandler handler = this.handlers[i];
+            final JsonArray children = new JsonArray();
+            for (int j = 0; j < this.childCount; j++) {
+                if (this.childParents[j] == handler.id) {
+                    children.add(JSONUtil.objectBuilder()
+                            .add("id", this.childIds[j])
+                            .add("count", this.childCounts[j])
+                            .add("total", this.childTotals[j])
+                            .build());
+                }
+            }
+            handlers.add(JSONUtil.objectBuilder()
+                    .add("id", handler.id)
+                    .add("name", handler.name)
+                    .add("count", this.handlerCounts[i])
+                    .add("total", this.handlerTotals[i])
+                    .add("children", children)
+                    .build());
+        }
+
+        final JsonObject phases = new JsonObject();
+        for (int i = 0; i < this.phaseCount; i++) {
+            phases.addProperty(String.valueOf(this.phaseStates[i]), this.phaseCounts[i]);
+        }
+
+        final JsonObject export = JSONUtil.objectBuilder()
+                .add("tick", this.spikeTick)
+                .add("time", this.spikeTime / 1000)
+                .add("duration", this.spikeDuration)
+                .add("recent", this.spikeRecentTicks)
+                .add("skipped", this.skippedSpikes)
+                .add("handlers", handlers)
+                .add("phases", JSONUtil.objectBuilder()
+                        .add("peakdepth", this.peakPhaseDepth)
+                        .add("entered", phases))
+                .add("scheduler", JSONUtil.objectBuilder()
+                        .add("deferred", this.deferredTasks)
+                        .add("spilled", this.spilledTasks)
+                        .add("asyncrunning", this.asyncRunningTasks)
+                        .add("asyncqueued", this.asyncQueuedTasks))
+                .add("asyncspawns", JSONUtil.objectBuilder()
+                        .add("queued", this.asyncSpawnsQueued)
+                        .add("deferred", this.asyncSpawnsDeferred)
+                        .add("dropped", this.asyncSpawnsDropped))
+                .build();
+        Arrays.fill(this.handlers, 0, this.handlerCount, null);
+        Arrays.fill(this.phaseStates, 0, this.phaseCount, null);
+        return export;
+    }
+}
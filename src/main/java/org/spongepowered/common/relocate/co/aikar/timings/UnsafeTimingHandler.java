@@ -24,6 +24,7 @@
  */
 package org.spongepowered.common.relocate.co.aikar.timings;
 
+import org.spongepowered.api.Sponge;
 import org.spongepowered.common.SpongeCommon;
 
 class UnsafeTimingHandler extends TimingHandler {
@@ -38,6 +39,21 @@ private static void checkThread() {
         }
     }
 
+    // Protected handlers are only ever timed on the server thread, any async use is ignored
+    @Override
+    public void startTimingIfSync() {
+        if (Sponge.isServerAvailable() && SpongeCommon.getServer().isSameThread()) {
+            super.startTimingIfSync();
+        }
+    }
+
+    @Override
+    public void stopTimingIfSync() {
+        if (Sponge.isServerAvailable() && SpongeCommon.getServer().isSameThread()) {
+            super.stopTimingIfSync();
+        }
+    }
+
     @Override
     public TimingHandler startTiming() {
         UnsafeTimingHandler.checkThread();
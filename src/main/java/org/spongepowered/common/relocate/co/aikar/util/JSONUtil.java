@@ -35,6 +35,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.TreeMap;
 import java.util.function.Function;
 
 /**
@@ -43,6 +44,7 @@
 public final class JSONUtil {
 
     static final Gson gson = new GsonBuilder().serializeNulls().create();
+    static final Gson prettyGson = new GsonBuilder().serializeNulls().setPrettyPrinting().disableHtmlEscaping().create();
 
     private JSONUtil() {
     }
@@ -121,6 +123,36 @@ public static String toString(JsonElement element) {
         return JSONUtil.gson.toJson(element);
     }
 
+    /**
+     * Pretty prints the element with the keys of every object sorted, so two
+     * reports can be compared line by line.
+     */
+    public static String toSortedString(JsonElement element) {
+        return JSONUtil.prettyGson.toJson(JSONUtil.sorted(element));
+    }
+
+    private static JsonElement sorted(JsonElement element) {
+        if (element.isJsonObject()) {
+            final JsonObject sorted = new JsonObject();
+            final Map<String, JsonElement> entries = new TreeMap<>();
+            for (Entry<String, JsonElement> entry : element.getAsJsonObject().entrySet()) {
+                entries.put(entry.getKey(), entry.getValue());
+            }
+            for (Entry<String, JsonElement> entry : entries.entrySet()) {
+                sorted.add(entry.getKey(), JSONUtil.sorted(entry.getValue()));
+            }
+            return sorted;
+        }
+        if (element.isJsonArray()) {
+            final JsonArray sorted = new JsonArray();
+            for (JsonElement child : element.getAsJsonArray()) {
+                sorted.add(JSONUtil.sorted(child));
+            }
+            return sorted;
+        }
+        return element;
+    }
+
     public static JsonElement toJsonElement(Object value) {
         return JSONUtil.gson.toJsonTree(value);
     }
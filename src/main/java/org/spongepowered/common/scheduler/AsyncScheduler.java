@@ -24,18 +24,18 @@
  */
 package org.spongepowered.common.scheduler;
 
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.apache.logging.log4j.Level;
 import org.spongepowered.api.scheduler.ScheduledTask;
-import org.spongepowered.api.util.Functional;
 import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
+import org.spongepowered.common.launch.Launch;
 import org.spongepowered.common.util.PrettyPrinter;
 
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.Condition;
@@ -48,15 +48,13 @@ public final class AsyncScheduler extends SpongeScheduler {
     private final Lock lock = new ReentrantLock();
     private final Condition condition = this.lock.newCondition();
     private final AtomicBoolean stateChanged = new AtomicBoolean(false);
-    // The dynamic thread pooling executor of asynchronous tasks.
-    private final ExecutorService executor = Executors.newCachedThreadPool(new ThreadFactoryBuilder()
-                                                                                   .setNameFormat("Sponge-AsyncScheduler-%d")
-                                                                                   .build());
+    // The executor of asynchronous tasks, bounded according to the configuration.
+    private final AsyncTaskExecutor taskExecutor = new AsyncTaskExecutor(SpongeConfigs.getCommon().get().scheduler);
+    private final ExecutorService executor = this.taskExecutor.getExecutor();
     private volatile boolean running = true;
 
     // Adjustable timeout for pending Tasks
     private long minimumTimeout = Long.MAX_VALUE;
-    private long lastProcessingTimestamp;
 
     public AsyncScheduler() {
         super("A");
@@ -68,7 +66,6 @@ public AsyncScheduler() {
     }
 
     private void mainLoop() {
-        this.lastProcessingTimestamp = System.nanoTime();
         while (this.running) {
             this.recalibrateMinimumTimeout();
             this.runTick();
@@ -78,39 +75,12 @@ private void mainLoop() {
     private void recalibrateMinimumTimeout() {
         this.lock.lock();
         try {
-            final Set<ScheduledTask> tasks = this.tasks();
-            this.minimumTimeout = Long.MAX_VALUE;
-            final long now = System.nanoTime();
-            for (final ScheduledTask tmpTask : tasks) {
-                final SpongeScheduledTask task = (SpongeScheduledTask) tmpTask;
-                if (task.state() == SpongeScheduledTask.ScheduledTaskState.EXECUTING) {
-                    // bail out for this task. We'll signal when we complete the task.
-                    continue;
-                }
-                // Recalibrate the wait delay for processing tasks before new
-                // tasks cause the scheduler to process pending tasks.
-                if (task.task.delay == 0 && task.task.interval == 0) {
-                    this.minimumTimeout = 0;
-                }
-                // The time since the task last executed or was added to the map
-                final long timeSinceLast = now - task.timestamp();
-
-                if (task.task.delay > 0 && task.state() == SpongeScheduledTask.ScheduledTaskState.WAITING) {
-                    // There is an delay and the task hasn't run yet
-                    this.minimumTimeout = Math.min(task.task.delay - timeSinceLast, this.minimumTimeout);
-                }
-                if (task.task.interval > 0 && task.state().isActive) {
-                    // The task repeats and has run after the initial delay
-                    this.minimumTimeout = Math.min(task.task.interval - timeSinceLast, this.minimumTimeout);
-                }
-                if (this.minimumTimeout <= 0) {
-                    break;
-                }
-            }
-            if (!tasks.isEmpty()) {
-                final long latency = System.nanoTime() - this.lastProcessingTimestamp;
-                this.minimumTimeout -= (latency <= 0) ? 0 : latency;
-                this.minimumTimeout = (this.minimumTimeout < 0) ? 0 : this.minimumTimeout;
+            // Both queues use real time here, the timestamps aren't overridden
+            final long next = Math.min(this.nextDueTimestamp(true), this.nextDueTimestamp(false));
+            if (next == Long.MAX_VALUE) {
+                this.minimumTimeout = Long.MAX_VALUE;
+            } else {
+                this.minimumTimeout = Math.max(0L, next - System.nanoTime());
             }
         } finally {
             this.lock.unlock();
@@ -147,11 +117,6 @@ protected void preTick() {
         }
     }
 
-    @Override
-    protected void postTick() {
-        this.lastProcessingTimestamp = System.nanoTime();
-    }
-
     @Override
     protected void finallyPostTick() {
         this.lock.unlock();
@@ -172,11 +137,45 @@ protected void onTaskCompletion(final SpongeScheduledTask task) {
 
     @Override
     protected void executeTaskRunnable(final SpongeScheduledTask task, final Runnable runnable) {
-        this.executor.submit(runnable);
+        if (!this.taskExecutor.execute(task, runnable)) {
+            SpongeCommon.getLogger().error("The async scheduler skipped the task '{}' owned by '{}' because too many tasks are waiting to run. "
+                    + "Consider raising 'scheduler.async-queue-size' or lowering the amount of blocking tasks.",
+                    task.name(), task.owner().getMetadata().getId());
+            if (task.task.interval > 0L) {
+                this.skipExecution(task);
+            } else {
+                // A one-shot task won't run again, fail its future instead
+                // of leaving it incomplete
+                task.reject(new RejectedExecutionException("The async task queue is full"));
+            }
+        }
     }
 
+    public AsyncTaskExecutor getTaskExecutor() {
+        return this.taskExecutor;
+    }
+
+    /**
+     * Runs the callable on behalf of the common plugin, within the limits of
+     * the task executor.
+     *
+     * @param callable The callable
+     * @param <T> The type of the result
+     * @return The future of the result, failed if the callable was rejected
+     */
     public <T> CompletableFuture<T> submit(final Callable<T> callable) {
-        return Functional.asyncFailableFuture(callable, this.executor);
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        final Runnable runnable = () -> {
+            try {
+                future.complete(callable.call());
+            } catch (final Throwable t) {
+                future.completeExceptionally(t);
+            }
+        };
+        if (!this.taskExecutor.execute(Launch.getInstance().getCommonPlugin().getMetadata().getId(), runnable)) {
+            future.completeExceptionally(new RejectedExecutionException("The async task queue is full"));
+        }
+        return future;
     }
 
     public void close() {
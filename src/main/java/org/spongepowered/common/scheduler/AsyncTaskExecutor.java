@@ -0,0 +1,245 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.common.applaunch.config.common.SchedulerCategory;
+import org.spongepowered.common.util.ThreadUtil;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executes the tasks of the {@link AsyncScheduler}, limiting the amount of
+ * tasks a single plugin may run at once and the amount of tasks waiting to
+ * run.
+ */
+public final class AsyncTaskExecutor {
+
+    private final SchedulerCategory.AsyncMode mode;
+    private final ExecutorService executor;
+    private final @Nullable ThreadPoolExecutor pool;
+    private final int pluginConcurrency;
+    private final int queueSize;
+
+    // Guarded by itself
+    private final Map<String, PluginTasks> pluginTasks = new HashMap<>();
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger queued = new AtomicInteger();
+
+    AsyncTaskExecutor(final SchedulerCategory config) {
+        final ThreadFactory threadFactory = new ThreadFactoryBuilder()
+            .setNameFormat("Sponge-AsyncScheduler-%d")
+            .build();
+        @Nullable ExecutorService executor = null;
+        SchedulerCategory.AsyncMode mode = config.asyncMode;
+        if (mode == SchedulerCategory.AsyncMode.VIRTUAL) {
+            executor = ThreadUtil.newVirtualThreadPerTaskExecutor();
+            if (executor == null) {
+                mode = SchedulerCategory.AsyncMode.BOUNDED;
+            }
+        }
+        if (mode == SchedulerCategory.AsyncMode.BOUNDED) {
+            final int threads = Math.max(1, config.asyncMaxThreads);
+            final ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), threadFactory);
+            pool.allowCoreThreadTimeOut(true);
+            executor = pool;
+        } else if (mode == SchedulerCategory.AsyncMode.UNBOUNDED) {
+            executor = Executors.newCachedThreadPool(threadFactory);
+        }
+        this.mode = mode;
+        this.executor = executor;
+        this.pool = executor instanceof ThreadPoolExecutor ? (ThreadPoolExecutor) executor : null;
+        this.pluginConcurrency = config.asyncPluginConcurrency;
+        this.queueSize = config.asyncQueueSize;
+    }
+
+    /**
+     * Runs the runnable of the task once its plugin is under its concurrency
+     * limit and a thread is available.
+     *
+     * @param task The task
+     * @param runnable The runnable beginning the task
+     * @return False if the task was rejected because the queue is full
+     */
+    boolean execute(final SpongeScheduledTask task, final Runnable runnable) {
+        return this.execute(task.owner().getMetadata().getId(), runnable);
+    }
+
+    /**
+     * Runs the runnable on behalf of the plugin once the plugin is under its
+     * concurrency limit and a thread is available.
+     *
+     * @param pluginId The id of the plugin the runnable is run for
+     * @param runnable The runnable
+     * @return False if the runnable was rejected because the queue is full
+     */
+    boolean execute(final String pluginId, final Runnable runnable) {
+        final PluginTasks tasks;
+        synchronized (this.pluginTasks) {
+            tasks = this.pluginTasks.computeIfAbsent(pluginId, id -> new PluginTasks(id, this.pluginTasks));
+            if (this.pluginConcurrency > 0 && tasks.running >= this.pluginConcurrency) {
+                if (this.isQueueFull()) {
+                    tasks.rejected++;
+                    return false;
+                }
+                tasks.waiting.add(runnable);
+                this.queued.incrementAndGet();
+                return true;
+            }
+            if (this.isQueueFull()) {
+                tasks.rejected++;
+                return false;
+            }
+            tasks.running++;
+        }
+        this.submit(tasks, runnable);
+        return true;
+    }
+
+    private boolean isQueueFull() {
+        return this.queueSize > 0 && this.getQueuedCount() >= this.queueSize;
+    }
+
+    private void submit(final PluginTasks tasks, final Runnable runnable) {
+        this.executor.execute(() -> {
+            this.running.incrementAndGet();
+            try {
+                runnable.run();
+            } finally {
+                this.running.decrementAndGet();
+                this.release(tasks);
+            }
+        });
+    }
+
+    private void release(final PluginTasks tasks) {
+        final @Nullable Runnable next;
+        synchronized (this.pluginTasks) {
+            next = tasks.waiting.poll();
+            if (next == null) {
+                tasks.running--;
+                return;
+            }
+            this.queued.decrementAndGet();
+        }
+        this.submit(tasks, next);
+    }
+
+    ExecutorService getExecutor() {
+        return this.executor;
+    }
+
+    public SchedulerCategory.AsyncMode getMode() {
+        return this.mode;
+    }
+
+    /**
+     * Gets the number of platform threads of the pool, or the number of
+     * running tasks if every task runs on its own virtual thread.
+     *
+     * @return The number of threads
+     */
+    public int getThreadCount() {
+        return this.pool == null ? this.running.get() : this.pool.getPoolSize();
+    }
+
+    public int getRunningCount() {
+        return this.running.get();
+    }
+
+    /**
+     * Gets the number of tasks waiting for a thread or for their plugin to be
+     * under its concurrency limit.
+     *
+     * @return The number of queued tasks
+     */
+    public int getQueuedCount() {
+        return this.queued.get() + (this.pool == null ? 0 : this.pool.getQueue().size());
+    }
+
+    public Collection<PluginTasks> getPluginTasks() {
+        synchronized (this.pluginTasks) {
+            return new ArrayList<>(this.pluginTasks.values());
+        }
+    }
+
+    public static final class PluginTasks {
+
+        private final String pluginId;
+        // The plugin tasks map of the executor
+        private final Object lock;
+        // Guarded by the lock
+        final Deque<Runnable> waiting = new ArrayDeque<>();
+        int running;
+        long rejected;
+
+        PluginTasks(final String pluginId, final Object lock) {
+            this.pluginId = pluginId;
+            this.lock = lock;
+        }
+
+        public String getPluginId() {
+            return this.pluginId;
+        }
+
+        /**
+         * Gets the number of tasks of the plugin that were submitted to the
+         * executor and haven't completed yet.
+         *
+         * @return The number of tasks
+         */
+        public int getRunningCount() {
+            synchronized (this.lock) {
+                return this.running;
+            }
+        }
+
+        public int getWaitingCount() {
+            synchronized (this.lock) {
+                return this.waiting.size();
+            }
+        }
+
+        public long getRejectedCount() {
+            synchronized (this.lock) {
+                return this.rejected;
+            }
+        }
+    }
+}
@@ -25,10 +25,14 @@
 package org.spongepowered.common.scheduler;
 
 import com.google.common.base.MoreObjects;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.scheduler.ScheduledTask;
 import org.spongepowered.api.scheduler.Task;
+import org.spongepowered.common.scheduler.metric.SchedulerMetrics;
+import org.spongepowered.common.scheduler.metric.TaskMetrics;
 
 import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * An internal representation of a {@link Task} created by a plugin.
@@ -36,15 +40,29 @@
 public final class SpongeScheduledTask implements ScheduledTask {
 
     final SpongeTask task;
+    // Orders tasks that are due at the same timestamp by submission
+    final long sequence;
     private final SpongeScheduler scheduler;
     private final UUID id;
     private final String name;
     private long timestamp;
+    // The timestamp the task is queued to start at, only modified while the
+    // task isn't in one of the queues of the scheduler
+    private long dueTimestamp;
+    private boolean dueTickBased;
+    // How late the current execution was dispatched, and when
+    private long dispatchLateness;
+    private long dispatchedAt;
+    // The future of a one-shot task submitted as a future, failed on rejection
+    @Nullable private RejectableFutureTask<?> future;
+    @Nullable private TaskMetrics metrics;
+    private int metricsGeneration = -1;
     private ScheduledTaskState state;
     private boolean isCancelled = false;
 
-    SpongeScheduledTask(SpongeScheduler scheduler, SpongeTask task, String taskName) {
+    SpongeScheduledTask(SpongeScheduler scheduler, SpongeTask task, String taskName, long sequence) {
         this.scheduler = scheduler;
+        this.sequence = sequence;
         this.id = UUID.randomUUID();
         this.name = taskName;
         this.task = task;
@@ -76,6 +94,7 @@ public boolean cancel() {
         }
         this.state = ScheduledTaskState.CANCELED;
         this.isCancelled = true;
+        this.scheduler.removeTask(this);
         return success;
     }
 
@@ -84,6 +103,23 @@ public boolean isCancelled() {
         return this.isCancelled;
     }
 
+    void setFuture(@Nullable RejectableFutureTask<?> future) {
+        this.future = future;
+    }
+
+    /**
+     * Cancels the task because the scheduler couldn't run it, failing its
+     * future so that anything waiting on it is released.
+     *
+     * @param exception The cause of the rejection
+     */
+    void reject(RejectedExecutionException exception) {
+        this.cancel();
+        if (this.future != null) {
+            this.future.reject(exception);
+        }
+    }
+
     public SpongeScheduler getScheduler() {
         return this.scheduler;
     }
@@ -110,6 +146,52 @@ long nextExecutionTimestamp() {
         return this.timestamp + this.task.delay;
     }
 
+    long dueTimestamp() {
+        return this.dueTimestamp;
+    }
+
+    boolean dueTickBased() {
+        return this.dueTickBased;
+    }
+
+    void setDue(long dueTimestamp, boolean tickBased) {
+        this.dueTimestamp = dueTimestamp;
+        this.dueTickBased = tickBased;
+    }
+
+    void setDispatched(long lateness) {
+        this.dispatchLateness = Math.max(0L, lateness);
+        this.dispatchedAt = System.nanoTime();
+    }
+
+    /**
+     * Records an execution of the task that started at the given time and
+     * just completed.
+     *
+     * @param start The {@link System#nanoTime()} the execution started at
+     * @param failed Whether the execution threw an exception
+     */
+    void recordExecution(long start, boolean failed) {
+        final long end = System.nanoTime();
+        // The delay spans the lateness of the scheduler tick and the time spent
+        // waiting for a thread or for the deferred task budget
+        final long startDelay = this.dispatchLateness + Math.max(0L, start - this.dispatchedAt);
+        this.metrics().record(startDelay, end - start, failed);
+    }
+
+    private TaskMetrics metrics() {
+        final int generation = SchedulerMetrics.getGeneration();
+        @Nullable TaskMetrics metrics = this.metrics;
+        if (metrics == null || this.metricsGeneration != generation) {
+            metrics = SchedulerMetrics.getTaskMetrics(this.task.owner().getMetadata().getId(),
+                    this.task.customName == null ? SchedulerMetrics.UNNAMED_TASK : this.task.customName,
+                    this.scheduler instanceof AsyncScheduler);
+            this.metrics = metrics;
+            this.metricsGeneration = generation;
+        }
+        return metrics;
+    }
+
     ScheduledTaskState state() {
         return this.state;
     }
@@ -36,17 +36,20 @@
 import org.spongepowered.plugin.PluginContainer;
 
 import javax.annotation.Nullable;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.NavigableSet;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.Future;
-import java.util.concurrent.FutureTask;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -55,11 +58,20 @@ public abstract class SpongeScheduler implements Scheduler {
     private static final int TICK_DURATION_MS = 50;
     static final long TICK_DURATION_NS = TimeUnit.NANOSECONDS.convert(SpongeScheduler.TICK_DURATION_MS, TimeUnit.MILLISECONDS);
 
+    private static final Comparator<SpongeScheduledTask> DUE_ORDER = Comparator.comparingLong(SpongeScheduledTask::dueTimestamp)
+            .thenComparingLong(task -> task.sequence);
+
     private final String tag;
 
-    // The simple queue of all pending (and running) ScheduledTasks
+    // All pending (and running) ScheduledTasks
     private final Map<UUID, SpongeScheduledTask> taskMap = new ConcurrentHashMap<>();
-    private long sequenceNumber = 0L;
+    // The tasks waiting to be started, ordered by the timestamp they are due at so that
+    // a tick only touches the tasks that are due. Tick based and real time timestamps
+    // aren't comparable, so each have their own queue. Repeating tasks are queued again
+    // once their execution completes.
+    private final NavigableSet<SpongeScheduledTask> tickBasedQueue = new ConcurrentSkipListSet<>(SpongeScheduler.DUE_ORDER);
+    private final NavigableSet<SpongeScheduledTask> realTimeQueue = new ConcurrentSkipListSet<>(SpongeScheduler.DUE_ORDER);
+    private final AtomicLong sequenceNumber = new AtomicLong();
 
     SpongeScheduler(final String tag) {
         this.tag = tag;
@@ -89,15 +101,52 @@ protected long timestamp(final boolean tickBased) {
     protected void addTask(final SpongeScheduledTask task) {
         task.setTimestamp(this.timestamp(task.task.tickBasedDelay));
         this.taskMap.put(task.uniqueId(), task);
+        this.enqueue(task);
     }
 
     /**
-     * Removes the task from the task map.
+     * Removes the task from the task map and the queue it is waiting in.
      *
      * @param task The task to remove
      */
-    private void removeTask(final SpongeScheduledTask task) {
+    void removeTask(final SpongeScheduledTask task) {
         this.taskMap.remove(task.uniqueId());
+        this.queue(task.dueTickBased()).remove(task);
+    }
+
+    /**
+     * Queues the task to start once its delay, or its interval if it already
+     * ran, has passed since its timestamp.
+     *
+     * @param task The task to queue
+     */
+    private void enqueue(final SpongeScheduledTask task) {
+        final long threshold;
+        final boolean tickBased;
+        if (task.state() == SpongeScheduledTask.ScheduledTaskState.WAITING) {
+            threshold = task.task.delay;
+            tickBased = task.task.tickBasedDelay;
+        } else {
+            threshold = task.task.interval;
+            tickBased = task.task.tickBasedInterval;
+        }
+        task.setDue(task.timestamp() + threshold, tickBased);
+        this.queue(tickBased).add(task);
+    }
+
+    private NavigableSet<SpongeScheduledTask> queue(final boolean tickBased) {
+        return tickBased ? this.tickBasedQueue : this.realTimeQueue;
+    }
+
+    /**
+     * Gets the earliest timestamp at which a queued task is due.
+     *
+     * @param tickBased Whether to check the tick based tasks
+     * @return The timestamp, or {@link Long#MAX_VALUE} if no task is queued
+     */
+    protected long nextDueTimestamp(final boolean tickBased) {
+        final Iterator<SpongeScheduledTask> it = this.queue(tickBased).iterator();
+        return it.hasNext() ? it.next().dueTimestamp() : Long.MAX_VALUE;
     }
 
     @Override
@@ -158,21 +207,39 @@ public SpongeTaskExecutorService createExecutor(final PluginContainer plugin) {
 
     @Override
     public SpongeScheduledTask submit(final Task task) {
+        return this.submit(task, null);
+    }
+
+    /**
+     * Submits a task whose future is failed if the task is rejected.
+     *
+     * @param task The task
+     * @param future The future run by the task, if it's a one-shot task
+     * @return The scheduled task
+     */
+    SpongeScheduledTask submit(final Task task, @Nullable final RejectableFutureTask<?> future) {
         Objects.requireNonNull(task, "task");
+        final long sequence = this.sequenceNumber.getAndIncrement();
         final SpongeScheduledTask scheduledTask = new SpongeScheduledTask(this, (SpongeTask) task,
-                task.name() + "-" + this.tag + "-#" + this.sequenceNumber++);
+                task.name() + "-" + this.tag + "-#" + sequence, sequence);
+        // Set before the task is queued, it may be rejected right away
+        scheduledTask.setFuture(future);
         this.addTask(scheduledTask);
         return scheduledTask;
     }
 
     /**
-     * Process all tasks in the map.
+     * Process all tasks that are due.
      */
     final void runTick() {
         this.preTick();
         TimingsManager.PLUGIN_SCHEDULER_HANDLER.startTimingIfSync();
         try {
-            this.taskMap.values().forEach(this::processTask);
+            // Tasks submitted while ticking wait for the next tick, like a task
+            // resubmitting itself without a delay.
+            final long sequenceLimit = this.sequenceNumber.get();
+            this.processQueue(this.tickBasedQueue, this.timestamp(true), sequenceLimit);
+            this.processQueue(this.realTimeQueue, this.timestamp(false), sequenceLimit);
             this.postTick();
         } finally {
             this.finallyPostTick();
@@ -200,53 +267,52 @@ protected void finallyPostTick() {
     }
 
     /**
-     * Processes the task.
+     * Starts the tasks of the queue that are due.
+     *
+     * @param queue The queue
+     * @param now The current timestamp on the clock of the queue
+     * @param sequenceLimit The sequence number of the first task submitted
+     *     after the tick started
+     */
+    private void processQueue(final NavigableSet<SpongeScheduledTask> queue, final long now, final long sequenceLimit) {
+        final Iterator<SpongeScheduledTask> it = queue.iterator();
+        while (it.hasNext()) {
+            final SpongeScheduledTask task = it.next();
+            if (task.dueTimestamp() > now) {
+                return;
+            }
+            // Skip new tasks, and tasks that were concurrently cancelled
+            if (task.sequence >= sequenceLimit || !queue.remove(task)) {
+                continue;
+            }
+            this.processTask(task, now);
+        }
+    }
+
+    /**
+     * Processes a task that is due and was removed from its queue.
      *
      * @param task The task to process
+     * @param now The current timestamp on the clock of the queue
      */
-    private void processTask(final SpongeScheduledTask task) {
+    private void processTask(final SpongeScheduledTask task, final long now) {
         // If the task is now slated to be cancelled, we just remove it as if it
         // no longer exists.
         if (task.state() == SpongeScheduledTask.ScheduledTaskState.CANCELED) {
             this.removeTask(task);
             return;
         }
-        // If the task is already being processed, we wait for the previous
-        // occurrence to terminate.
-        if (task.state() == SpongeScheduledTask.ScheduledTaskState.EXECUTING) {
-            return;
-        }
-        final long threshold;
-        final boolean tickBased;
-        // Figure out if we start a delayed Task after threshold ticks or, start
-        // it after the interval (interval) of the repeating task parameter.
-        if (task.state() == SpongeScheduledTask.ScheduledTaskState.WAITING) {
-            threshold = task.task.delay;
-            tickBased = task.task.tickBasedDelay;
-        } else if (task.state() == SpongeScheduledTask.ScheduledTaskState.RUNNING) {
-            threshold = task.task.interval;
-            tickBased = task.task.tickBasedInterval;
-        } else {
-            threshold = Long.MAX_VALUE;
-            tickBased = false;
-        }
-        // This moment is 'now'
-        final long now = this.timestamp(tickBased);
-        // So, if the current time minus the timestamp of the task is greater
-        // than the delay to wait before starting the task, then start the task.
-        // Repeating tasks get a reset-timestamp each time they are set RUNNING
+        task.setState(SpongeScheduledTask.ScheduledTaskState.SWITCHING);
+        task.setDispatched(now - task.dueTimestamp());
+        // It is always interval here because that's the only thing that matters
+        // at this point. Repeating tasks get a reset-timestamp each time they
+        // are started, and are queued again once they complete.
+        task.setTimestamp(this.timestamp(task.task.tickBasedInterval));
+        this.startTask(task);
         // If the task has a interval of 0 (zero) this task will not repeat, and
         // is removed after we start it.
-        if (threshold <= (now - task.timestamp())) {
-            task.setState(SpongeScheduledTask.ScheduledTaskState.SWITCHING);
-            // It is always interval here because that's the only thing that matters
-            // at this point.
-            task.setTimestamp(this.timestamp(task.task.tickBasedInterval));
-            this.startTask(task);
-            // If task is one time shot, remove it from the map.
-            if (task.task.interval == 0L) {
-                this.removeTask(task);
-            }
+        if (task.task.interval == 0L) {
+            this.removeTask(task);
         }
     }
 
@@ -256,7 +322,7 @@ private void processTask(final SpongeScheduledTask task) {
      * @param task The task to start
      */
     private void startTask(final SpongeScheduledTask task) {
-        this.executeTaskRunnable(task, () -> {
+        this.dispatchTaskRunnable(task, () -> {
             task.setState(SpongeScheduledTask.ScheduledTaskState.EXECUTING);
             try (@Nullable final PhaseContext<?> context = this.createContext(task, task.owner());
                     final Timing timings = task.task.getTimingsHandler()) {
@@ -264,16 +330,23 @@ private void startTask(final SpongeScheduledTask task) {
                 if (context != null) {
                     context.buildAndSwitch();
                 }
+                final long start = System.nanoTime();
+                boolean failed = false;
                 try {
                     SpongeCommon.setActivePlugin(task.owner());
                     task.task.consumer().accept(task);
                 } catch (final Throwable t) {
+                    failed = true;
                     SpongeCommon.getLogger().error("The Scheduler tried to run the task '{}' owned by '{}' but an error occurred.",
                             task.name(), task.owner().getMetadata().getId(), t);
                 }
+                task.recordExecution(start, failed);
             } finally {
                 if (!task.isCancelled()) {
                     task.setState(SpongeScheduledTask.ScheduledTaskState.RUNNING);
+                    if (task.task.interval > 0L) {
+                        this.enqueue(task);
+                    }
                 }
                 SpongeCommon.setActivePlugin(null);
                 this.onTaskCompletion(task);
@@ -281,6 +354,21 @@ private void startTask(final SpongeScheduledTask task) {
         });
     }
 
+    /**
+     * Skips an execution of a task that was started but whose runnable could
+     * not be executed. Repeating tasks are tried again after their interval.
+     *
+     * @param task The task
+     */
+    void skipExecution(final SpongeScheduledTask task) {
+        if (!task.isCancelled()) {
+            task.setState(SpongeScheduledTask.ScheduledTaskState.RUNNING);
+            if (task.task.interval > 0L) {
+                this.enqueue(task);
+            }
+        }
+    }
+
     @Nullable
     protected PhaseContext<?> createContext(final SpongeScheduledTask task, final PluginContainer container) {
         return null;
@@ -294,6 +382,17 @@ protected void onTaskCompletion(final SpongeScheduledTask task) {
         // no-op for sync methods.
     }
 
+    /**
+     * Hands the runnable that will begin the task over for execution. By
+     * default it is executed right away.
+     *
+     * @param task The task
+     * @param runnable The runnable to run
+     */
+    protected void dispatchTaskRunnable(final SpongeScheduledTask task, final Runnable runnable) {
+        this.executeTaskRunnable(task, runnable);
+    }
+
     /**
      * Actually run the runnable that will begin the task
      *
@@ -302,8 +401,8 @@ protected void onTaskCompletion(final SpongeScheduledTask task) {
     protected abstract void executeTaskRunnable(SpongeScheduledTask task, Runnable runnable);
 
     public <V> Future<V> execute(final Callable<V> callable) {
-        final FutureTask<V> runnable = new FutureTask<>(callable);
-        this.submit(new SpongeTaskBuilder().execute(runnable).plugin(Launch.getInstance().getCommonPlugin()).build());
+        final RejectableFutureTask<V> runnable = new RejectableFutureTask<>(callable);
+        this.submit(new SpongeTaskBuilder().execute(runnable).plugin(Launch.getInstance().getCommonPlugin()).build(), runnable);
         return runnable;
     }
 
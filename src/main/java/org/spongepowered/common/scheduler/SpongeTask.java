@@ -46,6 +46,7 @@ public final class SpongeTask implements Task {
     final long interval; // nanos
     final boolean tickBasedDelay;
     final boolean tickBasedInterval;
+    final boolean deferrable;
     @Nullable final String customName;
     private final PluginContainer owner;
     private final Consumer<ScheduledTask> consumer;
@@ -55,7 +56,7 @@ public final class SpongeTask implements Task {
 
     SpongeTask(final Consumer<ScheduledTask> task, final String name, final String customName,
                final PluginContainer pluginContainer, final long delay, final long interval,
-               final boolean tickBasedDelay, final boolean tickBasedInterval) {
+               final boolean tickBasedDelay, final boolean tickBasedInterval, final boolean deferrable) {
         this.delay = delay;
         this.interval = interval;
         this.owner = pluginContainer;
@@ -64,6 +65,17 @@ public final class SpongeTask implements Task {
         this.customName = customName;
         this.tickBasedDelay = tickBasedDelay;
         this.tickBasedInterval = tickBasedInterval;
+        this.deferrable = deferrable;
+    }
+
+    /**
+     * Gets whether the execution of this task may be deferred to a later tick
+     * when the synchronous scheduler is over its per tick budget.
+     *
+     * @return Whether the task is deferrable
+     */
+    public boolean isDeferrable() {
+        return this.deferrable;
     }
 
     @Override
@@ -98,6 +110,7 @@ public String toString() {
                 .add("delay", this.delay)
                 .add("interval", this.interval)
                 .add("owner", this.owner.getMetadata().getId())
+                .add("deferrable", this.deferrable)
                 .toString();
     }
 
@@ -259,7 +272,7 @@ public Task build() {
                 name = this.name;
             }
             return new SpongeTask(this.consumer, name, this.name, this.plugin, this.delay, this.interval,
-                    this.tickBasedDelay, this.tickBasedInterval);
+                    this.tickBasedDelay, this.tickBasedInterval, false);
         }
     }
 }
@@ -49,6 +49,7 @@ public final class SpongeTaskBuilder implements Task.Builder {
     private long interval;
     private boolean tickBasedDelay;
     private boolean tickBasedInterval;
+    private boolean deferrable;
 
     public SpongeTaskBuilder() {
     }
@@ -134,6 +135,19 @@ public Task.Builder plugin(final PluginContainer plugin) {
         return this;
     }
 
+    /**
+     * Sets whether the execution of the task may be deferred to a later tick
+     * when the synchronous scheduler has used up its per tick budget for
+     * deferrable tasks. Has no effect on asynchronous tasks.
+     *
+     * @param deferrable Whether the task is deferrable
+     * @return This builder, for chaining
+     */
+    public SpongeTaskBuilder deferrable(final boolean deferrable) {
+        this.deferrable = deferrable;
+        return this;
+    }
+
     @Override
     public Task build() {
         if (this.consumer == null) {
@@ -150,7 +164,7 @@ public Task build() {
             name = this.name;
         }
         return new SpongeTask(this.consumer, name, this.name, this.plugin, this.delay, this.interval,
-                this.tickBasedDelay, this.tickBasedInterval);
+                this.tickBasedDelay, this.tickBasedInterval, this.deferrable);
     }
 
     @Override
@@ -162,6 +176,7 @@ public Task.Builder from(final Task value) {
         this.delay = task.delay;
         this.tickBasedDelay = task.tickBasedDelay;
         this.tickBasedInterval = task.tickBasedInterval;
+        this.deferrable = task.deferrable;
         this.name = task.customName;
         return this;
     }
@@ -174,6 +189,7 @@ public Task.Builder reset() {
         this.delay = 0;
         this.tickBasedDelay = false;
         this.tickBasedInterval = false;
+        this.deferrable = false;
         this.name = null;
         return this;
     }
@@ -99,54 +99,54 @@ public TaskFuture<?> submit(final Runnable command) {
 
     @Override
     public <T> TaskFuture<T> submit(final Runnable command, @Nullable final T result) {
-        final FutureTask<T> runnable = new FutureTask<>(command, result);
+        final RejectableFutureTask<T> runnable = new RejectableFutureTask<>(command, result);
         final Task task = this.createTask(runnable)
                 .build();
-        return new SpongeScheduledFuture<>(runnable, this.submitTask(task), this.scheduler);
+        return new SpongeScheduledFuture<>(runnable, this.submitTask(task, runnable), this.scheduler);
     }
 
     @Override
     public <T> TaskFuture<T> submit(final Callable<T> command) {
-        final FutureTask<T> runnable = new FutureTask<>(command);
+        final RejectableFutureTask<T> runnable = new RejectableFutureTask<>(command);
         final Task task = this.createTask(runnable)
                 .build();
-        return new SpongeScheduledFuture<>(runnable, this.submitTask(task), this.scheduler);
+        return new SpongeScheduledFuture<>(runnable, this.submitTask(task, runnable), this.scheduler);
     }
 
     @Override
     public ScheduledTaskFuture<?> schedule(final Runnable command, final long delay, final TemporalUnit unit) {
-        final FutureTask<?> runnable = new FutureTask<>(command, null);
+        final RejectableFutureTask<?> runnable = new RejectableFutureTask<>(command, null);
         final Task task = this.createTask(runnable)
                 .delay(delay, unit)
                 .build();
-        return new SpongeScheduledFuture<>(runnable, this.submitTask(task), this.scheduler);
+        return new SpongeScheduledFuture<>(runnable, this.submitTask(task, runnable), this.scheduler);
     }
 
     @Override
     public ScheduledTaskFuture<?> schedule(final Runnable command, final long delay, final TimeUnit unit) {
-        final FutureTask<?> runnable = new FutureTask<>(command, null);
+        final RejectableFutureTask<?> runnable = new RejectableFutureTask<>(command, null);
         final Task task = this.createTask(runnable)
                 .delay(delay, unit)
                 .build();
-        return new SpongeScheduledFuture<>(runnable, this.submitTask(task), this.scheduler);
+        return new SpongeScheduledFuture<>(runnable, this.submitTask(task, runnable), this.scheduler);
     }
 
     @Override
     public <V> ScheduledTaskFuture<V> schedule(final Callable<V> callable, final long delay, final TemporalUnit unit) {
-        final FutureTask<V> runnable = new FutureTask<>(callable);
+        final RejectableFutureTask<V> runnable = new RejectableFutureTask<>(callable);
         final Task task = this.createTask(runnable)
                 .delay(delay, unit)
                 .build();
-        return new SpongeScheduledFuture<>(runnable, this.submitTask(task), this.scheduler);
+        return new SpongeScheduledFuture<>(runnable, this.submitTask(task, runnable), this.scheduler);
     }
 
     @Override
     public <V> ScheduledTaskFuture<V> schedule(final Callable<V> callable, final long delay, final TimeUnit unit) {
-        final FutureTask<V> runnable = new FutureTask<>(callable);
+        final RejectableFutureTask<V> runnable = new RejectableFutureTask<>(callable);
         final Task task = this.createTask(runnable)
                 .delay(delay, unit)
                 .build();
-        return new SpongeScheduledFuture<>(runnable, this.submitTask(task), this.scheduler);
+        return new SpongeScheduledFuture<>(runnable, this.submitTask(task, runnable), this.scheduler);
     }
 
     @Override
@@ -195,6 +195,10 @@ private SpongeScheduledTask submitTask(final Task task) {
         return this.scheduler.submit(task);
     }
 
+    private SpongeScheduledTask submitTask(final Task task, final RejectableFutureTask<?> future) {
+        return this.scheduler.submit(task, future);
+    }
+
     private static class SpongeScheduledFuture<V> implements org.spongepowered.api.scheduler.ScheduledTaskFuture<V> {
 
         private final FutureTask<V> runnable;
@@ -24,11 +24,29 @@
  */
 package org.spongepowered.common.scheduler;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.common.applaunch.config.common.SchedulerCategory;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
+import org.spongepowered.common.util.LatencyHistogram;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
 public abstract class SyncScheduler extends SpongeScheduler {
 
     // The number of ticks elapsed since this scheduler began.
     private volatile long counter = 0L;
 
+    // The deferrable tasks that are due, queued per plugin, and the plugins
+    // that have queued tasks in the order they get to run their next task.
+    private final Map<String, DeferredTasks> deferredByPlugin = new HashMap<>();
+    private final Deque<DeferredTasks> deferredRotation = new ArrayDeque<>();
+    private int deferredCount;
+    private long spilledCount;
+    private final LatencyHistogram deferredDelays = new LatencyHistogram();
+
     SyncScheduler(final String tag) {
         super(tag);
     }
@@ -51,8 +69,112 @@ protected long timestamp(final boolean tickBased) {
         return super.timestamp(false);
     }
 
+    @Override
+    protected void dispatchTaskRunnable(final SpongeScheduledTask task, final Runnable runnable) {
+        if (!this.isDeferrable(task)) {
+            super.dispatchTaskRunnable(task, runnable);
+            return;
+        }
+        final String pluginId = task.owner().getMetadata().getId();
+        @Nullable DeferredTasks tasks = this.deferredByPlugin.get(pluginId);
+        if (tasks == null) {
+            tasks = new DeferredTasks(pluginId);
+            this.deferredByPlugin.put(pluginId, tasks);
+            this.deferredRotation.add(tasks);
+        }
+        tasks.queue.add(new DeferredTask(task, runnable, System.nanoTime()));
+        this.deferredCount++;
+    }
+
+    private boolean isDeferrable(final SpongeScheduledTask task) {
+        return task.task.deferrable
+            || SpongeConfigs.getCommon().get().scheduler.deferrablePlugins.contains(task.owner().getMetadata().getId());
+    }
+
+    @Override
+    protected void postTick() {
+        if (this.deferredCount == 0) {
+            return;
+        }
+        final SchedulerCategory config = SpongeConfigs.getCommon().get().scheduler;
+        final long budget = (long) (config.deferredTaskBudget * 1_000_000L);
+        final long start = System.nanoTime();
+        long now = start;
+        // Always make progress, even if a single task takes longer than the budget
+        do {
+            final DeferredTasks tasks = this.deferredRotation.poll();
+            final DeferredTask deferred = tasks.queue.poll();
+            this.deferredCount--;
+            if (tasks.queue.isEmpty()) {
+                this.deferredByPlugin.remove(tasks.pluginId);
+            } else {
+                // Let the other plugins run a task before this one runs its next task
+                this.deferredRotation.add(tasks);
+            }
+            if (deferred.task.isCancelled()) {
+                continue;
+            }
+            this.deferredDelays.record(now - deferred.queuedAt);
+            this.executeTaskRunnable(deferred.task, deferred.runnable);
+            now = System.nanoTime();
+        } while (this.deferredCount > 0 && (budget <= 0 || now - start < budget));
+        this.spilledCount += this.deferredCount;
+    }
+
     @Override
     protected void executeTaskRunnable(final SpongeScheduledTask task, final Runnable runnable) {
         runnable.run();
     }
+
+    /**
+     * Gets the number of deferrable tasks that are due and wait for budget to
+     * run.
+     *
+     * @return The number of deferred tasks
+     */
+    public int getDeferredCount() {
+        return this.deferredCount;
+    }
+
+    /**
+     * Gets the total number of times a due deferrable task was left over at
+     * the end of a tick because the budget was exhausted.
+     *
+     * @return The number of deferrals
+     */
+    public long getSpilledCount() {
+        return this.spilledCount;
+    }
+
+    /**
+     * Gets the delays between a deferrable task being due and it being run.
+     *
+     * @return The delays
+     */
+    public LatencyHistogram getDeferredDelays() {
+        return this.deferredDelays;
+    }
+
+    private static final class DeferredTasks {
+
+        final String pluginId;
+        final Deque<DeferredTask> queue = new ArrayDeque<>();
+
+        DeferredTasks(final String pluginId) {
+            this.pluginId = pluginId;
+        }
+    }
+
+    private static final class DeferredTask {
+
+        final SpongeScheduledTask task;
+        final Runnable runnable;
+        final long queuedAt;
+
+        DeferredTask(final SpongeScheduledTask task, final Runnable runnable, final long queuedAt) {
+            this.task = task;
+            this.runnable = runnable;
+            this.queuedAt = queuedAt;
+        }
+    }
 }
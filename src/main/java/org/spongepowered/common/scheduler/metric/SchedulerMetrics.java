@@ -0,0 +1,117 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler.metric;
+
+import org.spongepowered.common.util.MetricsPeriod;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Continuous metrics of the tasks executed by the schedulers, grouped by
+ * plugin and task name. Recording is cheap enough to always be enabled.
+ */
+public final class SchedulerMetrics {
+
+    public static final String UNNAMED_TASK = "<unnamed>";
+
+    private static final MetricsPeriod PERIOD = new MetricsPeriod();
+    private static final Map<Key, TaskMetrics> TASKS = new ConcurrentHashMap<>();
+
+    /**
+     * Gets the metrics of the tasks of the plugin with the given name.
+     *
+     * @param pluginId The plugin id
+     * @param taskName The custom name of the tasks, or {@link #UNNAMED_TASK}
+     * @param async Whether the tasks run on the asynchronous scheduler
+     * @return The metrics
+     */
+    public static TaskMetrics getTaskMetrics(final String pluginId, final String taskName, final boolean async) {
+        return SchedulerMetrics.TASKS.computeIfAbsent(new Key(pluginId, taskName, async),
+            key -> new TaskMetrics(key.pluginId, key.taskName, key.async));
+    }
+
+    public static Collection<TaskMetrics> getTaskMetrics() {
+        return Collections.unmodifiableCollection(SchedulerMetrics.TASKS.values());
+    }
+
+    /**
+     * Discards all the recorded metrics.
+     */
+    public static void reset() {
+        SchedulerMetrics.TASKS.clear();
+        SchedulerMetrics.PERIOD.restart();
+    }
+
+    /**
+     * @see MetricsPeriod#getGeneration()
+     */
+    public static int getGeneration() {
+        return SchedulerMetrics.PERIOD.getGeneration();
+    }
+
+    /**
+     * @see MetricsPeriod#getElapsedSeconds()
+     */
+    public static double getElapsedSeconds() {
+        return SchedulerMetrics.PERIOD.getElapsedSeconds();
+    }
+
+    private static final class Key {
+
+        final String pluginId;
+        final String taskName;
+        final boolean async;
+
+        Key(final String pluginId, final String taskName, final boolean async) {
+            this.pluginId = pluginId;
+            this.taskName = taskName;
+            this.async = async;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key key = (Key) o;
+            return this.async == key.async && this.pluginId.equals(key.pluginId) && this.taskName.equals(key.taskName);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.pluginId, this.taskName, this.async);
+        }
+    }
+
+    private SchedulerMetrics() {
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler.metric;
+
+import org.spongepowered.common.util.LatencyHistogram;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The metrics of the executions of the tasks of a plugin sharing a name on
+ * either the synchronous or the asynchronous scheduler. Tasks without a
+ * custom name are grouped together.
+ */
+public final class TaskMetrics {
+
+    private final String pluginId;
+    private final String taskName;
+    private final boolean async;
+    private final LatencyHistogram startDelay = new LatencyHistogram();
+    private final LatencyHistogram duration = new LatencyHistogram();
+    private final LongAdder failures = new LongAdder();
+
+    TaskMetrics(final String pluginId, final String taskName, final boolean async) {
+        this.pluginId = pluginId;
+        this.taskName = taskName;
+        this.async = async;
+    }
+
+    /**
+     * Records an execution of a task.
+     *
+     * @param startDelay The nanoseconds between the task being due and its
+     *     execution starting
+     * @param duration The nanoseconds the execution took
+     * @param failed Whether the execution threw an exception
+     */
+    public void record(final long startDelay, final long duration, final boolean failed) {
+        this.startDelay.record(startDelay);
+        this.duration.record(duration);
+        if (failed) {
+            this.failures.increment();
+        }
+    }
+
+    public String getPluginId() {
+        return this.pluginId;
+    }
+
+    public String getTaskName() {
+        return this.taskName;
+    }
+
+    public boolean isAsync() {
+        return this.async;
+    }
+
+    public long getExecutions() {
+        return this.duration.getCount();
+    }
+
+    public long getFailures() {
+        return this.failures.sum();
+    }
+
+    public LatencyHistogram getStartDelay() {
+        return this.startDelay;
+    }
+
+    public LatencyHistogram getDuration() {
+        return this.duration;
+    }
+}
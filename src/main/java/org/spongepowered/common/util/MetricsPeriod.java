@@ -0,0 +1,63 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util;
+
+/**
+ * The period over which continuous metrics are recorded, which restarts every
+ * time the metrics are reset. Metrics cached outside of their registry compare
+ * the {@link #getGeneration() generation} they were created in to find out
+ * whether they were discarded by a reset.
+ */
+public final class MetricsPeriod {
+
+    private volatile long since = System.nanoTime();
+    private volatile int generation;
+
+    /**
+     * Starts a new period, making any metrics of the previous periods stale.
+     */
+    public void restart() {
+        this.generation++;
+        this.since = System.nanoTime();
+    }
+
+    /**
+     * Gets the number of times the period was restarted.
+     *
+     * @return The generation of the metrics
+     */
+    public int getGeneration() {
+        return this.generation;
+    }
+
+    /**
+     * Gets the amount of seconds since the period was last restarted.
+     *
+     * @return The seconds since the last restart
+     */
+    public double getElapsedSeconds() {
+        return Math.max(1, System.nanoTime() - this.since) / 1.0E9D;
+    }
+}
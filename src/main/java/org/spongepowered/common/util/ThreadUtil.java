@@ -25,9 +25,16 @@
 package org.spongepowered.common.util;
 
 import com.google.common.base.MoreObjects;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public final class ThreadUtil {
 
+    private static final @Nullable Method NEW_VIRTUAL_THREAD_EXECUTOR = ThreadUtil.findVirtualThreadExecutorFactory();
+
     public static String getDescription(final Thread thread) {
         return MoreObjects.toStringHelper(thread)
                 .add("class", thread.getClass())
@@ -37,6 +44,41 @@ public static String getDescription(final Thread thread) {
                 .toString();
     }
 
+    /**
+     * Gets whether the current Java runtime supports virtual threads.
+     *
+     * @return True if virtual threads are supported
+     */
+    public static boolean supportsVirtualThreads() {
+        return ThreadUtil.NEW_VIRTUAL_THREAD_EXECUTOR != null;
+    }
+
+    /**
+     * Creates an executor that starts a new virtual thread for every task,
+     * if the Java runtime supports virtual threads.
+     *
+     * @return The executor, or null if virtual threads aren't supported
+     */
+    public static @Nullable ExecutorService newVirtualThreadPerTaskExecutor() {
+        if (ThreadUtil.NEW_VIRTUAL_THREAD_EXECUTOR == null) {
+            return null;
+        }
+        try {
+            return (ExecutorService) ThreadUtil.NEW_VIRTUAL_THREAD_EXECUTOR.invoke(null);
+        } catch (final ReflectiveOperationException | RuntimeException e) {
+            // Virtual threads are a preview feature on some runtimes and may not be enabled
+            return null;
+        }
+    }
+
+    private static @Nullable Method findVirtualThreadExecutorFactory() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (final NoSuchMethodException e) {
+            return null;
+        }
+    }
+
     private ThreadUtil() {
     }
 }
@@ -0,0 +1,196 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.volume;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Walks the positions of a chunk that fall within the bounds of two
+ * {@link ChunkCursor}s, section by section, and in each section along z, then
+ * x, then y. The cursor is kept in primitives, so that visiting elements with
+ * {@link #forEachElement(VolumeStreamUtils.PositionVisitor)} allocates nothing
+ * per position, while streaming them only allocates the entry handed out.
+ *
+ * <p>Sections holding a single state are only read once, the element of every
+ * position in them is the same.</p>
+ *
+ * @param <T> The type of element
+ */
+final class ChunkSectionSpliterator<T> extends Spliterators.AbstractSpliterator<Map.Entry<BlockPos, T>> {
+
+    private final ChunkAccess chunk;
+    private final LevelChunkSection[] sections;
+    private final VolumeStreamUtils.SectionElementGetter<T> elementGetter;
+    private final Function<LevelChunkSection, @Nullable T> uniformElementGetter;
+    private final int chunkMinX;
+    private final int chunkMinZ;
+    private final int xStart;
+    private final int xEnd;
+    private final int zStart;
+    private final int zEnd;
+    private final int minSectionY;
+    private final int minYOffset;
+    private final int maxSectionY;
+    private final int maxYOffset;
+
+    // The position to visit next, relative to the current section
+    private int sectionIndex = -1;
+    private @Nullable LevelChunkSection section;
+    private @Nullable T uniformElement;
+    private int sectionY;
+    private int yStart;
+    private int yEnd;
+    private int x;
+    private int y;
+    private int z;
+
+    ChunkSectionSpliterator(
+        final ChunkAccess chunk,
+        final VolumeStreamUtils.SectionElementGetter<T> elementGetter,
+        final Function<LevelChunkSection, @Nullable T> uniformElementGetter,
+        final ChunkCursor min,
+        final ChunkCursor max
+    ) {
+        super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL);
+        this.chunk = chunk;
+        this.sections = chunk.getSections();
+        this.elementGetter = elementGetter;
+        this.uniformElementGetter = uniformElementGetter;
+        final int chunkX = chunk.getPos().x;
+        final int chunkZ = chunk.getPos().z;
+        this.chunkMinX = chunkX << 4;
+        this.chunkMinZ = chunkZ << 4;
+        this.xStart = chunkX == min.chunkX ? min.xOffset : 0;
+        this.xEnd = chunkX == max.chunkX ? max.xOffset + 1 : 16;
+        this.zStart = chunkZ == min.chunkZ ? min.zOffset : 0;
+        this.zEnd = chunkZ == max.chunkZ ? max.zOffset + 1 : 16;
+        this.minSectionY = min.ySection;
+        this.minYOffset = min.yOffset;
+        this.maxSectionY = max.ySection;
+        this.maxYOffset = max.yOffset;
+        if (this.xStart >= this.xEnd || this.zStart >= this.zEnd) {
+            this.sectionIndex = this.sections.length;
+        }
+    }
+
+    private boolean nextSection() {
+        while (++this.sectionIndex < this.sections.length) {
+            final @Nullable LevelChunkSection next = this.sections[this.sectionIndex];
+            if (next == null) {
+                continue;
+            }
+            final int bottom = next.bottomBlockY();
+            if (bottom < this.minSectionY || bottom > this.maxSectionY) {
+                continue;
+            }
+            this.section = next;
+            this.uniformElement = this.uniformElementGetter.apply(next);
+            this.sectionY = bottom;
+            this.yStart = bottom == this.minSectionY ? this.minYOffset : 0;
+            this.yEnd = bottom == this.maxSectionY ? this.maxYOffset + 1 : 16;
+            this.x = this.xStart;
+            this.y = this.yStart;
+            this.z = this.zStart;
+            return true;
+        }
+        this.section = null;
+        return false;
+    }
+
+    private T element(final LevelChunkSection section, final int x, final int y, final int z) {
+        if (this.uniformElement != null) {
+            return this.uniformElement;
+        }
+        return Objects.requireNonNull(this.elementGetter.get(this.chunk, section, x, y, z), "Element cannot be null");
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super Map.Entry<BlockPos, T>> action) {
+        if (this.section == null && !this.nextSection()) {
+            return false;
+        }
+        final LevelChunkSection section = Objects.requireNonNull(this.section);
+        final int blockX = this.chunkMinX + this.x;
+        final int blockY = this.sectionY + this.y;
+        final int blockZ = this.chunkMinZ + this.z;
+        final T element = this.element(section, blockX, blockY, blockZ);
+        if (++this.y >= this.yEnd) {
+            this.y = this.yStart;
+            if (++this.x >= this.xEnd) {
+                this.x = this.xStart;
+                if (++this.z >= this.zEnd) {
+                    this.section = null;
+                }
+            }
+        }
+        action.accept(new AbstractMap.SimpleImmutableEntry<>(new BlockPos(blockX, blockY, blockZ), element));
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(final Consumer<? super Map.Entry<BlockPos, T>> action) {
+        this.forEachElement((x, y, z, element) -> action.accept(new AbstractMap.SimpleImmutableEntry<>(new BlockPos(x, y, z), element)));
+    }
+
+    /**
+     * Visits every remaining position in order, without allocating anything
+     * per position.
+     *
+     * @param visitor The visitor
+     */
+    void forEachElement(final VolumeStreamUtils.PositionVisitor<? super T> visitor) {
+        while (this.section != null || this.nextSection()) {
+            final LevelChunkSection section = Objects.requireNonNull(this.section);
+            int x = this.x;
+            int y = this.y;
+            int z = this.z;
+            for (; z < this.zEnd; z++) {
+                final int blockZ = this.chunkMinZ + z;
+                for (; x < this.xEnd; x++) {
+                    final int blockX = this.chunkMinX + x;
+                    for (; y < this.yEnd; y++) {
+                        final int blockY = this.sectionY + y;
+                        visitor.visit(blockX, blockY, blockZ, this.element(section, blockX, blockY, blockZ));
+                    }
+                    y = this.yStart;
+                }
+                x = this.xStart;
+            }
+            this.section = null;
+        }
+    }
+
+}
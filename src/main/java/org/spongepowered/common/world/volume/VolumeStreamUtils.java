@@ -59,12 +59,12 @@
 
 import java.lang.ref.WeakReference;
 import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
 import java.util.UUID;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
@@ -73,6 +73,7 @@
 import java.util.function.Supplier;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public final class VolumeStreamUtils {
 
@@ -119,32 +120,62 @@ public static <T> Predicate<T> filterPositions(final Function<T, Vector3i> pos,
         final boolean shouldGenerate
     ) {
         final Supplier<LevelReader> readerSupplier = VolumeStreamUtils.createWeaklyReferencedSupplier(worldReader, "IWorldReader");
-        return (world, chunkPos) -> {
-            final ChunkStatus chunkStatus = shouldGenerate
-                ? ChunkStatus.FULL
-                : ChunkStatus.EMPTY;
-            final @Nullable ChunkAccess ichunk = readerSupplier.get().getChunk(chunkPos.x, chunkPos.z, chunkStatus, shouldGenerate);
-            if (shouldGenerate) {
-                Objects.requireNonNull(ichunk, "Chunk was expected to load fully and generate, but somehow got a null chunk!");
-            }
-            if (ichunk instanceof ImposterProtoChunk) {
-                return ((ImposterProtoChunk) ichunk).getWrapped();
-            }
-            return (ChunkAccess) ichunk;
-        };
+        return (world, chunkPos) -> VolumeStreamUtils.getChunk(readerSupplier.get(), chunkPos.x, chunkPos.z, shouldGenerate);
+    }
+
+    private static @Nullable ChunkAccess getChunk(final LevelReader reader, final int chunkX, final int chunkZ, final boolean shouldGenerate) {
+        final ChunkStatus chunkStatus = shouldGenerate
+            ? ChunkStatus.FULL
+            : ChunkStatus.EMPTY;
+        final @Nullable ChunkAccess ichunk = reader.getChunk(chunkX, chunkZ, chunkStatus, shouldGenerate);
+        if (shouldGenerate) {
+            Objects.requireNonNull(ichunk, "Chunk was expected to load fully and generate, but somehow got a null chunk!");
+        }
+        if (ichunk instanceof ImposterProtoChunk) {
+            return ((ImposterProtoChunk) ichunk).getWrapped();
+        }
+        return ichunk;
     }
 
     public static Function<ChunkAccess, Stream<Map.Entry<BlockPos, Biome>>> getBiomesForChunkByPos(final LevelReader reader, final Vector3i min,
         final Vector3i max
     ) {
-        return VolumeStreamUtils.getElementByPosition(VolumeStreamUtils.chunkSectionBiomeGetter().asTri(reader), min, max);
+        return VolumeStreamUtils.getElementByPosition(VolumeStreamUtils.chunkSectionBiomeGetter(reader), section -> null, min, max);
     }
 
     public static Function<ChunkAccess, Stream<Map.Entry<BlockPos, BlockState>>> getBlockStatesForSections(
         final Vector3i min,
         final Vector3i max
     ) {
-        return VolumeStreamUtils.getElementByPosition(VolumeStreamUtils.chunkSectionBlockStateGetter(), min, max);
+        return VolumeStreamUtils.getElementByPosition(
+            VolumeStreamUtils.chunkSectionBlockStateGetter(), VolumeStreamUtils::getUniformBlockState, min, max);
+    }
+
+    /**
+     * Visits the block states of every loaded chunk, or every chunk if
+     * {@code shouldGenerate} is set, between the given positions, without
+     * allocating any position or element along the way.
+     *
+     * @param reader The world to read from
+     * @param min The minimum position, inclusive
+     * @param max The maximum position, inclusive
+     * @param shouldGenerate Whether missing chunks are loaded and generated
+     * @param visitor The visitor
+     */
+    public static void forEachBlockState(final LevelReader reader, final Vector3i min, final Vector3i max, final boolean shouldGenerate,
+        final PositionVisitor<? super BlockState> visitor
+    ) {
+        final ChunkCursor minCursor = new ChunkCursor(min);
+        final ChunkCursor maxCursor = new ChunkCursor(max);
+        for (int chunkX = minCursor.chunkX; chunkX <= maxCursor.chunkX; chunkX++) {
+            for (int chunkZ = minCursor.chunkZ; chunkZ <= maxCursor.chunkZ; chunkZ++) {
+                final @Nullable ChunkAccess chunk = VolumeStreamUtils.getChunk(reader, chunkX, chunkZ, shouldGenerate);
+                if (chunk != null) {
+                    new ChunkSectionSpliterator<>(chunk, VolumeStreamUtils.chunkSectionBlockStateGetter(), VolumeStreamUtils::getUniformBlockState,
+                        minCursor, maxCursor).forEachElement(visitor);
+                }
+            }
+        }
     }
 
     public static void validateStreamArgs(final Vector3i min, final Vector3i max, final StreamOptions options) {
@@ -233,88 +264,64 @@ public static Predicate<net.minecraft.world.entity.Entity> apiToImplPredicate(fi
         return entity -> entity instanceof Entity && filter.test((Entity) entity);
     }
 
-    private interface TriFunction<A, B, C, Out> {
-        Out apply(A a, B b, C c);
-    }
+    /**
+     * Visits elements by their block position, such that the position never
+     * has to be boxed into a {@link BlockPos} or {@link Vector3i}.
+     *
+     * @param <T> The type of element
+     */
+    @FunctionalInterface
+    public interface PositionVisitor<T> {
 
-    private interface QuadFunction<A, B, C, D, Out> {
+        void visit(int x, int y, int z, T element);
+    }
 
-        Out apply(A a, B b, C c, D d);
+    @FunctionalInterface
+    interface SectionElementGetter<T> {
 
-        default TriFunction<A, B, C, Out> asTri(final D d) {
-            final Supplier<D> dSupplier = VolumeStreamUtils.createWeaklyReferencedSupplier(d, "D");
-            return (a, b, c) -> this.apply(a, b, c, dSupplier.get());
-        }
+        @Nullable T get(ChunkAccess chunk, LevelChunkSection section, int x, int y, int z);
     }
 
-    private static QuadFunction<ChunkAccess, LevelChunkSection, BlockPos, LevelReader, Biome> chunkSectionBiomeGetter() {
-        return ((chunk, chunkSection, pos, world) -> {
+    private static SectionElementGetter<Biome> chunkSectionBiomeGetter(final LevelReader reader) {
+        final Supplier<LevelReader> readerSupplier = VolumeStreamUtils.createWeaklyReferencedSupplier(reader, "LevelReader");
+        return ((chunk, chunkSection, x, y, z) -> {
             if (chunk.getBiomes() == null) {
                 if (chunk instanceof LevelChunk) {
-                    return ((LevelChunk) chunk).getLevel().getNoiseBiome(pos.getX(), pos.getY(), pos.getZ());
+                    return ((LevelChunk) chunk).getLevel().getNoiseBiome(x, y, z);
                 } else {
                     // Failover to use the World
-                    return world.getUncachedNoiseBiome(pos.getX(), pos.getY(), pos.getZ());
+                    return readerSupplier.get().getUncachedNoiseBiome(x, y, z);
                 }
             }
-            return chunk.getBiomes().getNoiseBiome(pos.getX(), pos.getY(), pos.getZ());
+            return chunk.getBiomes().getNoiseBiome(x, y, z);
         }
         );
     }
 
-    private static TriFunction<ChunkAccess, LevelChunkSection, BlockPos, BlockState> chunkSectionBlockStateGetter() {
-        return ((chunk, chunkSection, pos) -> chunkSection.getBlockState(
-            pos.getX() - (chunk.getPos().x << 4),
-            pos.getY() & 15,
-            pos.getZ() - (chunk.getPos().z << 4)));
+    private static SectionElementGetter<BlockState> chunkSectionBlockStateGetter() {
+        return ((chunk, chunkSection, x, y, z) -> chunkSection.getBlockState(x & 15, y & 15, z & 15));
+    }
+
+    /**
+     * Gets the block state filling the entire section, if its palette does not
+     * hold any other state. Palettes may still hold states that were replaced
+     * since, so this is allowed to miss sections that are in fact uniform.
+     */
+    private static @Nullable BlockState getUniformBlockState(final LevelChunkSection section) {
+        final BlockState first = section.getBlockState(0, 0, 0);
+        return section.maybeHas(state -> state != first) ? null : first;
     }
 
     private static <T> Function<ChunkAccess, Stream<Map.Entry<BlockPos, T>>> getElementByPosition(
-        final TriFunction<ChunkAccess, LevelChunkSection, BlockPos, T> elementAccessor, final Vector3i min,
-        final Vector3i max
+        final SectionElementGetter<T> elementAccessor, final Function<LevelChunkSection, @Nullable T> uniformElementAccessor,
+        final Vector3i min, final Vector3i max
     ) {
         // Build the min and max
         final ChunkCursor minCursor = new ChunkCursor(min);
         final ChunkCursor maxCursor = new ChunkCursor(max);
 
-        return chunk -> {
-            final ChunkPos pos = chunk.getPos();
-
-            final int xStart = pos.x == minCursor.chunkX ? minCursor.xOffset : 0;
-            final int xEnd = pos.x == maxCursor.chunkX ? maxCursor.xOffset + 1 : 16; // 16 because IntStream.range is upper range exclusive
-            final int zStart = pos.z == minCursor.chunkZ ? minCursor.zOffset : 0;
-            final int zEnd = pos.z == maxCursor.chunkZ ? maxCursor.zOffset + 1 : 16; // 16 because IntStream.range is upper range exclusive
-
-            final int chunkMinX = pos.x << 4;
-            final int chunkMinZ = pos.z << 4;
-
-            return Arrays.stream(chunk.getSections())
-                .filter(Objects::nonNull)
-                .filter(chunkSection -> chunkSection.bottomBlockY() >= minCursor.ySection && chunkSection.bottomBlockY() <= maxCursor.ySection)
-                .flatMap(
-                chunkSection -> IntStream.range(zStart, zEnd)
-                    .mapToObj(z -> IntStream.range(xStart, xEnd)
-                        .mapToObj(x -> {
-                            final int sectionY = chunkSection.bottomBlockY();
-                            final int yStart = sectionY == minCursor.ySection ? minCursor.yOffset : 0;
-                            final int yEnd = sectionY == maxCursor.ySection ? maxCursor.yOffset + 1 : 16; // plus 1 because of IntStream range exclusive
-                            return IntStream.range(yStart, yEnd)
-                                .mapToObj(y ->
-                                    {
-                                        final int adjustedX = x + chunkMinX;
-                                        final int adjustedY = y + sectionY;
-                                        final int adjustedZ = z + chunkMinZ;
-
-                                        final BlockPos blockPos = new BlockPos(adjustedX, adjustedY, adjustedZ);
-                                        final T apply = Objects.requireNonNull(elementAccessor.apply(chunk, chunkSection, blockPos), "Element cannot be null");
-                                        return new AbstractMap.SimpleEntry<>(blockPos, apply);
-                                    }
-                                );
-                        }))
-                    .flatMap(Function.identity())
-                    .flatMap(Function.identity())
-            );
-        };
+        return chunk -> StreamSupport.stream(
+            new ChunkSectionSpliterator<>(chunk, elementAccessor, uniformElementAccessor, minCursor, maxCursor), false);
     }
 
     public static <R extends Volume, API, MC, Section, KeyReference> VolumeStream<R, API> generateStream(
@@ -395,7 +402,7 @@ private static <R extends Volume, API, MC, Section, KeyReference> SpongeVolumeSt
         // compared to a traditional filter operation since the identity function renders the entity completely
         // separated from the volume target in the event of transformational operations being run on the VolumeStream
         // itself.
-        final BiConsumer<Map.Entry<BlockPos, MC>, Set<KeyReference>> entryConsumer = (entry, poses) -> {
+        final BiConsumer<Map.Entry<BlockPos, MC>, Collection<KeyReference>> entryConsumer = (entry, poses) -> {
             final BlockPos pos = entry.getKey();
             final KeyReference keyRef = entityToKey.apply(pos, entry.getValue());
             poses.add(keyRef);
@@ -404,10 +411,11 @@ private static <R extends Volume, API, MC, Section, KeyReference> SpongeVolumeSt
         // The stream of filtered key references, whether they're BlockPos or UUID,
         // depending on how the stream is being constructed, (immediate loading or not)
         // the positions can be dynamically generated by a stream, or can be pre-calculated
-        // and offered as a pre-initialized collection of keys.
+        // and offered as a pre-initialized collection of keys. Every accessor hands out
+        // a single entry per position or entity, so the keys need no de-duplication.
         final Stream<KeyReference> filteredPosStream;
         if (options.loadingStyle().immediateLoading()) {
-            final Set<KeyReference> availableTileEntityPositions = new LinkedHashSet<>();
+            final List<KeyReference> availableTileEntityPositions = new ArrayList<>();
             sectionStream
                 .map(entityAccessor)
                 .forEach((map) -> map.forEach(entry -> entryConsumer.accept(entry, availableTileEntityPositions)));
@@ -418,7 +426,7 @@ private static <R extends Volume, API, MC, Section, KeyReference> SpongeVolumeSt
             // for each position, which in turn generate their filtered lists on demand.
             filteredPosStream = sectionStream
                 .flatMap(chunk -> {
-                    final Set<KeyReference> blockEntityPoses = new LinkedHashSet<>();
+                    final List<KeyReference> blockEntityPoses = new ArrayList<>();
                     entityAccessor.apply(chunk)
                         .forEach(entry -> entryConsumer.accept(entry, blockEntityPoses));
                     return blockEntityPoses.stream();
@@ -297,12 +297,12 @@ public ArchetypeVolume createArchetypeVolume(final Vector3i min, final Vector3i
         final Vector3i volMax = max.max(min);
         final SpongeArchetypeVolume volume = new SpongeArchetypeVolume(adjustedVolMin, volMax.sub(rawVolMin).add(1, 1, 1), this.registries());
 
-        this.blockStateStream(min, max, StreamOptions.lazily())
-            .apply(VolumeCollectors.of(
-                volume,
-                VolumePositionTranslators.offset(origin),
-                VolumeApplicators.applyBlocks()
-            ));
+        // Block states are copied straight out of the chunk sections, rather than
+        // creating a volume element for every single block of the region
+        VolumeStreamUtils.forEachBlockState((LevelReader) (Object) this, rawVolMin, volMax, StreamOptions.lazily().loadingStyle().generateArea(),
+            (x, y, z, blockState) -> volume.setBlock(
+                x - origin.getX(), y - origin.getY(), z - origin.getZ(), (org.spongepowered.api.block.BlockState) blockState)
+        );
 
         this.blockEntityStream(min, max, StreamOptions.lazily())
             .map((world, blockEntity, x, y, z) -> blockEntity.get().createArchetype())
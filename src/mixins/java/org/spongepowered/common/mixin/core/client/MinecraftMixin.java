@@ -49,6 +49,7 @@
 import org.spongepowered.common.bridge.client.MinecraftBridge;
 import org.spongepowered.common.client.SpongeClient;
 import org.spongepowered.common.entity.player.ClientType;
+import org.spongepowered.common.event.SpongeEventManager;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.server.BootstrapProperties;
 
@@ -98,8 +99,9 @@ public abstract class MinecraftMixin implements MinecraftBridge, SpongeClient {
     }
 
     @Inject(method = "close", at = @At(value = "INVOKE", target = "Lnet/minecraft/Util;shutdownExecutors()V"))
-    private void impl$shutdownAsyncScheduler(final CallbackInfo ci) {
+    private void impl$shutdownAsyncExecutors(final CallbackInfo ci) {
         SpongeCommon.getGame().asyncScheduler().close();
+        ((SpongeEventManager) SpongeCommon.getGame().eventManager()).shutdownAsyncExecutor();
     }
 
     @Redirect(method = "loadWorldData", at = @At(value = "INVOKE", target = "Lnet/minecraft/resources/RegistryReadOps;create(Lcom/mojang/serialization/DynamicOps;Lnet/minecraft/server/packs/resources/ResourceManager;Lnet/minecraft/core/RegistryAccess$RegistryHolder;)Lnet/minecraft/resources/RegistryReadOps;"))
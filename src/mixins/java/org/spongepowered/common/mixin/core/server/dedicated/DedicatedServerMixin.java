@@ -43,6 +43,7 @@
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.common.bridge.server.players.GameProfileCacheBridge;
+import org.spongepowered.common.event.SpongeEventManager;
 import org.spongepowered.common.mixin.core.server.MinecraftServerMixin;
 
 @Mixin(DedicatedServer.class)
@@ -66,8 +67,9 @@ private void onSave(final GameProfileCache cache) {
     }
 
     @Inject(method = "stopServer", at = @At("TAIL"))
-    private void impl$shutdownAsyncScheduler(final CallbackInfo ci) {
+    private void impl$shutdownAsyncExecutors(final CallbackInfo ci) {
         SpongeCommon.getGame().asyncScheduler().close();
+        ((SpongeEventManager) SpongeCommon.getGame().eventManager()).shutdownAsyncExecutor();
     }
 
     @Override
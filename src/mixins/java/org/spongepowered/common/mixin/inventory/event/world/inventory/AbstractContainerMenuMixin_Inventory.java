@@ -39,24 +39,31 @@
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.accessor.world.inventory.SlotAccessor;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
 import org.spongepowered.common.bridge.world.entity.player.PlayerBridge;
 import org.spongepowered.common.bridge.world.inventory.ViewableInventoryBridge;
 import org.spongepowered.common.bridge.world.inventory.container.MenuBridge;
 import org.spongepowered.common.bridge.world.inventory.InventoryMenuBridge;
 import org.spongepowered.common.bridge.world.inventory.container.TrackedContainerBridge;
 import org.spongepowered.common.bridge.world.inventory.container.TrackedInventoryBridge;
+import org.spongepowered.common.bridge.world.inventory.container.TrackedMenuContainerBridge;
+import org.spongepowered.common.bridge.world.inventory.container.TrackedSlotBridge;
 import org.spongepowered.common.event.tracking.phase.packet.PacketPhaseUtil;
 import org.spongepowered.common.inventory.adapter.InventoryAdapter;
 import org.spongepowered.common.inventory.custom.SpongeInventoryMenu;
+import org.spongepowered.common.inventory.util.ContainerUtil;
 import org.spongepowered.common.item.util.ItemStackUtil;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 
 import javax.annotation.Nullable;
 import net.minecraft.core.NonNullList;
 import net.minecraft.network.protocol.game.ClientboundContainerSetSlotPacket;
 import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.Container;
 import net.minecraft.world.entity.item.ItemEntity;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.inventory.AbstractContainerMenu;
@@ -195,6 +202,22 @@ public abstract class AbstractContainerMenuMixin_Inventory implements TrackedCon
         }
     }
 
+    @Inject(method = "addSlot", at = @At("RETURN"))
+    private void impl$trackSlotWrites(final Slot slot, final CallbackInfoReturnable<Slot> cir) {
+        ((TrackedSlotBridge) slot).bridge$setTrackingMenu(this);
+        // Double chests and custom inventories are written to through the containers they are made of
+        ContainerUtil.forEachBackingContainer(slot.container, (container, offset) -> {
+            if (container instanceof TrackedMenuContainerBridge) {
+                ((TrackedMenuContainerBridge) container).bridge$addTrackingMenu(this);
+            }
+        });
+        if (slot.container instanceof net.minecraft.world.entity.player.Inventory) {
+            // Items of players are changed in place all the time, by using or damaging them
+            this.impl$alwaysVerifiedSlots.set(slot.index);
+        }
+        this.impl$dirtySlots.set(slot.index);
+    }
+
     @Inject(method = "removed", at = @At(value = "HEAD"))
     private void onOnContainerClosed(Player player, CallbackInfo ci) {
         this.impl$setViewed(null);
@@ -426,25 +449,67 @@ public void broadcastChanges() {
 
     @Shadow public abstract NonNullList<ItemStack> shadow$getItems();
 
+    // Slots written to through their Slot or their container since the last detection, the other slots are only compared every verification interval
+    private final BitSet impl$dirtySlots = new BitSet();
+    private final BitSet impl$alwaysVerifiedSlots = new BitSet();
+    private final BitSet impl$changedSlots = new BitSet();
+    private final int impl$verificationInterval = SpongeConfigs.getCommon().get().optimizations.menuSlotVerificationInterval;
+    private int impl$ticksSinceVerification = 0;
+
+    @Override
+    public void bridge$markSlotDirty(final int index) {
+        if (index >= 0) {
+            this.impl$dirtySlots.set(index);
+        }
+    }
+
+    @Override
+    public void bridge$markContainerSlotDirty(final Container container, final int containerSlot) {
+        for (int i = 0; i < this.slots.size(); ++i) {
+            final Slot slot = this.slots.get(i);
+            final int offset = ContainerUtil.getBackingContainerOffset(slot.container, container);
+            if (offset < 0) {
+                continue;
+            }
+            final int index = ((SlotAccessor) slot).accessor$slot() - offset;
+            if (containerSlot < 0 ? index >= 0 && index < container.getContainerSize() : index == containerSlot) {
+                this.impl$dirtySlots.set(i);
+            }
+        }
+    }
+
+    private void impl$detectChange(final int index) {
+        if (!ItemStack.matches(this.lastSlots.get(index), this.slots.get(index).getItem())) {
+            this.impl$changedSlots.set(index);
+        }
+    }
+
     @Override
     public void bridge$detectAndSendChanges(final boolean captureOnly) {
         // Code-Flow changed from vanilla completely!
 
         SpongeInventoryMenu menu = ((MenuBridge)this).bridge$getMenu();
         // We first collect all differences and check if cancelled for readonly menu changes
-        List<Integer> changes = new ArrayList<>();
-
-        for (int i = 0; i < this.slots.size(); ++i) {
-            final Slot slot = this.slots.get(i);
-            final ItemStack newStack = slot.getItem();
-            ItemStack oldStack = this.lastSlots.get(i);
-            if (!ItemStack.matches(oldStack, newStack)) {
-                changes.add(i);
+        final BitSet changes = this.impl$changedSlots;
+        changes.clear();
+
+        // Every slot is compared while capturing, so that the inventory events see all changes
+        if (this.impl$verificationInterval <= 1 || ++this.impl$ticksSinceVerification >= this.impl$verificationInterval
+                || this.bridge$capturingInventory()) {
+            this.impl$ticksSinceVerification = 0;
+            for (int i = 0; i < this.slots.size(); ++i) {
+                this.impl$detectChange(i);
+            }
+        } else {
+            this.impl$dirtySlots.or(this.impl$alwaysVerifiedSlots);
+            for (int i = this.impl$dirtySlots.nextSetBit(0); i >= 0 && i < this.slots.size(); i = this.impl$dirtySlots.nextSetBit(i + 1)) {
+                this.impl$detectChange(i);
             }
         }
+        this.impl$dirtySlots.clear();
 
         // For each change
-        for (Integer i : changes) {
+        for (int i = changes.nextSetBit(0); i >= 0; i = changes.nextSetBit(i + 1)) {
             final Slot slot = this.slots.get(i);
             ItemStack newStack = slot.getItem();
             ItemStack oldStack = this.lastSlots.get(i);
@@ -454,6 +519,8 @@ public void broadcastChanges() {
                 this.lastSlots.set(i, oldStack.copy());  // revert changes
                 // Send reverted slots to clients
                 this.impl$sendSlotContents(i, oldStack);
+                // The slot still differs from what was sent, keep looking at it
+                this.impl$dirtySlots.set(i);
             } else {
                 // Capture changes for inventory events
                 this.impl$capture(i, newStack, oldStack);
@@ -461,6 +528,7 @@ public void broadcastChanges() {
                 // This flag is set only when the client sends an invalid CPacketWindowClickItem packet.
                 // We simply capture in order to send the proper changes back to client.
                 if (captureOnly) {
+                    this.impl$dirtySlots.set(i);
                     continue;
                 }
                 // Perform vanilla logic - updating inventory stack - notify listeners
@@ -507,7 +575,7 @@ public void broadcastChanges() {
         }
     }
 
-    private void impl$capture(Integer index, ItemStack itemstack, ItemStack itemstack1) {
+    private void impl$capture(final int index, final ItemStack itemstack, final ItemStack itemstack1) {
         if (this.bridge$capturingInventory()) {
             final ItemStackSnapshot originalItem = ItemStackUtil.snapshotOf(itemstack1);
             final ItemStackSnapshot newItem = ItemStackUtil.snapshotOf(itemstack);
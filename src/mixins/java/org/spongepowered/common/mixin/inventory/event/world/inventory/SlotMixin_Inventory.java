@@ -0,0 +1,73 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.inventory.event.world.inventory;
+
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import org.spongepowered.common.bridge.world.inventory.container.TrackedContainerBridge;
+import org.spongepowered.common.bridge.world.inventory.container.TrackedSlotBridge;
+
+import javax.annotation.Nullable;
+import net.minecraft.world.inventory.Slot;
+import net.minecraft.world.item.ItemStack;
+
+@Mixin(Slot.class)
+public abstract class SlotMixin_Inventory implements TrackedSlotBridge {
+
+    @Shadow public int index;
+
+    @Nullable private TrackedContainerBridge impl$trackingMenu;
+
+    @Override
+    public void bridge$setTrackingMenu(@Nullable final TrackedContainerBridge menu) {
+        this.impl$trackingMenu = menu;
+    }
+
+    private void impl$markDirty() {
+        if (this.impl$trackingMenu != null) {
+            this.impl$trackingMenu.bridge$markSlotDirty(this.index);
+        }
+    }
+
+    @Inject(method = "set", at = @At("HEAD"))
+    private void impl$markDirtyOnSet(final ItemStack stack, final CallbackInfo ci) {
+        this.impl$markDirty();
+    }
+
+    // Vanilla grows and shrinks the stack of a slot in place and then calls setChanged
+    @Inject(method = "setChanged", at = @At("HEAD"))
+    private void impl$markDirtyOnChange(final CallbackInfo ci) {
+        this.impl$markDirty();
+    }
+
+    @Inject(method = "remove", at = @At("HEAD"))
+    private void impl$markDirtyOnRemove(final int amount, final CallbackInfoReturnable<ItemStack> cir) {
+        this.impl$markDirty();
+    }
+}
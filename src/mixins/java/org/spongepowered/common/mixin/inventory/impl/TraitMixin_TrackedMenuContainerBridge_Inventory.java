@@ -0,0 +1,102 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.inventory.impl;
+
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import org.spongepowered.common.bridge.world.inventory.container.TrackedContainerBridge;
+import org.spongepowered.common.bridge.world.inventory.container.TrackedMenuContainerBridge;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import javax.annotation.Nullable;
+import net.minecraft.world.Container;
+import net.minecraft.world.SimpleContainer;
+import net.minecraft.world.entity.player.Inventory;
+import net.minecraft.world.entity.vehicle.AbstractMinecartContainer;
+import net.minecraft.world.inventory.CraftingContainer;
+import net.minecraft.world.inventory.ResultContainer;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.block.entity.AbstractFurnaceBlockEntity;
+import net.minecraft.world.level.block.entity.BrewingStandBlockEntity;
+import net.minecraft.world.level.block.entity.RandomizableContainerBlockEntity;
+
+/**
+ * Tells open menus about writes to a container that don't go through the
+ * slots of the menu, like hoppers, furnaces and plugins setting items.
+ */
+@Mixin(value = {
+        SimpleContainer.class,
+        Inventory.class,
+        // Chests, barrels, dispensers, hoppers, shulker boxes:
+        RandomizableContainerBlockEntity.class,
+        AbstractFurnaceBlockEntity.class,
+        BrewingStandBlockEntity.class,
+        AbstractMinecartContainer.class,
+        CraftingContainer.class,
+        ResultContainer.class,
+})
+public abstract class TraitMixin_TrackedMenuContainerBridge_Inventory implements TrackedMenuContainerBridge {
+
+    // Menus aren't always removed when they are no longer used, so they are weakly held
+    @Nullable private Set<TrackedContainerBridge> impl$trackingMenus;
+
+    @Override
+    public void bridge$addTrackingMenu(final TrackedContainerBridge menu) {
+        if (this.impl$trackingMenus == null) {
+            this.impl$trackingMenus = Collections.newSetFromMap(new WeakHashMap<>());
+        }
+        this.impl$trackingMenus.add(menu);
+    }
+
+    @Override
+    public void bridge$markTrackingMenusDirty(final int containerSlot) {
+        if (this.impl$trackingMenus != null) {
+            for (final TrackedContainerBridge menu : this.impl$trackingMenus) {
+                menu.bridge$markContainerSlotDirty((Container) (Object) this, containerSlot);
+            }
+        }
+    }
+
+    @Inject(method = "setItem", at = @At("HEAD"))
+    private void impl$markDirtyOnSet(final int index, final ItemStack stack, final CallbackInfo ci) {
+        this.bridge$markTrackingMenusDirty(index);
+    }
+
+    @Inject(method = "removeItem", at = @At("HEAD"))
+    private void impl$markDirtyOnRemove(final int index, final int count, final CallbackInfoReturnable<ItemStack> cir) {
+        this.bridge$markTrackingMenusDirty(index);
+    }
+
+    @Inject(method = "removeItemNoUpdate", at = @At("HEAD"))
+    private void impl$markDirtyOnRemoveNoUpdate(final int index, final CallbackInfoReturnable<ItemStack> cir) {
+        this.bridge$markTrackingMenusDirty(index);
+    }
+}
@@ -99,11 +99,11 @@
 import org.spongepowered.common.mixin.tracker.world.level.LevelMixin_Tracker;
 import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.util.PrettyPrinter;
-import org.spongepowered.common.util.VecHelper;
 import org.spongepowered.common.world.SpongeBlockChangeFlag;
 import org.spongepowered.common.world.server.SpongeLocatableBlockBuilder;
 import org.spongepowered.common.world.volume.VolumeStreamUtils;
 
+import java.lang.ref.WeakReference;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -143,6 +143,16 @@ public abstract class ServerLevelMixin_Tracker extends LevelMixin_Tracker implem
     @Shadow @Final private List<ServerPlayer> players;
     // @formatting:on
 
+    private @Nullable WeakReference<ServerLevel> tracker$selfReference;
+
+    @Override
+    public WeakReference<ServerLevel> bridge$getWeakReference() {
+        if (this.tracker$selfReference == null) {
+            this.tracker$selfReference = new WeakReference<>((ServerLevel) (Object) this);
+        }
+        return this.tracker$selfReference;
+    }
+
 
     @Inject(method = "add", at = @At("TAIL"))
     private void tracker$setEntityTrackedInWorld(final net.minecraft.world.entity.Entity entityIn, final CallbackInfo ci) {
@@ -354,7 +364,9 @@ public abstract class ServerLevelMixin_Tracker extends LevelMixin_Tracker implem
                 }
             }
         }
-        currentContext.getTransactor().logBlockEvent(state, this, pos, blockEvent);
+        if (currentContext.doesCaptureBlockChanges()) {
+            currentContext.getTransactor().logBlockEvent(state, this, pos, blockEvent);
+        }
 
         return list.add(blockEventData);
     }
@@ -572,7 +584,7 @@ public boolean destroyBlock(final BlockPos pos, final boolean doDrops, @Nullable
         builder.reset();
         builder.blockState(state)
             .world((ServerLevel) (Object) this)
-            .position(VecHelper.toVector3i(pos));
+            .position(pos);
         final LevelChunk chunk = this.shadow$getChunkAt(pos);
         if (chunk == null) {
             return builder.flag(updateFlag).build();
@@ -591,7 +603,7 @@ public boolean destroyBlock(final BlockPos pos, final boolean doDrops, @Nullable
                 // Some mods like OpenComputers assert if attempting to save robot while moving
                 try {
                     tileEntity.save(nbt);
-                    builder.addUnsafeCompound(nbt);
+                    builder.ownedCompound(nbt);
                 } catch (final Throwable t) {
                     // ignore
                 }
@@ -640,7 +652,7 @@ public boolean destroyBlock(final BlockPos pos, final boolean doDrops, @Nullable
         // and if so, log the tile entity removal (may associate with an existing transaction,
         // or create a new transaction.
         final PhaseContext<@NonNull ?> current = PhaseTracker.SERVER.getPhaseContext();
-        if (current.getTransactor().logTileRemoval(tileentity, () -> (ServerLevel) (Object) this)) {
+        if (current.doesCaptureBlockChanges() && current.getTransactor().logTileRemoval(tileentity, () -> (ServerLevel) (Object) this)) {
             final TileEntityPipeline pipeline = TileEntityPipeline.kickOff((ServerLevel) (Object) this, immutable)
                 .addEffect(RemoveTileEntityFromWorldEffect.getInstance())
                 .addEffect(RemoveTileEntityFromChunkEffect.getInstance())
@@ -663,7 +675,7 @@ public boolean destroyBlock(final BlockPos pos, final boolean doDrops, @Nullable
         // and if so, log the tile entity removal (may associate with an existing transaction,
         // or create a new transaction.
         final PhaseContext<@NonNull ?> current = PhaseTracker.SERVER.getPhaseContext();
-        if (current.doesBlockEventTracking()) {
+        if (current.doesBlockEventTracking() && current.doesCaptureBlockChanges()) {
             final BlockPos immutable = tileEntity.getBlockPos().immutable();
             if (tileEntity.getLevel() != (ServerLevel) (Object) this) {
                 tileEntity.setLevelAndPosition((ServerLevel) (Object) this, immutable);
@@ -710,7 +722,7 @@ public boolean destroyBlock(final BlockPos pos, final boolean doDrops, @Nullable
         // and if so, log the tile entity removal (may associate with an existing transaction,
         // or create a new transaction.
         final PhaseContext<@NonNull ?> current = PhaseTracker.SERVER.getPhaseContext();
-        if (current.doesBlockEventTracking()) {
+        if (current.doesBlockEventTracking() && current.doesCaptureBlockChanges()) {
             final net.minecraft.world.level.block.entity.@Nullable BlockEntity existing = this.shadow$getChunkAt(immutable).getBlockEntity(immutable);
             if (current.getTransactor().logTileReplacement(immutable, existing, proposed, () -> (ServerLevel) (Object) this)) {
                 final TileEntityPipeline pipeline = TileEntityPipeline.kickOff((ServerLevel) (Object) this, immutable)
@@ -752,6 +764,13 @@ public boolean destroyBlock(final BlockPos pos, final boolean doDrops, @Nullable
             super.shadow$neighborChanged(immutableTarget, blockIn, immutableFrom);
             return;
         }
+        // Held back until the phase completes, if it coalesces the notifications of its block changes,
+        // the target may have changed by then
+        final PhaseContext<@NonNull ?> peek = server.getPhaseContext();
+        if (peek.coalescesNeighborNotifications()
+            && server.getNeighborNotificationQueue().deferNeighbor(peek, (ServerLevel) (Object) this, immutableTarget, blockIn, immutableFrom)) {
+            return;
+        }
         // Otherwise, we continue with recording, maybe.
         final LevelChunk targetChunk = this.shadow$getChunkAt(immutableTarget);
         final BlockState targetBlockState = targetChunk.getBlockState(immutableTarget);
@@ -762,16 +781,16 @@ public boolean destroyBlock(final BlockPos pos, final boolean doDrops, @Nullable
         // Sponge End
 
         // Sponge start - prepare notification
-        final PhaseContext<@NonNull ?> peek = server.getPhaseContext();
-
         //  try { // Vanilla - We need to push the effect transactor so that it always pops
         try {
-            final Supplier<ServerLevel> worldSupplier = VolumeStreamUtils.createWeaklyReferencedSupplier((ServerLevel) (Object) this, "ServerWorld");
-            final net.minecraft.world.level.block.entity.@Nullable BlockEntity existingTile = targetChunk.getBlockEntity(
-                immutableTarget,
-                LevelChunk.EntityCreationType.CHECK
-            );
-            peek.getTransactor().logNeighborNotification(worldSupplier, immutableFrom, blockIn, immutableTarget, targetBlockState, existingTile);
+            if (peek.doesCaptureBlockChanges()) {
+                final Supplier<ServerLevel> worldSupplier = VolumeStreamUtils.createWeaklyReferencedSupplier((ServerLevel) (Object) this, "ServerWorld");
+                final net.minecraft.world.level.block.entity.@Nullable BlockEntity existingTile = targetChunk.getBlockEntity(
+                    immutableTarget,
+                    LevelChunk.EntityCreationType.CHECK
+                );
+                peek.getTransactor().logNeighborNotification(worldSupplier, immutableFrom, blockIn, immutableTarget, targetBlockState, existingTile);
+            }
 
             peek.associateNeighborStateNotifier(immutableFrom, targetBlockState.getBlock(), immutableTarget, ((ServerLevel) (Object) this), PlayerTracker.Type.NOTIFIER);
             // Sponge End
@@ -37,7 +37,6 @@
 import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
-import org.spongepowered.common.block.SpongeBlockSnapshot;
 import org.spongepowered.common.bridge.world.level.block.state.BlockStateBridge;
 import org.spongepowered.common.bridge.world.WorldBridge;
 import org.spongepowered.common.bridge.world.level.chunk.ActiveChunkReferantBridge;
@@ -49,6 +48,7 @@
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.event.tracking.TrackingUtil;
 import org.spongepowered.common.event.tracking.context.transaction.ChangeBlock;
+import org.spongepowered.common.event.tracking.context.transaction.TransactionalCaptureSupplier;
 import org.spongepowered.common.event.tracking.context.transaction.pipeline.ChunkPipeline;
 import org.spongepowered.common.event.tracking.phase.generation.ChunkLoadContext;
 import org.spongepowered.common.event.tracking.phase.generation.GenerationPhase;
@@ -56,13 +56,11 @@
 import org.spongepowered.common.world.BlockChange;
 import org.spongepowered.common.world.SpongeBlockChangeFlag;
 
-import java.lang.ref.WeakReference;
 import java.util.List;
-import java.util.Objects;
-import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import net.minecraft.core.BlockPos;
+import net.minecraft.nbt.CompoundTag;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.level.TickList;
@@ -141,33 +139,36 @@ public abstract class LevelChunkMixin_Tracker implements TrackedLevelChunkBridge
         // Sponge Start - Build out the BlockTransaction
         final PhaseContext<@NonNull ?> context = PhaseTracker.getInstance().getPhaseContext();
         final @Nullable BlockEntity existing = this.shadow$getBlockEntity(pos, LevelChunk.EntityCreationType.CHECK);
-        // Build a transaction maybe?
-        final WeakReference<ServerLevel> ref = new WeakReference<>((ServerLevel) this.level);
-        final SpongeBlockSnapshot snapshot = TrackingUtil.createPooledSnapshot(currentState, pos, flag, limit, existing,
-            () -> Objects.requireNonNull(ref.get(), "ServerWorld dereferenced"),
-            Optional::empty, Optional::empty
-        );
+        // Build a transaction maybe? Uncaptured changes can never be restored, so skip serializing the block entity.
+        // The original snapshot is only created if an event is thrown for the change
+        final boolean capturing = context.doesCaptureBlockChanges();
 
         // Pulled up from below
         final Block newBlock = newState.getBlock();
         final Block currentBlock = currentState.getBlock();
 
-        final ChangeBlock transaction = context.createTransaction(snapshot, newState, flag);
+        final ChangeBlock transaction;
+        if (capturing) {
+            final @Nullable CompoundTag tileData = existing == null ? null : TrackingUtil.saveTileData(existing);
+            transaction = context.createTransaction((ServerLevel) this.level, pos, currentState, tileData, newState, flag);
+        } else {
+            transaction = TransactionalCaptureSupplier.createUncapturedBlockChange((ServerLevel) this.level, pos, currentState, newState, flag);
+        }
 
-        snapshot.blockChange = context.associateBlockChangeWithSnapshot(
+        transaction.blockChange = context.associateBlockChangeWithSnapshot(
             newState,
             newBlock,
             currentState,
-            snapshot,
             currentBlock
         );
-        if (((BlockStateBridge) snapshot.state()).bridge$hasTileEntity()
-            && (snapshot.blockChange == BlockChange.BREAK || snapshot.blockChange == BlockChange.MODIFY)) {
+        if (((BlockStateBridge) currentState).bridge$hasTileEntity()
+            && (transaction.blockChange == BlockChange.BREAK || transaction.blockChange == BlockChange.MODIFY)) {
             transaction.queuedRemoval = existing;
         }
 
         final ChunkPipeline.Builder builder = ChunkPipeline.builder()
             .kickOff(transaction)
+            .capturing(capturing)
             .chunk((LevelChunk) (Object) this)
             .chunkSection(chunksection)
             .world((ServerLevel) this.level);
@@ -0,0 +1,106 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.holder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import org.spongepowered.api.data.Key;
+import org.spongepowered.common.data.key.TestKeys;
+
+import java.util.Arrays;
+
+public final class KeyBatchTest {
+
+    @Test
+    public void testKeepsOrder() {
+        final Key<?> first = TestKeys.stringKey("first");
+        final Key<?> second = TestKeys.stringKey("second");
+        final Key<?> third = TestKeys.stringKey("third");
+
+        final KeyBatch batch = KeyBatch.of(third, first, second);
+
+        assertEquals(3, batch.size());
+        assertSame(third, batch.key(0));
+        assertSame(first, batch.key(1));
+        assertSame(second, batch.key(2));
+        assertEquals(0, batch.indexOf(third));
+        assertEquals(1, batch.indexOf(first));
+        assertEquals(2, batch.indexOf(second));
+    }
+
+    @Test
+    public void testCollection() {
+        final Key<?> first = TestKeys.stringKey("first");
+        final Key<?> second = TestKeys.stringKey("second");
+
+        final KeyBatch batch = KeyBatch.of(Arrays.asList(second, first));
+
+        assertEquals(2, batch.size());
+        assertEquals(0, batch.indexOf(second));
+        assertEquals(1, batch.indexOf(first));
+    }
+
+    @Test
+    public void testMissingKeys() {
+        final Key<?> before = TestKeys.stringKey("before");
+        final Key<?> member = TestKeys.stringKey("member");
+        final KeyBatch batch = KeyBatch.of(member);
+        // Created after the batch, so its id lies beyond the index table
+        final Key<?> after = TestKeys.stringKey("after");
+
+        assertEquals(-1, batch.indexOf(before));
+        assertEquals(-1, batch.indexOf(after));
+        assertEquals(0, batch.indexOf(member));
+    }
+
+    @Test
+    public void testEmpty() {
+        final KeyBatch batch = KeyBatch.of();
+
+        assertEquals(0, batch.size());
+        assertEquals(-1, batch.indexOf(TestKeys.stringKey("any")));
+    }
+
+    @Test
+    public void testDuplicateKey() {
+        final Key<?> key = TestKeys.stringKey("duplicate");
+
+        assertThrows(IllegalArgumentException.class, () -> KeyBatch.of(key, TestKeys.stringKey("other"), key));
+    }
+
+    @Test
+    public void testArrayIsCopied() {
+        final Key<?> first = TestKeys.stringKey("first");
+        final Key<?>[] keys = {first};
+        final KeyBatch batch = KeyBatch.of(keys);
+
+        keys[0] = TestKeys.stringKey("replaced");
+
+        assertSame(first, batch.key(0));
+    }
+}
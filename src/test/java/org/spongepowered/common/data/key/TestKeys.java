@@ -0,0 +1,52 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.key;
+
+import org.spongepowered.api.ResourceKey;
+import org.spongepowered.api.data.value.Value;
+
+import java.lang.reflect.Proxy;
+import java.util.Comparator;
+
+/**
+ * Creates {@link SpongeKey}s without a running game, the resource key of
+ * which only supports {@link Object#toString()}.
+ */
+public final class TestKeys {
+
+    public static SpongeKey<Value<String>, String> stringKey(final String name) {
+        final ResourceKey resourceKey = (ResourceKey) Proxy.newProxyInstance(TestKeys.class.getClassLoader(),
+                new Class<?>[] {ResourceKey.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("toString")) {
+                        return "test:" + name;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        return new SpongeKey<>(resourceKey, Value.class, String.class, Comparator.<String>naturalOrder(), (a, b) -> false, () -> "");
+    }
+
+    private TestKeys() {
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.provider;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.spongepowered.api.data.DataProvider;
+import org.spongepowered.api.data.Key;
+import org.spongepowered.api.data.value.Value;
+import org.spongepowered.common.data.key.SpongeKey;
+import org.spongepowered.common.data.key.TestKeys;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public final class DataProviderLookupTest {
+
+    @Test
+    public void testRegisteredProvider() {
+        final SpongeKey<Value<String>, String> first = TestKeys.stringKey("first");
+        final SpongeKey<Value<String>, String> second = TestKeys.stringKey("second");
+        final DataProvider<Value<String>, String> firstProvider = new EmptyDataProvider<>(first);
+        final DataProvider<Value<String>, String> secondProvider = new EmptyDataProvider<>(second);
+        final Map<Key<?>, DataProvider<?, ?>> providers = new HashMap<>();
+        providers.put(first, firstProvider);
+        providers.put(second, secondProvider);
+
+        final DataProviderLookup lookup = new DataProviderLookup(providers);
+
+        assertSame(firstProvider, lookup.getProvider(first));
+        assertSame(secondProvider, lookup.getProvider(second));
+        assertEquals(2, lookup.getAllProviders().size());
+        assertTrue(lookup.getAllProviders().contains(firstProvider));
+        assertTrue(lookup.getAllProviders().contains(secondProvider));
+    }
+
+    @Test
+    public void testMissingProvider() {
+        final SpongeKey<Value<String>, String> registered = TestKeys.stringKey("registered");
+        final SpongeKey<Value<String>, String> missing = TestKeys.stringKey("missing");
+        final Map<Key<?>, DataProvider<?, ?>> providers = new HashMap<>();
+        providers.put(registered, new EmptyDataProvider<>(registered));
+
+        final DataProviderLookup lookup = new DataProviderLookup(providers);
+
+        assertSame(missing.getEmptyDataProvider(), lookup.getProvider(missing));
+    }
+
+    @Test
+    public void testKeyCreatedAfterLookup() {
+        final DataProviderLookup lookup = new DataProviderLookup(new HashMap<>());
+        // Its id lies beyond the table of the lookup
+        final SpongeKey<Value<String>, String> late = TestKeys.stringKey("late");
+
+        assertSame(late.getEmptyDataProvider(), lookup.getProvider(late));
+        assertTrue(lookup.getAllProviders().isEmpty());
+    }
+
+    @Test
+    public void testMapIsCopied() {
+        final SpongeKey<Value<String>, String> key = TestKeys.stringKey("copied");
+        final DataProvider<Value<String>, String> provider = new EmptyDataProvider<>(key);
+        final Map<Key<?>, DataProvider<?, ?>> providers = new HashMap<>();
+        providers.put(key, provider);
+        final DataProviderLookup lookup = new DataProviderLookup(providers);
+
+        providers.clear();
+
+        assertSame(provider, lookup.getProvider(key));
+        assertEquals(1, lookup.getAllProviders().size());
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.common.collect.ImmutableSet;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.api.event.Cancellable;
+import org.spongepowered.api.event.Cause;
+import org.spongepowered.api.event.CauseStackManager;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventContext;
+import org.spongepowered.api.event.Order;
+import org.spongepowered.plugin.PluginContainer;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public final class ClassEventDispatcherFactoryTest {
+
+    private static final List<String> CALLS = new ArrayList<>();
+    private static final EventType<TestEvent> EVENT_TYPE = new EventType<>(TestEvent.class);
+    private static final PluginContainer PLUGIN = ClassEventDispatcherFactoryTest.createPlugin();
+
+    private final ClassEventDispatcherFactory factory =
+            new ClassEventDispatcherFactory("org.spongepowered.common.event.dispatcher", RecordingDispatcher.class);
+    private final Set<String> untrackedPlugins = ImmutableSet.of();
+
+    @BeforeEach
+    public void clearCalls() {
+        ClassEventDispatcherFactoryTest.CALLS.clear();
+    }
+
+    private static PluginContainer createPlugin() {
+        return (PluginContainer) Proxy.newProxyInstance(ClassEventDispatcherFactoryTest.class.getClassLoader(),
+                new Class<?>[] {PluginContainer.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        case "toString":
+                            return "test";
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    private static RegisteredListener<TestEvent> listener(final String name, final Order order) {
+        return new RegisteredListener<>(ClassEventDispatcherFactoryTest.PLUGIN, ClassEventDispatcherFactoryTest.EVENT_TYPE, order,
+                event -> ClassEventDispatcherFactoryTest.CALLS.add(name + (event.isCancelled() ? ":cancelled" : "")), false);
+    }
+
+    /**
+     * Gets the recorded listener invocations without the bookkeeping calls.
+     */
+    private static List<String> handled() {
+        final List<String> handled = new ArrayList<>();
+        for (final String call : ClassEventDispatcherFactoryTest.CALLS) {
+            if (!call.startsWith("activate") && !call.equals("deactivate") && !call.startsWith("fail")) {
+                handled.add(call);
+            }
+        }
+        return handled;
+    }
+
+    private static List<RegisteredListener<?>> sorted(final RegisteredListener<?>... listeners) {
+        final List<RegisteredListener<?>> list = new ArrayList<>(Arrays.asList(listeners));
+        Collections.sort(list);
+        return list;
+    }
+
+    private RecordingDispatcher create(final List<RegisteredListener<?>> listeners, final @Nullable EventDispatcher previous)
+            throws Exception {
+        final EventDispatcher dispatcher = this.factory.create(ClassEventDispatcherFactoryTest.EVENT_TYPE, listeners,
+                this.untrackedPlugins, previous);
+        assertNotNull(dispatcher);
+        return (RecordingDispatcher) dispatcher;
+    }
+
+    @Test
+    public void testDispatchOrder() throws Exception {
+        final RegisteredListener<TestEvent> late = ClassEventDispatcherFactoryTest.listener("late", Order.LATE);
+        final RegisteredListener<TestEvent> first = ClassEventDispatcherFactoryTest.listener("first", Order.FIRST);
+        final RegisteredListener<TestEvent> default1 = ClassEventDispatcherFactoryTest.listener("default1", Order.DEFAULT);
+        final RegisteredListener<TestEvent> default2 = ClassEventDispatcherFactoryTest.listener("default2", Order.DEFAULT);
+
+        this.create(ClassEventDispatcherFactoryTest.sorted(late, default1, first, default2), null).dispatch(new TestEvent());
+
+        assertEquals(Arrays.asList("first", "default1", "default2", "late"), ClassEventDispatcherFactoryTest.handled());
+    }
+
+    @Test
+    public void testActivePluginClearedAfterEveryListener() throws Exception {
+        final RegisteredListener<TestEvent> failing = new RegisteredListener<>(ClassEventDispatcherFactoryTest.PLUGIN,
+                ClassEventDispatcherFactoryTest.EVENT_TYPE, Order.EARLY, event -> {
+                    throw new IllegalStateException();
+                }, false);
+        final RegisteredListener<TestEvent> last = ClassEventDispatcherFactoryTest.listener("last", Order.LATE);
+        final RecordingDispatcher dispatcher = this.create(ClassEventDispatcherFactoryTest.sorted(last, failing), null);
+
+        dispatcher.dispatch(new TestEvent());
+
+        assertEquals(Arrays.asList("activate0", "fail0", "deactivate", "activate1", "last", "deactivate"),
+                ClassEventDispatcherFactoryTest.CALLS);
+    }
+
+    @Test
+    public void testCancelledEventReachesLaterListeners() throws Exception {
+        final RegisteredListener<TestEvent> cancelling = new RegisteredListener<>(ClassEventDispatcherFactoryTest.PLUGIN,
+                ClassEventDispatcherFactoryTest.EVENT_TYPE, Order.FIRST, event -> event.setCancelled(true), false);
+        final RegisteredListener<TestEvent> last = ClassEventDispatcherFactoryTest.listener("last", Order.LAST);
+        final TestEvent event = new TestEvent();
+
+        this.create(ClassEventDispatcherFactoryTest.sorted(last, cancelling), null).dispatch(event);
+
+        assertTrue(event.isCancelled());
+        assertEquals(Collections.singletonList("last:cancelled"), ClassEventDispatcherFactoryTest.handled());
+    }
+
+    @Test
+    public void testRebakeReusesUnchangedDispatcher() throws Exception {
+        final RegisteredListener<TestEvent> a = ClassEventDispatcherFactoryTest.listener("a", Order.DEFAULT);
+        final RegisteredListener<TestEvent> b = ClassEventDispatcherFactoryTest.listener("b", Order.DEFAULT);
+        final RecordingDispatcher dispatcher = this.create(ClassEventDispatcherFactoryTest.sorted(a, b), null);
+
+        assertSame(dispatcher, this.create(ClassEventDispatcherFactoryTest.sorted(a, b), dispatcher));
+        final EventDispatcher reconfigured = this.factory.create(ClassEventDispatcherFactoryTest.EVENT_TYPE,
+                ClassEventDispatcherFactoryTest.sorted(a, b), new HashSet<>(), dispatcher);
+        assertNotSame(dispatcher, reconfigured);
+    }
+
+    @Test
+    public void testRebakeAfterUnregister() throws Exception {
+        final RegisteredListener<TestEvent> a = ClassEventDispatcherFactoryTest.listener("a", Order.EARLY);
+        final RegisteredListener<TestEvent> b = ClassEventDispatcherFactoryTest.listener("b", Order.DEFAULT);
+        final RegisteredListener<TestEvent> c = ClassEventDispatcherFactoryTest.listener("c", Order.LATE);
+        final RecordingDispatcher dispatcher = this.create(ClassEventDispatcherFactoryTest.sorted(a, b, c), null);
+
+        final RecordingDispatcher rebaked = this.create(ClassEventDispatcherFactoryTest.sorted(a, c), dispatcher);
+        assertNotSame(dispatcher, rebaked);
+        rebaked.dispatch(new TestEvent());
+
+        assertEquals(Arrays.asList("a", "c"), ClassEventDispatcherFactoryTest.handled());
+    }
+
+    /**
+     * Records the bookkeeping instead of touching the phase tracker, timings
+     * and the active plugin of the game.
+     */
+    public abstract static class RecordingDispatcher extends EventDispatcher {
+
+        protected RecordingDispatcher(final RegisteredListener<?>[] listeners) {
+            super(listeners);
+        }
+
+        protected static boolean allowsListenerContext() {
+            return false;
+        }
+
+        @Override
+        protected void activate(final int index) {
+            ClassEventDispatcherFactoryTest.CALLS.add("activate" + index);
+        }
+
+        @Override
+        protected void deactivate() {
+            ClassEventDispatcherFactoryTest.CALLS.add("deactivate");
+        }
+
+        @Override
+        protected CauseStackManager.@Nullable StackFrame pushFrame(final int index) {
+            return null;
+        }
+
+        @Override
+        protected long startTiming(final int index) {
+            return 0;
+        }
+
+        @Override
+        protected void stopTiming(final int index, final long start) {
+        }
+
+        @Override
+        protected void fail(final int index, final @Nullable Event event, final Throwable e) {
+            ClassEventDispatcherFactoryTest.CALLS.add("fail" + index);
+        }
+    }
+
+    public static final class TestEvent implements Event, Cancellable {
+
+        private boolean cancelled;
+
+        @Override
+        public Cause cause() {
+            return Cause.of(EventContext.empty(), ClassEventDispatcherFactoryTest.class);
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return this.cancelled;
+        }
+
+        @Override
+        public void setCancelled(final boolean cancel) {
+            this.cancelled = cancel;
+        }
+    }
+
+}
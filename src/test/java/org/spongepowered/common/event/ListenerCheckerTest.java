@@ -0,0 +1,84 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.api.event.entity.SpawnEntityEvent;
+import org.spongepowered.api.event.item.inventory.DropItemEvent;
+
+public final class ListenerCheckerTest {
+
+    private ListenerChecker checker;
+
+    @BeforeEach
+    public void createChecker() {
+        Flags.SPAWN_ENTITY_EVENT = false;
+        Flags.SPAWN_ENTITY_EVENT_CUSTOM = false;
+        Flags.DROP_ITEM_EVENT_DISPENSE = false;
+        this.checker = new ListenerChecker(Flags.class);
+    }
+
+    @Test
+    public void testAncestorsAndDescendants() {
+        this.checker.registerListenerFor(SpawnEntityEvent.Custom.class);
+
+        assertTrue(Flags.SPAWN_ENTITY_EVENT);
+        assertTrue(Flags.SPAWN_ENTITY_EVENT_CUSTOM);
+        assertFalse(Flags.DROP_ITEM_EVENT_DISPENSE);
+
+        this.checker.registerListenerFor(SpawnEntityEvent.class);
+
+        assertTrue(Flags.DROP_ITEM_EVENT_DISPENSE);
+    }
+
+    @Test
+    public void testExcludedDescendant() {
+        final Class<?>[] excluded = {DropItemEvent.Dispense.class};
+        this.checker.registerListenerFor(SpawnEntityEvent.class, excluded);
+
+        assertTrue(Flags.SPAWN_ENTITY_EVENT);
+        assertTrue(Flags.SPAWN_ENTITY_EVENT_CUSTOM);
+        assertFalse(Flags.DROP_ITEM_EVENT_DISPENSE);
+
+        this.checker.registerListenerFor(DropItemEvent.Dispense.class);
+        this.checker.unregisterListenerFor(SpawnEntityEvent.class, excluded);
+
+        assertTrue(Flags.SPAWN_ENTITY_EVENT);
+        assertFalse(Flags.SPAWN_ENTITY_EVENT_CUSTOM);
+        assertTrue(Flags.DROP_ITEM_EVENT_DISPENSE);
+    }
+
+    public static final class Flags {
+
+        public static boolean SPAWN_ENTITY_EVENT = false;
+        public static boolean SPAWN_ENTITY_EVENT_CUSTOM = false;
+        public static boolean DROP_ITEM_EVENT_DISPENSE = false;
+    }
+
+}
@@ -0,0 +1,104 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.Order;
+import org.spongepowered.api.event.entity.SpawnEntityEvent;
+import org.spongepowered.api.event.item.inventory.DropItemEvent;
+import org.spongepowered.plugin.PluginContainer;
+
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+
+public final class RegisteredListenerTest {
+
+    private static final PluginContainer PLUGIN = (PluginContainer) Proxy.newProxyInstance(RegisteredListenerTest.class.getClassLoader(),
+            new Class<?>[] {PluginContainer.class}, (proxy, method, args) -> {
+                throw new UnsupportedOperationException(method.getName());
+            });
+
+    private static RegisteredListener<SpawnEntityEvent> listener(final Class<?>[] included, final Class<?>[] excluded) {
+        return new RegisteredListener<>(RegisteredListenerTest.PLUGIN, new EventType<>(SpawnEntityEvent.class), Order.DEFAULT,
+                event -> { }, false, included, excluded);
+    }
+
+    @Test
+    public void testExactType() {
+        final RegisteredListener<SpawnEntityEvent> listener = RegisteredListenerTest.listener(new Class<?>[0], new Class<?>[0]);
+
+        assertTrue(listener.acceptsType(SpawnEntityEvent.class));
+        assertTrue(listener.acceptsType(DropItemEvent.Dispense.class));
+        assertEquals(Collections.singletonList(SpawnEntityEvent.class), listener.getListenedTypes());
+    }
+
+    @Test
+    public void testIncludedDescendant() {
+        final RegisteredListener<SpawnEntityEvent> listener = RegisteredListenerTest.listener(
+                new Class<?>[] {SpawnEntityEvent.Custom.class}, new Class<?>[0]);
+
+        assertTrue(listener.acceptsType(SpawnEntityEvent.Custom.class));
+        assertFalse(listener.acceptsType(SpawnEntityEvent.class));
+        assertFalse(listener.acceptsType(DropItemEvent.Dispense.class));
+        assertEquals(Collections.singletonList(SpawnEntityEvent.Custom.class), listener.getListenedTypes());
+    }
+
+    @Test
+    public void testIncludedAncestor() {
+        final RegisteredListener<SpawnEntityEvent> listener = RegisteredListenerTest.listener(
+                new Class<?>[] {Event.class}, new Class<?>[0]);
+
+        assertTrue(listener.acceptsType(SpawnEntityEvent.class));
+        assertTrue(listener.acceptsType(SpawnEntityEvent.Custom.class));
+        assertEquals(Collections.singletonList(SpawnEntityEvent.class), listener.getListenedTypes());
+    }
+
+    @Test
+    public void testExcludedDescendant() {
+        final RegisteredListener<SpawnEntityEvent> listener = RegisteredListenerTest.listener(
+                new Class<?>[0], new Class<?>[] {DropItemEvent.Dispense.class});
+
+        assertTrue(listener.acceptsType(SpawnEntityEvent.class));
+        assertTrue(listener.acceptsType(SpawnEntityEvent.Custom.class));
+        assertFalse(listener.acceptsType(DropItemEvent.Dispense.class));
+        assertEquals(Collections.singletonList(SpawnEntityEvent.class), listener.getListenedTypes());
+    }
+
+    @Test
+    public void testExcludedAncestor() {
+        final RegisteredListener<SpawnEntityEvent> listener = RegisteredListenerTest.listener(
+                new Class<?>[0], new Class<?>[] {Event.class});
+
+        assertFalse(listener.acceptsType(SpawnEntityEvent.class));
+        assertFalse(listener.acceptsType(SpawnEntityEvent.Custom.class));
+        assertTrue(listener.getListenedTypes().isEmpty());
+    }
+
+}
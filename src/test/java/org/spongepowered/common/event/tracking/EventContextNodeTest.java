@@ -0,0 +1,137 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.api.event.EventContextKey;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+public final class EventContextNodeTest {
+
+    private static final EventContextKey<String> FIRST = TestEventContextKeys.key("first");
+    private static final EventContextKey<String> SECOND = TestEventContextKeys.key("second");
+    private static final EventContextKey<String> THIRD = TestEventContextKeys.key("third");
+
+    private static int length(final @Nullable EventContextNode node) {
+        int length = 0;
+        for (@Nullable EventContextNode current = node; current != null; current = current.parent) {
+            length++;
+        }
+        return length;
+    }
+
+    @Test
+    public void testPutAndGet() {
+        @Nullable EventContextNode node = EventContextNode.put(null, EventContextNodeTest.FIRST, "a");
+        node = EventContextNode.put(node, EventContextNodeTest.SECOND, "b");
+        node = EventContextNode.put(node, EventContextNodeTest.FIRST, "c");
+
+        assertEquals("c", EventContextNode.get(node, EventContextNodeTest.FIRST));
+        assertEquals("b", EventContextNode.get(node, EventContextNodeTest.SECOND));
+        assertNull(EventContextNode.get(node, EventContextNodeTest.THIRD));
+        assertNull(EventContextNode.get(null, EventContextNodeTest.FIRST));
+
+        final Map<EventContextKey<?>, Object> expected = new HashMap<>();
+        expected.put(EventContextNodeTest.FIRST, "c");
+        expected.put(EventContextNodeTest.SECOND, "b");
+        assertEquals(expected, EventContextNode.toMap(node));
+    }
+
+    @Test
+    public void testRemovalHidesParentValue() {
+        final @Nullable EventContextNode parent = EventContextNode.put(null, EventContextNodeTest.FIRST, "a");
+        final @Nullable EventContextNode node = EventContextNode.put(parent, EventContextNodeTest.FIRST, null);
+
+        assertNull(EventContextNode.get(node, EventContextNodeTest.FIRST));
+        assertEquals(Collections.emptyMap(), EventContextNode.toMap(node));
+        // Nodes are never modified, the parent still holds the value
+        assertEquals("a", EventContextNode.get(parent, EventContextNodeTest.FIRST));
+    }
+
+    @Test
+    public void testContextIsCached() {
+        final EventContextNode node = EventContextNode.put(null, EventContextNodeTest.FIRST, "a");
+
+        assertSame(node.context(), node.context());
+        assertEquals(Collections.singletonMap(EventContextNodeTest.FIRST, "a"), node.context().asMap());
+    }
+
+    @Test
+    public void testLongChainsAreCompacted() {
+        final EventContextKey<?>[] keys = {EventContextNodeTest.FIRST, EventContextNodeTest.SECOND, EventContextNodeTest.THIRD};
+        final Map<EventContextKey<?>, Object> expected = new HashMap<>();
+        @Nullable EventContextNode node = null;
+        int longest = 0;
+        for (int i = 0; i < 100; i++) {
+            final EventContextKey<?> key = keys[i % keys.length];
+            // Every fifth modification removes its key again
+            final @Nullable String value = i % 5 == 4 ? null : "value" + i;
+            node = EventContextNode.put(node, key, value);
+            if (value == null) {
+                expected.remove(key);
+            } else {
+                expected.put(key, value);
+            }
+            longest = Math.max(longest, EventContextNodeTest.length(node));
+
+            assertEquals(expected, EventContextNode.toMap(node));
+            for (final EventContextKey<?> k : keys) {
+                assertEquals(expected.get(k), EventContextNode.get(node, k));
+            }
+        }
+        assertEquals(32, longest);
+    }
+
+    @Test
+    public void testCompactionKeepsOnlyPresentKeys() {
+        @Nullable EventContextNode node = EventContextNode.put(null, EventContextNodeTest.THIRD, "kept");
+        for (int i = 1; i < 32; i++) {
+            node = EventContextNode.put(node, i % 2 == 0 ? EventContextNodeTest.FIRST : EventContextNodeTest.SECOND, "value" + i);
+        }
+        final @Nullable EventContextNode full = node;
+        assertEquals(32, EventContextNodeTest.length(full));
+
+        // The 33rd modification removes a key and compacts the chain into the two remaining keys
+        node = EventContextNode.put(full, EventContextNodeTest.SECOND, null);
+
+        assertEquals(2, EventContextNodeTest.length(node));
+        assertEquals("value30", EventContextNode.get(node, EventContextNodeTest.FIRST));
+        assertNull(EventContextNode.get(node, EventContextNodeTest.SECOND));
+        assertEquals("kept", EventContextNode.get(node, EventContextNodeTest.THIRD));
+        // The chain that was compacted, which a frame may return to, is untouched
+        assertEquals(32, EventContextNodeTest.length(full));
+        assertEquals("value31", EventContextNode.get(full, EventContextNodeTest.SECOND));
+        assertTrue(EventContextNode.toMap(full).containsKey(EventContextNodeTest.SECOND));
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+public final class PhaseContextPoolTest {
+
+    private static final IPhaseState<TestContext> STATE = new IPhaseState<TestContext>() {
+        @Override
+        public TestContext createPhaseContext(final PhaseTracker tracker) {
+            return new TestContext(this, tracker);
+        }
+
+        @Override
+        public void unwind(final TestContext phaseContext) {
+        }
+    };
+
+    private final PhaseTracker tracker = new PhaseTracker();
+
+    private TestContext context() {
+        return PhaseContextPoolTest.STATE.createPhaseContext(this.tracker);
+    }
+
+    @Test
+    public void testEmptyPool() {
+        final PhaseContextPool<TestContext> pool = new PhaseContextPool<>(PhaseContextPoolTest.STATE, 4);
+
+        assertNull(pool.poll());
+        assertEquals(0, pool.getHits());
+        assertSame(PhaseContextPoolTest.STATE, pool.getState());
+    }
+
+    @Test
+    public void testReuseMostRecentlyReleased() {
+        final PhaseContextPool<TestContext> pool = new PhaseContextPool<>(PhaseContextPoolTest.STATE, 4);
+        final TestContext first = this.context();
+        final TestContext second = this.context();
+        pool.release(first);
+        pool.release(second);
+
+        assertEquals(2, pool.getPooled());
+        assertSame(second, pool.poll());
+        assertSame(first, pool.poll());
+        assertNull(pool.poll());
+        assertEquals(2, pool.getHits());
+        assertEquals(0, pool.getPooled());
+    }
+
+    @Test
+    public void testOverflow() {
+        final PhaseContextPool<TestContext> pool = new PhaseContextPool<>(PhaseContextPoolTest.STATE, 2);
+        pool.release(this.context());
+        pool.release(this.context());
+        pool.release(this.context());
+
+        assertEquals(2, pool.getPooled());
+        assertEquals(1, pool.getOverflows());
+    }
+
+    @Test
+    public void testDisabledPool() {
+        final PhaseContextPool<TestContext> pool = new PhaseContextPool<>(PhaseContextPoolTest.STATE, 0);
+        pool.release(this.context());
+
+        assertNull(pool.poll());
+        assertEquals(0, pool.getPooled());
+        assertEquals(1, pool.getOverflows());
+    }
+
+    @Test
+    public void testCounters() {
+        final PhaseContextPool<TestContext> pool = new PhaseContextPool<>(PhaseContextPoolTest.STATE, 4);
+        pool.recordMiss();
+        pool.recordMiss();
+        pool.recordHit();
+
+        assertEquals(2, pool.getMisses());
+        assertEquals(1, pool.getHits());
+
+        pool.release(this.context());
+        pool.resetStatistics();
+
+        assertEquals(0, pool.getMisses());
+        assertEquals(0, pool.getHits());
+        assertEquals(0, pool.getOverflows());
+        assertEquals(1, pool.getPooled());
+    }
+
+    private static final class TestContext extends PhaseContext<TestContext> {
+
+        TestContext(final IPhaseState<TestContext> state, final PhaseTracker tracker) {
+            super(state, tracker);
+        }
+    }
+}
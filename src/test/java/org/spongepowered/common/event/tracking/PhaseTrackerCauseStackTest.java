@@ -0,0 +1,202 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.api.event.Cause;
+import org.spongepowered.api.event.CauseStackManager;
+import org.spongepowered.api.event.EventContextKey;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+public final class PhaseTrackerCauseStackTest {
+
+    private static final EventContextKey<String> FIRST = TestEventContextKeys.key("first");
+    private static final EventContextKey<String> SECOND = TestEventContextKeys.key("second");
+
+    private final PhaseTracker tracker = new PhaseTracker();
+
+    @BeforeEach
+    public void claimTracker() throws IllegalAccessException {
+        this.tracker.setThread(Thread.currentThread());
+    }
+
+    @Test
+    public void testPushAndPopCauses() {
+        this.tracker.pushCause("first");
+        this.tracker.pushCause("second");
+
+        assertEquals("second", this.tracker.peekCause());
+        assertEquals(Arrays.asList("second", "first"), this.tracker.currentCause().all());
+
+        assertEquals("second", this.tracker.popCause());
+        assertEquals("first", this.tracker.popCause());
+        assertNull(this.tracker.peekCause());
+        assertThrows(IllegalStateException.class, this.tracker::popCause);
+    }
+
+    @Test
+    public void testDuplicateCausesArePushedOnce() {
+        this.tracker.pushCause("cause");
+        this.tracker.pushCause("cause");
+        this.tracker.pushCause("cause");
+
+        assertEquals(Collections.singletonList("cause"), this.tracker.currentCause().all());
+
+        // Each push is matched by a pop, but only the last one removes the cause
+        assertEquals("cause", this.tracker.popCause());
+        assertEquals("cause", this.tracker.popCause());
+        assertEquals("cause", this.tracker.peekCause());
+        assertEquals("cause", this.tracker.popCause());
+        assertNull(this.tracker.peekCause());
+    }
+
+    @Test
+    public void testFramePopRestoresCauses() {
+        this.tracker.pushCause("outer");
+        try (final CauseStackManager.StackFrame frame = this.tracker.pushCauseFrame()) {
+            frame.pushCause("inner");
+            frame.pushCause("innermost");
+
+            assertEquals(Arrays.asList("innermost", "inner", "outer"), frame.currentCause().all());
+        }
+
+        assertEquals(Collections.singletonList("outer"), this.tracker.currentCause().all());
+        assertEquals("outer", this.tracker.popCause());
+    }
+
+    @Test
+    public void testCausesOfParentFrameCannotBePopped() {
+        this.tracker.pushCause("outer");
+        final CauseStackManager.StackFrame frame = this.tracker.pushCauseFrame();
+
+        assertThrows(IllegalStateException.class, frame::popCause);
+
+        this.tracker.popCauseFrame(frame);
+        assertEquals("outer", this.tracker.popCause());
+    }
+
+    @Test
+    public void testNestedFramesPopInOrder() {
+        final CauseStackManager.StackFrame outer = this.tracker.pushCauseFrame();
+        outer.pushCause("outer");
+        final CauseStackManager.StackFrame inner = this.tracker.pushCauseFrame();
+        inner.pushCause("inner");
+
+        this.tracker.popCauseFrame(inner);
+        assertEquals(Collections.singletonList("outer"), this.tracker.currentCause().all());
+
+        this.tracker.popCauseFrame(outer);
+        assertNull(this.tracker.peekCause());
+        assertThrows(IllegalStateException.class, () -> this.tracker.popCauseFrame(outer));
+    }
+
+    @Test
+    public void testDuplicateInFrameDoesNotLeak() {
+        this.tracker.pushCause("cause");
+        try (final CauseStackManager.StackFrame frame = this.tracker.pushCauseFrame()) {
+            // Counted as a duplicate of the cause pushed before the frame
+            frame.pushCause("cause");
+            assertEquals(Collections.singletonList("cause"), frame.currentCause().all());
+        }
+
+        // The duplicate count is restored with the frame, so one pop removes the cause
+        assertEquals("cause", this.tracker.popCause());
+        assertNull(this.tracker.peekCause());
+    }
+
+    @Test
+    public void testDuplicateBeforeFrameIsKept() {
+        this.tracker.pushCause("cause");
+        this.tracker.pushCause("cause");
+        try (final CauseStackManager.StackFrame frame = this.tracker.pushCauseFrame()) {
+            frame.pushCause("inner");
+        }
+
+        assertEquals("cause", this.tracker.popCause());
+        assertEquals("cause", this.tracker.peekCause());
+        assertEquals("cause", this.tracker.popCause());
+        assertNull(this.tracker.peekCause());
+    }
+
+    @Test
+    public void testFramePopRestoresContext() {
+        this.tracker.addContext(PhaseTrackerCauseStackTest.FIRST, "outer");
+        try (final CauseStackManager.StackFrame frame = this.tracker.pushCauseFrame()) {
+            frame.addContext(PhaseTrackerCauseStackTest.FIRST, "inner");
+            frame.addContext(PhaseTrackerCauseStackTest.SECOND, "added");
+
+            assertEquals(Optional.of("inner"), this.tracker.context(PhaseTrackerCauseStackTest.FIRST));
+            assertEquals(Optional.of("added"), this.tracker.context(PhaseTrackerCauseStackTest.SECOND));
+        }
+
+        assertEquals(Optional.of("outer"), this.tracker.context(PhaseTrackerCauseStackTest.FIRST));
+        assertEquals(Optional.empty(), this.tracker.context(PhaseTrackerCauseStackTest.SECOND));
+        assertEquals(Collections.singletonMap(PhaseTrackerCauseStackTest.FIRST, "outer"), this.tracker.currentContext().asMap());
+    }
+
+    @Test
+    public void testFramePopRestoresRemovedContext() {
+        this.tracker.addContext(PhaseTrackerCauseStackTest.FIRST, "outer");
+        try (final CauseStackManager.StackFrame frame = this.tracker.pushCauseFrame()) {
+            assertEquals(Optional.of("outer"), frame.removeContext(PhaseTrackerCauseStackTest.FIRST));
+            assertEquals(Optional.empty(), frame.removeContext(PhaseTrackerCauseStackTest.FIRST));
+            assertFalse(this.tracker.currentContext().containsKey(PhaseTrackerCauseStackTest.FIRST));
+        }
+
+        assertEquals(Optional.of("outer"), this.tracker.context(PhaseTrackerCauseStackTest.FIRST));
+    }
+
+    @Test
+    public void testCauseIsReusedAfterFramePop() {
+        this.tracker.pushCause("cause");
+        this.tracker.addContext(PhaseTrackerCauseStackTest.FIRST, "value");
+        final Cause cause = this.tracker.currentCause();
+        assertSame(cause, this.tracker.currentCause());
+
+        try (final CauseStackManager.StackFrame frame = this.tracker.pushCauseFrame()) {
+            frame.pushCause("inner");
+            frame.addContext(PhaseTrackerCauseStackTest.SECOND, "value");
+            assertNotSame(cause, frame.currentCause());
+        }
+
+        assertSame(cause, this.tracker.currentCause());
+
+        this.tracker.addContext(PhaseTrackerCauseStackTest.SECOND, "changed");
+        final Cause changed = this.tracker.currentCause();
+        assertNotSame(cause, changed);
+        assertEquals(Optional.of("changed"), changed.context().get(PhaseTrackerCauseStackTest.SECOND));
+    }
+}
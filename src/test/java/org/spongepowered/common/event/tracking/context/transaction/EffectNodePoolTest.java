@@ -0,0 +1,106 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking.context.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+import org.spongepowered.common.event.tracking.context.transaction.effect.EffectResult;
+import org.spongepowered.common.event.tracking.context.transaction.effect.ProcessingSideEffect;
+
+public final class EffectNodePoolTest {
+
+    private static final ProcessingSideEffect FIRST = (pipeline, oldState, newState, flag, limit) -> EffectResult.NULL_PASS;
+    private static final ProcessingSideEffect SECOND = (pipeline, oldState, newState, flag, limit) -> EffectResult.NULL_PASS;
+
+    @Test
+    public void testNodeReuse() {
+        final EffectNodePool pool = new EffectNodePool();
+
+        final ResultingTransactionBySideEffect node = pool.acquireNode(EffectNodePoolTest.FIRST);
+        assertSame(EffectNodePoolTest.FIRST, node.effect);
+        assertEquals(1, pool.getCreated());
+        assertEquals(0, pool.getReused());
+
+        pool.releaseNode(node);
+        assertEquals(1, pool.getPooled());
+
+        final ResultingTransactionBySideEffect reused = pool.acquireNode(EffectNodePoolTest.SECOND);
+        assertSame(node, reused);
+        assertSame(EffectNodePoolTest.SECOND, reused.effect);
+        assertEquals(1, pool.getCreated());
+        assertEquals(1, pool.getReused());
+        assertEquals(0, pool.getPooled());
+    }
+
+    @Test
+    public void testPoolIsBounded() {
+        final EffectNodePool pool = new EffectNodePool();
+        final ResultingTransactionBySideEffect[] nodes = new ResultingTransactionBySideEffect[300];
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = pool.acquireNode(EffectNodePoolTest.FIRST);
+        }
+        for (final ResultingTransactionBySideEffect node : nodes) {
+            pool.releaseNode(node);
+        }
+
+        assertEquals(256, pool.getPooled());
+        assertEquals(300, pool.getCreated());
+    }
+
+    @Test
+    public void testTransactorReuse() {
+        final EffectNodePool pool = new EffectNodePool();
+        final TransactionalCaptureSupplier supplier = new TransactionalCaptureSupplier(pool, new GameTransactionPool());
+        final ResultingTransactionBySideEffect node = pool.acquireNode(EffectNodePoolTest.FIRST);
+
+        final EffectTransactor transactor = pool.acquireTransactor(node, null, null, supplier);
+        assertEquals(2, pool.getCreated());
+
+        // Without a parent the node was never attached, so only the transactor is handed back
+        transactor.close();
+        assertEquals(1, pool.getPooled());
+
+        final EffectTransactor reused = pool.acquireTransactor(node, null, null, supplier);
+        assertSame(transactor, reused);
+        assertEquals(1, pool.getReused());
+        assertNotSame(transactor, pool.acquireTransactor(node, null, null, supplier));
+        assertEquals(3, pool.getCreated());
+    }
+
+    @Test
+    public void testResetStatistics() {
+        final EffectNodePool pool = new EffectNodePool();
+        pool.releaseNode(pool.acquireNode(EffectNodePoolTest.FIRST));
+        pool.acquireNode(EffectNodePoolTest.FIRST);
+
+        pool.resetStatistics();
+
+        assertEquals(0, pool.getCreated());
+        assertEquals(0, pool.getReused());
+    }
+}
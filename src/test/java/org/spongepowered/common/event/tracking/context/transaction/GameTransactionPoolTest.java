@@ -0,0 +1,142 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking.context.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMultimap;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.api.event.Cause;
+import org.spongepowered.api.event.CauseStackManager;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.block.ChangeBlockEvent;
+import org.spongepowered.common.event.tracking.PhaseContext;
+import org.spongepowered.common.event.tracking.context.transaction.effect.EffectResult;
+import org.spongepowered.common.event.tracking.context.transaction.effect.ProcessingSideEffect;
+import org.spongepowered.common.event.tracking.context.transaction.type.TransactionType;
+import org.spongepowered.common.util.PrettyPrinter;
+
+import java.util.Deque;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+
+public final class GameTransactionPoolTest {
+
+    private static final ProcessingSideEffect EFFECT = (pipeline, oldState, newState, flag, limit) -> EffectResult.NULL_PASS;
+
+    @Test
+    public void testReleaseUnlinksTransactions() {
+        final GameTransactionPool pool = new GameTransactionPool();
+        final TestTransaction first = new TestTransaction();
+        final TestTransaction second = new TestTransaction();
+        first.next = second;
+        second.previous = first;
+        first.markCancelled();
+
+        pool.releaseAll(first, new EffectNodePool());
+
+        assertNull(first.next);
+        assertNull(second.previous);
+        assertFalse(first.cancelled);
+        // Only the transactions logged for every block change are pooled
+        assertEquals(0, pool.getPooled());
+    }
+
+    @Test
+    public void testReleaseWalksSideEffects() {
+        final GameTransactionPool pool = new GameTransactionPool();
+        final EffectNodePool nodes = new EffectNodePool();
+        final TestTransaction parent = new TestTransaction();
+        final TestTransaction child = new TestTransaction();
+        final TestTransaction sibling = new TestTransaction();
+        final TestTransaction nested = new TestTransaction();
+        final ResultingTransactionBySideEffect effect = nodes.acquireNode(GameTransactionPoolTest.EFFECT);
+        final ResultingTransactionBySideEffect nestedEffect = nodes.acquireNode(GameTransactionPoolTest.EFFECT);
+        parent.getEffects().addLast(effect);
+        effect.addChild(child);
+        effect.addChild(sibling);
+        sibling.getEffects().addLast(nestedEffect);
+        nestedEffect.addChild(nested);
+        final Deque<ResultingTransactionBySideEffect> effects = parent.getEffects();
+
+        pool.releaseAll(parent, nodes);
+
+        assertTrue(effects.isEmpty());
+        assertSame(effects, parent.getEffects());
+        assertTrue(sibling.getEffects().isEmpty());
+        assertNull(effect.head);
+        assertNull(nestedEffect.head);
+        assertNull(child.next);
+        assertNull(sibling.previous);
+        assertEquals(2, nodes.getPooled());
+    }
+
+    @SuppressWarnings("ConstantConditions")
+    private static final class TestTransaction extends GameTransaction<ChangeBlockEvent.All> {
+
+        TestTransaction() {
+            super(null, null);
+        }
+
+        @Override
+        public Optional<BiConsumer<PhaseContext<@NonNull ?>, CauseStackManager.StackFrame>> getFrameMutator(
+            final @Nullable GameTransaction<@NonNull ?> parent
+        ) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void addToPrinter(final PrettyPrinter printer) {
+        }
+
+        @Override
+        public Optional<ChangeBlockEvent.All> generateEvent(final PhaseContext<@NonNull ?> context,
+            final @Nullable GameTransaction<@NonNull ?> parent,
+            final ImmutableList<GameTransaction<ChangeBlockEvent.All>> transactions,
+            final Cause currentCause,
+            final ImmutableMultimap.Builder<TransactionType, ? extends Event> transactionPostEventBuilder
+        ) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void restore() {
+        }
+
+        @Override
+        public boolean markCancelledTransactions(final ChangeBlockEvent.All event,
+            final ImmutableList<? extends GameTransaction<ChangeBlockEvent.All>> transactions
+        ) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,318 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking.context.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockBehaviour;
+import net.minecraft.world.level.material.Material;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.common.event.tracking.IPhaseState;
+import org.spongepowered.common.event.tracking.PhaseContext;
+import org.spongepowered.common.event.tracking.PhaseTracker;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public final class NeighborNotificationQueueTest {
+
+    private static final IPhaseState<TestContext> STATE = new IPhaseState<TestContext>() {
+        @Override
+        public TestContext createPhaseContext(final PhaseTracker tracker) {
+            return new TestContext(this, tracker);
+        }
+
+        @Override
+        public void unwind(final TestContext phaseContext) {
+        }
+    };
+    // The queue only compares worlds by identity and hands them to the notifier
+    private static final ServerLevel WORLD = null;
+    private static final Block STONE = new Block(BlockBehaviour.Properties.of(Material.STONE));
+    private static final Block DIRT = new Block(BlockBehaviour.Properties.of(Material.DIRT));
+    private static final Block COMPARATOR = new Block(BlockBehaviour.Properties.of(Material.DECORATION));
+
+    private final List<String> delivered = new ArrayList<>();
+    private NeighborNotificationQueue queue;
+    private TestContext context;
+
+    private static String name(final Block block) {
+        if (block == NeighborNotificationQueueTest.STONE) {
+            return "stone";
+        }
+        if (block == NeighborNotificationQueueTest.DIRT) {
+            return "dirt";
+        }
+        return block == NeighborNotificationQueueTest.COMPARATOR ? "comparator" : "unknown";
+    }
+
+    private static String neighbor(final BlockPos target, final BlockPos source, final Block block) {
+        return "neighbor " + target.toShortString() + " from " + source.toShortString() + " " + NeighborNotificationQueueTest.name(block);
+    }
+
+    private static List<String> neighbors(final BlockPos source, final Block block) {
+        final List<String> neighbors = new ArrayList<>();
+        for (final BlockPos target : NeighborNotificationQueueTest.sides(source)) {
+            neighbors.add(NeighborNotificationQueueTest.neighbor(target, source, block));
+        }
+        return neighbors;
+    }
+
+    private static List<BlockPos> sides(final BlockPos source) {
+        // The order of Level#updateNeighborsAt
+        return Arrays.asList(source.west(), source.east(), source.below(), source.above(), source.north(), source.south());
+    }
+
+    private static boolean deferNeighbors(final NeighborNotificationQueue queue, final TestContext context, final BlockPos source,
+            final Block block) {
+        boolean deferred = true;
+        for (final BlockPos target : NeighborNotificationQueueTest.sides(source)) {
+            deferred &= queue.deferNeighbor(context, NeighborNotificationQueueTest.WORLD, target, block, source);
+        }
+        return deferred;
+    }
+
+    private static String outputSignal(final BlockPos pos, final Block block) {
+        return "output " + pos.toShortString() + " " + NeighborNotificationQueueTest.name(block);
+    }
+
+    @BeforeEach
+    public void createQueue() {
+        this.delivered.clear();
+        this.queue = new NeighborNotificationQueue(new NeighborNotificationQueue.Notifier() {
+            @Override
+            public void neighborChanged(final ServerLevel world, final BlockPos target, final Block block, final BlockPos source) {
+                NeighborNotificationQueueTest.this.delivered.add(NeighborNotificationQueueTest.neighbor(target, source, block));
+            }
+
+            @Override
+            public void updateNeighbourForOutputSignal(final ServerLevel world, final BlockPos pos, final Block block) {
+                NeighborNotificationQueueTest.this.delivered.add(NeighborNotificationQueueTest.outputSignal(pos, block));
+            }
+        });
+        this.context = NeighborNotificationQueueTest.STATE.createPhaseContext(PhaseTracker.SERVER);
+    }
+
+    @Test
+    public void testDeliveredOnlyByOwner() {
+        final BlockPos pos = new BlockPos(1, 2, 3);
+        assertTrue(NeighborNotificationQueueTest.deferNeighbors(this.queue, this.context, pos, NeighborNotificationQueueTest.STONE));
+
+        this.queue.flushIfOwnedBy(NeighborNotificationQueueTest.STATE.createPhaseContext(PhaseTracker.SERVER));
+        assertEquals(Collections.emptyList(), this.delivered);
+
+        this.queue.flushIfOwnedBy(this.context);
+        assertEquals(NeighborNotificationQueueTest.neighbors(pos, NeighborNotificationQueueTest.STONE), this.delivered);
+
+        this.delivered.clear();
+        this.queue.flushIfOwnedBy(this.context);
+        assertEquals(Collections.emptyList(), this.delivered);
+    }
+
+    @Test
+    public void testPairsAreCoalesced() {
+        final BlockPos pos = new BlockPos(0, 64, 0);
+        NeighborNotificationQueueTest.deferNeighbors(this.queue, this.context, pos, NeighborNotificationQueueTest.STONE);
+        NeighborNotificationQueueTest.deferNeighbors(this.queue, this.context, pos, NeighborNotificationQueueTest.DIRT);
+
+        assertEquals(6, this.queue.getDeferred());
+        assertEquals(6, this.queue.getCoalesced());
+
+        this.queue.flushIfOwnedBy(this.context);
+
+        // Notified once per pair, with the block replaced by the latest change
+        assertEquals(NeighborNotificationQueueTest.neighbors(pos, NeighborNotificationQueueTest.DIRT), this.delivered);
+    }
+
+    @Test
+    public void testOnlyNotifiedTargetsAreDelivered() {
+        final BlockPos pos = new BlockPos(2, 70, -4);
+        // As Level#updateNeighborsAtExceptFromFacing does, skipping the block above
+        for (final BlockPos target : NeighborNotificationQueueTest.sides(pos)) {
+            if (!target.equals(pos.above())) {
+                this.queue.deferNeighbor(this.context, NeighborNotificationQueueTest.WORLD, target, NeighborNotificationQueueTest.STONE, pos);
+            }
+        }
+
+        assertEquals(5, this.queue.getDeferred());
+
+        this.queue.flushIfOwnedBy(this.context);
+
+        final List<String> expected = new ArrayList<>(NeighborNotificationQueueTest.neighbors(pos, NeighborNotificationQueueTest.STONE));
+        expected.remove(NeighborNotificationQueueTest.neighbor(pos.above(), pos, NeighborNotificationQueueTest.STONE));
+        assertEquals(expected, this.delivered);
+    }
+
+    @Test
+    public void testTargetsInFirstNotifiedOrder() {
+        final BlockPos pos = BlockPos.ZERO;
+        this.queue.deferNeighbor(this.context, NeighborNotificationQueueTest.WORLD, pos.north(), NeighborNotificationQueueTest.STONE, pos);
+        this.queue.deferNeighbor(this.context, NeighborNotificationQueueTest.WORLD, pos.below(), NeighborNotificationQueueTest.STONE, pos);
+        this.queue.deferNeighbor(this.context, NeighborNotificationQueueTest.WORLD, pos.north(), NeighborNotificationQueueTest.STONE, pos);
+
+        assertEquals(2, this.queue.getDeferred());
+        assertEquals(1, this.queue.getCoalesced());
+
+        this.queue.flushIfOwnedBy(this.context);
+
+        assertEquals(Arrays.asList(
+                NeighborNotificationQueueTest.neighbor(pos.north(), pos, NeighborNotificationQueueTest.STONE),
+                NeighborNotificationQueueTest.neighbor(pos.below(), pos, NeighborNotificationQueueTest.STONE)
+        ), this.delivered);
+    }
+
+    @Test
+    public void testTargetNotifiedByEachSource() {
+        final BlockPos target = new BlockPos(1, 0, 0);
+        final BlockPos first = BlockPos.ZERO;
+        final BlockPos second = new BlockPos(2, 0, 0);
+        this.queue.deferNeighbor(this.context, NeighborNotificationQueueTest.WORLD, target, NeighborNotificationQueueTest.STONE, first);
+        this.queue.deferNeighbor(this.context, NeighborNotificationQueueTest.WORLD, target, NeighborNotificationQueueTest.DIRT, second);
+
+        assertEquals(2, this.queue.getDeferred());
+        assertEquals(0, this.queue.getCoalesced());
+
+        this.queue.flushIfOwnedBy(this.context);
+
+        assertEquals(Arrays.asList(
+                NeighborNotificationQueueTest.neighbor(target, first, NeighborNotificationQueueTest.STONE),
+                NeighborNotificationQueueTest.neighbor(target, second, NeighborNotificationQueueTest.DIRT)
+        ), this.delivered);
+    }
+
+    @Test
+    public void testSourcesInFirstChangedOrder() {
+        final BlockPos first = new BlockPos(5, 10, 5);
+        final BlockPos second = new BlockPos(-3, 10, 7);
+        NeighborNotificationQueueTest.deferNeighbors(this.queue, this.context, first, NeighborNotificationQueueTest.STONE);
+        NeighborNotificationQueueTest.deferNeighbors(this.queue, this.context, second, NeighborNotificationQueueTest.STONE);
+        NeighborNotificationQueueTest.deferNeighbors(this.queue, this.context, first, NeighborNotificationQueueTest.STONE);
+
+        this.queue.flushIfOwnedBy(this.context);
+
+        final List<String> expected = new ArrayList<>(NeighborNotificationQueueTest.neighbors(first, NeighborNotificationQueueTest.STONE));
+        expected.addAll(NeighborNotificationQueueTest.neighbors(second, NeighborNotificationQueueTest.STONE));
+        assertEquals(expected, this.delivered);
+    }
+
+    @Test
+    public void testOutputSignalFollowsNeighbors() {
+        final BlockPos first = new BlockPos(0, 0, 0);
+        final BlockPos second = new BlockPos(4, 0, 0);
+        NeighborNotificationQueueTest.deferNeighbors(this.queue, this.context, first, NeighborNotificationQueueTest.STONE);
+        this.queue.deferOutputSignal(this.context, NeighborNotificationQueueTest.WORLD, first, NeighborNotificationQueueTest.STONE);
+        NeighborNotificationQueueTest.deferNeighbors(this.queue, this.context, second, NeighborNotificationQueueTest.STONE);
+        this.queue.deferOutputSignal(this.context, NeighborNotificationQueueTest.WORLD, first, NeighborNotificationQueueTest.COMPARATOR);
+
+        assertEquals(13, this.queue.getDeferred());
+        assertEquals(1, this.queue.getCoalesced());
+
+        this.queue.flushIfOwnedBy(this.context);
+
+        final List<String> expected = new ArrayList<>(NeighborNotificationQueueTest.neighbors(first, NeighborNotificationQueueTest.STONE));
+        expected.add(NeighborNotificationQueueTest.outputSignal(first, NeighborNotificationQueueTest.COMPARATOR));
+        expected.addAll(NeighborNotificationQueueTest.neighbors(second, NeighborNotificationQueueTest.STONE));
+        assertEquals(expected, this.delivered);
+    }
+
+    @Test
+    public void testNotificationsDuringDeliveryAreImmediate() {
+        final NeighborNotificationQueue[] queue = new NeighborNotificationQueue[1];
+        final List<Boolean> results = new ArrayList<>();
+        queue[0] = new NeighborNotificationQueue(new NeighborNotificationQueue.Notifier() {
+            @Override
+            public void neighborChanged(final ServerLevel world, final BlockPos target, final Block block, final BlockPos source) {
+                results.add(queue[0].deferNeighbor(NeighborNotificationQueueTest.this.context, world, target, block, source));
+            }
+
+            @Override
+            public void updateNeighbourForOutputSignal(final ServerLevel world, final BlockPos pos, final Block block) {
+            }
+        });
+        NeighborNotificationQueueTest.deferNeighbors(queue[0], this.context, BlockPos.ZERO, NeighborNotificationQueueTest.STONE);
+
+        queue[0].flushIfOwnedBy(this.context);
+
+        assertEquals(Collections.nCopies(6, false), results);
+        assertEquals(6, queue[0].getDeferred());
+    }
+
+    @Test
+    public void testFailedDeliveryClearsQueue() {
+        final List<String> delivered = new ArrayList<>();
+        final NeighborNotificationQueue queue = new NeighborNotificationQueue(new NeighborNotificationQueue.Notifier() {
+            @Override
+            public void neighborChanged(final ServerLevel world, final BlockPos target, final Block block, final BlockPos source) {
+                throw new IllegalStateException("Notification failed");
+            }
+
+            @Override
+            public void updateNeighbourForOutputSignal(final ServerLevel world, final BlockPos pos, final Block block) {
+                delivered.add(NeighborNotificationQueueTest.outputSignal(pos, block));
+            }
+        });
+        NeighborNotificationQueueTest.deferNeighbors(queue, this.context, BlockPos.ZERO, NeighborNotificationQueueTest.STONE);
+        queue.deferOutputSignal(this.context, NeighborNotificationQueueTest.WORLD, BlockPos.ZERO, NeighborNotificationQueueTest.STONE);
+
+        assertThrows(IllegalStateException.class, () -> queue.flushIfOwnedBy(this.context));
+        queue.flushIfOwnedBy(this.context);
+        assertEquals(Collections.emptyList(), delivered);
+
+        // The next context to defer a notification owns the queue
+        final TestContext next = NeighborNotificationQueueTest.STATE.createPhaseContext(PhaseTracker.SERVER);
+        assertTrue(queue.deferOutputSignal(next, NeighborNotificationQueueTest.WORLD, BlockPos.ZERO, NeighborNotificationQueueTest.DIRT));
+        queue.flushIfOwnedBy(this.context);
+        assertEquals(Collections.emptyList(), delivered);
+        queue.flushIfOwnedBy(next);
+        assertEquals(Collections.singletonList(NeighborNotificationQueueTest.outputSignal(BlockPos.ZERO, NeighborNotificationQueueTest.DIRT)),
+                delivered);
+    }
+
+    @Test
+    public void testResetStatistics() {
+        NeighborNotificationQueueTest.deferNeighbors(this.queue, this.context, BlockPos.ZERO, NeighborNotificationQueueTest.STONE);
+        NeighborNotificationQueueTest.deferNeighbors(this.queue, this.context, BlockPos.ZERO, NeighborNotificationQueueTest.STONE);
+
+        this.queue.resetStatistics();
+
+        assertEquals(0, this.queue.getDeferred());
+        assertEquals(0, this.queue.getCoalesced());
+    }
+
+    private static final class TestContext extends PhaseContext<TestContext> {
+
+        TestContext(final IPhaseState<TestContext> state, final PhaseTracker tracker) {
+            super(state, tracker);
+        }
+    }
+}
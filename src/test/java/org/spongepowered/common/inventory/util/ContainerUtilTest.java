@@ -0,0 +1,198 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.inventory.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import net.minecraft.server.Bootstrap;
+import net.minecraft.world.CompoundContainer;
+import net.minecraft.world.Container;
+import net.minecraft.world.SimpleContainer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.api.item.inventory.Inventory;
+import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.accessor.world.CompoundContainerAccessor;
+import org.spongepowered.common.inventory.custom.CarriedWrapperInventory;
+import org.spongepowered.common.inventory.custom.CustomInventory;
+import org.spongepowered.plugin.PluginContainer;
+
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+public final class ContainerUtilTest {
+
+    private static final PluginContainer PLUGIN = (PluginContainer) Proxy.newProxyInstance(ContainerUtilTest.class.getClassLoader(),
+            new Class<?>[] {PluginContainer.class}, (proxy, method, args) -> {
+                throw new UnsupportedOperationException(method.getName());
+            });
+
+    @BeforeAll
+    public static void bootstrap() {
+        Bootstrap.bootStrap();
+    }
+
+    @BeforeEach
+    public void setActivePlugin() {
+        // Custom inventories remember the plugin that created them
+        SpongeCommon.setActivePlugin(ContainerUtilTest.PLUGIN);
+    }
+
+    @AfterEach
+    public void resetActivePlugin() {
+        SpongeCommon.setActivePlugin(null);
+    }
+
+    private static Map<Container, Integer> backingContainers(final Container container) {
+        final Map<Container, Integer> backing = new IdentityHashMap<>();
+        ContainerUtil.forEachBackingContainer(container, backing::put);
+        return backing;
+    }
+
+    // A container made by a plugin, which is both an inventory of the API and a container
+    private static Container pluginContainer(final int size) {
+        return (Container) Proxy.newProxyInstance(ContainerUtilTest.class.getClassLoader(), new Class<?>[] {Container.class, Inventory.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getContainerSize":
+                        case "capacity":
+                            return size;
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "toString":
+                            return "PluginContainer[" + size + "]";
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    private static CustomInventory customInventory(final Inventory... inventories) {
+        int size = 0;
+        for (final Inventory inventory : inventories) {
+            size += inventory.capacity();
+        }
+        return new CustomInventory(size, null, null, Arrays.asList(inventories), null, null);
+    }
+
+    @Test
+    public void testPlainContainer() {
+        final SimpleContainer container = new SimpleContainer(9);
+
+        assertEquals(0, ContainerUtil.getBackingContainerOffset(container, container));
+        assertEquals(-1, ContainerUtil.getBackingContainerOffset(container, new SimpleContainer(9)));
+        assertEquals(1, ContainerUtilTest.backingContainers(container).size());
+    }
+
+    @Test
+    public void testCompoundContainer() {
+        final SimpleContainer first = new SimpleContainer(27);
+        final SimpleContainer second = new SimpleContainer(27);
+        final TestCompoundContainer compound = new TestCompoundContainer(first, second);
+
+        assertEquals(0, ContainerUtil.getBackingContainerOffset(compound, compound));
+        assertEquals(0, ContainerUtil.getBackingContainerOffset(compound, first));
+        assertEquals(27, ContainerUtil.getBackingContainerOffset(compound, second));
+        assertEquals(-1, ContainerUtil.getBackingContainerOffset(first, compound));
+        assertEquals(-1, ContainerUtil.getBackingContainerOffset(compound, new SimpleContainer(27)));
+
+        final Map<Container, Integer> backing = ContainerUtilTest.backingContainers(compound);
+        assertEquals(3, backing.size());
+        assertEquals(0, backing.get(first));
+        assertEquals(27, backing.get(second));
+    }
+
+    @Test
+    public void testCarriedWrapper() {
+        final SimpleContainer first = new SimpleContainer(5);
+        final SimpleContainer second = new SimpleContainer(9);
+        final CarriedWrapperInventory wrapper = new CarriedWrapperInventory(new TestCompoundContainer(first, second), null);
+
+        assertEquals(0, ContainerUtil.getBackingContainerOffset(wrapper, first));
+        assertEquals(5, ContainerUtil.getBackingContainerOffset(wrapper, second));
+        assertEquals(4, ContainerUtilTest.backingContainers(wrapper).size());
+    }
+
+    @Test
+    public void testCustomInventory() {
+        final Container first = ContainerUtilTest.pluginContainer(9);
+        final Container second = ContainerUtilTest.pluginContainer(18);
+        final Container third = ContainerUtilTest.pluginContainer(4);
+        final CustomInventory custom = ContainerUtilTest.customInventory((Inventory) first, (Inventory) second, (Inventory) third);
+
+        assertEquals(0, ContainerUtil.getBackingContainerOffset(custom, first));
+        assertEquals(9, ContainerUtil.getBackingContainerOffset(custom, second));
+        assertEquals(27, ContainerUtil.getBackingContainerOffset(custom, third));
+        assertEquals(-1, ContainerUtil.getBackingContainerOffset(custom, ContainerUtilTest.pluginContainer(9)));
+
+        final Map<Container, Integer> backing = ContainerUtilTest.backingContainers(custom);
+        assertEquals(4, backing.size());
+        assertEquals(0, backing.get(custom));
+        assertEquals(9, backing.get(second));
+        assertEquals(27, backing.get(third));
+    }
+
+    @Test
+    public void testNestedOffsetsAdd() {
+        final Container first = ContainerUtilTest.pluginContainer(3);
+        final Container second = ContainerUtilTest.pluginContainer(6);
+        final CustomInventory custom = ContainerUtilTest.customInventory((Inventory) first, (Inventory) second);
+        final SimpleContainer before = new SimpleContainer(27);
+        final TestCompoundContainer compound = new TestCompoundContainer(before, new CarriedWrapperInventory(custom, null));
+
+        assertEquals(27, ContainerUtil.getBackingContainerOffset(compound, first));
+        assertEquals(30, ContainerUtil.getBackingContainerOffset(compound, second));
+        assertEquals(30, ContainerUtilTest.backingContainers(compound).get(second));
+    }
+
+    // Stands in for the accessor that is mixed into double chests
+    private static final class TestCompoundContainer extends CompoundContainer implements CompoundContainerAccessor {
+
+        private final Container first;
+        private final Container second;
+
+        TestCompoundContainer(final Container first, final Container second) {
+            super(first, second);
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        public Container accessor$container1() {
+            return this.first;
+        }
+
+        @Override
+        public Container accessor$container2() {
+            return this.second;
+        }
+    }
+}
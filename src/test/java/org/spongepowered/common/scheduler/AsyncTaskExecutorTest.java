@@ -0,0 +1,158 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.common.applaunch.config.common.SchedulerCategory;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public final class AsyncTaskExecutorTest {
+
+    private AsyncTaskExecutor executor;
+
+    private AsyncTaskExecutor create(final int pluginConcurrency, final int queueSize) {
+        final SchedulerCategory config = new SchedulerCategory();
+        config.asyncMode = SchedulerCategory.AsyncMode.BOUNDED;
+        config.asyncMaxThreads = 4;
+        config.asyncPluginConcurrency = pluginConcurrency;
+        config.asyncQueueSize = queueSize;
+        this.executor = new AsyncTaskExecutor(config);
+        return this.executor;
+    }
+
+    @AfterEach
+    public void shutdown() {
+        if (this.executor != null) {
+            this.executor.getExecutor().shutdownNow();
+        }
+    }
+
+    private static AsyncTaskExecutor.PluginTasks tasks(final AsyncTaskExecutor executor, final String pluginId) {
+        return executor.getPluginTasks().stream()
+                .filter(tasks -> tasks.getPluginId().equals(pluginId))
+                .findFirst()
+                .orElseThrow(AssertionError::new);
+    }
+
+    private static Runnable await(final CountDownLatch started, final CountDownLatch release, final CountDownLatch completed) {
+        return () -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            completed.countDown();
+        };
+    }
+
+    @Test
+    public void testPluginConcurrencyLimit() throws InterruptedException {
+        final AsyncTaskExecutor executor = this.create(1, 0);
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch completed = new CountDownLatch(2);
+
+        assertTrue(executor.execute("a", AsyncTaskExecutorTest.await(started, release, completed)));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        assertTrue(executor.execute("a", completed::countDown));
+
+        // The second task waits for the first one to complete
+        final AsyncTaskExecutor.PluginTasks tasks = AsyncTaskExecutorTest.tasks(executor, "a");
+        assertEquals(1, tasks.getRunningCount());
+        assertEquals(1, tasks.getWaitingCount());
+        assertEquals(1, executor.getQueuedCount());
+        assertEquals(2, completed.getCount());
+
+        release.countDown();
+        assertTrue(completed.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testOtherPluginsAreNotLimited() throws InterruptedException {
+        final AsyncTaskExecutor executor = this.create(1, 0);
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch completed = new CountDownLatch(1);
+        final CountDownLatch other = new CountDownLatch(1);
+
+        assertTrue(executor.execute("a", AsyncTaskExecutorTest.await(started, release, completed)));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        assertTrue(executor.execute("b", other::countDown));
+        assertTrue(other.await(5, TimeUnit.SECONDS));
+        assertEquals(0, AsyncTaskExecutorTest.tasks(executor, "b").getWaitingCount());
+
+        release.countDown();
+        assertTrue(completed.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testFullQueueRejects() throws InterruptedException {
+        final AsyncTaskExecutor executor = this.create(1, 1);
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch completed = new CountDownLatch(2);
+
+        assertTrue(executor.execute("a", AsyncTaskExecutorTest.await(started, release, completed)));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        assertTrue(executor.execute("a", completed::countDown));
+        assertFalse(executor.execute("a", completed::countDown));
+        // The queue is shared by all plugins
+        assertFalse(executor.execute("b", completed::countDown));
+
+        assertEquals(1, AsyncTaskExecutorTest.tasks(executor, "a").getRejectedCount());
+        assertEquals(1, AsyncTaskExecutorTest.tasks(executor, "b").getRejectedCount());
+
+        release.countDown();
+        assertTrue(completed.await(5, TimeUnit.SECONDS));
+        assertTrue(executor.execute("a", () -> {}));
+    }
+
+    @Test
+    public void testRunningCountIsReleased() throws InterruptedException {
+        final AsyncTaskExecutor executor = this.create(2, 0);
+        final CountDownLatch completed = new CountDownLatch(10);
+        for (int i = 0; i < 10; i++) {
+            assertTrue(executor.execute("a", completed::countDown));
+        }
+        assertTrue(completed.await(5, TimeUnit.SECONDS));
+        final AsyncTaskExecutor.PluginTasks tasks = AsyncTaskExecutorTest.tasks(executor, "a");
+        // The count is released after the runnable returned
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (tasks.getRunningCount() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(0, tasks.getRunningCount());
+        assertEquals(0, tasks.getWaitingCount());
+        assertEquals(0, executor.getQueuedCount());
+    }
+}
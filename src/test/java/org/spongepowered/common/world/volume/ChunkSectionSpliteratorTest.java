@@ -0,0 +1,353 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.volume;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.LevelReader;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.lang.reflect.Proxy;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public final class ChunkSectionSpliteratorTest {
+
+    private static final Vector3i[][] REGIONS = {
+            // Partial start and end sections
+            {new Vector3i(3, 5, 4), new Vector3i(12, 37, 9)},
+            // Starts and ends on section boundaries
+            {new Vector3i(0, 16, 0), new Vector3i(15, 47, 15)},
+            // Starts on the last and ends on the first block of a section
+            {new Vector3i(7, 15, 2), new Vector3i(9, 32, 2)},
+            // A single block
+            {new Vector3i(6, 20, 6), new Vector3i(6, 20, 6)},
+            // Spans neighboring chunks, of which only chunk 0 0 is walked
+            {new Vector3i(-5, 10, 12), new Vector3i(20, 50, 40)},
+            // Lies entirely within a single section
+            {new Vector3i(1, 33, 1), new Vector3i(14, 46, 14)},
+    };
+
+    @BeforeAll
+    public static void bootstrap() {
+        // Chunk sections are backed by a palette of block states
+        Bootstrap.bootStrap();
+    }
+
+    private static ChunkAccess chunk(final int chunkX, final int chunkZ, final LevelChunkSection... sections) {
+        final ChunkPos pos = new ChunkPos(chunkX, chunkZ);
+        return (ChunkAccess) Proxy.newProxyInstance(ChunkSectionSpliteratorTest.class.getClassLoader(), new Class<?>[] {ChunkAccess.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getSections":
+                            return sections;
+                        case "getPos":
+                            return pos;
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    private static LevelChunkSection[] sections(final int... bottoms) {
+        final LevelChunkSection[] sections = new LevelChunkSection[16];
+        for (final int bottom : bottoms) {
+            sections[bottom >> 4] = new LevelChunkSection(bottom);
+        }
+        return sections;
+    }
+
+    private static ChunkSectionSpliterator<BlockPos> spliterator(final ChunkAccess chunk, final Vector3i min, final Vector3i max) {
+        return new ChunkSectionSpliterator<>(chunk, (c, section, x, y, z) -> new BlockPos(x, y, z), section -> null,
+                new ChunkCursor(min), new ChunkCursor(max));
+    }
+
+    /**
+     * The nested {@link IntStream}s that {@link VolumeStreamUtils} streamed
+     * the elements of a chunk with before {@link ChunkSectionSpliterator}.
+     */
+    private static <T> Stream<Map.Entry<BlockPos, T>> intStreamPipeline(final ChunkAccess chunk,
+            final VolumeStreamUtils.SectionElementGetter<T> elementAccessor, final Vector3i min, final Vector3i max) {
+        final ChunkCursor minCursor = new ChunkCursor(min);
+        final ChunkCursor maxCursor = new ChunkCursor(max);
+        final ChunkPos pos = chunk.getPos();
+
+        final int xStart = pos.x == minCursor.chunkX ? minCursor.xOffset : 0;
+        final int xEnd = pos.x == maxCursor.chunkX ? maxCursor.xOffset + 1 : 16;
+        final int zStart = pos.z == minCursor.chunkZ ? minCursor.zOffset : 0;
+        final int zEnd = pos.z == maxCursor.chunkZ ? maxCursor.zOffset + 1 : 16;
+
+        final int chunkMinX = pos.x << 4;
+        final int chunkMinZ = pos.z << 4;
+
+        return Arrays.stream(chunk.getSections())
+                .filter(Objects::nonNull)
+                .filter(chunkSection -> chunkSection.bottomBlockY() >= minCursor.ySection && chunkSection.bottomBlockY() <= maxCursor.ySection)
+                .flatMap(chunkSection -> IntStream.range(zStart, zEnd)
+                        .mapToObj(z -> IntStream.range(xStart, xEnd)
+                                .mapToObj(x -> {
+                                    final int sectionY = chunkSection.bottomBlockY();
+                                    final int yStart = sectionY == minCursor.ySection ? minCursor.yOffset : 0;
+                                    final int yEnd = sectionY == maxCursor.ySection ? maxCursor.yOffset + 1 : 16;
+                                    return IntStream.range(yStart, yEnd)
+                                            .mapToObj(y -> {
+                                                final int adjustedX = x + chunkMinX;
+                                                final int adjustedY = y + sectionY;
+                                                final int adjustedZ = z + chunkMinZ;
+                                                final T element = Objects.requireNonNull(
+                                                        elementAccessor.get(chunk, chunkSection, adjustedX, adjustedY, adjustedZ));
+                                                return (Map.Entry<BlockPos, T>) new AbstractMap.SimpleEntry<>(
+                                                        new BlockPos(adjustedX, adjustedY, adjustedZ), element);
+                                            });
+                                }))
+                        .flatMap(Function.identity())
+                        .flatMap(Function.identity()));
+    }
+
+    private static List<BlockPos> intStreamPositions(final ChunkAccess chunk, final Vector3i min, final Vector3i max) {
+        return ChunkSectionSpliteratorTest.intStreamPipeline(chunk, (c, section, x, y, z) -> new BlockPos(x, y, z), min, max)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+    }
+
+    private static List<BlockPos> visit(final ChunkSectionSpliterator<BlockPos> spliterator) {
+        final List<BlockPos> positions = new ArrayList<>();
+        spliterator.forEachElement((x, y, z, element) -> {
+            assertEquals(new BlockPos(x, y, z), element);
+            positions.add(element);
+        });
+        return positions;
+    }
+
+    @Test
+    public void testOrder() {
+        final ChunkAccess chunk = ChunkSectionSpliteratorTest.chunk(0, 0, ChunkSectionSpliteratorTest.sections(0, 16));
+
+        final List<BlockPos> positions = ChunkSectionSpliteratorTest.visit(
+                ChunkSectionSpliteratorTest.spliterator(chunk, new Vector3i(1, 14, 2), new Vector3i(2, 17, 3)));
+
+        // Section by section, then along z, then x, then y
+        assertEquals(Arrays.asList(
+                new BlockPos(1, 14, 2), new BlockPos(1, 15, 2), new BlockPos(2, 14, 2), new BlockPos(2, 15, 2),
+                new BlockPos(1, 14, 3), new BlockPos(1, 15, 3), new BlockPos(2, 14, 3), new BlockPos(2, 15, 3),
+                new BlockPos(1, 16, 2), new BlockPos(1, 17, 2), new BlockPos(2, 16, 2), new BlockPos(2, 17, 2),
+                new BlockPos(1, 16, 3), new BlockPos(1, 17, 3), new BlockPos(2, 16, 3), new BlockPos(2, 17, 3)
+        ), positions);
+    }
+
+    @Test
+    public void testBoundsOfNeighboringChunk() {
+        // The region spans chunks 0 to 1 along x, chunk 1 only holds x 16 and 17
+        final ChunkAccess chunk = ChunkSectionSpliteratorTest.chunk(1, 0, ChunkSectionSpliteratorTest.sections(0));
+
+        final List<BlockPos> positions = ChunkSectionSpliteratorTest.visit(
+                ChunkSectionSpliteratorTest.spliterator(chunk, new Vector3i(14, 3, 5), new Vector3i(17, 3, 5)));
+
+        assertEquals(Arrays.asList(new BlockPos(16, 3, 5), new BlockPos(17, 3, 5)), positions);
+    }
+
+    @Test
+    public void testFullSection() {
+        final ChunkAccess chunk = ChunkSectionSpliteratorTest.chunk(-1, 2, ChunkSectionSpliteratorTest.sections(32));
+
+        final List<BlockPos> positions = ChunkSectionSpliteratorTest.visit(
+                ChunkSectionSpliteratorTest.spliterator(chunk, new Vector3i(-100, 0, 0), new Vector3i(100, 255, 100)));
+
+        assertEquals(16 * 16 * 16, positions.size());
+        assertEquals(new BlockPos(-16, 32, 32), positions.get(0));
+        assertEquals(new BlockPos(-1, 47, 47), positions.get(positions.size() - 1));
+    }
+
+    @Test
+    public void testSkipsMissingAndOutOfRangeSections() {
+        final ChunkAccess chunk = ChunkSectionSpliteratorTest.chunk(0, 0, ChunkSectionSpliteratorTest.sections(0, 32, 48, 64));
+
+        final List<BlockPos> positions = ChunkSectionSpliteratorTest.visit(
+                ChunkSectionSpliteratorTest.spliterator(chunk, new Vector3i(0, 15, 0), new Vector3i(0, 48, 0)));
+
+        // Section 16 is missing, section 64 lies above the region
+        final List<BlockPos> expected = new ArrayList<>();
+        expected.add(new BlockPos(0, 15, 0));
+        for (int y = 32; y <= 48; y++) {
+            expected.add(new BlockPos(0, y, 0));
+        }
+        assertEquals(expected, positions);
+    }
+
+    @Test
+    public void testEmptyRegion() {
+        final ChunkAccess chunk = ChunkSectionSpliteratorTest.chunk(0, 0, ChunkSectionSpliteratorTest.sections(0));
+        final ChunkSectionSpliterator<BlockPos> spliterator = ChunkSectionSpliteratorTest.spliterator(chunk,
+                new Vector3i(5, 0, 0), new Vector3i(3, 0, 0));
+
+        assertEquals(Collections.emptyList(), ChunkSectionSpliteratorTest.visit(spliterator));
+        assertFalse(spliterator.tryAdvance(entry -> { }));
+    }
+
+    @Test
+    public void testUniformSection() {
+        final LevelChunkSection[] sections = ChunkSectionSpliteratorTest.sections(0, 16);
+        final BlockPos uniform = new BlockPos(-1, -1, -1);
+        final ChunkSectionSpliterator<BlockPos> spliterator = new ChunkSectionSpliterator<>(
+                ChunkSectionSpliteratorTest.chunk(0, 0, sections),
+                (c, section, x, y, z) -> {
+                    assertSame(sections[1], section);
+                    return new BlockPos(x, y, z);
+                },
+                section -> section == sections[0] ? uniform : null,
+                new ChunkCursor(new Vector3i(0, 15, 0)), new ChunkCursor(new Vector3i(0, 16, 0)));
+
+        final List<BlockPos> elements = new ArrayList<>();
+        spliterator.forEachElement((x, y, z, element) -> elements.add(element));
+
+        assertEquals(Arrays.asList(uniform, new BlockPos(0, 16, 0)), elements);
+    }
+
+    // Section 48 is missing
+    private static ChunkAccess sparseChunk() {
+        return ChunkSectionSpliteratorTest.chunk(0, 0, ChunkSectionSpliteratorTest.sections(0, 16, 32, 64));
+    }
+
+    @Test
+    public void testMatchesIntStreamPipeline() {
+        final ChunkAccess chunk = ChunkSectionSpliteratorTest.sparseChunk();
+        for (final Vector3i[] region : ChunkSectionSpliteratorTest.REGIONS) {
+            final List<BlockPos> expected = ChunkSectionSpliteratorTest.intStreamPositions(chunk, region[0], region[1]);
+
+            assertEquals(expected, ChunkSectionSpliteratorTest.visit(ChunkSectionSpliteratorTest.spliterator(chunk, region[0], region[1])),
+                    () -> "forEachElement " + Arrays.toString(region));
+            assertEquals(expected, StreamSupport.stream(ChunkSectionSpliteratorTest.spliterator(chunk, region[0], region[1]), false)
+                            .map(entry -> {
+                                assertEquals(entry.getKey(), entry.getValue());
+                                return entry.getKey();
+                            })
+                            .collect(Collectors.toList()),
+                    () -> "stream " + Arrays.toString(region));
+        }
+    }
+
+    @Test
+    public void testTryAdvanceThenForEachRemaining() {
+        final ChunkAccess chunk = ChunkSectionSpliteratorTest.sparseChunk();
+        for (final Vector3i[] region : ChunkSectionSpliteratorTest.REGIONS) {
+            final List<BlockPos> expected = ChunkSectionSpliteratorTest.intStreamPositions(chunk, region[0], region[1]);
+            // Stop within a column, at the end of a column, at the end of a section and past the end
+            for (final int advances : new int[] {0, 1, 2, 15, 16, 17, 100, expected.size() - 1, expected.size(), expected.size() + 1}) {
+                final Spliterator<Map.Entry<BlockPos, BlockPos>> spliterator = ChunkSectionSpliteratorTest.spliterator(chunk, region[0], region[1]);
+                final List<BlockPos> positions = new ArrayList<>();
+                for (int i = 0; i < advances; i++) {
+                    if (!spliterator.tryAdvance(entry -> positions.add(entry.getKey()))) {
+                        assertEquals(expected.size(), i);
+                        break;
+                    }
+                }
+                spliterator.forEachRemaining(entry -> positions.add(entry.getKey()));
+
+                assertEquals(expected, positions, () -> advances + " advances " + Arrays.toString(region));
+                assertFalse(spliterator.tryAdvance(entry -> { }));
+            }
+        }
+    }
+
+    private static BlockState patternState(final int x, final int y, final int z) {
+        switch (Math.floorMod(x * 31 + y * 17 + z * 7, 3)) {
+            case 0:
+                return Blocks.AIR.defaultBlockState();
+            case 1:
+                return Blocks.STONE.defaultBlockState();
+            default:
+                return Blocks.DIRT.defaultBlockState();
+        }
+    }
+
+    @Test
+    public void testRegionCopyMatchesStream() {
+        final Map<ChunkPos, ChunkAccess> chunks = new HashMap<>();
+        for (int chunkX = -1; chunkX <= 1; chunkX++) {
+            for (int chunkZ = 0; chunkZ <= 1; chunkZ++) {
+                final LevelChunkSection[] sections = ChunkSectionSpliteratorTest.sections(0, 16, 48);
+                // Section 0 is left filled with air only
+                for (final LevelChunkSection section : Arrays.asList(sections[1], sections[3])) {
+                    for (int x = 0; x < 16; x++) {
+                        for (int y = 0; y < 16; y++) {
+                            for (int z = 0; z < 16; z++) {
+                                section.setBlockState(x, y, z, ChunkSectionSpliteratorTest.patternState(
+                                        (chunkX << 4) + x, section.bottomBlockY() + y, (chunkZ << 4) + z));
+                            }
+                        }
+                    }
+                }
+                chunks.put(new ChunkPos(chunkX, chunkZ), ChunkSectionSpliteratorTest.chunk(chunkX, chunkZ, sections));
+            }
+        }
+        // Chunk 0 2 is not loaded
+        final LevelReader reader = (LevelReader) Proxy.newProxyInstance(ChunkSectionSpliteratorTest.class.getClassLoader(),
+                new Class<?>[] {LevelReader.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("getChunk") && args.length == 4) {
+                        return chunks.get(new ChunkPos((int) args[0], (int) args[1]));
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        final Vector3i min = new Vector3i(-9, 4, 3);
+        final Vector3i max = new Vector3i(21, 60, 40);
+
+        final Map<BlockPos, BlockState> expected = new HashMap<>();
+        for (final ChunkAccess chunk : chunks.values()) {
+            ChunkSectionSpliteratorTest.intStreamPipeline(chunk,
+                    (c, section, x, y, z) -> section.getBlockState(x - (c.getPos().x << 4), y & 15, z - (c.getPos().z << 4)), min, max)
+                    .forEach(entry -> assertNull(expected.put(entry.getKey(), entry.getValue())));
+        }
+        final Map<BlockPos, BlockState> copied = new HashMap<>();
+        VolumeStreamUtils.forEachBlockState(reader, min, max, false,
+                (x, y, z, state) -> assertNull(copied.put(new BlockPos(x, y, z), state)));
+
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, copied);
+    }
+}